@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# CRaC checkpoint of a warmed-up SpendWise instance, then restore-to-ready time (docs/crac.md).
+#
+#   docs/benchmarks/crac-checkpoint.sh target/spendwise-api-0.0.1-SNAPSHOT.jar
+#
+# Needs a CRaC JDK on Linux as `java` (e.g. Azul Zulu with CRaC) and the same database settings as a normal
+# start (SPRING_PROFILES_ACTIVE, DB_URL, ...). Starts the jar with -XX:CRaCCheckpointTo, lets it warm up and
+# checkpoint itself into CHECKPOINT_DIR (target/crac), then restores it RUNS times through measure-startup.sh,
+# which prints label,first_request_ms,rss_mb per restore. Environment: PORT (8080), RUNS (5),
+# WARMUP_ITERATIONS (2000).
+set -euo pipefail
+
+jar="$1"
+dir="${CHECKPOINT_DIR:-target/crac}"
+here="$(cd "$(dirname "$0")" && pwd)"
+
+rm -rf "$dir"
+mkdir -p "$dir"
+
+echo "Warming up and checkpointing into ${dir}" >&2
+# The JVM exits once the image is written (CRaC kills it with SIGKILL, hence the `|| true`).
+java -XX:CRaCCheckpointTo="$dir" -jar "$jar" \
+    --server.port="${PORT:-8080}" \
+    --spring.datasource.hikari.allow-pool-suspension=true \
+    --spendwise.crac.warmup-enabled=true \
+    --spendwise.crac.warmup-iterations="${WARMUP_ITERATIONS:-2000}" \
+    --spendwise.crac.checkpoint-after-warmup=true || true
+
+if [ -z "$(ls -A "$dir")" ]; then
+    echo "No checkpoint in ${dir}; see the output above" >&2
+    exit 1
+fi
+
+"${here}/measure-startup.sh" crac-restore java -XX:CRaCRestoreFrom="$dir"
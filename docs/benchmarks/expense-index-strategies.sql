@@ -0,0 +1,170 @@
+-- Index strategy benchmark for expenses (see docs/expense-indexes.md).
+--
+-- Compares index sets on the same data. Each strategy is built inside a transaction that is rolled
+-- back afterwards, so the database is left as it was. Each strategy reports:
+-- - index sizes, summed over all partitions;
+-- - median/p95 latency of the application's expense query shapes;
+-- - shared buffers touched per execution (deterministic, unlike latency);
+-- - the access path the planner chose.
+-- Run it against a dedicated database migrated up to V7 (the starting index set) and seeded by
+-- seed-expenses.sql: index builds lock expenses.
+--
+--   psql -d spendwise_bench -f docs/benchmarks/expense-index-strategies.sql
+--
+-- Strategies:
+--   v7              indexes as created by V7 (deleted as a key column, standalone deleted index)
+--   partial         (user_id, [category_id,] expense_date DESC) WHERE deleted = false
+--   partial_include partial + INCLUDE (amount, category_id) / INCLUDE (amount) on the two indexes
+--   brin            partial_include + BRIN (expense_date)
+--   v8              what V8 ships: partial (user_id, expense_date DESC), partial (user_id, category_id,
+--                   expense_date DESC) INCLUDE (amount), BRIN (expense_date)
+
+CREATE TEMP TABLE bench_params AS
+SELECT u.id AS user_id,
+       (SELECT c.id FROM categories c WHERE c.user_id = u.id ORDER BY c.name LIMIT 1) AS category_id
+FROM users u
+WHERE u.email = 'bench7@bench.local';
+
+-- Average is not reported on purpose: median and p95 over warm runs are more stable on a shared machine.
+CREATE FUNCTION pg_temp.bench(p_query text, p_sql text, p_runs integer)
+RETURNS TABLE (query text, median_ms numeric, p95_ms numeric, buffers integer, access_path text)
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_started timestamptz;
+    v_analyze json;
+    v_times double precision[] := '{}';
+    v_line text;
+    v_paths text[] := '{}';
+    v_path text;
+BEGIN
+    EXECUTE p_sql;
+    FOR i IN 1..p_runs LOOP
+        v_started := clock_timestamp();
+        EXECUTE p_sql;
+        v_times := v_times || extract(epoch FROM clock_timestamp() - v_started) * 1000;
+    END LOOP;
+    EXECUTE 'EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) ' || p_sql INTO v_analyze;
+    FOR v_line IN EXECUTE 'EXPLAIN ' || p_sql LOOP
+        v_path := substring(v_line FROM '((Index Only Scan|Index Scan|Bitmap Index Scan|Seq Scan)( Backward)?( using| on) [a-z0-9_]+)');
+        IF v_path IS NOT NULL THEN
+            v_path := regexp_replace(v_path, 'expenses_p[0-9]{4}(_[0-9]{2})?', 'expenses_pN', 'g');
+            IF NOT v_path = ANY (v_paths) THEN
+                v_paths := v_paths || v_path;
+            END IF;
+        END IF;
+    END LOOP;
+    RETURN QUERY
+    SELECT p_query,
+           round(CAST(percentile_cont(0.5) WITHIN GROUP (ORDER BY t) AS numeric), 3),
+           round(CAST(percentile_cont(0.95) WITHIN GROUP (ORDER BY t) AS numeric), 3),
+           CAST(v_analyze -> 0 -> 'Plan' ->> 'Shared Hit Blocks' AS integer)
+               + CAST(v_analyze -> 0 -> 'Plan' ->> 'Shared Read Blocks' AS integer),
+           array_to_string(v_paths, '; ')
+    FROM unnest(v_times) t;
+END;
+$$;
+
+CREATE FUNCTION pg_temp.run_suite(p_strategy text)
+RETURNS TABLE (strategy text, query text, median_ms numeric, p95_ms numeric, buffers integer, access_path text)
+LANGUAGE plpgsql AS $$
+DECLARE
+    p bench_params%ROWTYPE;
+BEGIN
+    SELECT * INTO p FROM bench_params;
+    RETURN QUERY SELECT p_strategy, b.* FROM pg_temp.bench('Q1 budget month sum (user, category)', format($q$
+        SELECT COALESCE(SUM(amount), 0) FROM expenses
+        WHERE user_id = %L AND category_id = %L AND deleted = false
+          AND expense_date BETWEEN '2024-03-01' AND '2024-03-31'$q$, p.user_id, p.category_id), 500) b;
+    RETURN QUERY SELECT p_strategy, b.* FROM pg_temp.bench('Q2 GET /expenses first page', format($q$
+        SELECT * FROM expenses
+        WHERE user_id = %L AND deleted = false
+        ORDER BY expense_date DESC LIMIT 20$q$, p.user_id), 500) b;
+    RETURN QUERY SELECT p_strategy, b.* FROM pg_temp.bench('Q3 page count, one year', format($q$
+        SELECT count(*) FROM expenses
+        WHERE user_id = %L AND deleted = false
+          AND expense_date BETWEEN '2024-01-01' AND '2024-12-31'$q$, p.user_id), 500) b;
+    RETURN QUERY SELECT p_strategy, b.* FROM pg_temp.bench('Q4 month totals per category (user)', format($q$
+        SELECT category_id, SUM(amount), count(*) FROM expenses
+        WHERE user_id = %L AND deleted = false
+          AND expense_date BETWEEN '2024-03-01' AND '2024-03-31'
+        GROUP BY category_id$q$, p.user_id), 500) b;
+    RETURN QUERY SELECT p_strategy, b.* FROM pg_temp.bench('Q5 all users, one week', $q$
+        SELECT count(*), SUM(amount) FROM expenses
+        WHERE deleted = false AND expense_date BETWEEN '2024-03-04' AND '2024-03-10'$q$, 50) b;
+    RETURN QUERY SELECT p_strategy, b.* FROM pg_temp.bench('Q6 category in use (exists)', format($q$
+        SELECT 1 FROM expenses WHERE category_id = %L AND deleted = false LIMIT 1$q$, p.category_id), 500) b;
+END;
+$$;
+
+CREATE FUNCTION pg_temp.index_sizes(p_strategy text)
+RETURNS TABLE (strategy text, index_name text, size_mb numeric)
+LANGUAGE sql AS $$
+    SELECT p_strategy, i.relname::text,
+           round(sum(pg_relation_size(t.relid)) / 1024.0 / 1024.0, 2)
+    FROM pg_index x
+    JOIN pg_class i ON i.oid = x.indexrelid
+    CROSS JOIN LATERAL pg_partition_tree(x.indexrelid) t
+    WHERE x.indrelid = CAST('expenses' AS regclass)
+    GROUP BY i.relname
+    ORDER BY 1, 2;
+$$;
+
+-- v7
+BEGIN;
+SELECT * FROM pg_temp.index_sizes('v7');
+SELECT * FROM pg_temp.run_suite('v7');
+ROLLBACK;
+
+-- partial
+BEGIN;
+DROP INDEX idx_expenses_deleted;
+DROP INDEX idx_expenses_user_deleted_expense_date;
+DROP INDEX idx_expenses_user_category_deleted_expense_date;
+CREATE INDEX idx_expenses_live_user_expense_date ON expenses (user_id, expense_date DESC)
+    WHERE deleted = false;
+CREATE INDEX idx_expenses_live_user_category_expense_date ON expenses (user_id, category_id, expense_date DESC)
+    WHERE deleted = false;
+SELECT * FROM pg_temp.index_sizes('partial');
+SELECT * FROM pg_temp.run_suite('partial');
+ROLLBACK;
+
+-- partial_include
+BEGIN;
+DROP INDEX idx_expenses_deleted;
+DROP INDEX idx_expenses_user_deleted_expense_date;
+DROP INDEX idx_expenses_user_category_deleted_expense_date;
+CREATE INDEX idx_expenses_live_user_expense_date ON expenses (user_id, expense_date DESC)
+    INCLUDE (amount, category_id) WHERE deleted = false;
+CREATE INDEX idx_expenses_live_user_category_expense_date ON expenses (user_id, category_id, expense_date DESC)
+    INCLUDE (amount) WHERE deleted = false;
+SELECT * FROM pg_temp.index_sizes('partial_include');
+SELECT * FROM pg_temp.run_suite('partial_include');
+ROLLBACK;
+
+-- brin
+BEGIN;
+DROP INDEX idx_expenses_deleted;
+DROP INDEX idx_expenses_user_deleted_expense_date;
+DROP INDEX idx_expenses_user_category_deleted_expense_date;
+CREATE INDEX idx_expenses_live_user_expense_date ON expenses (user_id, expense_date DESC)
+    INCLUDE (amount, category_id) WHERE deleted = false;
+CREATE INDEX idx_expenses_live_user_category_expense_date ON expenses (user_id, category_id, expense_date DESC)
+    INCLUDE (amount) WHERE deleted = false;
+CREATE INDEX idx_expenses_expense_date_brin ON expenses USING brin (expense_date);
+SELECT * FROM pg_temp.index_sizes('brin');
+SELECT * FROM pg_temp.run_suite('brin');
+ROLLBACK;
+
+-- v8
+BEGIN;
+DROP INDEX idx_expenses_deleted;
+DROP INDEX idx_expenses_user_deleted_expense_date;
+DROP INDEX idx_expenses_user_category_deleted_expense_date;
+CREATE INDEX idx_expenses_live_user_expense_date ON expenses (user_id, expense_date DESC)
+    WHERE deleted = false;
+CREATE INDEX idx_expenses_live_user_category_expense_date ON expenses (user_id, category_id, expense_date DESC)
+    INCLUDE (amount) WHERE deleted = false;
+CREATE INDEX idx_expenses_expense_date_brin ON expenses USING brin (expense_date) WITH (autosummarize = on);
+SELECT * FROM pg_temp.index_sizes('v8');
+SELECT * FROM pg_temp.run_suite('v8');
+ROLLBACK;
@@ -0,0 +1,68 @@
+-- Partition pruning benchmark for expenses (see docs/expenses-partitioning.md).
+--
+-- Runs the date-bounded queries the application issues, once with pruning and once without, and
+-- prints EXPLAIN (ANALYZE, BUFFERS) for each. Usage:
+--
+--   psql -d spendwise -v user_id="'<uuid>'" -v category_id="'<uuid>'" -f docs/benchmarks/expense-partition-pruning.sql
+--
+-- Run it twice and read the second output, so both variants see a warm cache. Compare the partitions
+-- listed in each plan, "Buffers: shared hit/read" and "Execution Time".
+
+\set month_start '''2024-03-01'''
+\set month_end '''2024-03-31'''
+
+\echo '=== Q1 budget / category month sum (sumAmountByUserAndCategoryAndDateRange)'
+SET enable_partition_pruning = on;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COALESCE(SUM(amount), 0) FROM expenses
+WHERE user_id = :user_id AND category_id = :category_id AND deleted = false
+  AND expense_date BETWEEN :month_start AND :month_end;
+SET enable_partition_pruning = off;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COALESCE(SUM(amount), 0) FROM expenses
+WHERE user_id = :user_id AND category_id = :category_id AND deleted = false
+  AND expense_date BETWEEN :month_start AND :month_end;
+
+\echo '=== Q2 list of one month with category (findByUserAndDateRangeWithCategory)'
+SET enable_partition_pruning = on;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT e.*, c.* FROM expenses e JOIN categories c ON c.id = e.category_id
+WHERE e.user_id = :user_id AND e.deleted = false AND e.expense_date BETWEEN :month_start AND :month_end
+ORDER BY e.expense_date DESC;
+SET enable_partition_pruning = off;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT e.*, c.* FROM expenses e JOIN categories c ON c.id = e.category_id
+WHERE e.user_id = :user_id AND e.deleted = false AND e.expense_date BETWEEN :month_start AND :month_end
+ORDER BY e.expense_date DESC;
+
+\echo '=== Q3 top expenses per category (ReportRepository.findTopExpensesPerCategory)'
+SET enable_partition_pruning = on;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT c.id, t.id, t.amount FROM categories c
+CROSS JOIN LATERAL (
+    SELECT e.id, e.amount, e.expense_date FROM expenses e
+    WHERE e.user_id = :user_id AND e.category_id = c.id AND e.deleted = false
+      AND e.expense_date BETWEEN :month_start AND :month_end
+    ORDER BY e.amount DESC, e.expense_date DESC, e.id LIMIT 5) t
+WHERE c.user_id = :user_id;
+SET enable_partition_pruning = off;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT c.id, t.id, t.amount FROM categories c
+CROSS JOIN LATERAL (
+    SELECT e.id, e.amount, e.expense_date FROM expenses e
+    WHERE e.user_id = :user_id AND e.category_id = c.id AND e.deleted = false
+      AND e.expense_date BETWEEN :month_start AND :month_end
+    ORDER BY e.amount DESC, e.expense_date DESC, e.id LIMIT 5) t
+WHERE c.user_id = :user_id;
+
+\echo '=== Q4 all users, one month (export / admin style scan)'
+SET enable_partition_pruning = on;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*), sum(amount) FROM expenses
+WHERE deleted = false AND expense_date BETWEEN :month_start AND :month_end;
+SET enable_partition_pruning = off;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*), sum(amount) FROM expenses
+WHERE deleted = false AND expense_date BETWEEN :month_start AND :month_end;
+
+RESET enable_partition_pruning;
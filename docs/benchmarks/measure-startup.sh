@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Time to first request and resident memory of one SpendWise start (docs/fast-startup.md).
+#
+#   docs/benchmarks/measure-startup.sh <label> <command...>
+#   docs/benchmarks/measure-startup.sh jar java -jar target/spendwise-api-0.0.1-SNAPSHOT.jar
+#
+# Starts the command, polls GET /actuator/health every 10 ms until it answers 200, then reads the process's
+# VmRSS (Linux only) and stops it. Prints one CSV line: label,first_request_ms,rss_mb. Environment:
+# PORT (8080), RUNS (5; the line is printed per run so the spread is visible).
+set -euo pipefail
+
+label="$1"
+shift
+port="${PORT:-8080}"
+runs="${RUNS:-5}"
+
+for run in $(seq "$runs"); do
+    start_ns=$(date +%s%N)
+    "$@" >/dev/null 2>&1 &
+    pid=$!
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:${port}/actuator/health")" = "200" ]; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "${label}: process exited before answering; run it in the foreground to see why" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    end_ns=$(date +%s%N)
+    rss_kb=$(awk '/^VmRSS:/ {print $2}' "/proc/${pid}/status")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "${label},$(( (end_ns - start_ns) / 1000000 )),$(( rss_kb / 1024 ))"
+done
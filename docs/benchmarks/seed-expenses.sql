@@ -0,0 +1,59 @@
+-- Deterministic benchmark dataset for expense index and query experiments.
+--
+-- Loads :users users with :categories categories each and :expenses expenses in total into a database
+-- migrated by the application (all Flyway migrations applied, tables empty or at least without
+-- bench*@bench.local users). Identical parameters always produce identical rows: ids are derived from
+-- md5 of a sequence number and random() is seeded. Usage:
+--
+--   psql -d spendwise_bench -v users=200 -v categories=8 -v expenses=960000 -f docs/benchmarks/seed-expenses.sql
+--
+-- Shape of the data:
+-- - expense dates 2020-01-01 .. 2025-12-31, rows inserted in entry order like a live system: mostly on the
+--   expense date, 10% entered up to 30 days late. expense_date is therefore strongly but not perfectly
+--   correlated with physical row order, which is what BRIN indexes depend on.
+-- - users and categories uniformly chosen; 5% of expenses soft-deleted.
+-- - every user can log in as bench<N>@bench.local / bench-password.
+-- Spend rollups are not written; start the application once with spendwise.rollups.backfill.enabled=true
+-- if a benchmark needs them.
+
+\set ON_ERROR_STOP on
+SELECT setseed(0.42);
+SELECT ensure_expense_partitions(DATE '2020-01-01', DATE '2025-12-31');
+
+INSERT INTO users (id, created_at, updated_at, email, name, password_hash, role)
+SELECT md5('bench-user-' || u)::uuid, timestamptz '2020-01-01', timestamptz '2020-01-01',
+       'bench' || u || '@bench.local', 'Bench ' || u,
+       '$2a$10$4raJe87MvjSk5AqD1wdQZe9knaXQMIN5cQGibVo9ZzF6Gvgvg7MCa', 'USER'
+FROM generate_series(1, :users) u;
+
+INSERT INTO categories (id, created_at, updated_at, name, user_id)
+SELECT md5('bench-category-' || u || '-' || c)::uuid, timestamptz '2020-01-01', timestamptz '2020-01-01',
+       'Category ' || c, md5('bench-user-' || u)::uuid
+FROM generate_series(1, :users) u, generate_series(1, :categories) c;
+
+INSERT INTO expenses (id, created_at, updated_at, user_id, category_id, amount, description, expense_date,
+                      deleted_at, deleted)
+SELECT md5('bench-expense-' || n)::uuid,
+       entered, entered,
+       md5('bench-user-' || u)::uuid,
+       md5('bench-category-' || u || '-' || c)::uuid,
+       amount,
+       'Bench expense ' || n,
+       GREATEST((entered AT TIME ZONE 'UTC')::date - lag_days, DATE '2020-01-01'),
+       CASE WHEN deleted THEN entered + interval '1 day' END,
+       deleted
+FROM (
+    SELECT n,
+           timestamptz '2020-01-01 00:00:00+00' + (n - 1) * (interval '2191 days' / :expenses) AS entered,
+           1 + floor(random() * :users)::int AS u,
+           1 + floor(random() * :categories)::int AS c,
+           round(CAST(exp(random() * 6) AS numeric), 2) AS amount,
+           CASE WHEN random() < 0.1 THEN floor(random() * 31)::int ELSE 0 END AS lag_days,
+           random() < 0.05 AS deleted
+    FROM generate_series(1, :expenses) n
+) g
+ORDER BY n;
+
+VACUUM ANALYZE users;
+VACUUM ANALYZE categories;
+VACUUM ANALYZE expenses;
@@ -0,0 +1,32 @@
+package com.spendwise.loadtest;
+
+/**
+ * The requests latencies are recorded for, each with its own histogram.
+ */
+public enum Endpoint {
+
+    LOGIN("POST /auth/login"),
+    CREATE_EXPENSE("POST /expenses"),
+    LIST_EXPENSES("GET /expenses"),
+    READ_BUDGETS("GET /budgets"),
+    CREATE_CATEGORY("POST /categories"),
+    UPDATE_CATEGORY("PUT /categories/{id}"),
+    DELETE_CATEGORY("DELETE /categories/{id}");
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    /**
+     * File-name friendly form of the label, e.g. {@code put-categories-id}.
+     */
+    public String slug() {
+        return label.toLowerCase().replaceAll("[^a-z]+", "-").replaceAll("(^-|-$)", "");
+    }
+}
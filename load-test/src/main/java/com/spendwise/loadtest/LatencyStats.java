@@ -0,0 +1,77 @@
+package com.spendwise.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microseconds, three significant digits) and failure counts. Requests the
+ * API turned down with a 4xx (e.g. an expense over budget) are counted as rejected, apart from errors
+ * (5xx, timeouts, connection failures); neither is in the histograms.
+ * <p>
+ * Two latencies are kept per request. The <em>response time</em> starts when the operation was scheduled to
+ * start; if the generator or the server falls behind, queueing delay is included instead of silently
+ * dropped ("coordinated omission"). The <em>service time</em> starts when the request was actually sent.
+ * A growing gap between the two means the system cannot keep up with the arrival rate.
+ */
+final class LatencyStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Map<Endpoint, EndpointStats> endpoints = new EnumMap<>(Endpoint.class);
+
+    LatencyStats() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            endpoints.put(endpoint, new EndpointStats());
+        }
+    }
+
+    void recordSuccess(Endpoint endpoint, long scheduledNanos, long sentNanos, long completedNanos) {
+        EndpointStats stats = endpoints.get(endpoint);
+        stats.responseTime.recordValue(toMicros(completedNanos - scheduledNanos));
+        stats.serviceTime.recordValue(toMicros(completedNanos - sentNanos));
+    }
+
+    void recordError(Endpoint endpoint) {
+        endpoints.get(endpoint).errors.increment();
+    }
+
+    void recordRejected(Endpoint endpoint) {
+        endpoints.get(endpoint).rejected.increment();
+    }
+
+    Histogram responseTime(Endpoint endpoint) {
+        return endpoints.get(endpoint).responseTime;
+    }
+
+    Histogram serviceTime(Endpoint endpoint) {
+        return endpoints.get(endpoint).serviceTime;
+    }
+
+    long errors(Endpoint endpoint) {
+        return endpoints.get(endpoint).errors.sum();
+    }
+
+    long rejected(Endpoint endpoint) {
+        return endpoints.get(endpoint).rejected.sum();
+    }
+
+    long requests(Endpoint endpoint) {
+        return responseTime(endpoint).getTotalCount() + errors(endpoint) + rejected(endpoint);
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    private static final class EndpointStats {
+        private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+    }
+}
@@ -0,0 +1,211 @@
+package com.spendwise.loadtest;
+
+import com.spendwise.loadtest.SpendwiseClient.Session;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load generator for a running SpendWise API.
+ * <p>
+ * Logs in {@code --users} synthetic users (as created by the data generator) through {@code /auth/login},
+ * then starts operations at {@code --rate} per second, drawn from {@code --mix}: expense creates, filtered
+ * expense listing, budget reads and category create/rename/delete. Arrivals do not wait for earlier
+ * operations to finish (an open model, like real traffic), so a slow server builds up concurrency instead of
+ * quietly lowering the load; every operation runs on its own virtual thread. Latencies are recorded per
+ * endpoint into HdrHistograms from the scheduled start time, and written by {@link LoadTestReport}; with
+ * {@code --gauges}, {@link ServerGauges} samples the server's own metrics alongside.
+ * <p>
+ * Run it from its own Maven module with JDK 21:
+ * <pre>
+ * mvn -f load-test/pom.xml compile exec:java -Dexec.args="--users=500 --rate=200 --duration=120 --label=main"
+ * mvn -f load-test/pom.xml compile exec:java -Dexec.args="--compare=results/main/summary.csv,results/branch/summary.csv"
+ * </pre>
+ * See {@link LoadTestOptions} for all options.
+ */
+public final class LoadTest {
+
+    private static final int LOGIN_CONCURRENCY = 16;
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    private final LoadTestOptions options;
+    private final LatencyStats stats = new LatencyStats();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    LoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        if (!options.compare().isEmpty()) {
+            LoadTestReport.compare(options.compare().get(0), options.compare().get(1), System.out);
+            return;
+        }
+        new LoadTest(options).run();
+    }
+
+    void run() throws Exception {
+        ServerGauges gauges = null;
+        try (HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(options.requestTimeout())
+                     .build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            SpendwiseClient client = new SpendwiseClient(httpClient, options, stats);
+            List<Session> sessions = login(client, executor);
+            if (sessions.isEmpty()) {
+                throw new IllegalStateException("No user could log in to " + options.baseUrl() + " as "
+                        + options.email(options.firstUser()) + "; load the synthetic data set first");
+            }
+            System.out.printf("Logged in %d of %d users; running %s at %.1f ops/s (warm-up %ds, measured %ds)%n",
+                    sessions.size(), options.users(), options.arrival(), options.rate(), options.warmup().toSeconds(),
+                    options.duration().toSeconds());
+
+            if (!options.gauges().isEmpty()) {
+                gauges = new ServerGauges(client, sessions.get(0), options.gauges());
+                executor.execute(gauges);
+            }
+            generate(client, sessions, executor);
+            if (gauges != null) {
+                gauges.stop();
+            }
+            // Let the operations already started finish; their latencies count.
+            executor.shutdown();
+            if (!executor.awaitTermination(options.requestTimeout().toSeconds() * 4, TimeUnit.SECONDS)) {
+                System.out.println("Some operations did not finish in time and are not recorded");
+            }
+        }
+        Path summary = LoadTestReport.write(stats, options, dropped.sum(), System.out);
+        if (gauges != null) {
+            gauges.write(summary.getParent(), System.out);
+        }
+        System.out.println("Wrote " + summary.toAbsolutePath());
+    }
+
+    private List<Session> login(SpendwiseClient client, ExecutorService executor) throws InterruptedException {
+        List<Session> sessions = Collections.synchronizedList(new ArrayList<>());
+        // Logins hash passwords on the server, so they get a bounded concurrency instead of an arrival rate.
+        Semaphore permits = new Semaphore(LOGIN_CONCURRENCY);
+        List<Future<?>> logins = new ArrayList<>();
+        for (int index = options.firstUser(); index < options.firstUser() + options.users(); index++) {
+            int user = index;
+            permits.acquire();
+            logins.add(executor.submit(() -> {
+                try {
+                    Session session = client.login(user);
+                    if (session != null) {
+                        sessions.add(session);
+                    }
+                } finally {
+                    permits.release();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> login : logins) {
+            try {
+                login.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Login failed", e.getCause());
+            }
+        }
+        return new ArrayList<>(sessions);
+    }
+
+    /**
+     * Schedules arrivals until the end of the measured window. Operations are started at their scheduled time
+     * whatever the number already running, up to {@code --max-in-flight}; beyond that arrivals are dropped and
+     * counted, which means the results no longer describe the requested rate.
+     */
+    private void generate(SpendwiseClient client, List<Session> sessions, ExecutorService executor) {
+        SplittableRandom random = new SplittableRandom();
+        Operation[] operations = options.mix().keySet().toArray(Operation[]::new);
+        int[] cumulativeWeights = cumulativeWeights(options.mix(), operations);
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+        long started = System.nanoTime();
+        long measureFrom = started + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long nextProgress = started + PROGRESS_INTERVAL.toNanos();
+        long scheduled = started;
+        long arrivals = 0;
+        while (scheduled < end) {
+            long now;
+            while ((now = System.nanoTime()) < scheduled) {
+                LockSupport.parkNanos(scheduled - now);
+            }
+            if (now >= nextProgress) {
+                System.out.printf("%4ds: %d arrivals, %d in flight, %d dropped, %d failed%n",
+                        TimeUnit.NANOSECONDS.toSeconds(now - started), arrivals, inFlight.get(), dropped.sum(),
+                        failed.sum());
+                nextProgress += PROGRESS_INTERVAL.toNanos();
+            }
+
+            Operation operation = pick(operations, cumulativeWeights, random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]));
+            Session session = sessions.get(random.nextInt(sessions.size()));
+            long scheduledAt = scheduled;
+            boolean record = scheduled >= measureFrom;
+            arrivals++;
+            if (inFlight.incrementAndGet() > options.maxInFlight()) {
+                inFlight.decrementAndGet();
+                if (record) {
+                    dropped.increment();
+                }
+            } else {
+                executor.execute(() -> {
+                    try {
+                        client.execute(operation, session, scheduledAt, record);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (RuntimeException e) {
+                        failed.increment();
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+
+            double gap = options.arrival().equals("poisson")
+                    ? -Math.log(1.0 - random.nextDouble()) * meanGapNanos
+                    : meanGapNanos;
+            scheduled += (long) gap;
+        }
+    }
+
+    private static int[] cumulativeWeights(Map<Operation, Integer> mix, Operation[] operations) {
+        int[] cumulative = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+
+    static Operation pick(Operation[] operations, int[] cumulativeWeights, int draw) {
+        for (int i = 0; i < operations.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalArgumentException("draw " + draw + " is outside the mix");
+    }
+}
@@ -0,0 +1,152 @@
+package com.spendwise.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options of {@link LoadTest}, given as {@code --name=value}.
+ *
+ * @param baseUrl         base URL of the API under test
+ * @param readBaseUrl     base URL for expense listing and budget reads, e.g. the reactive read API; defaults to baseUrl
+ * @param users           number of synthetic users to log in and spread the load over
+ * @param firstUser       index of the first synthetic user
+ * @param seed            seed the users were generated with (part of their e-mail address)
+ * @param emailDomain     domain of the generated e-mail addresses
+ * @param password        login password of the generated users
+ * @param rate            arrivals (operations) per second, independent of how fast the server answers
+ * @param arrival         {@code poisson} (exponential gaps) or {@code uniform} (fixed gaps)
+ * @param warmup          time to run before recording starts
+ * @param duration        recorded time
+ * @param mix             relative weight per operation
+ * @param maxInFlight     operations in flight before new arrivals are dropped (and counted)
+ * @param requestTimeout  timeout of a single request
+ * @param out             directory the results are written to
+ * @param label           name of this run in the result file names, e.g. the build under test
+ * @param gauges          actuator metrics of the API to sample every second during the run, e.g. thread and pool gauges
+ * @param compare         two summary files to compare instead of running a test
+ */
+public record LoadTestOptions(
+        URI baseUrl,
+        URI readBaseUrl,
+        int users,
+        int firstUser,
+        long seed,
+        String emailDomain,
+        String password,
+        double rate,
+        String arrival,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int maxInFlight,
+        Duration requestTimeout,
+        Path out,
+        String label,
+        List<String> gauges,
+        List<Path> compare
+) {
+
+    private static final Set<String> NAMES = Set.of("base-url", "read-base-url", "users", "first-user", "seed",
+            "email-domain", "password", "rate", "arrival", "warmup", "duration", "mix", "max-in-flight",
+            "request-timeout", "out", "label", "gauges", "compare");
+
+    private static final String DEFAULT_MIX = "create-expense=20,list-expenses=45,read-budgets=25,category-crud=10";
+
+    public LoadTestOptions {
+        if (compare.isEmpty()) {
+            if (users < 1 || firstUser < 0) {
+                throw new IllegalArgumentException("users must be positive and first-user must not be negative");
+            }
+            if (rate <= 0 || maxInFlight < 1) {
+                throw new IllegalArgumentException("rate and max-in-flight must be positive");
+            }
+            if (!arrival.equals("poisson") && !arrival.equals("uniform")) {
+                throw new IllegalArgumentException("arrival must be poisson or uniform");
+            }
+            if (duration.isZero() || duration.isNegative() || warmup.isNegative()) {
+                throw new IllegalArgumentException("duration must be positive and warmup must not be negative");
+            }
+            if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+                throw new IllegalArgumentException("mix needs at least one operation with a positive weight");
+            }
+        } else if (compare.size() != 2) {
+            throw new IllegalArgumentException("compare expects two summary files: --compare=baseline.csv,candidate.csv");
+        }
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + "; known options: " + NAMES);
+            }
+            values.put(name, arg.substring(separator + 1));
+        }
+        String compare = values.get("compare");
+        String gauges = values.get("gauges");
+        String baseUrl = stripTrailingSlash(values.getOrDefault("base-url", "http://localhost:8080"));
+        return new LoadTestOptions(
+                URI.create(baseUrl),
+                URI.create(stripTrailingSlash(values.getOrDefault("read-base-url", baseUrl))),
+                Integer.parseInt(values.getOrDefault("users", "200")),
+                Integer.parseInt(values.getOrDefault("first-user", "0")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                values.getOrDefault("email-domain", "synthetic.local"),
+                values.getOrDefault("password", "password123"),
+                Double.parseDouble(values.getOrDefault("rate", "100")),
+                values.getOrDefault("arrival", "poisson"),
+                seconds(values.getOrDefault("warmup", "15")),
+                seconds(values.getOrDefault("duration", "60")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                seconds(values.getOrDefault("request-timeout", "10")),
+                Path.of(values.getOrDefault("out", "results")),
+                values.getOrDefault("label", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))),
+                gauges == null ? List.of() : List.of(gauges.split(",")).stream().map(String::trim).toList(),
+                compare == null ? List.of() : List.of(compare.split(",")).stream().map(Path::of).toList());
+    }
+
+    /**
+     * E-mail address of the synthetic user with the given index, as the data generator creates it.
+     */
+    String email(int index) {
+        return "user" + index + "-s" + seed + "@" + emailDomain;
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight in --mix but got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative: " + entry);
+            }
+            weights.put(Operation.fromName(parts[0].trim()), weight);
+        }
+        return weights;
+    }
+
+    private static Duration seconds(String value) {
+        return value.startsWith("P") || value.startsWith("p") ? Duration.parse(value) : Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
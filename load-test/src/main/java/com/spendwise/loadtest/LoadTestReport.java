@@ -0,0 +1,124 @@
+package com.spendwise.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the results of a run and compares two runs.
+ * <p>
+ * A run writes {@code <out>/<label>/summary.csv} (one line per endpoint; latencies in milliseconds, lines
+ * starting with {@code #} describe the run) and one HdrHistogram percentile distribution per endpoint,
+ * {@code <endpoint>.hgrm}, which the HdrHistogram plotter can overlay across builds.
+ */
+final class LoadTestReport {
+
+    static final String HEADER = "endpoint,requests,errors,rejected,throughput_per_s,p50_ms,p90_ms,p99_ms,p99_9_ms,max_ms,"
+            + "mean_ms,service_p99_ms";
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private LoadTestReport() {
+    }
+
+    static Path write(LatencyStats stats, LoadTestOptions options, long dropped, PrintStream console) throws IOException {
+        Path directory = options.out().resolve(options.label());
+        Files.createDirectories(directory);
+        double seconds = options.duration().toMillis() / 1000.0;
+
+        List<String> lines = new ArrayList<>();
+        lines.add("# label=" + options.label() + " baseUrl=" + options.baseUrl() + " users=" + options.users()
+                + " rate=" + options.rate() + "/s arrival=" + options.arrival() + " warmup=" + options.warmup().toSeconds()
+                + "s duration=" + options.duration().toSeconds() + "s dropped=" + dropped);
+        lines.add("# mix=" + options.mix().entrySet().stream()
+                .map(entry -> entry.getKey().optionName() + "=" + entry.getValue())
+                .collect(Collectors.joining(",")));
+        lines.add(HEADER);
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = stats.responseTime(endpoint);
+            if (stats.requests(endpoint) == 0) {
+                continue;
+            }
+            // Logins happen before the measured window, so they have no meaningful throughput.
+            double throughput = endpoint == Endpoint.LOGIN ? 0 : histogram.getTotalCount() / seconds;
+            lines.add(String.join(",", endpoint.label(),
+                    Long.toString(stats.requests(endpoint)),
+                    Long.toString(stats.errors(endpoint)),
+                    Long.toString(stats.rejected(endpoint)),
+                    format(throughput),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    format(histogram.getMean() / MICROS_PER_MILLI),
+                    millis(stats.serviceTime(endpoint).getValueAtPercentile(99))));
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(directory.resolve(endpoint.slug() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+            }
+        }
+        Path summary = directory.resolve("summary.csv");
+        Files.write(summary, lines);
+        lines.forEach(console::println);
+        return summary;
+    }
+
+    /**
+     * Prints, per endpoint, the percentiles of two runs and the change from the first to the second.
+     */
+    static void compare(Path baseline, Path candidate, PrintStream console) {
+        Map<String, String[]> before = read(baseline);
+        Map<String, String[]> after = read(candidate);
+        String[] columns = HEADER.split(",");
+        console.printf(Locale.ROOT, "%-26s %-15s %12s %12s %9s%n", "endpoint", "metric", "baseline", "candidate", "change");
+        for (Map.Entry<String, String[]> entry : after.entrySet()) {
+            String[] old = before.get(entry.getKey());
+            if (old == null) {
+                continue;
+            }
+            for (int column = 4; column < columns.length; column++) {
+                double from = Double.parseDouble(old[column]);
+                double to = Double.parseDouble(entry.getValue()[column]);
+                String change = from == 0 ? "n/a" : String.format(Locale.ROOT, "%+.1f%%", (to - from) * 100 / from);
+                console.printf(Locale.ROOT, "%-26s %-15s %12.3f %12.3f %9s%n", entry.getKey(), columns[column], from, to,
+                        change);
+            }
+            console.printf(Locale.ROOT, "%-26s %-15s %12s %12s%n", entry.getKey(), "errors", old[2], entry.getValue()[2]);
+            console.printf(Locale.ROOT, "%-26s %-15s %12s %12s%n", entry.getKey(), "rejected", old[3], entry.getValue()[3]);
+        }
+    }
+
+    static Map<String, String[]> read(Path summary) {
+        try {
+            Map<String, String[]> rows = new LinkedHashMap<>();
+            for (String line : Files.readAllLines(summary)) {
+                if (line.startsWith("#") || line.equals(HEADER) || line.isBlank()) {
+                    continue;
+                }
+                String[] values = line.split(",");
+                rows.put(values[0], values);
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + summary, e);
+        }
+    }
+
+    private static String millis(long micros) {
+        return format(micros / MICROS_PER_MILLI);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
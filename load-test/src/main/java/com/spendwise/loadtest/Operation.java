@@ -0,0 +1,33 @@
+package com.spendwise.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * One arrival of the workload mix. An operation is one request, except {@link #CATEGORY_CRUD}, which
+ * creates, renames and deletes a category in sequence.
+ */
+public enum Operation {
+
+    CREATE_EXPENSE("create-expense"),
+    LIST_EXPENSES("list-expenses"),
+    READ_BUDGETS("read-budgets"),
+    CATEGORY_CRUD("category-crud");
+
+    private final String optionName;
+
+    Operation(String optionName) {
+        this.optionName = optionName;
+    }
+
+    public String optionName() {
+        return optionName;
+    }
+
+    static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.optionName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation " + name + " in --mix; known: "
+                        + Arrays.stream(values()).map(Operation::optionName).toList()));
+    }
+}
@@ -0,0 +1,79 @@
+package com.spendwise.loadtest;
+
+import com.spendwise.loadtest.SpendwiseClient.Session;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples actuator metrics of the API under test ({@code --gauges}) once a second for the whole run, so a run
+ * shows what the server used for its latencies: e.g. {@code jvm.threads.live}, {@code hikaricp.connections.active}
+ * or {@code spendwise.reactive-api.pool.acquired}.
+ * <p>
+ * Writes {@code <out>/<label>/gauges.csv} (second since start, metric, value) and prints the peak of each metric.
+ */
+final class ServerGauges implements Runnable {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(1);
+
+    private final SpendwiseClient client;
+    private final Session session;
+    private final List<String> names;
+    private final List<String> samples = new ArrayList<>();
+    private final Map<String, Double> peaks = new TreeMap<>();
+    private volatile boolean stopped;
+
+    ServerGauges(SpendwiseClient client, Session session, List<String> names) {
+        this.client = client;
+        this.session = session;
+        this.names = names;
+    }
+
+    @Override
+    public void run() {
+        long started = System.nanoTime();
+        try {
+            while (!stopped) {
+                long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started);
+                for (String name : names) {
+                    Double value = client.metric(session, name);
+                    if (value != null) {
+                        record(second, name, value);
+                    }
+                }
+                Thread.sleep(INTERVAL);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void stop() {
+        stopped = true;
+    }
+
+    void write(Path directory, PrintStream console) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("second,metric,value");
+        synchronized (this) {
+            lines.addAll(samples);
+            peaks.forEach((name, peak) -> console.printf(Locale.ROOT, "peak %s: %.0f%n", name, peak));
+        }
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("gauges.csv"), lines);
+    }
+
+    private synchronized void record(long second, String name, double value) {
+        samples.add(second + "," + name + "," + String.format(Locale.ROOT, "%.1f", value));
+        peaks.merge(name, value, Math::max);
+    }
+}
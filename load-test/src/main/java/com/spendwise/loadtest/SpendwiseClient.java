@@ -0,0 +1,283 @@
+package com.spendwise.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Issues the requests of one {@link Operation} on behalf of a logged-in user and records their latencies.
+ * <p>
+ * Requests are blocking {@link HttpClient#send} calls, made from virtual threads, so an operation is plain
+ * sequential code however many are in flight. An expired access token (401) triggers one re-login and retry.
+ */
+final class SpendwiseClient {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoadTestOptions options;
+    private final LatencyStats stats;
+
+    SpendwiseClient(HttpClient httpClient, LoadTestOptions options, LatencyStats stats) {
+        this.httpClient = httpClient;
+        this.options = options;
+        this.stats = stats;
+    }
+
+    /**
+     * Logs in the synthetic user with the given index and loads their category ids; null if either fails.
+     */
+    Session login(int index) throws InterruptedException {
+        Session session = new Session(index, options.email(index));
+        if (!session.login(this)) {
+            return null;
+        }
+        JsonNode categories = send(session, get("/categories"), null, System.nanoTime(), false);
+        if (categories == null || categories.isEmpty()) {
+            return null;
+        }
+        categories.forEach(category -> session.categoryIds.add(UUID.fromString(category.get("id").asText())));
+        return session;
+    }
+
+    /**
+     * Runs one operation. {@code scheduledNanos} is when it should have started; latencies are only recorded
+     * if {@code record} is set (i.e. after the warm-up).
+     */
+    void execute(Operation operation, Session session, long scheduledNanos, boolean record) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Timing timing = new Timing(scheduledNanos, record);
+        switch (operation) {
+            case CREATE_EXPENSE -> {
+                Map<String, Object> body = Map.of(
+                        "categoryId", session.randomCategory(),
+                        "amount", BigDecimal.valueOf(random.nextLong(100, 20_000), 2),
+                        "description", "Load test expense",
+                        "expenseDate", LocalDate.now().minusDays(random.nextInt(30)).toString());
+                send(session, post("/expenses", body), Endpoint.CREATE_EXPENSE, timing);
+            }
+            case LIST_EXPENSES -> {
+                YearMonth from = YearMonth.now().minusMonths(random.nextInt(12));
+                YearMonth to = from.plusMonths(random.nextInt(3));
+                String query = "?fromDate=" + from.atDay(1) + "&toDate=" + to.atEndOfMonth()
+                        + (random.nextBoolean() ? "&categoryId=" + session.randomCategory() : "")
+                        + "&page=" + random.nextInt(3) + "&size=" + PAGE_SIZE;
+                send(session, read("/expenses" + query), Endpoint.LIST_EXPENSES, timing);
+            }
+            case READ_BUDGETS -> {
+                YearMonth month = YearMonth.now().minusMonths(random.nextInt(12));
+                send(session, read("/budgets?year=" + month.getYear() + "&month=" + month.getMonthValue()),
+                        Endpoint.READ_BUDGETS, timing);
+            }
+            case CATEGORY_CRUD -> {
+                String name = "Load test " + Long.toHexString(random.nextLong());
+                JsonNode created = send(session, post("/categories", Map.of("name", name)), Endpoint.CREATE_CATEGORY, timing);
+                if (created == null) {
+                    return;
+                }
+                String path = "/categories/" + created.get("id").asText();
+                if (send(session, put(path, Map.of("name", name + " renamed")), Endpoint.UPDATE_CATEGORY, timing) != null) {
+                    send(session, delete(path), Endpoint.DELETE_CATEGORY, timing);
+                }
+            }
+        }
+    }
+
+    /**
+     * The current value of an actuator metric of the API, e.g. a gauge; null if it cannot be read.
+     */
+    Double metric(Session session, String name) throws InterruptedException {
+        JsonNode metric = send(session, get("/actuator/metrics/" + name), null, System.nanoTime(), false);
+        if (metric == null || metric.path("measurements").isEmpty()) {
+            return null;
+        }
+        return metric.path("measurements").get(0).path("value").asDouble();
+    }
+
+    private JsonNode send(Session session, RequestSpec spec, Endpoint endpoint, Timing timing) throws InterruptedException {
+        return send(session, spec, endpoint, timing.next(), timing.record);
+    }
+
+    private JsonNode send(Session session, RequestSpec spec, Endpoint endpoint, long scheduledNanos, boolean record)
+            throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            String token = session.token;
+            HttpRequest request = spec.builder()
+                    .uri(URI.create(spec.baseUrl() + spec.path()))
+                    .timeout(options.requestTimeout())
+                    .setHeader("Authorization", "Bearer " + token)
+                    .setHeader("Accept", "application/json")
+                    .build();
+            long sent = System.nanoTime();
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                long completed = System.nanoTime();
+                if (response.statusCode() == 401 && attempt == 0 && session.relogin(this, token)) {
+                    continue;
+                }
+                if (response.statusCode() / 100 != 2) {
+                    if (endpoint != null && record) {
+                        if (response.statusCode() / 100 == 4) {
+                            stats.recordRejected(endpoint);
+                        } else {
+                            stats.recordError(endpoint);
+                        }
+                    }
+                    return null;
+                }
+                if (endpoint != null && record) {
+                    stats.recordSuccess(endpoint, scheduledNanos, sent, completed);
+                }
+                return response.body().isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+            } catch (IOException e) {
+                if (endpoint != null && record) {
+                    stats.recordError(endpoint);
+                }
+                return null;
+            }
+        }
+    }
+
+    private String login(String email) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/auth/login"))
+                .timeout(options.requestTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(Map.of("email", email, "password", options.password()))))
+                .build();
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                stats.recordError(Endpoint.LOGIN);
+                return null;
+            }
+            long completed = System.nanoTime();
+            stats.recordSuccess(Endpoint.LOGIN, sent, sent, completed);
+            return objectMapper.readTree(response.body()).get("accessToken").asText();
+        } catch (IOException e) {
+            stats.recordError(Endpoint.LOGIN);
+            return null;
+        }
+    }
+
+    private RequestSpec get(String path) {
+        return new RequestSpec(HttpRequest.newBuilder().GET(), options.baseUrl(), path);
+    }
+
+    // Reads that --read-base-url can send to another server, such as the reactive read API.
+    private RequestSpec read(String path) {
+        return new RequestSpec(HttpRequest.newBuilder().GET(), options.readBaseUrl(), path);
+    }
+
+    private RequestSpec delete(String path) {
+        return new RequestSpec(HttpRequest.newBuilder().DELETE(), options.baseUrl(), path);
+    }
+
+    private RequestSpec post(String path, Object body) {
+        return new RequestSpec(HttpRequest.newBuilder()
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body))), options.baseUrl(), path);
+    }
+
+    private RequestSpec put(String path, Object body) {
+        return new RequestSpec(HttpRequest.newBuilder()
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json(body))), options.baseUrl(), path);
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot serialize request body", e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(options.baseUrl() + path);
+    }
+
+    private record RequestSpec(HttpRequest.Builder builder, URI baseUrl, String path) {
+    }
+
+    /**
+     * Start times of the requests of one operation: the first request waits in line from the operation's
+     * scheduled start, later ones start when they are sent.
+     */
+    private static final class Timing {
+        private final boolean record;
+        private long scheduledNanos;
+        private boolean first = true;
+
+        private Timing(long scheduledNanos, boolean record) {
+            this.scheduledNanos = scheduledNanos;
+            this.record = record;
+        }
+
+        private long next() {
+            if (first) {
+                first = false;
+                return scheduledNanos;
+            }
+            scheduledNanos = System.nanoTime();
+            return scheduledNanos;
+        }
+    }
+
+    /**
+     * A logged-in synthetic user. Operations of the same user may run concurrently; re-logins are serialized
+     * with a lock rather than {@code synchronized}, which would pin the virtual thread while the request runs.
+     */
+    static final class Session {
+        private final int index;
+        private final String email;
+        private final List<UUID> categoryIds = new ArrayList<>();
+        private final ReentrantLock loginLock = new ReentrantLock();
+        private volatile String token;
+
+        private Session(int index, String email) {
+            this.index = index;
+            this.email = email;
+        }
+
+        int index() {
+            return index;
+        }
+
+        private UUID randomCategory() {
+            return categoryIds.get(ThreadLocalRandom.current().nextInt(categoryIds.size()));
+        }
+
+        private boolean login(SpendwiseClient client) throws InterruptedException {
+            token = client.login(email);
+            return token != null;
+        }
+
+        /**
+         * Logs in again unless another request already replaced {@code expiredToken}.
+         */
+        private boolean relogin(SpendwiseClient client, String expiredToken) throws InterruptedException {
+            loginLock.lock();
+            try {
+                return !expiredToken.equals(token) || login(client);
+            } finally {
+                loginLock.unlock();
+            }
+        }
+    }
+}
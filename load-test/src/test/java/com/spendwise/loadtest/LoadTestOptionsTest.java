@@ -0,0 +1,80 @@
+package com.spendwise.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LoadTestOptions")
+class LoadTestOptionsTest {
+
+    @Test
+    @DisplayName("parses the mix and picks operations in proportion to their weights")
+    void picksOperationsByWeight() {
+        LoadTestOptions options = LoadTestOptions.parse(new String[]{"--mix=list-expenses=3,category-crud=1", "--seed=7"});
+        Operation[] operations = options.mix().keySet().toArray(Operation[]::new);
+        int[] cumulative = {3, 4};
+
+        assertThat(options.mix()).containsExactly(Map.entry(Operation.LIST_EXPENSES, 3), Map.entry(Operation.CATEGORY_CRUD, 1));
+        assertThat(LoadTest.pick(operations, cumulative, 0)).isEqualTo(Operation.LIST_EXPENSES);
+        assertThat(LoadTest.pick(operations, cumulative, 2)).isEqualTo(Operation.LIST_EXPENSES);
+        assertThat(LoadTest.pick(operations, cumulative, 3)).isEqualTo(Operation.CATEGORY_CRUD);
+        assertThat(options.email(12)).isEqualTo("user12-s7@synthetic.local");
+    }
+
+    @Test
+    @DisplayName("rejects unknown operations and options")
+    void rejectsUnknownNames() {
+        assertThatThrownBy(() -> LoadTestOptions.parse(new String[]{"--mix=delete-everything=1"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("delete-everything");
+        assertThatThrownBy(() -> LoadTestOptions.parse(new String[]{"--threads=10"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("--threads");
+    }
+
+    @Test
+    @DisplayName("sends reads to the read base URL, which defaults to the base URL")
+    void readBaseUrlDefaultsToBaseUrl() {
+        LoadTestOptions defaults = LoadTestOptions.parse(new String[]{"--base-url=http://api:8080/"});
+        LoadTestOptions reactive = LoadTestOptions.parse(new String[]{"--read-base-url=http://api:8081/",
+                "--gauges=jvm.threads.live, spendwise.reactive-api.pool.acquired"});
+
+        assertThat(defaults.readBaseUrl()).hasToString("http://api:8080");
+        assertThat(defaults.gauges()).isEmpty();
+        assertThat(reactive.baseUrl()).hasToString("http://localhost:8080");
+        assertThat(reactive.readBaseUrl()).hasToString("http://api:8081");
+        assertThat(reactive.gauges()).containsExactly("jvm.threads.live", "spendwise.reactive-api.pool.acquired");
+    }
+
+    @Test
+    @DisplayName("writes a summary that the comparison reads back")
+    void summaryRoundTrips(@TempDir Path out) throws Exception {
+        LatencyStats stats = new LatencyStats();
+        for (int i = 1; i <= 100; i++) {
+            stats.recordSuccess(Endpoint.LIST_EXPENSES, 0, 0, i * 1_000_000L);
+        }
+        stats.recordError(Endpoint.LIST_EXPENSES);
+        stats.recordRejected(Endpoint.LIST_EXPENSES);
+        LoadTestOptions options = LoadTestOptions.parse(new String[]{"--out=" + out, "--label=base", "--duration=10"});
+
+        Path summary = LoadTestReport.write(stats, options, 0, new PrintStream(new ByteArrayOutputStream()));
+
+        String[] row = LoadTestReport.read(summary).get("GET /expenses");
+        assertThat(row[1]).isEqualTo("102");
+        assertThat(row[2]).isEqualTo("1");
+        assertThat(row[3]).isEqualTo("1");
+        assertThat(row[4]).isEqualTo("10.000");
+        assertThat(Double.parseDouble(row[5])).isCloseTo(50.0, within(0.1));
+        assertThat(out.resolve("base").resolve("get-expenses.hgrm")).exists();
+        assertThat(LoadTestReport.read(summary)).containsOnlyKeys("GET /expenses");
+    }
+}
@@ -0,0 +1,118 @@
+package com.spendwise.tools.datagen;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options of {@link SyntheticDataGenerator}, given as {@code --name=value}.
+ *
+ * @param url                   JDBC URL of the target database
+ * @param dbUser                database user
+ * @param dbPassword            database password
+ * @param migrate               apply the application's Flyway migrations first
+ * @param partitionGranularity  Flyway placeholder for V7 when migrating ({@code yearly} or {@code monthly})
+ * @param skipForeignKeyChecks  load with {@code session_replication_role = replica} (superuser only)
+ * @param seed                  random seed; the same seed and options produce the same rows
+ * @param users                 number of regular users
+ * @param meanExpenses          mean number of expenses of a regular user over the whole range
+ * @param paretoAlpha           shape of the expenses-per-user distribution; lower is more skewed
+ * @param maxExpensesPerUser    cap for a single regular user
+ * @param heavyUsers            additional users with {@code heavyUserExpenses} expenses each
+ * @param heavyUserExpenses     expenses per heavy user
+ * @param from                  first expense date
+ * @param to                    last expense date
+ * @param deletedRatio          share of expenses that are soft-deleted
+ * @param budgetMonths          months before {@code to} that get a monthly budget per user
+ * @param password              login password of every generated user
+ * @param emailDomain           domain of the generated e-mail addresses
+ */
+public record GeneratorOptions(
+        String url,
+        String dbUser,
+        String dbPassword,
+        boolean migrate,
+        String partitionGranularity,
+        boolean skipForeignKeyChecks,
+        long seed,
+        int users,
+        int meanExpenses,
+        double paretoAlpha,
+        int maxExpensesPerUser,
+        int heavyUsers,
+        int heavyUserExpenses,
+        LocalDate from,
+        LocalDate to,
+        double deletedRatio,
+        int budgetMonths,
+        String password,
+        String emailDomain
+) {
+
+    private static final Set<String> NAMES = Set.of("url", "db-user", "db-password", "migrate", "partition-granularity",
+            "skip-fk-checks", "seed", "users", "mean-expenses", "pareto-alpha", "max-expenses-per-user", "heavy-users",
+            "heavy-user-expenses", "from", "to", "deleted-ratio", "budget-months", "password", "email-domain");
+
+    public GeneratorOptions {
+        if (users < 0 || heavyUsers < 0 || users + heavyUsers == 0) {
+            throw new IllegalArgumentException("users and heavy-users must not be negative, and not both 0");
+        }
+        if (meanExpenses < 1 || maxExpensesPerUser < meanExpenses || heavyUserExpenses < 1) {
+            throw new IllegalArgumentException("expense counts must be positive and max-expenses-per-user >= mean-expenses");
+        }
+        if (paretoAlpha <= 1.0) {
+            throw new IllegalArgumentException("pareto-alpha must be greater than 1 (the mean is infinite otherwise)");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (deletedRatio < 0 || deletedRatio >= 1) {
+            throw new IllegalArgumentException("deleted-ratio must be in [0, 1)");
+        }
+        if (budgetMonths < 0) {
+            throw new IllegalArgumentException("budget-months must not be negative");
+        }
+    }
+
+    public static GeneratorOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + "; known options: " + NAMES);
+            }
+            values.put(name, arg.substring(separator + 1));
+        }
+        LocalDate to = LocalDate.parse(values.getOrDefault("to", LocalDate.now().toString()));
+        return new GeneratorOptions(
+                values.getOrDefault("url", "jdbc:postgresql://localhost:5432/spendwise_dev"),
+                values.getOrDefault("db-user", env("DB_USERNAME", "postgres")),
+                values.getOrDefault("db-password", env("DB_PASSWORD", "postgres")),
+                Boolean.parseBoolean(values.getOrDefault("migrate", "true")),
+                values.getOrDefault("partition-granularity", env("EXPENSE_PARTITION_GRANULARITY", "yearly")),
+                Boolean.parseBoolean(values.getOrDefault("skip-fk-checks", "false")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("users", "1000")),
+                Integer.parseInt(values.getOrDefault("mean-expenses", "400")),
+                Double.parseDouble(values.getOrDefault("pareto-alpha", "1.5")),
+                Integer.parseInt(values.getOrDefault("max-expenses-per-user", "200000")),
+                Integer.parseInt(values.getOrDefault("heavy-users", "0")),
+                Integer.parseInt(values.getOrDefault("heavy-user-expenses", "1000000")),
+                LocalDate.parse(values.getOrDefault("from", to.minusYears(5).withDayOfYear(1).toString())),
+                to,
+                Double.parseDouble(values.getOrDefault("deleted-ratio", "0.03")),
+                Integer.parseInt(values.getOrDefault("budget-months", "12")),
+                values.getOrDefault("password", "password123"),
+                values.getOrDefault("email-domain", "synthetic.local"));
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,283 @@
+package com.spendwise.tools.datagen;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Statistical model behind {@link SyntheticDataGenerator}: who spends how much, on what and when.
+ * <ul>
+ *     <li><b>Users</b>: expenses per user follow a Pareto distribution (most users have a few hundred,
+ *     a few have tens of thousands); sign-up dates lean towards the end of the range, like a growing
+ *     product. Heavy users are active from the first day and get a fixed, large number of expenses.</li>
+ *     <li><b>Categories</b>: each user has a random subset of {@link #CATEGORIES}, weighted by popularity
+ *     with per-user noise; amounts are log-normal per category.</li>
+ *     <li><b>Time</b>: the daily rate follows a month-of-year curve (December peak, quiet January and
+ *     February) and a day-of-week curve (Friday and Saturday peaks).</li>
+ * </ul>
+ * Every user and every (user, month) draws from its own random stream derived from the seed, so a user's
+ * data does not depend on how many other users are generated or in which order.
+ */
+final class SpendModel {
+
+    /** Relative spending per month of year, January first. */
+    static final double[] MONTH_FACTORS = {0.86, 0.84, 0.95, 0.97, 1.00, 1.02, 1.08, 1.06, 0.96, 0.99, 1.08, 1.40};
+
+    /** Relative spending per day of week, Monday first. */
+    static final double[] WEEKDAY_FACTORS = {0.90, 0.88, 0.92, 0.97, 1.15, 1.28, 1.00};
+
+    static final List<CategoryProfile> CATEGORIES = List.of(
+            new CategoryProfile("Groceries", 10.0, 38.00, 0.60, "Supermarket", "Corner shop", "Farmers market", "Bakery"),
+            new CategoryProfile("Restaurants", 7.0, 27.00, 0.70, "Pizzeria", "Sushi bar", "Burger place", "Bistro"),
+            new CategoryProfile("Coffee", 6.0, 4.50, 0.35, "Coffee shop", "Espresso bar", "Station kiosk"),
+            new CategoryProfile("Transport", 6.0, 14.00, 0.80, "Metro ticket", "Taxi", "Bike share", "Parking"),
+            new CategoryProfile("Fuel", 3.0, 55.00, 0.35, "Gas station", "Charging station"),
+            new CategoryProfile("Shopping", 4.0, 45.00, 1.00, "Online store", "Clothing store", "Electronics store"),
+            new CategoryProfile("Entertainment", 3.0, 25.00, 0.80, "Cinema", "Concert", "Streaming rental", "Bowling"),
+            new CategoryProfile("Subscriptions", 1.5, 12.00, 0.50, "Music subscription", "Video subscription", "Cloud storage"),
+            new CategoryProfile("Utilities", 1.2, 85.00, 0.40, "Electricity", "Water", "Internet", "Phone plan"),
+            new CategoryProfile("Health", 1.2, 40.00, 0.90, "Pharmacy", "Dentist", "Gym membership"),
+            new CategoryProfile("Travel", 0.8, 180.00, 1.10, "Hotel", "Flight", "Train ticket", "Car rental"),
+            new CategoryProfile("Gifts", 0.7, 45.00, 0.90, "Gift shop", "Flowers", "Bookstore"));
+
+    private static final int MIN_CATEGORIES = 4;
+    private static final int POISSON_NORMAL_THRESHOLD = 50;
+
+    private final GeneratorOptions options;
+    private final double paretoScale;
+    private final OffsetDateTime latestTimestamp;
+    /** remainingWeight[i]: sum of day weights from from + i days through to. */
+    private final double[] remainingWeight;
+
+    SpendModel(GeneratorOptions options) {
+        this.options = options;
+        // Pareto mean is scale * alpha / (alpha - 1); solve for the scale that gives meanExpenses.
+        this.paretoScale = options.meanExpenses() * (options.paretoAlpha() - 1) / options.paretoAlpha();
+        this.latestTimestamp = options.to().plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC).minusSeconds(1);
+        int days = (int) ChronoUnit.DAYS.between(options.from(), options.to()) + 1;
+        this.remainingWeight = new double[days];
+        double sum = 0;
+        for (int i = days - 1; i >= 0; i--) {
+            sum += dayWeight(options.from().plusDays(i));
+            remainingWeight[i] = sum;
+        }
+    }
+
+    /**
+     * User number {@code index}; indexes below {@code heavyUsers} are the heavy users.
+     */
+    SyntheticUser user(int index) {
+        SplittableRandom random = random(index, -1);
+        boolean heavy = index < options.heavyUsers();
+        UUID id = uuid(random);
+
+        long rangeDays = ChronoUnit.DAYS.between(options.from(), options.to());
+        LocalDate signUp = heavy
+                ? options.from()
+                : options.from().plusDays((long) (rangeDays * Math.sqrt(random.nextDouble())));
+        long expectedExpenses = heavy
+                ? options.heavyUserExpenses()
+                : Math.min(options.maxExpensesPerUser(),
+                Math.round(paretoScale * Math.pow(1.0 - random.nextDouble(), -1.0 / options.paretoAlpha())));
+
+        int categoryCount = heavy
+                ? CATEGORIES.size()
+                : MIN_CATEGORIES + random.nextInt(CATEGORIES.size() - MIN_CATEGORIES + 1);
+        List<SyntheticCategory> categories = pickCategories(random, categoryCount);
+
+        double activeWeight = remainingWeight[(int) ChronoUnit.DAYS.between(options.from(), signUp)];
+        String email = "user" + index + "-s" + options.seed() + "@" + options.emailDomain();
+        return new SyntheticUser(index, id, email, (heavy ? "Heavy user " : "User ") + index, signUp,
+                atTime(signUp, 9 * 3600 + random.nextInt(12 * 3600)), categories, cumulativeWeights(categories),
+                expectedExpenses / activeWeight);
+    }
+
+    /**
+     * The user's expenses dated in {@code month}, ordered by creation time (the order they would have been
+     * inserted in).
+     */
+    List<SyntheticExpense> expenses(SyntheticUser user, YearMonth month) {
+        LocalDate first = max(month.atDay(1), max(user.signUpDate(), options.from()));
+        LocalDate last = min(month.atEndOfMonth(), options.to());
+        if (first.isAfter(last)) {
+            return List.of();
+        }
+        SplittableRandom random = random(user.index(), month.getYear() * 12L + month.getMonthValue());
+
+        int days = (int) ChronoUnit.DAYS.between(first, last) + 1;
+        double[] cumulativeDays = new double[days];
+        double total = 0;
+        for (int i = 0; i < days; i++) {
+            total += dayWeight(first.plusDays(i));
+            cumulativeDays[i] = total;
+        }
+        int count = poisson(random, user.dailyRate() * total);
+
+        List<SyntheticExpense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate expenseDate = first.plusDays(pick(cumulativeDays, random.nextDouble() * total));
+            double[] categoryWeights = user.cumulativeCategoryWeights();
+            SyntheticCategory category = user.categories().get(
+                    pick(categoryWeights, random.nextDouble() * categoryWeights[categoryWeights.length - 1]));
+            CategoryProfile profile = category.profile();
+            long amountCents = Math.max(50, Math.round(
+                    100 * profile.medianAmount() * Math.exp(profile.sigma() * random.nextGaussian())));
+            String description = profile.merchants()[random.nextInt(profile.merchants().length)];
+
+            // Most expenses are entered on the day, some are backdated by up to three weeks.
+            OffsetDateTime createdAt = atTime(expenseDate, 7 * 3600 + random.nextInt(16 * 3600));
+            if (random.nextDouble() < 0.1) {
+                createdAt = createdAt.plusDays(1 + random.nextInt(21));
+            }
+            createdAt = min(createdAt, latestTimestamp);
+            OffsetDateTime deletedAt = random.nextDouble() < options.deletedRatio()
+                    ? min(createdAt.plusMinutes(random.nextInt(14 * 24 * 60)), latestTimestamp)
+                    : null;
+            expenses.add(new SyntheticExpense(uuid(random), category, amountCents, description, expenseDate,
+                    createdAt, deletedAt));
+        }
+        expenses.sort(Comparator.comparing(SyntheticExpense::createdAt));
+        return expenses;
+    }
+
+    /**
+     * Budget limit for a month in which the budgeted categories added up to {@code spentCents}: between
+     * 15% under and 50% over the actual spend, rounded up to 10, so some months end over budget.
+     */
+    long budgetCents(SyntheticUser user, YearMonth month, long spentCents) {
+        SplittableRandom random = random(user.index(), -(month.getYear() * 12L + month.getMonthValue()));
+        long cents = Math.round(spentCents * (0.85 + 0.65 * random.nextDouble()));
+        return Math.max(5_000, (cents + 999) / 1_000 * 1_000);
+    }
+
+    UUID budgetId(SyntheticUser user, YearMonth month) {
+        return uuid(random(user.index(), -(month.getYear() * 12L + month.getMonthValue()) - 1_000_000L));
+    }
+
+    static double dayWeight(LocalDate day) {
+        return MONTH_FACTORS[day.getMonthValue() - 1] * WEEKDAY_FACTORS[day.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue()];
+    }
+
+    private List<SyntheticCategory> pickCategories(SplittableRandom random, int count) {
+        List<CategoryProfile> remaining = new ArrayList<>(CATEGORIES);
+        List<SyntheticCategory> picked = new ArrayList<>(count);
+        while (picked.size() < count) {
+            double[] popularity = new double[remaining.size()];
+            double total = 0;
+            for (int i = 0; i < popularity.length; i++) {
+                total += remaining.get(i).popularity();
+                popularity[i] = total;
+            }
+            CategoryProfile profile = remaining.remove(pick(popularity, random.nextDouble() * total));
+            // Log-normal noise: two users with the same categories still split their spending differently.
+            double weight = profile.popularity() * Math.exp(0.5 * random.nextGaussian());
+            picked.add(new SyntheticCategory(uuid(random), profile, weight));
+        }
+        picked.sort(Comparator.comparingDouble(SyntheticCategory::weight).reversed());
+        return picked;
+    }
+
+    private static double[] cumulativeWeights(List<SyntheticCategory> categories) {
+        double[] cumulative = new double[categories.size()];
+        double sum = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            sum += categories.get(i).weight();
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    private SplittableRandom random(long userIndex, long stream) {
+        long mixed = options.seed();
+        mixed = mix(mixed ^ userIndex * 0x9E3779B97F4A7C15L);
+        mixed = mix(mixed ^ stream * 0xC2B2AE3D27D4EB4FL);
+        return new SplittableRandom(mixed);
+    }
+
+    /** SplitMix64 finalizer: spreads nearby inputs over the whole long range. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Random (version 4) UUID drawn from {@code random} instead of SecureRandom, so it is reproducible. */
+    static UUID uuid(SplittableRandom random) {
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    static int poisson(SplittableRandom random, double lambda) {
+        if (lambda <= 0) {
+            return 0;
+        }
+        if (lambda >= POISSON_NORMAL_THRESHOLD) {
+            return (int) Math.max(0, Math.round(lambda + Math.sqrt(lambda) * random.nextGaussian()));
+        }
+        double limit = Math.exp(-lambda);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    /** Index of the first cumulative weight above {@code target}. */
+    private static int pick(double[] cumulative, double target) {
+        int index = Arrays.binarySearch(cumulative, target);
+        index = index < 0 ? -index - 1 : index + 1;
+        return Math.min(index, cumulative.length - 1);
+    }
+
+    private static OffsetDateTime atTime(LocalDate date, int secondOfDay) {
+        return LocalDateTime.of(date, LocalTime.ofSecondOfDay(secondOfDay)).atOffset(ZoneOffset.UTC);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static OffsetDateTime min(OffsetDateTime a, OffsetDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    record CategoryProfile(String name, double popularity, double medianAmount, double sigma, String... merchants) {
+    }
+
+    record SyntheticCategory(UUID id, CategoryProfile profile, double weight) {
+    }
+
+    /**
+     * A generated user. {@code categories} is ordered by weight, heaviest first; {@code dailyRate} is the
+     * expected number of expenses on a day of weight 1.
+     */
+    record SyntheticUser(int index, UUID id, String email, String name, LocalDate signUpDate, OffsetDateTime createdAt,
+                         List<SyntheticCategory> categories, double[] cumulativeCategoryWeights, double dailyRate) {
+    }
+
+    record SyntheticExpense(UUID id, SyntheticCategory category, long amountCents, String description,
+                            LocalDate expenseDate, OffsetDateTime createdAt, OffsetDateTime deletedAt) {
+
+        boolean deleted() {
+            return deletedAt != null;
+        }
+    }
+}
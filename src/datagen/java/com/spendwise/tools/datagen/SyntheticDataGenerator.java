@@ -0,0 +1,258 @@
+package com.spendwise.tools.datagen;
+
+import ch.qos.logback.classic.Level;
+import com.spendwise.tools.datagen.SpendModel.SyntheticCategory;
+import com.spendwise.tools.datagen.SpendModel.SyntheticExpense;
+import com.spendwise.tools.datagen.SpendModel.SyntheticUser;
+import org.flywaydb.core.Flyway;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads a large, realistic data set (users, categories, expenses, budgets and the spend rollups) into a
+ * PostgreSQL database, for reproducing production-like query performance locally.
+ * <p>
+ * Run it from the Maven build (profile {@code datagen}), e.g.
+ * <pre>
+ * mvn -Pdatagen compile exec:java -Dexec.args="--url=jdbc:postgresql://localhost:5432/spendwise_perf --users=20000 --heavy-users=2"
+ * </pre>
+ * See {@link GeneratorOptions} for all options and {@link SpendModel} for how the data is distributed.
+ * <p>
+ * The schema is migrated with the application's Flyway migrations first (unless {@code --migrate=false}).
+ * Rows are written with {@code COPY}, month by month in creation order, so the physical order of
+ * {@code expenses} follows {@code expense_date} as it does in production. Rollups are computed while
+ * generating, so the application can serve reports right away. The same seed and options always produce
+ * the same rows, ids included; load into an empty database (or use another seed), since ids and e-mail
+ * addresses would collide otherwise.
+ */
+public final class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private final GeneratorOptions options;
+    private final SpendModel model;
+
+    SyntheticDataGenerator(GeneratorOptions options) {
+        this.options = options;
+        this.model = new SpendModel(options);
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Without Spring Boot's logging setup Logback logs everything at DEBUG, Flyway included.
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+        new SyntheticDataGenerator(GeneratorOptions.parse(args)).run();
+    }
+
+    void run() throws SQLException, NoSuchAlgorithmException {
+        long started = System.nanoTime();
+        if (options.migrate()) {
+            Flyway.configure()
+                    .dataSource(options.url(), options.dbUser(), options.dbPassword())
+                    .locations("classpath:db/migration")
+                    .placeholders(Map.of("expensePartitionGranularity", options.partitionGranularity()))
+                    .load()
+                    .migrate();
+        }
+
+        List<SyntheticUser> users = new ArrayList<>(options.heavyUsers() + options.users());
+        for (int i = 0; i < options.heavyUsers() + options.users(); i++) {
+            users.add(model.user(i));
+        }
+
+        long[] totals = new long[6];
+        try (Connection main = connect(); Connection daily = connect(); Connection monthly = connect()) {
+            try (PreparedStatement statement = main.prepareStatement("SELECT ensure_expense_partitions(?, ?)")) {
+                statement.setObject(1, options.from());
+                statement.setObject(2, options.to().plusMonths(3));
+                statement.execute();
+            }
+            totals[0] = loadUsers(copyApi(main), users);
+            totals[1] = loadCategories(copyApi(main), users);
+            log.info("Loaded {} users ({} heavy) and {} categories", totals[0], options.heavyUsers(), totals[1]);
+
+            YearMonth budgetsFrom = YearMonth.from(options.to()).minusMonths(options.budgetMonths() - 1L);
+            for (YearMonth month = YearMonth.from(options.from()); !month.isAfter(YearMonth.from(options.to()));
+                 month = month.plusMonths(1)) {
+                long[] loaded = loadMonth(copyApi(main), copyApi(daily), copyApi(monthly), users, month,
+                        !month.isBefore(budgetsFrom));
+                for (int i = 0; i < loaded.length; i++) {
+                    totals[2 + i] += loaded[i];
+                }
+                if (month.getMonthValue() == 12 || month.equals(YearMonth.from(options.to()))) {
+                    log.info("Loaded through {}: {} expenses, {} budgets, {} rows/s", month, totals[2], totals[5],
+                            rowsPerSecond(sum(totals), started));
+                }
+            }
+            try (Statement statement = main.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        }
+        log.info("Done in {} s: users={}, categories={}, expenses={}, dailyRollups={}, monthlyRollups={}, budgets={}, rows/s={}",
+                (System.nanoTime() - started) / 1_000_000_000, totals[0], totals[1], totals[2], totals[3], totals[4],
+                totals[5], rowsPerSecond(sum(totals), started));
+    }
+
+    private long loadUsers(CopyManager copyApi, List<SyntheticUser> users) throws SQLException, NoSuchAlgorithmException {
+        // One hash for all users: hashing millions of passwords would take longer than the load itself.
+        // The salt comes from the seed so the hash is reproducible too.
+        SecureRandom saltRandom = SecureRandom.getInstance("SHA1PRNG");
+        saltRandom.setSeed(Long.toString(options.seed()).getBytes(StandardCharsets.UTF_8));
+        String passwordHash = BCrypt.hashpw(options.password(), BCrypt.gensalt(10, saltRandom));
+        try (CopyLoader copy = new CopyLoader(copyApi, "users",
+                "id, created_at, updated_at, email, name, password_hash, role")) {
+            for (SyntheticUser user : users) {
+                copy.row(user.id(), user.createdAt(), user.createdAt(), user.email(), user.name(), passwordHash, "USER");
+            }
+            return copy.finish();
+        }
+    }
+
+    private long loadCategories(CopyManager copyApi, List<SyntheticUser> users) throws SQLException {
+        try (CopyLoader copy = new CopyLoader(copyApi, "categories", "id, created_at, updated_at, name, user_id")) {
+            for (SyntheticUser user : users) {
+                for (SyntheticCategory category : user.categories()) {
+                    copy.row(category.id(), user.createdAt(), user.createdAt(), category.profile().name(), user.id());
+                }
+            }
+            return copy.finish();
+        }
+    }
+
+    /**
+     * Loads one month of every user: expenses, both rollups and (if {@code withBudgets}) a budget over the
+     * user's two main categories. Returns the row counts of expenses, daily rollups, monthly rollups, budgets.
+     * <p>
+     * A connection runs one COPY at a time, so the rollups are streamed over their own connections while the
+     * expenses are written. Budgets are few and buffered, then written after the expenses.
+     */
+    private long[] loadMonth(CopyManager expensesApi, CopyManager dailyApi, CopyManager monthlyApi,
+                             List<SyntheticUser> users, YearMonth month, boolean withBudgets) throws SQLException {
+        List<Object[]> budgets = new ArrayList<>();
+        List<Object[]> budgetCategories = new ArrayList<>();
+        long[] loaded = new long[4];
+        try (CopyLoader expenses = new CopyLoader(expensesApi, "expenses",
+                "id, created_at, updated_at, user_id, category_id, amount, description, expense_date, deleted_at, deleted");
+             CopyLoader daily = new CopyLoader(dailyApi, "daily_spend_rollup",
+                     "user_id, category_id, spend_date, total_amount, expense_count");
+             CopyLoader monthly = new CopyLoader(monthlyApi, "monthly_spend_rollup",
+                     "user_id, category_id, year, month, total_amount, expense_count")) {
+            for (SyntheticUser user : users) {
+                if (user.signUpDate().isAfter(month.atEndOfMonth())) {
+                    continue;
+                }
+                List<SyntheticCategory> categories = user.categories();
+                long[][] dayCents = new long[categories.size()][month.lengthOfMonth()];
+                int[][] dayCounts = new int[categories.size()][month.lengthOfMonth()];
+                for (SyntheticExpense expense : model.expenses(user, month)) {
+                    OffsetDateTime updatedAt = expense.deleted() ? expense.deletedAt() : expense.createdAt();
+                    expenses.row(expense.id(), expense.createdAt(), updatedAt, user.id(), expense.category().id(),
+                            CopyLoader.amount(expense.amountCents()), expense.description(), expense.expenseDate(),
+                            expense.deletedAt(), expense.deleted());
+                    if (!expense.deleted()) {
+                        int category = categories.indexOf(expense.category());
+                        dayCents[category][expense.expenseDate().getDayOfMonth() - 1] += expense.amountCents();
+                        dayCounts[category][expense.expenseDate().getDayOfMonth() - 1]++;
+                    }
+                }
+
+                long budgetedCents = 0;
+                for (int category = 0; category < categories.size(); category++) {
+                    long monthCents = 0;
+                    int monthCount = 0;
+                    for (int day = 0; day < month.lengthOfMonth(); day++) {
+                        if (dayCounts[category][day] > 0) {
+                            daily.row(user.id(), categories.get(category).id(), month.atDay(day + 1),
+                                    CopyLoader.amount(dayCents[category][day]), dayCounts[category][day]);
+                            monthCents += dayCents[category][day];
+                            monthCount += dayCounts[category][day];
+                        }
+                    }
+                    if (monthCount > 0) {
+                        monthly.row(user.id(), categories.get(category).id(), month.getYear(), month.getMonthValue(),
+                                CopyLoader.amount(monthCents), monthCount);
+                    }
+                    if (category < 2) {
+                        budgetedCents += monthCents;
+                    }
+                }
+
+                if (withBudgets) {
+                    Object budgetId = model.budgetId(user, month);
+                    OffsetDateTime createdAt = month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+                    createdAt = createdAt.isBefore(user.createdAt()) ? user.createdAt() : createdAt;
+                    budgets.add(new Object[]{budgetId, createdAt, createdAt, user.id(),
+                            CopyLoader.amount(model.budgetCents(user, month, budgetedCents)),
+                            month.getYear(), month.getMonthValue()});
+                    budgetCategories.add(new Object[]{budgetId, categories.get(0).id()});
+                    budgetCategories.add(new Object[]{budgetId, categories.get(1).id()});
+                }
+            }
+            loaded[0] = expenses.finish();
+            loaded[1] = daily.finish();
+            loaded[2] = monthly.finish();
+        }
+        if (!budgets.isEmpty()) {
+            loaded[3] = copyAll(expensesApi, "budgets", "id, created_at, updated_at, user_id, amount, year, month", budgets);
+            copyAll(expensesApi, "budget_categories", "budget_id, category_id", budgetCategories);
+        }
+        return loaded;
+    }
+
+    private static long copyAll(CopyManager copyApi, String table, String columns, List<Object[]> rows)
+            throws SQLException {
+        try (CopyLoader copy = new CopyLoader(copyApi, table, columns)) {
+            for (Object[] row : rows) {
+                copy.row(row);
+            }
+            return copy.finish();
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(options.url(), options.dbUser(), options.dbPassword());
+        try (Statement statement = connection.createStatement()) {
+            // A crash mid-load loses at most the last commits, which a reload replaces anyway.
+            statement.execute("SET synchronous_commit = off");
+            if (options.skipForeignKeyChecks()) {
+                // Foreign keys are enforced by per-row triggers, which replica mode skips: about half the load
+                // time, and the generated rows are consistent by construction. Needs superuser.
+                statement.execute("SET session_replication_role = replica");
+            }
+        }
+        return connection;
+    }
+
+    private static CopyManager copyApi(Connection connection) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static long rowsPerSecond(long rows, long startedNanos) {
+        return rows * 1_000_000_000L / Math.max(1, System.nanoTime() - startedNanos);
+    }
+}
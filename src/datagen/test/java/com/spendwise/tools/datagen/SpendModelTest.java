@@ -0,0 +1,72 @@
+package com.spendwise.tools.datagen;
+
+import com.spendwise.tools.datagen.SpendModel.SyntheticExpense;
+import com.spendwise.tools.datagen.SpendModel.SyntheticUser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpendModel")
+class SpendModelTest {
+
+    private static GeneratorOptions options(long seed, int users) {
+        return GeneratorOptions.parse(new String[]{
+                "--seed=" + seed, "--users=" + users, "--mean-expenses=200", "--from=2023-01-01", "--to=2024-12-31"});
+    }
+
+    @Test
+    @DisplayName("same seed gives the same users and expenses, independent of the user count")
+    void isDeterministicPerUser() {
+        SpendModel small = new SpendModel(options(7, 10));
+        SpendModel large = new SpendModel(options(7, 500));
+
+        SyntheticUser user = small.user(3);
+        assertThat(large.user(3)).usingRecursiveComparison().isEqualTo(user);
+        assertThat(large.expenses(large.user(3), YearMonth.of(2024, 3)))
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(small.expenses(user, YearMonth.of(2024, 3)));
+        assertThat(new SpendModel(options(8, 10)).user(3).id()).isNotEqualTo(user.id());
+    }
+
+    @Test
+    @DisplayName("a fifth of the users own most of the expenses")
+    void expensesPerUserAreSkewed() {
+        SpendModel model = new SpendModel(options(42, 1000));
+        List<Integer> counts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            SyntheticUser user = model.user(i);
+            int count = 0;
+            for (YearMonth month = YearMonth.of(2023, 1); !month.isAfter(YearMonth.of(2024, 12)); month = month.plusMonths(1)) {
+                count += model.expenses(user, month).size();
+            }
+            counts.add(count);
+        }
+        counts.sort(Comparator.reverseOrder());
+        long total = counts.stream().mapToLong(Integer::longValue).sum();
+        long topFifth = counts.subList(0, 200).stream().mapToLong(Integer::longValue).sum();
+
+        assertThat((double) topFifth / total).isGreaterThan(0.5);
+    }
+
+    @Test
+    @DisplayName("December has more spending than February and expenses stay inside their month")
+    void followsSeasonality() {
+        SpendModel model = new SpendModel(GeneratorOptions.parse(new String[]{
+                "--heavy-users=1", "--users=0", "--heavy-user-expenses=100000", "--from=2023-01-01", "--to=2024-12-31"}));
+        SyntheticUser heavy = model.user(0);
+
+        List<SyntheticExpense> december = model.expenses(heavy, YearMonth.of(2024, 12));
+        List<SyntheticExpense> february = model.expenses(heavy, YearMonth.of(2024, 2));
+
+        assertThat(december.size()).isGreaterThan(february.size() * 3 / 2);
+        assertThat(december).allSatisfy(expense -> assertThat(expense.expenseDate().getMonth()).isEqualTo(Month.DECEMBER));
+        assertThat(december).isSortedAccordingTo(Comparator.comparing(SyntheticExpense::createdAt));
+    }
+}
@@ -0,0 +1,80 @@
+package com.spendwise;
+
+import com.spendwise.domain.entity.Budget;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.domain.entity.Expense;
+import com.spendwise.domain.entity.User;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Detached entities shaped like the ones the services see after a query, built from a fixed seed so every
+ * run measures the same data.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user() {
+        User user = new User();
+        user.setId(UUID.nameUUIDFromBytes("benchmark-user".getBytes()));
+        user.setEmail("benchmark@spendwise.local");
+        user.setName("Benchmark User");
+        return user;
+    }
+
+    public static List<Category> categories(User user, int count) {
+        List<Category> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Category category = new Category();
+            category.setId(UUID.nameUUIDFromBytes(("benchmark-category-" + i).getBytes()));
+            category.setName("Category " + i);
+            category.setUser(user);
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    /**
+     * {@code count} expenses in {@code month} (a date in it), spread over {@code categories}, with amounts
+     * between 1.00 and 200.00.
+     */
+    public static List<Expense> expenses(User user, List<Category> categories, LocalDate month, int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        Instant createdAt = month.withDayOfMonth(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        List<Expense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Expense expense = new Expense();
+            expense.setId(new UUID(42, i));
+            expense.setCreatedAt(createdAt);
+            expense.setUpdatedAt(createdAt);
+            expense.setUser(user);
+            expense.setCategory(categories.get(random.nextInt(categories.size())));
+            expense.setAmount(BigDecimal.valueOf(random.nextLong(100, 20_001), 2));
+            expense.setDescription("Expense " + i);
+            expense.setExpenseDate(month.withDayOfMonth(1 + random.nextInt(month.lengthOfMonth())));
+            expenses.add(expense);
+        }
+        return expenses;
+    }
+
+    public static Budget budget(User user, List<Category> categories, LocalDate month, BigDecimal amount) {
+        Budget budget = new Budget();
+        budget.setId(UUID.nameUUIDFromBytes("benchmark-budget".getBytes()));
+        budget.setUser(user);
+        budget.setCategories(new HashSet<>(categories));
+        budget.setAmount(amount);
+        budget.setYear(month.getYear());
+        budget.setMonth(month.getMonthValue());
+        return budget;
+    }
+}
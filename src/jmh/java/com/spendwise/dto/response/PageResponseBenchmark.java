@@ -0,0 +1,58 @@
+package com.spendwise.dto.response;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PageResponse#of} on a page of 20 responses, alone and together with the {@link Page#map} that
+ * precedes it in the list endpoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageResponseBenchmark {
+
+    private Page<ExpenseResponse> page;
+
+    @Setup
+    public void setUp() {
+        List<ExpenseResponse> content = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            content.add(new ExpenseResponse(new UUID(42, i), new UUID(7, i % 8), BigDecimal.valueOf(1000 + i, 2),
+                    "Expense " + i, LocalDate.of(2025, 3, 1 + i)));
+        }
+        page = new PageImpl<>(content, PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "expenseDate")), 1234);
+    }
+
+    @Benchmark
+    public PageResponse<ExpenseResponse> of() {
+        return PageResponse.of(page);
+    }
+
+    @Benchmark
+    public PageResponse<ExpenseResponse> mapAndOf() {
+        return PageResponse.of(page.map(response -> response));
+    }
+}
@@ -0,0 +1,73 @@
+package com.spendwise.mapper;
+
+import com.spendwise.BenchmarkFixtures;
+import com.spendwise.domain.entity.Budget;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.domain.entity.Expense;
+import com.spendwise.domain.entity.User;
+import com.spendwise.dto.response.BudgetForecastStatus;
+import com.spendwise.dto.response.BudgetResponse;
+import com.spendwise.dto.response.ExpenseResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MapStruct-generated {@link ExpenseMapper} and {@link BudgetMapper}: one entity to one response, and a
+ * page of 20 expenses as the list endpoint maps it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final ExpenseMapper expenseMapper = new ExpenseMapperImpl();
+    private final BudgetMapper budgetMapper = new BudgetMapperImpl();
+
+    private Expense expense;
+    private List<Expense> page;
+    private Budget budget;
+    private final BigDecimal totalSpent = new BigDecimal("312.40");
+    private final BigDecimal remaining = new BigDecimal("187.60");
+    private final BigDecimal projectedSpent = new BigDecimal("520.75");
+
+    @Setup
+    public void setUp() {
+        LocalDate month = LocalDate.of(2025, 3, 1);
+        User user = BenchmarkFixtures.user();
+        List<Category> categories = BenchmarkFixtures.categories(user, 8);
+        page = BenchmarkFixtures.expenses(user, categories, month, 20);
+        expense = page.get(0);
+        budget = BenchmarkFixtures.budget(user, categories.subList(0, 3), month, new BigDecimal("500.00"));
+    }
+
+    @Benchmark
+    public ExpenseResponse expenseToResponse() {
+        return expenseMapper.toExpenseResponse(expense);
+    }
+
+    @Benchmark
+    public List<ExpenseResponse> expensePageToResponses() {
+        return page.stream().map(expenseMapper::toExpenseResponse).toList();
+    }
+
+    @Benchmark
+    public BudgetResponse budgetToResponse() {
+        return budgetMapper.toBudgetResponse(budget, totalSpent, remaining, projectedSpent, BudgetForecastStatus.AT_RISK);
+    }
+}
@@ -0,0 +1,93 @@
+package com.spendwise.observability;
+
+import com.spendwise.exception.BudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the service-layer timing. The services are already behind a transactional CGLIB proxy, so the
+ * cost of instrumentation is the difference between {@code timedProxy} and {@code untimedProxy}: one more
+ * interceptor, two {@code nanoTime()} reads and a timer update with its percentile histogram and SLO buckets.
+ * {@code recordSuccess} and {@code recordFailure} measure the recording alone; the failure path includes the
+ * budget rejection counter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceMetricsBenchmark {
+
+    private static final List<Duration> SLO = List.of(Duration.ofMillis(5), Duration.ofMillis(25),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofSeconds(1));
+
+    private final BudgetExceededException rejection = new BudgetExceededException("benchmark");
+
+    private Service untimed;
+    private Service timed;
+    private ServiceMetrics.Operation operation;
+    private long input;
+
+    @Setup
+    public void setUp() {
+        ServiceMetrics serviceMetrics = new ServiceMetrics(new SimpleMeterRegistry(), SLO);
+        // Stands in for the transaction interceptor that every timed service already has.
+        MethodInterceptor passThrough = invocation -> invocation.proceed();
+        untimed = proxy(passThrough);
+        timed = proxy(new ServiceTimingInterceptor(() -> serviceMetrics), passThrough);
+        operation = serviceMetrics.operation("Service", "call");
+        input = 42;
+    }
+
+    private static Service proxy(MethodInterceptor... interceptors) {
+        ProxyFactory factory = new ProxyFactory(new Service());
+        factory.setProxyTargetClass(true);
+        for (MethodInterceptor interceptor : interceptors) {
+            factory.addAdvice(interceptor);
+        }
+        return (Service) factory.getProxy();
+    }
+
+    @Benchmark
+    public long untimedProxy() {
+        return untimed.call(input);
+    }
+
+    @Benchmark
+    public long timedProxy() {
+        return timed.call(input);
+    }
+
+    @Benchmark
+    public void recordSuccess() {
+        operation.recordSuccess(System.nanoTime());
+    }
+
+    @Benchmark
+    public void recordFailure() {
+        operation.recordFailure(System.nanoTime(), rejection);
+    }
+
+    public static class Service {
+
+        public long call(long value) {
+            return value * 31 + 7;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.spendwise.repository;
+
+import com.spendwise.domain.entity.Budget;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.domain.entity.Expense;
+import com.spendwise.domain.entity.User;
+import com.spendwise.dto.request.ExpenseListParams;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExpenseSpecification#fromParams}: composing the specification, and turning it into a Hibernate
+ * criteria query with its predicates and the category fetch, as Spring Data does before every list query.
+ * <p>
+ * Hibernate is bootstrapped with the application's entities and the PostgreSQL dialect but without a
+ * database: building criteria needs the metamodel only. SQL rendering and execution are not measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpenseSpecificationBenchmark {
+
+    /** {@code none}: only the ownership and soft-delete filters; {@code all}: every optional filter set too. */
+    @Param({"none", "all"})
+    public String filters;
+
+    private final UUID userId = UUID.nameUUIDFromBytes("benchmark-user".getBytes());
+    private ExpenseListParams params;
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        params = switch (filters) {
+            case "none" -> ExpenseListParams.of(null, null, null, null, null);
+            case "all" -> ExpenseListParams.of(UUID.nameUUIDFromBytes("benchmark-category-0".getBytes()),
+                    LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31), new BigDecimal("5.00"), new BigDecimal("250.00"));
+            default -> throw new IllegalArgumentException(filters);
+        };
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Expense.class)
+                .addAnnotatedClass(Budget.class)
+                .setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+                .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .setProperty("hibernate.hbm2ddl.auto", "none")
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Specification<Expense> fromParams() {
+        return ExpenseSpecification.fromParams(userId, params);
+    }
+
+    @Benchmark
+    public CriteriaQuery<Expense> fromParamsToCriteria() {
+        CriteriaQuery<Expense> query = criteriaBuilder.createQuery(Expense.class);
+        Root<Expense> root = query.from(Expense.class);
+        Predicate predicate = ExpenseSpecification.fromParams(userId, params).toPredicate(root, query, criteriaBuilder);
+        return query.where(predicate);
+    }
+}
@@ -0,0 +1,63 @@
+package com.spendwise.service;
+
+import com.spendwise.BenchmarkFixtures;
+import com.spendwise.domain.entity.Budget;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.domain.entity.Expense;
+import com.spendwise.domain.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@link BudgetService#calculateBudgetMetrics(Budget, Map)}: summing the cached month spend of the budget's
+ * categories into its {@link BigDecimal} totals, once per budget on every budget read. Loading the spend
+ * ({@link MonthlySpendCache}, a cache hit or one aggregate query) is not part of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BudgetServiceBenchmark {
+
+    /** Categories covered by the budget, out of 8 with spend in the month. */
+    @Param({"1", "3", "8"})
+    public int budgetCategories;
+
+    private Budget budget;
+    private Map<UUID, BigDecimal> spendByCategory;
+
+    @Setup
+    public void setUp() {
+        LocalDate month = LocalDate.of(2025, 3, 1);
+        User user = BenchmarkFixtures.user();
+        List<Category> categories = BenchmarkFixtures.categories(user, 8);
+        budget = BenchmarkFixtures.budget(user, categories.subList(0, budgetCategories), month, new BigDecimal("500.00"));
+        spendByCategory = BenchmarkFixtures.expenses(user, categories, month, 200).stream()
+                .collect(Collectors.toUnmodifiableMap(expense -> expense.getCategory().getId(), Expense::getAmount,
+                        BigDecimal::add));
+    }
+
+    @Benchmark
+    public BudgetService.BudgetMetrics calculateBudgetMetrics() {
+        return BudgetService.calculateBudgetMetrics(budget, spendByCategory);
+    }
+}
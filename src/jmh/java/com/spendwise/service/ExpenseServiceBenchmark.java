@@ -0,0 +1,54 @@
+package com.spendwise.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ExpenseService#parseSort}, which runs on every {@code GET /expenses}: splitting, whitelisting and
+ * lower-casing each {@code sort=} parameter into {@link Sort.Order}s.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpenseServiceBenchmark {
+
+    /**
+     * {@code none}: no sort parameter (the default order); {@code one}: {@code sort=amount,asc};
+     * {@code three}: three orders, including the {@code categoryId} alias.
+     */
+    @Param({"none", "one", "three"})
+    public String sort;
+
+    private List<String> sortParams;
+
+    @Setup
+    public void setUp() {
+        sortParams = switch (sort) {
+            case "none" -> List.of();
+            case "one" -> List.of("amount,asc");
+            case "three" -> List.of("expenseDate,desc", "categoryId,ASC", "amount");
+            default -> throw new IllegalArgumentException(sort);
+        };
+    }
+
+    @Benchmark
+    public Sort parseSort() {
+        return ExpenseService.parseSort(sortParams);
+    }
+}
@@ -1,12 +1,39 @@
 package com.spendwise;
 
+import com.spendwise.config.BatchLookupProperties;
+import com.spendwise.config.BudgetAlertProperties;
+import com.spendwise.config.BudgetMetricsProperties;
+import com.spendwise.config.CategoryCacheProperties;
+import com.spendwise.config.CracProperties;
+import com.spendwise.config.ExpenseArchivalProperties;
+import com.spendwise.config.ExpensePartitionProperties;
 import com.spendwise.config.JwtProperties;
+import com.spendwise.config.NativeRuntimeHints;
+import com.spendwise.config.PoolSizingProperties;
+import com.spendwise.config.ReactiveApiProperties;
+import com.spendwise.config.ReadReplicaProperties;
+import com.spendwise.config.ReportProperties;
+import com.spendwise.config.ServiceMetricsProperties;
+import com.spendwise.config.SpendForecastProperties;
+import com.spendwise.config.SpendRollupProperties;
+import com.spendwise.config.VirtualThreadProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
-@SpringBootApplication
-@EnableConfigurationProperties(JwtProperties.class)
+// R2DBC is only used by the opt-in reactive read API, which configures its own pool (ReactiveApiConfig); a
+// second, reactive transaction manager would also make the default for @Transactional ambiguous.
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
+@EnableConfigurationProperties({JwtProperties.class, ReadReplicaProperties.class, BatchLookupProperties.class,
+        SpendRollupProperties.class, ReportProperties.class, ExpensePartitionProperties.class,
+        ExpenseArchivalProperties.class, BudgetMetricsProperties.class, CategoryCacheProperties.class,
+        BudgetAlertProperties.class, SpendForecastProperties.class, VirtualThreadProperties.class,
+        ReactiveApiProperties.class, CracProperties.class, PoolSizingProperties.class,
+        ServiceMetricsProperties.class})
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class SpendwiseApiApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,14 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits for batch multi-get ({@code GET /expenses?ids=...}, {@code POST /expenses/lookup} and the
+ * budget equivalents). maxIds caps how many distinct ids one request may ask for.
+ */
+@ConfigurationProperties(prefix = "spendwise.batch-lookup")
+public record BatchLookupProperties(
+        @DefaultValue("100") int maxIds
+) {
+}
@@ -0,0 +1,24 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Budget threshold alerts streamed on GET /budgets/alerts. defaultThresholds applies to budgets created
+ * without alertThresholds. Each connection buffers at most bufferSize undelivered events and is closed
+ * when a slow client lets the buffer overflow; connections are also closed after connectionTimeout, and
+ * clients reconnect. Idle connections hold no thread: senderThreads write events and heartbeats for all.
+ */
+@ConfigurationProperties(prefix = "spendwise.budgets.alerts")
+public record BudgetAlertProperties(
+        @DefaultValue({"80", "100"}) List<Integer> defaultThresholds,
+        @DefaultValue("15s") Duration heartbeatInterval,
+        @DefaultValue("30m") Duration connectionTimeout,
+        @DefaultValue("64") int bufferSize,
+        @DefaultValue("4") int maxConnectionsPerUser,
+        @DefaultValue("2") int senderThreads
+) {
+}
@@ -0,0 +1,17 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Budget metrics cache settings. Expense writes evict the affected user and month right away; cacheTtl
+ * only bounds staleness from writes this instance does not see (other instances, the archival job).
+ */
+@ConfigurationProperties(prefix = "spendwise.budgets")
+public record BudgetMetricsProperties(
+        @DefaultValue("10m") Duration metricsCacheTtl,
+        @DefaultValue("10000") long metricsCacheMaximumSize
+) {
+}
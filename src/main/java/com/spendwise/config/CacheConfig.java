@@ -0,0 +1,60 @@
+package com.spendwise.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * In-process Caffeine caches. Each cache is registered explicitly with its own size and TTL; dynamic
+ * creation is switched off so a misspelled cache name fails instead of silently creating an unbounded,
+ * never-expiring cache. Stats are recorded so hit/miss rates show up under {@code cache.*} metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String MONTHLY_SUMMARY_CACHE = "reports.monthly-summary";
+    public static final String CATEGORY_BREAKDOWN_CACHE = "reports.category-breakdown";
+    public static final String TOP_EXPENSES_CACHE = "reports.top-expenses";
+    public static final String MONTHLY_SPEND_CACHE = "budgets.monthly-spend";
+    public static final String CATEGORIES_CACHE = "categories.by-user";
+    public static final String SPEND_FORECAST_CACHE = "budgets.spend-forecast";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> cachesCustomizer(ReportProperties reportProperties,
+                                                                        BudgetMetricsProperties budgetMetricsProperties,
+                                                                        CategoryCacheProperties categoryCacheProperties,
+                                                                        SpendForecastProperties spendForecastProperties) {
+        return cacheManager -> {
+            cacheManager.setCacheNames(List.of());
+            cacheManager.setAllowNullValues(false);
+            for (String name : new String[]{MONTHLY_SUMMARY_CACHE, CATEGORY_BREAKDOWN_CACHE, TOP_EXPENSES_CACHE}) {
+                cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                        .expireAfterWrite(reportProperties.cacheTtl())
+                        .maximumSize(reportProperties.cacheMaximumSize())
+                        .recordStats()
+                        .build());
+            }
+            cacheManager.registerCustomCache(MONTHLY_SPEND_CACHE, Caffeine.newBuilder()
+                    .expireAfterWrite(budgetMetricsProperties.metricsCacheTtl())
+                    .maximumSize(budgetMetricsProperties.metricsCacheMaximumSize())
+                    .recordStats()
+                    .build());
+            cacheManager.registerCustomCache(CATEGORIES_CACHE, Caffeine.newBuilder()
+                    .expireAfterWrite(categoryCacheProperties.cacheTtl())
+                    .maximumSize(categoryCacheProperties.cacheMaximumSize())
+                    .recordStats()
+                    .build());
+            cacheManager.registerCustomCache(SPEND_FORECAST_CACHE, Caffeine.newBuilder()
+                    .expireAfterWrite(spendForecastProperties.cacheTtl())
+                    .maximumSize(spendForecastProperties.cacheMaximumSize())
+                    .recordStats()
+                    .build());
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Per-user category cache settings. Category writes through the API evict the user right away; cacheTtl
+ * only bounds staleness from writes this instance does not see (other instances). cacheMaximumSize counts
+ * users, each entry holding all of that user's categories.
+ */
+@ConfigurationProperties(prefix = "spendwise.categories")
+public record CategoryCacheProperties(
+        @DefaultValue("10m") Duration cacheTtl,
+        @DefaultValue("10000") long cacheMaximumSize
+) {
+}
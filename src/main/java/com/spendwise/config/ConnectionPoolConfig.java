@@ -0,0 +1,54 @@
+package com.spendwise.config;
+
+import com.spendwise.datasource.AdaptivePoolSizer;
+import com.spendwise.datasource.ReplicaRoutingDataSource;
+import com.spendwise.observability.ConnectionPoolsEndpoint;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pool observability and sizing: the {@code connectionpools} actuator endpoint, and the adaptive sizer of the
+ * primary pool when {@code spendwise.datasource.pool-sizing.enabled=true}. Replica pools are reported but keep
+ * their configured size.
+ */
+@Configuration
+public class ConnectionPoolConfig {
+
+    @Bean
+    public ConnectionPoolsEndpoint connectionPoolsEndpoint(DataSource dataSource,
+                                                           ObjectProvider<ReplicaRoutingDataSource> replicaRouting,
+                                                           ObjectProvider<AdaptivePoolSizer> sizer) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        pools.add(hikariPool(dataSource));
+        replicaRouting.ifAvailable(routing -> routing.getReplicas().stream()
+                .map(ConnectionPoolConfig::hikariPool)
+                .forEach(pools::add));
+        return new ConnectionPoolsEndpoint(pools, sizer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spendwise.datasource.pool-sizing", name = "enabled", havingValue = "true")
+    public AdaptivePoolSizer adaptivePoolSizer(DataSource dataSource, MeterRegistry meterRegistry,
+                                               PoolSizingProperties properties) {
+        return new AdaptivePoolSizer(hikariPool(dataSource), meterRegistry, properties);
+    }
+
+    // The application DataSource is wrapped (statement counting, read-replica routing); unwrap reaches the
+    // primary Hikari pool through every wrapper.
+    private static HikariDataSource hikariPool(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Connection pool metrics and sizing need a Hikari DataSource", e);
+        }
+    }
+}
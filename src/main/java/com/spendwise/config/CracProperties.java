@@ -0,0 +1,17 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * CRaC checkpoint/restore (docs/crac.md). With warmup enabled, the auth and expense hot paths are run
+ * warmupIterations times after startup so the JIT has compiled them; with checkpointAfterWarmup as well, the
+ * process then checkpoints itself (needs a CRaC JDK started with {@code -XX:CRaCCheckpointTo}).
+ */
+@ConfigurationProperties(prefix = "spendwise.crac")
+public record CracProperties(
+        @DefaultValue("false") boolean warmupEnabled,
+        @DefaultValue("2000") int warmupIterations,
+        @DefaultValue("false") boolean checkpointAfterWarmup
+) {
+}
@@ -0,0 +1,26 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Period;
+
+/**
+ * Archival of cold expenses into {@code expenses_archive}. Soft-deleted expenses are archived once they
+ * have been deleted for deletedRetention; when olderThan is set, every expense whose date is older than
+ * that is archived too. Rows are moved batchSize at a time with batchPause between batches, and the job
+ * waits while any standby replays more than maxReplicationLag behind the primary.
+ */
+@ConfigurationProperties(prefix = "spendwise.archival")
+public record ExpenseArchivalProperties(
+        boolean enabled,
+        @DefaultValue("30d") Duration deletedRetention,
+        Period olderThan,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("200ms") Duration batchPause,
+        @DefaultValue("64MB") DataSize maxReplicationLag,
+        @DefaultValue("5s") Duration lagCheckInterval
+) {
+}
@@ -0,0 +1,19 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Period;
+
+/**
+ * Partition maintenance of {@code expenses}. Partitions covering today through today + createAhead
+ * are created on startup and on every cron run, so inserts never fall into the default partition.
+ * Granularity (yearly/monthly) is a Flyway placeholder, not a setting here: it is fixed by the
+ * V7 migration.
+ */
+@ConfigurationProperties(prefix = "spendwise.partitions.expenses")
+public record ExpensePartitionProperties(
+        @DefaultValue("true") boolean maintenanceEnabled,
+        @DefaultValue("3m") Period createAhead
+) {
+}
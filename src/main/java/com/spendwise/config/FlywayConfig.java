@@ -0,0 +1,29 @@
+package com.spendwise.config;
+
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.flywaydb.core.internal.scanner.Scanner;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps Flyway's own classpath scanning in an AOT build ({@code -Paot}, docs/fast-startup.md). The generated
+ * context replaces Spring Boot's resource provider customizer with its native-image variant, which calls a
+ * {@code Scanner} constructor that Flyway 11.20 (pinned in the pom, newer than Boot's managed version) no longer
+ * has; startup then fails with a {@code NoSuchMethodError}. Setting the resource provider here, before that
+ * customizer runs, makes it skip its own.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer aotResourceProviderCustomizer() {
+        return configuration -> {
+            if (AotDetector.useGeneratedArtifacts() && configuration.getResourceProvider() == null) {
+                configuration.resourceProvider(
+                        new Scanner<>(JavaMigration.class, configuration, configuration.getLocations()));
+            }
+        };
+    }
+}
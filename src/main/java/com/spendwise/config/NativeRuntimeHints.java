@@ -0,0 +1,66 @@
+package com.spendwise.config;
+
+import com.spendwise.dto.error.ErrorResponse;
+import com.spendwise.dto.error.ValidationErrorResponse;
+import com.spendwise.dto.response.BudgetAlertResponse;
+import com.spendwise.dto.response.BudgetResponse;
+import com.spendwise.dto.response.CategoryResponse;
+import com.spendwise.dto.response.ExpenseResponse;
+import com.spendwise.dto.response.PageResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the native image ({@code -Pnative}) that Spring AOT cannot derive from the
+ * bean definitions. Entities, repositories, configuration properties and the request/response types in
+ * controller signatures are covered by AOT itself, as are the MapStruct mappers: their generated
+ * implementations are plain Spring beans without reflection. Caffeine, HikariCP and the PostgreSQL driver are
+ * covered by the GraalVM reachability metadata repository.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    // jjwt-api finds its implementation (runtime scope) by class name, and the JSON (de)serializer through
+    // ServiceLoader; the names are those Jwts, Keys and Jwks load in 0.12.
+    private static final List<String> JJWT_IMPLEMENTATION_CLASSES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    // Named in spring.jpa.properties.hibernate.dialect, so Hibernate instantiates it by name.
+    private static final String HIBERNATE_DIALECT_CLASS = "org.hibernate.dialect.PostgreSQLDialect";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String className : JJWT_IMPLEMENTATION_CLASSES) {
+            hints.reflection().registerTypeIfPresent(classLoader, className,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+        hints.reflection().registerTypeIfPresent(classLoader, HIBERNATE_DIALECT_CLASS,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // Written with the ObjectMapper outside controller return types: error bodies from the security
+        // filters, list elements behind List<?> (sparse fieldsets), NDJSON export rows, SSE alerts and the
+        // reactive read API's responses.
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                ErrorResponse.class, ValidationErrorResponse.class, CategoryResponse.class, BudgetResponse.class,
+                ExpenseResponse.class, PageResponse.class, BudgetAlertResponse.class);
+    }
+}
@@ -0,0 +1,27 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Adaptive sizing of the primary Hikari pool (docs/connection-pool.md). Every interval the mean wait for a
+ * connection is compared with the mean statement time: the pool grows by step while requests wait longer for
+ * a connection than waitToLatencyRatio times a query takes, unless statement time rose by more than
+ * latencyTolerance since the previous interval (the database, not the pool, is the bottleneck then). It
+ * shrinks by step while waits are negligible and fewer than targetUtilization of its connections are in use.
+ * The size stays within minSize and maxSize.
+ */
+@ConfigurationProperties(prefix = "spendwise.datasource.pool-sizing")
+public record PoolSizingProperties(
+        boolean enabled,
+        @DefaultValue("5") int minSize,
+        @DefaultValue("30") int maxSize,
+        @DefaultValue("2") int step,
+        @DefaultValue("15s") Duration interval,
+        @DefaultValue("1.0") double waitToLatencyRatio,
+        @DefaultValue("0.5") double latencyTolerance,
+        @DefaultValue("0.5") double targetUtilization
+) {
+}
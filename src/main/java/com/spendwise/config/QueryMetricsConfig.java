@@ -0,0 +1,51 @@
+package com.spendwise.config;
+
+import com.spendwise.observability.QueryMetricsFilter;
+import com.spendwise.observability.StatementCountingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Wires per-request statement counting: wraps the application DataSource and registers the
+ * metrics filter ahead of Spring Security. With read replicas the application DataSource is a lazy
+ * proxy, and {@link ReadReplicaDataSourceConfig} wraps its targets instead. Response headers are handled separately by
+ * {@link com.spendwise.observability.QueryMetricsHeaderAdvice}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spendwise.query-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // static: BeanPostProcessors must not force early initialization of this configuration class
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof StatementCountingDataSource)
+                        && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryMetricsFilter> queryMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryMetricsFilter> registration =
+                new FilterRegistrationBean<>(new QueryMetricsFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
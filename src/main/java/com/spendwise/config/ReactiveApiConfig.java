@@ -0,0 +1,161 @@
+package com.spendwise.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spendwise.controller.ReactiveReadHandler;
+import com.spendwise.datasource.RestartableConnectionPool;
+import com.spendwise.security.ReactiveJwtAuthenticationFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Reactive read API (off unless {@code spendwise.reactive-api.enabled}): GET /expenses, /categories and
+ * /budgets as WebFlux functional endpoints on a Netty server of their own, next to the servlet container,
+ * reading through an R2DBC pool against the same database. Requests are authenticated with the same JWTs as
+ * the MVC API; nothing else of the servlet stack (security filter chain, query metrics, caches) applies.
+ * <p>
+ * Pool usage is published as {@code spendwise.reactive-api.pool.*} gauges. The pool and the server are lifecycle
+ * beans, so both close and reopen around a CRaC checkpoint.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spendwise.reactive-api", name = "enabled", havingValue = "true")
+public class ReactiveApiConfig {
+
+    private static final String POOL_METRIC_PREFIX = "spendwise.reactive-api.pool.";
+
+    @Bean(destroyMethod = "dispose")
+    public RestartableConnectionPool reactiveApiConnectionPool(ReactiveApiProperties properties,
+                                                    DataSourceProperties dataSourceProperties,
+                                                    MeterRegistry meterRegistry) {
+        String url = properties.r2dbcUrl() != null ? properties.r2dbcUrl() : toR2dbcUrl(dataSourceProperties.determineUrl());
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, dataSourceProperties.determineUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, dataSourceProperties.determinePassword())
+                .build();
+        ReactiveApiProperties.Pool pool = properties.pool();
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-api")
+                .initialSize(0)
+                .maxSize(pool.maxSize())
+                .maxAcquireTime(pool.acquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .build();
+        RestartableConnectionPool connectionPool = new RestartableConnectionPool(() -> new ConnectionPool(configuration));
+        registerPoolGauge(meterRegistry, connectionPool, "acquired", "Connections handed out to requests", PoolMetrics::acquiredSize);
+        registerPoolGauge(meterRegistry, connectionPool, "idle", "Open connections not in use", PoolMetrics::idleSize);
+        registerPoolGauge(meterRegistry, connectionPool, "pending", "Requests waiting for a connection", PoolMetrics::pendingAcquireSize);
+        return connectionPool;
+    }
+
+    @Bean
+    public DatabaseClient reactiveApiDatabaseClient(RestartableConnectionPool reactiveApiConnectionPool) {
+        return DatabaseClient.create(reactiveApiConnectionPool.connectionFactory());
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveApiRoutes(ReactiveReadHandler handler,
+                                                            ReactiveJwtAuthenticationFilter authenticationFilter) {
+        return RouterFunctions.route()
+                .GET("/expenses", handler::listExpenses)
+                .GET("/categories", handler::listCategories)
+                .GET("/budgets", handler::listBudgets)
+                // The first filter is the outermost: errors of the authentication filter become responses too.
+                .onError(Exception.class, handler::errorResponse)
+                .filter(authenticationFilter)
+                .build();
+    }
+
+    @Bean
+    public ReactiveApiServer reactiveApiServer(ReactiveApiProperties properties,
+                                               RouterFunction<ServerResponse> reactiveApiRoutes,
+                                               ObjectMapper objectMapper) {
+        // The application's ObjectMapper, so both APIs serialize dates and decimals the same way.
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory(properties.port());
+        return new ReactiveApiServer(factory.getWebServer(RouterFunctions.toHttpHandler(reactiveApiRoutes, strategies)));
+    }
+
+    /**
+     * {@code jdbc:postgresql://host:5432/db?ssl=true} to {@code r2dbc:postgresql://host:5432/db}.
+     */
+    static String toR2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:")) {
+            throw new IllegalStateException("spendwise.reactive-api.r2dbc-url is required when spring.datasource.url "
+                    + "is not a jdbc: URL");
+        }
+        int query = jdbcUrl.indexOf('?');
+        return "r2dbc:" + jdbcUrl.substring("jdbc:".length(), query < 0 ? jdbcUrl.length() : query);
+    }
+
+    private static void registerPoolGauge(MeterRegistry meterRegistry, RestartableConnectionPool connectionPool,
+                                          String name, String description, ToIntFunction<PoolMetrics> value) {
+        Gauge.builder(POOL_METRIC_PREFIX + name, connectionPool,
+                        pool -> pool.getMetrics().map(value::applyAsInt).orElse(0))
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the Netty server with the application context and stops it before the context closes.
+     */
+    public static class ReactiveApiServer implements SmartLifecycle {
+
+        private static final Logger log = LoggerFactory.getLogger(ReactiveApiServer.class);
+
+        private final WebServer webServer;
+        private volatile boolean running;
+
+        ReactiveApiServer(WebServer webServer) {
+            this.webServer = webServer;
+        }
+
+        @Override
+        public void start() {
+            webServer.start();
+            running = true;
+            log.info("Reactive read API listening on port {}", webServer.getPort());
+        }
+
+        @Override
+        public void stop() {
+            webServer.stop();
+            running = false;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return running;
+        }
+
+        public int getPort() {
+            return webServer.getPort();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Reactive read API: GET /expenses, /categories and /budgets served by WebFlux on its own Netty server on
+ * port, reading through R2DBC. r2dbcUrl defaults to spring.datasource.url with the jdbc: prefix replaced
+ * (query parameters dropped), with the datasource's credentials. The R2DBC pool is separate from Hikari:
+ * at most pool.maxSize connections, requests wait up to pool.acquireTimeout for one.
+ */
+@ConfigurationProperties(prefix = "spendwise.reactive-api")
+public record ReactiveApiProperties(
+        boolean enabled,
+        @DefaultValue("8081") int port,
+        String r2dbcUrl,
+        @DefaultValue Pool pool
+) {
+
+    public record Pool(
+            @DefaultValue("10") int maxSize,
+            @DefaultValue("5s") Duration acquireTimeout,
+            @DefaultValue("30m") Duration maxIdleTime
+    ) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.spendwise.config;
+
+import com.spendwise.datasource.HikariPoolsCheckpointRestoreLifecycle;
+import com.spendwise.datasource.ReadYourWritesInterceptor;
+import com.spendwise.datasource.ReadYourWritesTracker;
+import com.spendwise.datasource.ReplicaRoutingDataSource;
+import com.spendwise.observability.StatementCountingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnCheckpointRestore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes {@code @Transactional(readOnly = true)} work to read replicas.
+ * <p>
+ * <b>How routing works:</b> the application DataSource is a {@link LazyConnectionDataSourceProxy}.
+ * It hands out a placeholder connection and only fetches a real one on first use, by which point
+ * the transaction manager has already called {@code setReadOnly(true)} for read-only transactions.
+ * Read-only connections come from {@link ReplicaRoutingDataSource}; everything else (writes,
+ * Flyway, schema validation) comes from the primary pool.
+ * <p>
+ * <b>Query metrics:</b> the placeholder connection is not a pool connection, so statement counting
+ * wraps the two targets instead of the proxy. Connection acquire and held times then cover the real
+ * connection, from the moment it is fetched from a Hikari pool until it goes back.
+ * <p>
+ * <b>Open-in-view must be off:</b> with OSIV the request-wide EntityManager holds its first
+ * connection until the response is written, so a write after a read-only lookup would reuse
+ * the replica connection. Startup fails fast if {@code spring.jpa.open-in-view} is not false.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spendwise.datasource.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig implements WebMvcConfigurer {
+
+    private final ReadReplicaProperties properties;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final boolean queryMetricsEnabled;
+
+    public ReadReplicaDataSourceConfig(ReadReplicaProperties properties, Environment environment) {
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            throw new IllegalStateException(
+                    "Read-replica routing requires spring.jpa.open-in-view=false");
+        }
+        this.properties = properties;
+        this.readYourWritesTracker = new ReadYourWritesTracker(properties.readYourWritesWindow());
+        this.queryMetricsEnabled = environment.getProperty("spendwise.query-metrics.enabled", Boolean.class, true);
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        int index = 1;
+        for (ReadReplicaProperties.Replica replica : properties.replicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("spendwise-replica-" + index++);
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username());
+            pool.setPassword(replica.password());
+            pool.setMaximumPoolSize(replica.maximumPoolSize());
+            pool.setReadOnly(true);
+            // Follows spring.datasource.hikari.allow-pool-suspension, which a CRaC checkpoint needs.
+            pool.setAllowPoolSuspension(primaryDataSource.isAllowPoolSuspension());
+            meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(pool);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(measured(primaryDataSource));
+        dataSource.setReadOnlyDataSource(measured(replicaRoutingDataSource));
+        return dataSource;
+    }
+
+    private DataSource measured(DataSource target) {
+        return queryMetricsEnabled ? new StatementCountingDataSource(target) : target;
+    }
+
+    // Boot closes and reopens the auto-configured pool around a CRaC checkpoint; these pools replace it.
+    @Bean
+    @ConditionalOnCheckpointRestore
+    public HikariPoolsCheckpointRestoreLifecycle dataSourcesCheckpointRestoreLifecycle(
+            HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource,
+            ConfigurableApplicationContext applicationContext) {
+        List<DataSource> pools = new ArrayList<>();
+        pools.add(primaryDataSource);
+        pools.addAll(replicaRoutingDataSource.getReplicas());
+        return new HikariPoolsCheckpointRestoreLifecycle(pools, applicationContext);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return readYourWritesTracker;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(readYourWritesTracker));
+    }
+}
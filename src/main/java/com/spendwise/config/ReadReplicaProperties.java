@@ -0,0 +1,28 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read-replica routing configuration.
+ * When enabled, read-only transactions are served by the listed replicas (each with its own
+ * Hikari pool); users who wrote within readYourWritesWindow keep reading from the primary.
+ */
+@ConfigurationProperties(prefix = "spendwise.datasource.read-replicas")
+public record ReadReplicaProperties(
+        boolean enabled,
+        @DefaultValue("5s") Duration readYourWritesWindow,
+        @DefaultValue List<Replica> replicas
+) {
+
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Reporting API settings. cacheTtl is both the server-side cache lifetime and the
+ * {@code Cache-Control: max-age} sent to clients, so a report is at most that stale.
+ */
+@ConfigurationProperties(prefix = "spendwise.reports")
+public record ReportProperties(
+        @DefaultValue("30s") Duration cacheTtl,
+        @DefaultValue("10000") long cacheMaximumSize,
+        @DefaultValue("5") int defaultTopExpenses,
+        @DefaultValue("50") int maxTopExpenses
+) {
+}
@@ -0,0 +1,12 @@
+package com.spendwise.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} jobs (see {@code com.spendwise.job}).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
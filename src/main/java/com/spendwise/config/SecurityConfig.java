@@ -3,6 +3,7 @@ package com.spendwise.config;
 import com.spendwise.security.JwtAccessDeniedHandler;
 import com.spendwise.security.JwtAuthenticationEntryPoint;
 import com.spendwise.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -44,6 +45,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // It tells Spring: No server-side session storage, No JSESSIONID, Every request must carry authentication (JWT)
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches resume a request authorized on its first pass (streamed responses).
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
                         .anyRequest().authenticated())
@@ -0,0 +1,43 @@
+package com.spendwise.config;
+
+import com.spendwise.observability.ServiceMetrics;
+import com.spendwise.observability.ServiceTimingPostProcessor;
+import com.spendwise.service.AuthService;
+import com.spendwise.service.BudgetService;
+import com.spendwise.service.CategoryService;
+import com.spendwise.service.ExpenseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Wires service-layer timing: {@link ServiceMetrics}, used by the services' proxies and by
+ * {@link com.spendwise.security.JwtAuthenticationFilter}, and the post-processor that adds timing to the
+ * services. With {@code spendwise.service-metrics.enabled=false} nothing is proxied and the filter records into
+ * no-op meters.
+ */
+@Configuration
+public class ServiceMetricsConfig {
+
+    private static final Set<Class<?>> TIMED_SERVICES = Set.of(
+            ExpenseService.class, BudgetService.class, CategoryService.class, AuthService.class);
+
+    @Bean
+    public ServiceMetrics serviceMetrics(MeterRegistry meterRegistry, ServiceMetricsProperties properties) {
+        // A composite registry without registries hands out no-op meters.
+        MeterRegistry registry = properties.enabled() ? meterRegistry : new CompositeMeterRegistry();
+        return new ServiceMetrics(registry, properties.slo());
+    }
+
+    // static: BeanPostProcessors must not force early initialization of this configuration class
+    @Bean
+    @ConditionalOnProperty(prefix = "spendwise.service-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static ServiceTimingPostProcessor serviceTimingPostProcessor(ObjectProvider<ServiceMetrics> serviceMetrics) {
+        return new ServiceTimingPostProcessor(TIMED_SERVICES, serviceMetrics::getObject);
+    }
+}
@@ -0,0 +1,19 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Timing of the service layer and JWT authentication ({@code spendwise.service}). Every timer publishes a
+ * percentile histogram plus a bucket at each of the slo durations, so the share of calls within an SLO can be
+ * read exactly rather than interpolated.
+ */
+@ConfigurationProperties(prefix = "spendwise.service-metrics")
+public record ServiceMetricsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"5ms", "25ms", "100ms", "250ms", "1s"}) List<Duration> slo
+) {
+}
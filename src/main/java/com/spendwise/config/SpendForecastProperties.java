@@ -0,0 +1,31 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Budget forecast settings. Each user/category model averages the last historyMonths completed months,
+ * each month weighing (1 - alpha) times as much as the month after it: a higher alpha follows recent
+ * months more closely. The refresh job rebuilds all models on refresh.cron,
+ * refresh.chunkSize users per transaction. Models are cached per user; expense changes to past months
+ * and refreshes evict them, and cacheTtl only bounds staleness from writes on other instances.
+ */
+@ConfigurationProperties(prefix = "spendwise.forecast")
+public record SpendForecastProperties(
+        @DefaultValue("0.3") BigDecimal alpha,
+        @DefaultValue("12") int historyMonths,
+        @DefaultValue Refresh refresh,
+        @DefaultValue("10m") Duration cacheTtl,
+        @DefaultValue("10000") long cacheMaximumSize
+) {
+
+    public record Refresh(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("0 30 4 * * *") String cron,
+            @DefaultValue("500") int chunkSize
+    ) {
+    }
+}
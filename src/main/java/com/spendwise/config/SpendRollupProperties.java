@@ -0,0 +1,21 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spend rollup settings. The backfill rebuilds daily/monthly rollups from existing expenses,
+ * chunkSize users per transaction. The rollup migration seeds them, so it is only needed to repair drift
+ * (e.g. after a rolling upgrade); enable it once, then turn it off again.
+ */
+@ConfigurationProperties(prefix = "spendwise.rollups")
+public record SpendRollupProperties(
+        @DefaultValue Backfill backfill
+) {
+
+    public record Backfill(
+            boolean enabled,
+            @DefaultValue("500") int chunkSize
+    ) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.spendwise.config;
+
+import com.spendwise.observability.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Virtual-thread mode: with {@code spring.threads.virtual.enabled=true} on Java 21+, Spring Boot serves
+ * requests, {@code @Scheduled} jobs and async work on virtual threads. This adds the pinning monitor in
+ * that mode, and a startup warning when the property is set on an older runtime, where Spring Boot
+ * silently stays on platform threads.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    public VirtualThreadConfig(Environment environment) {
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                && !Threading.VIRTUAL.isActive(environment)) {
+            log.warn("spring.threads.virtual.enabled is set but the runtime is Java {}; requests are served on "
+                    + "platform threads (virtual threads need Java 21, build with -Pjava21)", Runtime.version().feature());
+        }
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(prefix = "spendwise.virtual-threads", name = "pinning-monitor-enabled", havingValue = "true",
+            matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties.pinningThreshold(), meterRegistry);
+    }
+}
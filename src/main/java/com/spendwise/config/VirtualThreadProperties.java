@@ -0,0 +1,19 @@
+package com.spendwise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Checks for the virtual-thread mode ({@code spring.threads.virtual.enabled} on Java 21+). With the
+ * pinning monitor on, every virtual thread that blocks for longer than pinningThreshold while pinned to
+ * its carrier (e.g. inside a {@code synchronized} block) is timed, and each new pinning site is logged
+ * with its stack.
+ */
+@ConfigurationProperties(prefix = "spendwise.virtual-threads")
+public record VirtualThreadProperties(
+        @DefaultValue("true") boolean pinningMonitorEnabled,
+        @DefaultValue("20ms") Duration pinningThreshold
+) {
+}
@@ -1,15 +1,22 @@
 package com.spendwise.controller;
 
+import com.spendwise.domain.entity.User;
+import com.spendwise.dto.request.BatchLookupRequest;
 import com.spendwise.dto.request.CreateBudgetRequest;
 import com.spendwise.dto.request.UpdateBudgetRequest;
+import com.spendwise.dto.response.BatchLookupResponse;
 import com.spendwise.dto.response.BudgetResponse;
+import com.spendwise.dto.response.BudgetYearOverviewResponse;
 import com.spendwise.dto.response.UserResponse;
+import com.spendwise.service.BudgetAlertBroadcaster;
 import com.spendwise.service.BudgetService;
 import com.spendwise.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -31,10 +39,13 @@ public class BudgetController {
 
     private final BudgetService budgetService;
     private final UserService userService;
+    private final BudgetAlertBroadcaster budgetAlertBroadcaster;
 
-    public BudgetController(BudgetService budgetService, UserService userService) {
+    public BudgetController(BudgetService budgetService, UserService userService,
+                            BudgetAlertBroadcaster budgetAlertBroadcaster) {
         this.budgetService = budgetService;
         this.userService = userService;
+        this.budgetAlertBroadcaster = budgetAlertBroadcaster;
     }
 
     @PostMapping
@@ -44,6 +55,38 @@ public class BudgetController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    //Batch multi-get for cache reconciliation: one ownership-filtered query instead of GET /budgets/{id} per id.
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchLookupResponse<BudgetResponse>> getBudgetsByIds(@RequestParam List<UUID> ids) {
+        UserResponse currentUser = getCurrentUserOrThrow();
+        return ResponseEntity.ok(budgetService.lookupBudgets(currentUser.id(), ids));
+    }
+
+    //Same as GET /budgets?ids=... for id lists too long for a URL.
+    @PostMapping("/lookup")
+    public ResponseEntity<BatchLookupResponse<BudgetResponse>> lookupBudgets(@Valid @RequestBody BatchLookupRequest request) {
+        UserResponse currentUser = getCurrentUserOrThrow();
+        return ResponseEntity.ok(budgetService.lookupBudgets(currentUser.id(), request.ids()));
+    }
+
+    //Twelve months of budgets with their spend, from two queries.
+    @GetMapping("/overview")
+    public ResponseEntity<BudgetYearOverviewResponse> getYearOverview(@RequestParam int year) {
+        UserResponse currentUser = getCurrentUserOrThrow();
+        return ResponseEntity.ok(budgetService.getYearOverview(currentUser.id(), year));
+    }
+
+    //Server-Sent Events: a budget-alert event whenever an expense write crosses one of the user's alert thresholds.
+    //The user id comes from the authenticated principal: a query here would pin a pooled connection to the
+    //request's open-in-view EntityManager for as long as the stream stays open.
+    @GetMapping(value = "/alerts", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAlerts(@AuthenticationPrincipal User currentUser) {
+        if (currentUser == null) {
+            throw new org.springframework.security.authentication.BadCredentialsException("Authentication required");
+        }
+        return budgetAlertBroadcaster.subscribe(currentUser.getId());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<BudgetResponse> getBudget(@PathVariable UUID id) {
         UserResponse currentUser = getCurrentUserOrThrow();
@@ -52,10 +95,14 @@ public class BudgetController {
     }
 
     @GetMapping
-    public ResponseEntity<List<BudgetResponse>> listBudgets(
+    public ResponseEntity<List<?>> listBudgets(
             @RequestParam int year,
-            @RequestParam int month) {
+            @RequestParam int month,
+            @RequestParam(required = false) String fields) {
         UserResponse currentUser = getCurrentUserOrThrow();
+        if (fields != null) {
+            return ResponseEntity.ok(budgetService.getBudgetFieldsForUser(currentUser.id(), year, month, fields));
+        }
         List<BudgetResponse> response = budgetService.getBudgetsForUser(currentUser.id(), year, month);
         return ResponseEntity.ok(response);
     }
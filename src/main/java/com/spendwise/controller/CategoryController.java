@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -44,8 +45,11 @@ public class CategoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> listCategories() {
+    public ResponseEntity<List<?>> listCategories(@RequestParam(required = false) String fields) {
         UserResponse currentUser = getCurrentUserOrThrow();
+        if (fields != null) {
+            return ResponseEntity.ok(categoryService.listCategoryFields(currentUser.id(), fields));
+        }
         List<CategoryResponse> response = categoryService.listCategories(currentUser.id());
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,59 @@
+package com.spendwise.controller;
+
+import com.spendwise.dto.response.ArchivedExpenseResponse;
+import com.spendwise.dto.response.PageResponse;
+import com.spendwise.dto.response.UserResponse;
+import com.spendwise.service.ExpenseArchiveService;
+import com.spendwise.service.UserService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/expenses/archive")
+public class ExpenseArchiveController {
+
+    private final ExpenseArchiveService expenseArchiveService;
+    private final UserService userService;
+
+    public ExpenseArchiveController(ExpenseArchiveService expenseArchiveService, UserService userService) {
+        this.expenseArchiveService = expenseArchiveService;
+        this.userService = userService;
+    }
+
+    //Archived expenses of the current user (moved out of /expenses by the archival job), newest first.
+    @GetMapping
+    public ResponseEntity<PageResponse<ArchivedExpenseResponse>> listArchivedExpenses(
+            @RequestParam(required = false) LocalDate fromDate,
+            @RequestParam(required = false) LocalDate toDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        UserResponse currentUser = getCurrentUserOrThrow();
+        return ResponseEntity.ok(expenseArchiveService.listArchivedExpenses(currentUser.id(), fromDate, toDate, page, size));
+    }
+
+    //One archived expense by id, soft-deleted ones included.
+    @GetMapping("/{id}")
+    public ResponseEntity<ArchivedExpenseResponse> getArchivedExpense(@PathVariable UUID id) {
+        UserResponse currentUser = getCurrentUserOrThrow();
+        return ResponseEntity.ok(expenseArchiveService.getArchivedExpense(currentUser.id(), id));
+    }
+
+    private UserResponse getCurrentUserOrThrow() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Object principal = authentication.getPrincipal();
+        if (!(principal instanceof UserDetails userDetails)) {
+            throw new org.springframework.security.authentication.BadCredentialsException("Authentication required");
+        }
+        return userService.getCurrentUser(userDetails.getUsername());
+    }
+}
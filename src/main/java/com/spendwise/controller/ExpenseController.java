@@ -1,14 +1,19 @@
 package com.spendwise.controller;
 
+import com.spendwise.dto.request.BatchLookupRequest;
 import com.spendwise.dto.request.CreateExpenseRequest;
+import com.spendwise.dto.request.ExpenseExportFormat;
 import com.spendwise.dto.request.ExpenseListParams;
 import com.spendwise.dto.request.UpdateExpenseRequest;
+import com.spendwise.dto.response.BatchLookupResponse;
 import com.spendwise.dto.response.ExpenseResponse;
 import com.spendwise.dto.response.PageResponse;
 import com.spendwise.dto.response.UserResponse;
 import com.spendwise.service.ExpenseService;
 import com.spendwise.service.UserService;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -23,11 +28,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/expenses")
@@ -42,8 +49,9 @@ public class ExpenseController {
     }
 
     //This endpoint securely returns a paginated, filtered, and sorted list of expenses for the currently logged-in user.
+    //With fields=id,amount,... only those properties are selected and returned.
     @GetMapping
-    public ResponseEntity<PageResponse<ExpenseResponse>> listExpenses(
+    public ResponseEntity<PageResponse<?>> listExpenses(
             //filtering
             @RequestParam(required = false) UUID categoryId,
             @RequestParam(required = false) LocalDate fromDate,
@@ -54,13 +62,70 @@ public class ExpenseController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             //sorting
-            @RequestParam(required = false) List<String> sort) {
+            @RequestParam(required = false) List<String> sort,
+            //sparse fieldset
+            @RequestParam(required = false) String fields) {
         UserResponse currentUser = getCurrentUserOrThrow();
         ExpenseListParams params = ExpenseListParams.of(categoryId, fromDate, toDate, minAmount, maxAmount);
+        if (fields != null) {
+            return ResponseEntity.ok(expenseService.listExpenseFields(currentUser.id(), params, page, size, sort, fields));
+        }
         PageResponse<ExpenseResponse> response = expenseService.listExpenses(currentUser.id(), params, page, size, sort);
         return ResponseEntity.ok(response);
     }
 
+    //Streams all matching expenses as CSV or NDJSON. Same filters as the list endpoint, no pagination.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportExpenses(
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) LocalDate fromDate,
+            @RequestParam(required = false) LocalDate toDate,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        UserResponse currentUser = getCurrentUserOrThrow();
+        ExpenseExportFormat exportFormat = ExpenseExportFormat.parse(format);
+        ExpenseListParams params = ExpenseListParams.of(categoryId, fromDate, toDate, minAmount, maxAmount);
+        // Validate before streaming starts: once the body is being written, errors can no longer become a 400
+        expenseService.validateListFilters(currentUser.id(), params);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                expenseService.exportExpenses(currentUser.id(), params, exportFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                expenseService.exportExpenses(currentUser.id(), params, exportFormat, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("expenses." + exportFormat.getFileExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    //Batch multi-get for cache reconciliation: one ownership-filtered query instead of GET /expenses/{id} per id.
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchLookupResponse<ExpenseResponse>> getExpensesByIds(@RequestParam List<UUID> ids) {
+        UserResponse currentUser = getCurrentUserOrThrow();
+        return ResponseEntity.ok(expenseService.lookupExpenses(currentUser.id(), ids));
+    }
+
+    //Same as GET /expenses?ids=... for id lists too long for a URL.
+    @PostMapping("/lookup")
+    public ResponseEntity<BatchLookupResponse<ExpenseResponse>> lookupExpenses(@Valid @RequestBody BatchLookupRequest request) {
+        UserResponse currentUser = getCurrentUserOrThrow();
+        return ResponseEntity.ok(expenseService.lookupExpenses(currentUser.id(), request.ids()));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ExpenseResponse> getExpense(@PathVariable UUID id) {
         UserResponse currentUser = getCurrentUserOrThrow();
@@ -0,0 +1,130 @@
+package com.spendwise.controller;
+
+import com.spendwise.dto.error.ErrorResponse;
+import com.spendwise.dto.request.ExpenseListParams;
+import com.spendwise.exception.ApiException;
+import com.spendwise.exception.ErrorCode;
+import com.spendwise.exception.GlobalExceptionHandler;
+import com.spendwise.exception.ValidationException;
+import com.spendwise.security.ReactiveJwtAuthenticationFilter;
+import com.spendwise.service.ReactiveReadService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Functional endpoints of the reactive read API, routed in {@code ReactiveApiConfig}. They take the same query
+ * parameters and return the same bodies and error responses as {@link ExpenseController#listExpenses},
+ * {@link CategoryController#listCategories} and {@link BudgetController#listBudgets}, without sparse fieldsets.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spendwise.reactive-api", name = "enabled", havingValue = "true")
+public class ReactiveReadHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadHandler.class);
+
+    private final ReactiveReadService reactiveReadService;
+
+    public ReactiveReadHandler(ReactiveReadService reactiveReadService) {
+        this.reactiveReadService = reactiveReadService;
+    }
+
+    // Parameters are parsed and validated inside Mono.defer, so their ValidationExceptions reach errorResponse.
+    public Mono<ServerResponse> listExpenses(ServerRequest request) {
+        return Mono.defer(() -> {
+            ExpenseListParams params = ExpenseListParams.of(
+                    optionalParam(request, "categoryId", UUID::fromString),
+                    optionalParam(request, "fromDate", LocalDate::parse),
+                    optionalParam(request, "toDate", LocalDate::parse),
+                    optionalParam(request, "minAmount", BigDecimal::new),
+                    optionalParam(request, "maxAmount", BigDecimal::new));
+            int page = request.queryParam("page").map(value -> parse("page", value, Integer::valueOf)).orElse(0);
+            int size = request.queryParam("size").map(value -> parse("size", value, Integer::valueOf)).orElse(10);
+            return ok(reactiveReadService.listExpenses(currentUserId(request), params, page, size, sortParams(request)));
+        });
+    }
+
+    public Mono<ServerResponse> listCategories(ServerRequest request) {
+        return Mono.defer(() -> ok(reactiveReadService.listCategories(currentUserId(request))));
+    }
+
+    public Mono<ServerResponse> listBudgets(ServerRequest request) {
+        return Mono.defer(() -> {
+            int year = requiredParam(request, "year", Integer::valueOf);
+            int month = requiredParam(request, "month", Integer::valueOf);
+            return ok(reactiveReadService.listBudgets(currentUserId(request), year, month));
+        });
+    }
+
+    /**
+     * Error responses as {@link GlobalExceptionHandler} writes them: the status of the error code for
+     * {@link ApiException}s, a 500 without details for anything else.
+     */
+    public Mono<ServerResponse> errorResponse(Throwable error, ServerRequest request) {
+        if (error instanceof ApiException ex) {
+            String message = ex.getDetailMessage() != null ? ex.getDetailMessage() : ex.getErrorCode().getClientMessage();
+            return ServerResponse.status(GlobalExceptionHandler.toHttpStatus(ex.getErrorCode()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(ErrorResponse.of(ex.getErrorCode().name(), message, request.path()));
+        }
+        log.error("Unexpected error: path={}, error={}", request.path(), error.getClass().getSimpleName(), error);
+        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ErrorResponse.of(ErrorCode.INTERNAL_ERROR, request.path()));
+    }
+
+    private static <T> Mono<ServerResponse> ok(Mono<T> body) {
+        return body.flatMap(value -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(value));
+    }
+
+    private static UUID currentUserId(ServerRequest request) {
+        return (UUID) request.attributes().get(ReactiveJwtAuthenticationFilter.USER_ID_ATTRIBUTE);
+    }
+
+    /**
+     * The sort values as MVC binds them to a {@code List<String>}: a single value is split at commas
+     * ({@code sort=amount,desc} is two values), repeated values are taken as they are.
+     */
+    private static List<String> sortParams(ServerRequest request) {
+        List<String> values = request.queryParams().get("sort");
+        if (values == null || values.size() != 1) {
+            return values;
+        }
+        return Arrays.stream(StringUtils.commaDelimitedListToStringArray(values.get(0))).map(String::trim).toList();
+    }
+
+    private static <T> T optionalParam(ServerRequest request, String name, Function<String, T> parser) {
+        return request.queryParam(name)
+                .filter(value -> !value.isBlank())
+                .map(value -> parse(name, value, parser))
+                .orElse(null);
+    }
+
+    private static <T> T requiredParam(ServerRequest request, String name, Function<String, T> parser) {
+        return request.queryParam(name)
+                .map(value -> parse(name, value, parser))
+                .orElseThrow(() -> new ValidationException("Missing required parameter: " + name));
+    }
+
+    private static <T> T parse(String name, String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value.trim());
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid value for parameter: " + name, e);
+        }
+    }
+}
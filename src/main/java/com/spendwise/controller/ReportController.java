@@ -0,0 +1,71 @@
+package com.spendwise.controller;
+
+import com.spendwise.config.ReportProperties;
+import com.spendwise.dto.response.CategoryBreakdownResponse;
+import com.spendwise.dto.response.MonthlySummaryResponse;
+import com.spendwise.dto.response.TopExpensesResponse;
+import com.spendwise.dto.response.UserResponse;
+import com.spendwise.service.ReportService;
+import com.spendwise.service.UserService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/reports")
+public class ReportController {
+
+    private final ReportService reportService;
+    private final UserService userService;
+    private final CacheControl cacheControl;
+
+    public ReportController(ReportService reportService, UserService userService, ReportProperties reportProperties) {
+        this.reportService = reportService;
+        this.userService = userService;
+        // private: responses are per user and must not be stored by shared caches
+        this.cacheControl = CacheControl.maxAge(reportProperties.cacheTtl()).cachePrivate();
+    }
+
+    @GetMapping("/monthly-summary")
+    public ResponseEntity<MonthlySummaryResponse> monthlySummary(
+            @RequestParam int year,
+            @RequestParam int month) {
+        UserResponse currentUser = getCurrentUserOrThrow();
+        MonthlySummaryResponse response = reportService.getMonthlySummary(currentUser.id(), year, month);
+        return ResponseEntity.ok().cacheControl(cacheControl).body(response);
+    }
+
+    @GetMapping("/category-breakdown")
+    public ResponseEntity<CategoryBreakdownResponse> categoryBreakdown(
+            @RequestParam int year,
+            @RequestParam int month) {
+        UserResponse currentUser = getCurrentUserOrThrow();
+        CategoryBreakdownResponse response = reportService.getCategoryBreakdown(currentUser.id(), year, month);
+        return ResponseEntity.ok().cacheControl(cacheControl).body(response);
+    }
+
+    @GetMapping("/top-expenses")
+    public ResponseEntity<TopExpensesResponse> topExpenses(
+            @RequestParam int year,
+            @RequestParam int month,
+            @RequestParam(required = false) Integer limit) {
+        UserResponse currentUser = getCurrentUserOrThrow();
+        TopExpensesResponse response = reportService.getTopExpenses(currentUser.id(), year, month, limit);
+        return ResponseEntity.ok().cacheControl(cacheControl).body(response);
+    }
+
+    private UserResponse getCurrentUserOrThrow() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Object principal = authentication.getPrincipal();
+        if (!(principal instanceof UserDetails userDetails)) {
+            throw new org.springframework.security.authentication.BadCredentialsException("Authentication required");
+        }
+        return userService.getCurrentUser(userDetails.getUsername());
+    }
+}
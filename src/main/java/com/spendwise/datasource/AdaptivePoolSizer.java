@@ -0,0 +1,129 @@
+package com.spendwise.datasource;
+
+import com.spendwise.config.PoolSizingProperties;
+import com.spendwise.observability.QueryMetricsFilter;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes the primary Hikari pool every {@code spendwise.datasource.pool-sizing.interval}, as decided by
+ * {@link PoolSizingPolicy}.
+ * <p>
+ * The measurements are the deltas of cumulative meters since the previous run: connection waits and hold
+ * times from Hikari's own {@code hikaricp.connections.acquire} / {@code .usage} timers, statement times from
+ * the query metrics ({@code spendwise.http.db.*}, so only statements issued by HTTP requests count).
+ * <p>
+ * Growing takes effect at once: Hikari opens connections on demand up to the new maximum. Shrinking is
+ * gradual: connections above the maximum are closed once idle for {@code idle-timeout}, or at
+ * {@code max-lifetime}. For that, the pool's minimum idle is lowered to min-size when the sizer starts.
+ */
+public class AdaptivePoolSizer {
+
+    public static final String RESIZES_METRIC = "spendwise.datasource.pool.resizes";
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    private final HikariDataSource pool;
+    private final MeterRegistry meterRegistry;
+    private final PoolSizingPolicy policy;
+    private final PoolSizingProperties properties;
+    private Totals previous;
+    private volatile PoolSizingPolicy.Decision lastDecision;
+
+    public AdaptivePoolSizer(HikariDataSource pool, MeterRegistry meterRegistry, PoolSizingProperties properties) {
+        this.pool = pool;
+        this.meterRegistry = meterRegistry;
+        this.policy = new PoolSizingPolicy(properties);
+        this.properties = properties;
+        HikariConfigMXBean config = pool.getHikariConfigMXBean();
+        // Unset (-1) means equal to the maximum, which would keep every connection open.
+        if (config.getMinimumIdle() < 0 || config.getMinimumIdle() > properties.minSize()) {
+            config.setMinimumIdle(properties.minSize());
+        }
+        log.info("Adaptive pool sizing enabled: pool={}, size={}, minSize={}, maxSize={}, interval={}",
+                pool.getPoolName(), config.getMaximumPoolSize(), properties.minSize(), properties.maxSize(),
+                properties.interval());
+    }
+
+    @Scheduled(fixedDelayString = "${spendwise.datasource.pool-sizing.interval:15s}",
+            initialDelayString = "${spendwise.datasource.pool-sizing.interval:15s}")
+    public void adjust() {
+        Totals current = readTotals();
+        Totals last = previous;
+        previous = current;
+        if (last == null) {
+            return;
+        }
+
+        PoolSizingPolicy.Window window = current.since(last);
+        HikariConfigMXBean config = pool.getHikariConfigMXBean();
+        int size = config.getMaximumPoolSize();
+        PoolSizingPolicy.Decision decision = policy.decide(window, size);
+        lastDecision = decision;
+        if (decision.action() == PoolSizingPolicy.Action.HOLD) {
+            log.debug("Pool size kept: pool={}, size={}, reason={}", pool.getPoolName(), size, decision.reason());
+            return;
+        }
+
+        config.setMaximumPoolSize(decision.newSize());
+        meterRegistry.counter(RESIZES_METRIC, "pool", pool.getPoolName(),
+                "direction", decision.action().name().toLowerCase()).increment();
+        log.info("Pool resized: pool={}, size={}->{}, reason={}, meanWaitMs={}, meanStatementMs={}, meanInUse={}",
+                pool.getPoolName(), size, decision.newSize(), decision.reason(),
+                String.format("%.2f", window.meanWaitNanos() / 1_000_000.0),
+                String.format("%.2f", window.meanLatencyNanos() / 1_000_000.0),
+                String.format("%.1f", window.meanInUse()));
+    }
+
+    /**
+     * The last decision, or null before the second run (the first only takes the baseline).
+     */
+    public PoolSizingPolicy.Decision getLastDecision() {
+        return lastDecision;
+    }
+
+    public PoolSizingProperties getProperties() {
+        return properties;
+    }
+
+    private Totals readTotals() {
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool.getPoolName()).timer();
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", pool.getPoolName()).timer();
+        long statements = 0;
+        for (DistributionSummary summary : meterRegistry.find(QueryMetricsFilter.STATEMENTS_METRIC).summaries()) {
+            statements += (long) summary.totalAmount();
+        }
+        double statementNanos = 0;
+        for (Timer timer : meterRegistry.find(QueryMetricsFilter.DB_TIME_METRIC).timers()) {
+            statementNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        return new Totals(System.nanoTime(),
+                acquire == null ? 0 : acquire.count(),
+                acquire == null ? 0 : acquire.totalTime(TimeUnit.NANOSECONDS),
+                usage == null ? 0 : usage.totalTime(TimeUnit.NANOSECONDS),
+                statements, statementNanos);
+    }
+
+    private record Totals(long at, long acquires, double acquireNanos, double usageNanos, long statements,
+                          double statementNanos) {
+
+        PoolSizingPolicy.Window since(Totals earlier) {
+            long acquireCount = acquires - earlier.acquires;
+            long statementCount = statements - earlier.statements;
+            return new PoolSizingPolicy.Window(
+                    acquireCount,
+                    acquireCount == 0 ? 0 : (acquireNanos - earlier.acquireNanos) / acquireCount,
+                    statementCount,
+                    statementCount == 0 ? 0 : (statementNanos - earlier.statementNanos) / statementCount,
+                    (usageNanos - earlier.usageNanos) / Math.max(1, at - earlier.at));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.spendwise.datasource;
+
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.Lifecycle;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Spring Boot's {@link HikariCheckpointRestoreLifecycle} for several pools: before a CRaC checkpoint each pool
+ * is suspended and its connections closed, after restore it is resumed and reconnects on demand. Boot only
+ * registers it for the auto-configured DataSource, which read-replica routing replaces with its own pools.
+ */
+public class HikariPoolsCheckpointRestoreLifecycle implements Lifecycle {
+
+    private final List<HikariCheckpointRestoreLifecycle> pools;
+
+    public HikariPoolsCheckpointRestoreLifecycle(List<DataSource> pools, ConfigurableApplicationContext applicationContext) {
+        this.pools = pools.stream()
+                .map(pool -> new HikariCheckpointRestoreLifecycle(pool, applicationContext))
+                .toList();
+    }
+
+    @Override
+    public void start() {
+        pools.forEach(HikariCheckpointRestoreLifecycle::start);
+    }
+
+    @Override
+    public void stop() {
+        pools.forEach(HikariCheckpointRestoreLifecycle::stop);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return pools.stream().anyMatch(HikariCheckpointRestoreLifecycle::isRunning);
+    }
+}
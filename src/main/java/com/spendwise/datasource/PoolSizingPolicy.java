@@ -0,0 +1,116 @@
+package com.spendwise.datasource;
+
+import com.spendwise.config.PoolSizingProperties;
+
+/**
+ * Decides the next size of a connection pool from what one interval measured: how long requests waited for
+ * a connection, how long statements took, and how many connections were in use on average.
+ * <p>
+ * More connections only help while the database has capacity left. The policy therefore grows the pool when
+ * waits dominate but statement latency holds steady, and undoes a growth step when latency rose right after
+ * it: the extra connections then only queue inside the database instead of in the pool.
+ * <p>
+ * Not thread-safe; {@link AdaptivePoolSizer} calls it from one scheduler thread.
+ */
+public class PoolSizingPolicy {
+
+    // Waits below this fraction of the grow threshold count as none.
+    private static final double NEGLIGIBLE_WAIT_FRACTION = 0.1;
+
+    private final PoolSizingProperties properties;
+    private double previousLatencyNanos;
+    private Action previousAction = Action.HOLD;
+
+    public PoolSizingPolicy(PoolSizingProperties properties) {
+        if (properties.minSize() < 1 || properties.maxSize() < properties.minSize()) {
+            throw new IllegalArgumentException("spendwise.datasource.pool-sizing needs 1 <= min-size <= max-size");
+        }
+        if (properties.step() < 1) {
+            throw new IllegalArgumentException("spendwise.datasource.pool-sizing.step must be at least 1");
+        }
+        this.properties = properties;
+    }
+
+    public Decision decide(Window window, int currentSize) {
+        Decision decision = evaluate(window, currentSize);
+        if (window.statements() > 0) {
+            previousLatencyNanos = window.meanLatencyNanos();
+        }
+        previousAction = decision.action();
+        return decision;
+    }
+
+    private Decision evaluate(Window window, int currentSize) {
+        if (currentSize < properties.minSize() || currentSize > properties.maxSize()) {
+            int bounded = Math.max(properties.minSize(), Math.min(properties.maxSize(), currentSize));
+            return decision(window, currentSize, bounded, "size outside min-size/max-size");
+        }
+        if (window.statements() == 0 && window.acquires() == 0) {
+            return shrinkIfUnderused(window, currentSize, "no database traffic");
+        }
+        boolean latencyRose = window.statements() > 0 && previousLatencyNanos > 0
+                && window.meanLatencyNanos() > previousLatencyNanos * (1 + properties.latencyTolerance());
+        if (previousAction == Action.GROW && latencyRose) {
+            return decision(window, currentSize, Math.max(properties.minSize(), currentSize - properties.step()),
+                    "statement latency rose after growing; the database is the bottleneck");
+        }
+        if (window.statements() == 0) {
+            return decision(window, currentSize, currentSize, "no statement latency measured");
+        }
+        double growThresholdNanos = window.meanLatencyNanos() * properties.waitToLatencyRatio();
+        if (window.meanWaitNanos() > growThresholdNanos) {
+            if (latencyRose) {
+                return decision(window, currentSize, currentSize,
+                        "waits and statement latency both rising; database saturated");
+            }
+            if (currentSize >= properties.maxSize()) {
+                return decision(window, currentSize, currentSize, "waits exceed statement latency; at max-size");
+            }
+            return decision(window, currentSize, Math.min(properties.maxSize(), currentSize + properties.step()),
+                    "waits exceed statement latency");
+        }
+        if (window.meanWaitNanos() <= growThresholdNanos * NEGLIGIBLE_WAIT_FRACTION) {
+            return shrinkIfUnderused(window, currentSize, "negligible waits");
+        }
+        return decision(window, currentSize, currentSize, "waits within bounds");
+    }
+
+    private Decision shrinkIfUnderused(Window window, int currentSize, String reason) {
+        int smaller = Math.max(properties.minSize(), currentSize - properties.step());
+        if (smaller < currentSize && window.meanInUse() <= smaller * properties.targetUtilization()) {
+            return decision(window, currentSize, smaller, reason + " and low utilization");
+        }
+        return decision(window, currentSize, currentSize, reason);
+    }
+
+    private static Decision decision(Window window, int currentSize, int newSize, String reason) {
+        Action action = newSize > currentSize ? Action.GROW : newSize < currentSize ? Action.SHRINK : Action.HOLD;
+        return new Decision(action, currentSize, newSize, reason, window);
+    }
+
+    public enum Action {
+        GROW, SHRINK, HOLD
+    }
+
+    /**
+     * What one interval measured: connection acquisitions and their mean wait, statements and their mean
+     * execution time, and the mean number of connections in use (total hold time / interval).
+     */
+    public record Window(
+            long acquires,
+            double meanWaitNanos,
+            long statements,
+            double meanLatencyNanos,
+            double meanInUse
+    ) {
+    }
+
+    public record Decision(
+            Action action,
+            int previousSize,
+            int newSize,
+            String reason,
+            Window window
+    ) {
+    }
+}
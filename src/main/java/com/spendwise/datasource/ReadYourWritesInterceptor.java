@@ -0,0 +1,54 @@
+package com.spendwise.datasource;
+
+import com.spendwise.domain.entity.User;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies read-your-writes per request: pins reads to the primary while the authenticated user
+ * is inside their write window, and opens a new window after every successful mutating request.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesInterceptor(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        UUID userId = currentUserId();
+        if (userId != null && tracker.wroteRecently(userId)) {
+            ReplicaRoutingContext.forcePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRoutingContext.clear();
+        if (ex == null && response.getStatus() < 400 && WRITE_METHODS.contains(request.getMethod())) {
+            UUID userId = currentUserId();
+            if (userId != null) {
+                tracker.recordWrite(userId);
+            }
+        }
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.spendwise.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers when each user last wrote, so their reads can stay on the primary until
+ * replicas have had time to catch up.
+ * <p>
+ * Uses a wall-clock window rather than WAL positions: it costs no extra query per read,
+ * and the window only needs to exceed normal replication lag. State is per instance;
+ * behind a load balancer without session affinity a user may still hit a lagging replica
+ * on another instance within the window.
+ */
+public class ReadYourWritesTracker {
+
+    // Expired entries are swept once the map grows past this size, keeping memory bounded by active writers.
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<UUID, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(UUID userId) {
+        long now = System.nanoTime();
+        lastWriteNanos.put(userId, now);
+        if (lastWriteNanos.size() > SWEEP_THRESHOLD) {
+            lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+    }
+
+    public boolean wroteRecently(UUID userId) {
+        Long writtenAt = lastWriteNanos.get(userId);
+        return writtenAt != null && System.nanoTime() - writtenAt <= windowNanos;
+    }
+}
@@ -0,0 +1,47 @@
+package com.spendwise.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound flag that pins read-only work to the primary database.
+ * <p>
+ * Set for the duration of a request when the current user wrote recently (read-your-writes),
+ * or explicitly around a block of code via {@link #callOnPrimary(Supplier)}.
+ * {@link ReplicaRoutingDataSource} consults it each time a read-only connection is opened.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(FORCE_PRIMARY.get());
+    }
+
+    public static void forcePrimary() {
+        FORCE_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        FORCE_PRIMARY.remove();
+    }
+
+    /**
+     * Runs the supplier with read-only connections routed to the primary, restoring the previous state afterwards.
+     */
+    public static <T> T callOnPrimary(Supplier<T> supplier) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+}
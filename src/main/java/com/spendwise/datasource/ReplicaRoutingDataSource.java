@@ -0,0 +1,83 @@
+package com.spendwise.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Target for read-only connections: round-robins across the replica pools, except when
+ * {@link ReplicaRoutingContext} pins the thread to the primary.
+ * <p>
+ * If a replica cannot hand out a connection (down, pool exhausted past its timeout) the read
+ * falls back to the primary instead of failing the request.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    /**
+     * Same routing, with the credentials passed on to the chosen pool. Hikari pools reject per-call
+     * credentials, so with the default configuration this fails like the pool itself would.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionSource source) throws SQLException {
+        if (replicas.isEmpty() || ReplicaRoutingContext.isPrimaryForced()) {
+            return source.connect(primary);
+        }
+        DataSource replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+        try {
+            return source.connect(replica);
+        } catch (SQLException e) {
+            log.warn("Replica connection failed, falling back to primary: {}", e.getMessage());
+            return source.connect(primary);
+        }
+    }
+
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Closes the replica pools; the primary is a separate bean with its own lifecycle.
+     */
+    @Override
+    public void destroy() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
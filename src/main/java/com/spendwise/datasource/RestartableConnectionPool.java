@@ -0,0 +1,106 @@
+package com.spendwise.datasource;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * R2DBC pool of the reactive read API that can be closed and reopened: stopping disposes the current
+ * {@link ConnectionPool}, closing its connections, and starting creates a new one. A disposed r2dbc-pool cannot
+ * be reused, and a CRaC checkpoint fails on open sockets, so this is what lets the pool survive a
+ * checkpoint/restore cycle; on a normal run it is started once and stopped at shutdown.
+ * <p>
+ * Stops after (and starts before) the Netty server, whose phase is the default.
+ * <p>
+ * Not a {@link ConnectionFactory} itself but hands one out through {@link #connectionFactory()}: a
+ * {@code ConnectionFactory} bean makes Spring Boot back off from auto-configuring the JDBC DataSource.
+ */
+public class RestartableConnectionPool implements SmartLifecycle {
+
+    private final Supplier<ConnectionPool> poolFactory;
+    private final ConnectionFactory connectionFactory;
+    private volatile ConnectionPool pool;
+
+    public RestartableConnectionPool(Supplier<ConnectionPool> poolFactory) {
+        this.poolFactory = poolFactory;
+        this.pool = poolFactory.get();
+        this.connectionFactory = new CurrentPoolConnectionFactory(pool.getMetadata());
+    }
+
+    /**
+     * Connections from the current pool; fails while stopped.
+     */
+    public ConnectionFactory connectionFactory() {
+        return connectionFactory;
+    }
+
+    /**
+     * Metrics of the current pool; empty while stopped.
+     */
+    public Optional<PoolMetrics> getMetrics() {
+        ConnectionPool current = pool;
+        return current == null ? Optional.empty() : current.getMetrics();
+    }
+
+    @Override
+    public void start() {
+        if (pool == null) {
+            pool = poolFactory.get();
+        }
+    }
+
+    @Override
+    public void stop() {
+        dispose();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return pool != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 1;
+    }
+
+    public void dispose() {
+        ConnectionPool current = pool;
+        if (current != null) {
+            pool = null;
+            current.dispose();
+        }
+    }
+
+    private final class CurrentPoolConnectionFactory implements ConnectionFactory {
+
+        private final ConnectionFactoryMetadata metadata;
+
+        private CurrentPoolConnectionFactory(ConnectionFactoryMetadata metadata) {
+            this.metadata = metadata;
+        }
+
+        @Override
+        public Mono<Connection> create() {
+            return Mono.defer(() -> {
+                ConnectionPool current = pool;
+                if (current == null) {
+                    return Mono.error(new IllegalStateException("The reactive API connection pool is stopped"));
+                }
+                return current.create();
+            });
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return metadata;
+        }
+    }
+}
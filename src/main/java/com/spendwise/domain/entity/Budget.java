@@ -14,10 +14,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -66,6 +70,14 @@ public class Budget extends BaseEntity {
      */
     private Integer month;
 
+    /**
+     * Percentages of {@link #amount} (ascending, 1-100) whose crossing by an expense write is pushed to the
+     * user's connected alert streams. Empty means no alerts.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "alert_thresholds", nullable = false)
+    private List<Integer> alertThresholds = new ArrayList<>();
+
     /**
      * When non-null, the budget is soft-deleted and should be excluded from normal reads.
      */
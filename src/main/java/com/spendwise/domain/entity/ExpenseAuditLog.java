@@ -4,17 +4,18 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.UUID;
+
 /**
  * Immutable audit record for an expense change.
- * References one Expense. Unidirectional: Expense does not hold a collection of audit logs.
+ * References one expense by id only: the expense may since have been moved to {@code expenses_archive},
+ * where it is still found by that id (see {@code GET /expenses/archive/{id}}).
  */
 //This class keeps a history of changes made to an Expense. Expense created → log it ,Expense updated → log it, Expense deleted → log it
 @Entity
@@ -26,10 +27,10 @@ import lombok.Setter;
 public class ExpenseAuditLog extends BaseEntity {
 
     /**
-     * The expense this log entry refers to.
+     * Id of the expense this log entry refers to, live or archived.
      */
-    @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    private Expense expense;
+    @Column(name = "expense_id", nullable = false)
+    private UUID expenseId;
 
     /**
      * Action that was performed on the expense.
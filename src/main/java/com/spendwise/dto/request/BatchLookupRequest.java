@@ -0,0 +1,15 @@
+package com.spendwise.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Body of {@code POST /expenses/lookup} and {@code POST /budgets/lookup}.
+ * Duplicates are ignored; the maximum number of ids is configured by {@code spendwise.batch-lookup.max-ids}.
+ */
+public record BatchLookupRequest(
+        @NotEmpty(message = "At least one id is required")
+        List<UUID> ids
+) {}
@@ -19,11 +19,15 @@ public record CreateBudgetRequest(
         @Max(value = 2100, message = "Year must be at most 2100")
         Integer year,
 
-        @NotNull(message = "Month is required")
+        // null for a yearly budget
         @Min(value = 1, message = "Month must be between 1 and 12")
         @Max(value = 12, message = "Month must be between 1 and 12")
         Integer month,
 
         @NotNull(message = "At least one category is required")
-        Set<UUID> categoryIds
+        Set<UUID> categoryIds,
+
+        // percentages of amount that trigger an alert; null for the configured default, empty for none
+        Set<@NotNull @Min(value = 1, message = "Alert threshold must be between 1 and 100")
+            @Max(value = 100, message = "Alert threshold must be between 1 and 100") Integer> alertThresholds
 ) {}
@@ -0,0 +1,41 @@
+package com.spendwise.dto.request;
+
+import com.spendwise.exception.ValidationException;
+
+import java.util.Locale;
+
+/**
+ * Output formats supported by {@code GET /expenses/export}.
+ */
+public enum ExpenseExportFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExpenseExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static ExpenseExportFormat parse(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid export format: " + value + " (expected csv or ndjson)");
+        }
+    }
+}
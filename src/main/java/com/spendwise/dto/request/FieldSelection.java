@@ -0,0 +1,82 @@
+package com.spendwise.dto.request;
+
+import com.spendwise.exception.ValidationException;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Sparse fieldset requested through the {@code fields=} query parameter of list endpoints,
+ * e.g. {@code fields=id,amount,expenseDate}.
+ * <p>
+ * Names are validated against the resource's whitelist and kept in whitelist order, so the JSON
+ * property order is stable no matter how the client lists them.
+ */
+public final class FieldSelection {
+
+    private final List<String> fields;
+
+    private FieldSelection(List<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parses a comma-separated field list. A null or blank value selects every allowed field.
+     *
+     * @param value   raw {@code fields} parameter
+     * @param allowed whitelist in response property order
+     */
+    public static FieldSelection parse(String value, List<String> allowed) {
+        if (value == null || value.isBlank()) {
+            return new FieldSelection(allowed);
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        for (String part : value.split(",")) {
+            String field = part.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(field)) {
+                throw new ValidationException("Invalid field: " + field + " (allowed: " + String.join(", ", allowed) + ")");
+            }
+            requested.add(field);
+        }
+        if (requested.isEmpty()) {
+            throw new ValidationException("fields must name at least one field");
+        }
+        return new FieldSelection(allowed.stream().filter(requested::contains).toList());
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    public boolean includesAny(String... candidates) {
+        for (String candidate : candidates) {
+            if (fields.contains(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds one JSON row holding only the selected fields. Null values are kept so a selected
+     * but empty field (e.g. no description) is still present in the output.
+     */
+    public Map<String, Object> toRow(Function<String, Object> valueForField) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, valueForField.apply(field));
+        }
+        return row;
+    }
+}
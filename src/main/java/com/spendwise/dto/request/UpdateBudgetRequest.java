@@ -2,6 +2,7 @@ package com.spendwise.dto.request;
 
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
 import java.math.BigDecimal;
@@ -20,5 +21,8 @@ public record UpdateBudgetRequest(
         @Max(value = 12, message = "Month must be between 1 and 12")
         Integer month,
 
-        Set<UUID> categoryIds
+        Set<UUID> categoryIds,
+
+        Set<@NotNull @Min(value = 1, message = "Alert threshold must be between 1 and 100")
+            @Max(value = 100, message = "Alert threshold must be between 1 and 100") Integer> alertThresholds
 ) {}
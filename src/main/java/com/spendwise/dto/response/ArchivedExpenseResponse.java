@@ -0,0 +1,23 @@
+package com.spendwise.dto.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Response DTO for an expense moved to the archive. Unlike {@link ExpenseResponse} it can describe a
+ * soft-deleted expense, so it carries the deletion state and when and why the expense was archived
+ * ({@code DELETED} or {@code AGED}).
+ */
+public record ArchivedExpenseResponse(
+        UUID id,
+        UUID categoryId,
+        BigDecimal amount,
+        String description,
+        LocalDate expenseDate,
+        boolean deleted,
+        Instant deletedAt,
+        Instant archivedAt,
+        String archiveReason
+) {}
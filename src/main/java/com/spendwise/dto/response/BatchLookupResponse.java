@@ -0,0 +1,14 @@
+package com.spendwise.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a batch multi-get. found holds the resources in request order; missing lists the
+ * requested ids that do not exist, are deleted, or belong to another user (not distinguished,
+ * so existence of other users' data is not leaked).
+ */
+public record BatchLookupResponse<T>(
+        List<T> found,
+        List<UUID> missing
+) {}
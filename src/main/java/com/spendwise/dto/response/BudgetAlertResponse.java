@@ -0,0 +1,21 @@
+package com.spendwise.dto.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A budget threshold crossed by an expense write, sent as a {@code budget-alert} event on GET /budgets/alerts.
+ * spent is the budget's spend across all its categories in the budget period after the write; categoryId is
+ * the category written to. month is 0 for a yearly budget.
+ */
+public record BudgetAlertResponse(
+        UUID budgetId,
+        int year,
+        int month,
+        UUID categoryId,
+        int thresholdPercent,
+        BigDecimal amount,
+        BigDecimal spent,
+        Instant occurredAt
+) {}
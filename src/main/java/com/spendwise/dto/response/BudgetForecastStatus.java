@@ -0,0 +1,9 @@
+package com.spendwise.dto.response;
+
+/**
+ * Whether a budget's projected spend at the end of its period stays within its amount.
+ */
+public enum BudgetForecastStatus {
+    ON_TRACK,
+    AT_RISK
+}
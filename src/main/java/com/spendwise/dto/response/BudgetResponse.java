@@ -1,13 +1,17 @@
 package com.spendwise.dto.response;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 /**
  * Response DTO for budget data with calculated metrics.
  * ID is included for update/delete operations. Metrics (totalSpent, remainingBudget) are calculated
- * based on expenses for the budget period and categories.
+ * based on expenses for the budget period and categories. month is 0 for a yearly budget.
+ * alertThresholds are the percentages of amount reported on GET /budgets/alerts when spend crosses them.
+ * projectedSpent is the expected spend at the end of the period (from the pace so far and the user's
+ * history); forecastStatus is AT_RISK when it exceeds amount.
  */
 public record BudgetResponse(
         UUID id,
@@ -15,6 +19,9 @@ public record BudgetResponse(
         int year,
         int month,
         Set<UUID> categoryIds,
+        List<Integer> alertThresholds,
         BigDecimal totalSpent,
-        BigDecimal remainingBudget
+        BigDecimal remainingBudget,
+        BigDecimal projectedSpent,
+        BudgetForecastStatus forecastStatus
 ) {}
@@ -0,0 +1,22 @@
+package com.spendwise.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The budgets of one year: all twelve months in order, budget null for a month without one, and the
+ * yearly budget (null if none). totalBudgeted and totalSpent add up the monthly budgets that exist.
+ */
+public record BudgetYearOverviewResponse(
+        int year,
+        BigDecimal totalBudgeted,
+        BigDecimal totalSpent,
+        List<MonthBudget> months,
+        BudgetResponse yearlyBudget
+) {
+
+    public record MonthBudget(
+            int month,
+            BudgetResponse budget
+    ) {}
+}
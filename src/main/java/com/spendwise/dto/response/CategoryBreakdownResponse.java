@@ -0,0 +1,25 @@
+package com.spendwise.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spend of one month split by category, largest first. sharePercent is the category's share of
+ * totalAmount (0-100, two decimals); categories without spend in the month are omitted.
+ */
+public record CategoryBreakdownResponse(
+        int year,
+        int month,
+        BigDecimal totalAmount,
+        List<Item> categories
+) {
+
+    public record Item(
+            UUID categoryId,
+            String categoryName,
+            BigDecimal totalAmount,
+            long expenseCount,
+            BigDecimal sharePercent
+    ) {}
+}
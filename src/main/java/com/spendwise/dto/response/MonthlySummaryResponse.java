@@ -0,0 +1,16 @@
+package com.spendwise.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * Spend totals of one month, with the previous month's total for comparison.
+ * averageAmount is zero when the month has no expenses.
+ */
+public record MonthlySummaryResponse(
+        int year,
+        int month,
+        BigDecimal totalAmount,
+        long expenseCount,
+        BigDecimal averageAmount,
+        BigDecimal previousMonthTotalAmount
+) {}
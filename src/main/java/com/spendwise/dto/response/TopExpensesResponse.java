@@ -0,0 +1,21 @@
+package com.spendwise.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The largest expenses of one month per category (at most limit each), categories by name.
+ */
+public record TopExpensesResponse(
+        int year,
+        int month,
+        int limit,
+        List<CategoryTopExpenses> categories
+) {
+
+    public record CategoryTopExpenses(
+            UUID categoryId,
+            String categoryName,
+            List<ExpenseResponse> expenses
+    ) {}
+}
@@ -11,8 +11,10 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import jakarta.validation.ConstraintViolationException;
 import java.util.Map;
@@ -101,6 +103,17 @@ public class GlobalExceptionHandler {
                         fieldErrors));
     }
 
+    // Same messages as the reactive read API's parameter parsing (ReactiveReadHandler).
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+        return handleApiException(new ValidationException("Invalid value for parameter: " + ex.getName(), ex), request);
+    }
+
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ErrorResponse> handleMissingParameter(MissingServletRequestParameterException ex, HttpServletRequest request) {
+        return handleApiException(new ValidationException("Missing required parameter: " + ex.getParameterName()), request);
+    }
+
     private static String sanitizeMessage(String message) {
         return (message != null && !message.isBlank()) ? message : "Invalid value";
     }
@@ -112,7 +125,10 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(ErrorCode.INTERNAL_ERROR, request.getRequestURI()));
     }
 
-    private static HttpStatus toHttpStatus(ErrorCode code) {
+    /**
+     * Status of an {@link ApiException} response; shared with the reactive read API's error handler.
+     */
+    public static HttpStatus toHttpStatus(ErrorCode code) {
         return switch (code) {
             case RESOURCE_NOT_FOUND -> HttpStatus.NOT_FOUND;
             case INVALID_CREDENTIALS, INVALID_REFRESH_TOKEN, INVALID_TOKEN -> HttpStatus.UNAUTHORIZED;
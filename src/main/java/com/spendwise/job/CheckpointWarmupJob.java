@@ -0,0 +1,152 @@
+package com.spendwise.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spendwise.config.CracProperties;
+import com.spendwise.dto.request.ExpenseListParams;
+import com.spendwise.dto.response.ExpenseResponse;
+import com.spendwise.repository.UserRepository;
+import com.spendwise.security.JwtUtil;
+import com.spendwise.service.BudgetService;
+import com.spendwise.service.ExpenseService;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Warms up the JIT before a CRaC checkpoint, so a restored instance starts with compiled hot paths.
+ * <p>
+ * Runs once on a background thread after startup when {@code spendwise.crac.warmup-enabled=true}. Each
+ * iteration goes through what a login and an authenticated expense/budget read cost: a user lookup, token
+ * generation and parsing, the list query with filters and sorting, the budget query and response
+ * serialization. Everything runs for a random user id that owns nothing, so no data is read or written; the
+ * password check (BCrypt, ~100 ms each) runs every 100th iteration only.
+ * <p>
+ * With {@code spendwise.crac.checkpoint-after-warmup=true} the process then checkpoints itself. Spring stops
+ * every lifecycle bean first (web servers, connection pools, the pinning monitor) and starts them again on
+ * restore, so the image holds no open sockets or files.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spendwise.crac", name = "warmup-enabled", havingValue = "true")
+public class CheckpointWarmupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckpointWarmupJob.class);
+
+    private static final int PASSWORD_CHECK_INTERVAL = 100;
+    private static final List<String> SORTS = List.of("expenseDate,desc", "amount,asc", "createdAt,desc");
+
+    private final ExpenseService expenseService;
+    private final BudgetService budgetService;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final CracProperties properties;
+
+    public CheckpointWarmupJob(ExpenseService expenseService, BudgetService budgetService,
+                               UserRepository userRepository, JwtUtil jwtUtil, PasswordEncoder passwordEncoder,
+                               ObjectMapper objectMapper, CracProperties properties) {
+        this.expenseService = expenseService;
+        this.budgetService = budgetService;
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInBackground() {
+        Thread worker = new Thread(this::run, "crac-warmup");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Runs the warm-up and, if configured, the checkpoint.
+     */
+    public void run() {
+        try {
+            warmUp(properties.warmupIterations());
+        } catch (RuntimeException e) {
+            log.error("JIT warm-up failed; not checkpointing", e);
+            return;
+        }
+        if (properties.checkpointAfterWarmup()) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Runs the hot paths {@code iterations} times.
+     */
+    public void warmUp(int iterations) {
+        long started = System.nanoTime();
+        UUID userId = UUID.randomUUID();
+        String email = "warmup-" + userId + "@spendwise.invalid";
+        String passwordHash = passwordEncoder.encode("warmup-password");
+        List<ExpenseResponse> sample = sampleExpenses();
+        LocalDate today = LocalDate.now();
+
+        for (int i = 0; i < iterations; i++) {
+            // Login and the JWT filter
+            userRepository.findByEmail(email);
+            if (i % PASSWORD_CHECK_INTERVAL == 0) {
+                passwordEncoder.matches("warmup-password", passwordHash);
+            }
+            String accessToken = jwtUtil.generateAccessToken(email, userId, List.of("ROLE_USER"));
+            jwtUtil.generateRefreshToken(email, userId);
+            jwtUtil.extractClaims(accessToken);
+
+            // Expense list (unfiltered and filtered) and budgets
+            ExpenseListParams params = i % 2 == 0
+                    ? ExpenseListParams.of(null, null, null, null, null)
+                    : ExpenseListParams.of(null, today.minusMonths(1), today, BigDecimal.ONE, BigDecimal.TEN);
+            expenseService.listExpenses(userId, params, 0, 20, List.of(SORTS.get(i % SORTS.size())));
+            budgetService.getBudgetsForUser(userId, today.getYear(), today.getMonthValue());
+
+            try {
+                objectMapper.writeValueAsBytes(sample);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        log.info("JIT warm-up finished: iterations={}, durationMs={}",
+                iterations, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static void checkpoint() {
+        log.info("Checkpointing after warm-up");
+        try {
+            Core.checkpointRestore();
+            log.info("Restored from checkpoint");
+        } catch (CheckpointException | RestoreException e) {
+            log.error("Checkpoint/restore failed; the instance keeps running without a checkpoint", e);
+        } catch (UnsupportedOperationException e) {
+            log.error("Checkpoint requested, but this JVM does not support CRaC; start it with "
+                    + "-XX:CRaCCheckpointTo on a CRaC JDK", e);
+        }
+    }
+
+    private static List<ExpenseResponse> sampleExpenses() {
+        List<ExpenseResponse> sample = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sample.add(new ExpenseResponse(UUID.randomUUID(), UUID.randomUUID(), BigDecimal.valueOf(1999, 2),
+                    "Warm-up expense " + i, LocalDate.now().minusDays(i)));
+        }
+        return sample;
+    }
+}
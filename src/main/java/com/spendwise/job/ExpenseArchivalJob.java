@@ -0,0 +1,107 @@
+package com.spendwise.job;
+
+import com.spendwise.config.ExpenseArchivalProperties;
+import com.spendwise.repository.ExpenseArchiveRepository;
+import com.spendwise.repository.ExpenseArchiveRepository.BatchResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * Moves cold expenses into {@code expenses_archive}, see {@link ExpenseArchiveRepository}.
+ * <p>
+ * Runs on {@code spendwise.archival.cron} (nightly by default) when {@code spendwise.archival.enabled=true}.
+ * Each run archives soft-deleted expenses past the retention window and, if {@code older-than} is set,
+ * every expense dated before that age. Rows are walked by keyset in id order, one short transaction per
+ * batch, so a run never holds many locks and can stop at any point: the next run continues with whatever
+ * is left.
+ * <p>
+ * Deleting and inserting a batch writes WAL that standbys have to replay. To keep read replicas (and
+ * with them read-your-writes routing) close to the primary, the job pauses between batches and waits
+ * while the replication lag exceeds {@code max-replication-lag}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spendwise.archival", name = "enabled", havingValue = "true")
+public class ExpenseArchivalJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpenseArchivalJob.class);
+
+    private final ExpenseArchiveRepository expenseArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExpenseArchivalProperties properties;
+
+    public ExpenseArchivalJob(ExpenseArchiveRepository expenseArchiveRepository,
+                              PlatformTransactionManager transactionManager,
+                              ExpenseArchivalProperties properties) {
+        this.expenseArchiveRepository = expenseArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * Archives everything currently eligible; returns the number of expenses moved. Failures are logged,
+     * not thrown, so the next run retries.
+     */
+    @Scheduled(cron = "${spendwise.archival.cron:0 45 2 * * *}")
+    public long run() {
+        long archived = 0;
+        try {
+            Instant deletedBefore = Instant.now().minus(properties.deletedRetention());
+            archived += archive("deleted", (after, limit) ->
+                    expenseArchiveRepository.archiveDeletedBatch(deletedBefore, after, limit));
+            if (properties.olderThan() != null) {
+                LocalDate dateBefore = LocalDate.now().minus(properties.olderThan());
+                archived += archive("aged", (after, limit) ->
+                        expenseArchiveRepository.archiveAgedBatch(dateBefore, after, limit));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Expense archival interrupted after archived={}", archived);
+        } catch (RuntimeException e) {
+            log.error("Expense archival failed after archived={}; the next run resumes", archived, e);
+        }
+        return archived;
+    }
+
+    private long archive(String kind, BiFunction<UUID, Integer, BatchResult> batch) throws InterruptedException {
+        long started = System.nanoTime();
+        long archived = 0;
+        UUID after = ExpenseArchiveRepository.FIRST_ID;
+        while (true) {
+            awaitReplicationCatchUp();
+            UUID position = after;
+            BatchResult result = transactionTemplate.execute(status -> batch.apply(position, properties.batchSize()));
+            if (result == null || result.lastId() == null) {
+                break;
+            }
+            archived += result.archived();
+            after = result.lastId();
+            log.debug("Expense archival progress: kind={}, archived={}, lastId={}", kind, archived, after);
+            Thread.sleep(properties.batchPause().toMillis());
+        }
+        if (archived > 0) {
+            log.info("Expense archival finished: kind={}, archived={}, durationMs={}",
+                    kind, archived, (System.nanoTime() - started) / 1_000_000);
+        }
+        return archived;
+    }
+
+    private void awaitReplicationCatchUp() throws InterruptedException {
+        long maxLag = properties.maxReplicationLag().toBytes();
+        long lag = expenseArchiveRepository.findMaxReplicationLagBytes();
+        while (lag > maxLag) {
+            log.info("Expense archival waiting for replicas: lagBytes={}, maxLagBytes={}", lag, maxLag);
+            Thread.sleep(properties.lagCheckInterval().toMillis());
+            lag = expenseArchiveRepository.findMaxReplicationLagBytes();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.spendwise.job;
+
+import com.spendwise.config.ExpensePartitionProperties;
+import com.spendwise.repository.ExpensePartitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+/**
+ * Creates {@code expenses} partitions ahead of time.
+ * <p>
+ * Runs once when the application is ready and then on {@code spendwise.partitions.expenses.cron}
+ * (daily by default). Each run makes sure partitions exist from today through today + createAhead;
+ * already existing ones are skipped, so running it often or on every instance is harmless.
+ * <p>
+ * Rows no partition covers land in {@code expenses_default}: backdated expenses older than the first
+ * partition, or any row if a run was missed. They are still readable, just never pruned, so each run
+ * also creates the partition of every month that has such rows; creating a partition moves its rows out
+ * of the default one. That happens after the create-ahead and one period per call, so each call is a
+ * transaction of its own: a row dated far in the past creates one partition instead of every partition
+ * up to today, which could exceed {@code max_locks_per_transaction} and then fail on every run.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spendwise.partitions.expenses", name = "maintenance-enabled",
+        havingValue = "true", matchIfMissing = true)
+public class ExpensePartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpensePartitionMaintenanceJob.class);
+
+    private final ExpensePartitionRepository expensePartitionRepository;
+    private final Period createAhead;
+
+    public ExpensePartitionMaintenanceJob(ExpensePartitionRepository expensePartitionRepository,
+                                          ExpensePartitionProperties properties) {
+        this.expensePartitionRepository = expensePartitionRepository;
+        this.createAhead = properties.createAhead();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run();
+    }
+
+    /**
+     * Ensures upcoming partitions exist, then the partitions of rows in the default partition; returns how
+     * many were created. Failures are logged, not thrown, so the next run retries.
+     */
+    @Scheduled(cron = "${spendwise.partitions.expenses.cron:0 15 3 * * *}")
+    public int run() {
+        LocalDate today = LocalDate.now();
+        return createAhead(today, today.plus(createAhead)) + drainDefaultPartition();
+    }
+
+    private int createAhead(LocalDate from, LocalDate to) {
+        try {
+            int created = expensePartitionRepository.ensurePartitions(from, to);
+            if (created > 0) {
+                log.info("Created {} expense partition(s) covering {}..{}", created, from, to);
+            }
+            return created;
+        } catch (RuntimeException e) {
+            log.error("Expense partition maintenance failed for {}..{}", from, to, e);
+            return 0;
+        }
+    }
+
+    private int drainDefaultPartition() {
+        List<LocalDate> months;
+        try {
+            months = expensePartitionRepository.findDefaultPartitionMonths();
+        } catch (RuntimeException e) {
+            log.error("Listing rows of the default expense partition failed", e);
+            return 0;
+        }
+        int created = 0;
+        for (LocalDate month : months) {
+            try {
+                created += expensePartitionRepository.ensurePartitions(month, month);
+            } catch (RuntimeException e) {
+                log.error("Creating the expense partition for {} failed; its rows stay in expenses_default", month, e);
+            }
+        }
+        if (created > 0) {
+            log.info("Created {} expense partition(s) for rows in expenses_default", created);
+        }
+        return created;
+    }
+}
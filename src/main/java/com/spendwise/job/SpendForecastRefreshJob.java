@@ -0,0 +1,83 @@
+package com.spendwise.job;
+
+import com.spendwise.config.SpendForecastProperties;
+import com.spendwise.repository.SpendForecastRepository;
+import com.spendwise.repository.SpendRollupRepository;
+import com.spendwise.service.SpendForecastCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rebuilds the budget forecast models of every user from the monthly spend rollup.
+ * <p>
+ * Runs on {@code spendwise.forecast.refresh.cron} (nightly by default). Each run moves the models' history
+ * window to end with the last completed month, so the month that just ended is folded in, and repairs
+ * anything the incremental updates do not cover (spend in months a model did not include yet). Users are
+ * walked by keyset in chunks, each rebuilt in its own short transaction, like the rollup backfill; a failed
+ * run leaves the remaining users on their previous models until the next one. A chunk's cached models are
+ * evicted once its transaction has committed.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spendwise.forecast.refresh", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class SpendForecastRefreshJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SpendForecastRefreshJob.class);
+
+    private final SpendRollupRepository spendRollupRepository;
+    private final SpendForecastRepository spendForecastRepository;
+    private final SpendForecastCache spendForecastCache;
+    private final TransactionTemplate transactionTemplate;
+    private final SpendForecastProperties properties;
+
+    public SpendForecastRefreshJob(SpendRollupRepository spendRollupRepository,
+                                   SpendForecastRepository spendForecastRepository,
+                                   SpendForecastCache spendForecastCache,
+                                   PlatformTransactionManager transactionManager,
+                                   SpendForecastProperties properties) {
+        this.spendRollupRepository = spendRollupRepository;
+        this.spendForecastRepository = spendForecastRepository;
+        this.spendForecastCache = spendForecastCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * Rebuilds the models of every user; returns the number of users processed.
+     */
+    @Scheduled(cron = "${spendwise.forecast.refresh.cron:0 30 4 * * *}")
+    public long run() {
+        long started = System.nanoTime();
+        YearMonth lastMonth = YearMonth.now().minusMonths(1);
+        YearMonth firstMonth = lastMonth.minusMonths(properties.historyMonths() - 1L);
+        long users = 0;
+        UUID after = null;
+        try {
+            while (true) {
+                List<UUID> chunk = spendRollupRepository.findUserIdsAfter(after, properties.refresh().chunkSize());
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(status -> spendForecastRepository.rebuildForUsers(
+                        chunk, firstMonth, lastMonth, properties.alpha()));
+                spendForecastCache.evict(chunk);
+                users += chunk.size();
+                after = chunk.get(chunk.size() - 1);
+            }
+            log.info("Spend forecast refresh finished: users={}, months={}..{}, durationMs={}",
+                    users, firstMonth, lastMonth, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Spend forecast refresh failed after users={}, lastUserId={}", users, after, e);
+        }
+        return users;
+    }
+}
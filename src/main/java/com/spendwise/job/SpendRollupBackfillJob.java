@@ -0,0 +1,78 @@
+package com.spendwise.job;
+
+import com.spendwise.config.SpendRollupProperties;
+import com.spendwise.repository.SpendRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rebuilds the spend rollups from the expenses, in chunks of users. The rollup migration (V6) already seeds
+ * them from the expenses present at upgrade time; this job repairs drift, e.g. from writes made by instances
+ * still on the previous version during a rolling upgrade.
+ * <p>
+ * Runs once on a background thread after startup when {@code spendwise.rollups.backfill.enabled=true}.
+ * Users are walked by keyset (id order) and each chunk is rebuilt in its own short transaction, so no
+ * long-running transaction holds locks or bloats the WAL on a large table, and a failed run can simply
+ * be restarted: rebuilding a user is idempotent. Live expense writes keep updating the rollups while it
+ * runs; see {@link SpendRollupRepository} for how the two are serialized per user.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spendwise.rollups.backfill", name = "enabled", havingValue = "true")
+public class SpendRollupBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SpendRollupBackfillJob.class);
+
+    private final SpendRollupRepository spendRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public SpendRollupBackfillJob(SpendRollupRepository spendRollupRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  SpendRollupProperties properties) {
+        this.spendRollupRepository = spendRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = properties.backfill().chunkSize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInBackground() {
+        Thread worker = new Thread(this::run, "spend-rollup-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Rebuilds the rollups of every user; returns the number of users processed.
+     */
+    public long run() {
+        long started = System.nanoTime();
+        long users = 0;
+        UUID after = null;
+        try {
+            while (true) {
+                List<UUID> chunk = spendRollupRepository.findUserIdsAfter(after, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(status -> spendRollupRepository.rebuildForUsers(chunk));
+                users += chunk.size();
+                after = chunk.get(chunk.size() - 1);
+                log.info("Spend rollup backfill progress: users={}, lastUserId={}", users, after);
+            }
+            log.info("Spend rollup backfill finished: users={}, durationMs={}",
+                    users, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Spend rollup backfill failed after users={}, lastUserId={}; rerun to resume", users, after, e);
+        }
+        return users;
+    }
+}
@@ -1,6 +1,7 @@
 package com.spendwise.mapper;
 
 import com.spendwise.domain.entity.Budget;
+import com.spendwise.dto.response.BudgetForecastStatus;
 import com.spendwise.dto.response.BudgetResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -18,5 +19,8 @@ public interface BudgetMapper {
     @Mapping(target = "month", expression = "java(budget.getMonth() != null ? budget.getMonth() : 0)")
     @Mapping(target = "totalSpent", source = "totalSpent")
     @Mapping(target = "remainingBudget", source = "remainingBudget")
-    BudgetResponse toBudgetResponse(Budget budget, BigDecimal totalSpent, BigDecimal remainingBudget);
+    @Mapping(target = "projectedSpent", source = "projectedSpent")
+    @Mapping(target = "forecastStatus", source = "forecastStatus")
+    BudgetResponse toBudgetResponse(Budget budget, BigDecimal totalSpent, BigDecimal remainingBudget,
+                                    BigDecimal projectedSpent, BudgetForecastStatus forecastStatus);
 }
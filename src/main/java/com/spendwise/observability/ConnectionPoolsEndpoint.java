@@ -0,0 +1,72 @@
+package com.spendwise.observability;
+
+import com.spendwise.datasource.AdaptivePoolSizer;
+import com.spendwise.datasource.PoolSizingPolicy;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * {@code GET /actuator/connectionpools}: the current state of every Hikari pool (the primary and, in
+ * read-replica mode, each replica) and, when adaptive sizing is on, its bounds and last decision.
+ * <p>
+ * A snapshot only; the history is in the metrics: {@code hikaricp.connections.*} per pool and
+ * {@code spendwise.http.db.connection.*} per endpoint.
+ */
+@Endpoint(id = "connectionpools")
+public class ConnectionPoolsEndpoint {
+
+    private final List<HikariDataSource> pools;
+    private final ObjectProvider<AdaptivePoolSizer> sizer;
+
+    public ConnectionPoolsEndpoint(List<HikariDataSource> pools, ObjectProvider<AdaptivePoolSizer> sizer) {
+        this.pools = pools;
+        this.sizer = sizer;
+    }
+
+    @ReadOperation
+    public ConnectionPoolsReport connectionPools() {
+        List<PoolState> states = pools.stream().map(ConnectionPoolsEndpoint::stateOf).toList();
+        AdaptivePoolSizer poolSizer = sizer.getIfAvailable();
+        Sizing sizing = poolSizer == null ? null : new Sizing(
+                poolSizer.getProperties().minSize(), poolSizer.getProperties().maxSize(),
+                poolSizer.getLastDecision());
+        return new ConnectionPoolsReport(states, sizing);
+    }
+
+    private static PoolState stateOf(HikariDataSource pool) {
+        // Null until the pool has been started by its first connection request.
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        return new PoolState(
+                pool.getPoolName(),
+                pool.getMaximumPoolSize(),
+                pool.getMinimumIdle(),
+                pool.getConnectionTimeout(),
+                mxBean == null ? 0 : mxBean.getActiveConnections(),
+                mxBean == null ? 0 : mxBean.getIdleConnections(),
+                mxBean == null ? 0 : mxBean.getTotalConnections(),
+                mxBean == null ? 0 : mxBean.getThreadsAwaitingConnection());
+    }
+
+    public record ConnectionPoolsReport(List<PoolState> pools, Sizing adaptiveSizing) {
+    }
+
+    public record PoolState(
+            String name,
+            int maximumPoolSize,
+            int minimumIdle,
+            long connectionTimeoutMs,
+            int active,
+            int idle,
+            int total,
+            int pending
+    ) {
+    }
+
+    public record Sizing(int minSize, int maxSize, PoolSizingPolicy.Decision lastDecision) {
+    }
+}
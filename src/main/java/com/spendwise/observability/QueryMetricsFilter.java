@@ -0,0 +1,153 @@
+package com.spendwise.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link QueryStatistics} scope for every HTTP request and publishes the totals
+ * as Micrometer histograms once the request completes:
+ * <ul>
+ *   <li>{@code spendwise.http.db.statements} – JDBC statements executed by the request</li>
+ *   <li>{@code spendwise.http.db.time} – time spent executing those statements</li>
+ *   <li>{@code spendwise.http.db.connection.acquire} – time spent waiting for pool connections</li>
+ *   <li>{@code spendwise.http.db.connection.held} – time those connections were held, from checkout until
+ *   returned to the pool</li>
+ * </ul>
+ * All four are tagged with {@code endpoint} (HTTP method plus the matched route pattern, e.g.
+ * {@code GET /expenses/{id}}) so the tag stays low-cardinality; requests rejected before
+ * handler mapping (e.g. 401 from the security chain) are tagged {@code UNMAPPED}. The connection timers only
+ * count requests that took a connection. A held time far above {@code spendwise.http.db.time} means the
+ * endpoint keeps its connection while doing other work (open-in-view holds it for the whole request).
+ * <p>
+ * An async request (the streamed export, SSE) is published when it completes, not when the filter returns:
+ * the scope is bound to the worker that writes a streamed body, and the connection held by open-in-view is
+ * only returned once the async request is done.
+ * <p>
+ * Registered ahead of the security filter chain so the user lookup done by JWT
+ * authentication is counted as part of the request.
+ */
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_METRIC = "spendwise.http.db.statements";
+    public static final String DB_TIME_METRIC = "spendwise.http.db.time";
+    public static final String CONNECTION_ACQUIRE_METRIC = "spendwise.http.db.connection.acquire";
+    public static final String CONNECTION_HELD_METRIC = "spendwise.http.db.connection.held";
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryStatistics statistics = QueryStatistics.start();
+        WebAsyncUtils.getAsyncManager(request)
+                .registerCallableInterceptor(AsyncScope.class.getName(), new AsyncScope(statistics));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStatistics.clear();
+            String endpoint = endpointOf(request);
+            if (request.isAsyncStarted()) {
+                // Added after Spring's own listener, so this runs once open-in-view has closed its EntityManager
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(endpoint, statistics);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(endpoint, statistics);
+            }
+        }
+    }
+
+    private void record(String endpoint, QueryStatistics statistics) {
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("JDBC statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(500.0)
+                .register(meterRegistry)
+                .record(statistics.getStatementCount());
+        Timer.builder(DB_TIME_METRIC)
+                .description("Total JDBC execution time per HTTP request")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        if (statistics.getConnectionCount() == 0) {
+            return;
+        }
+        Timer.builder(CONNECTION_ACQUIRE_METRIC)
+                .description("Time spent waiting for pool connections per HTTP request")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getConnectionAcquireNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder(CONNECTION_HELD_METRIC)
+                .description("Time pool connections were held per HTTP request")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getConnectionHeldNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Carries the request's scope onto the async worker that writes a {@code StreamingResponseBody}.
+     */
+    private record AsyncScope(QueryStatistics statistics) implements CallableProcessingInterceptor {
+
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            QueryStatistics.bind(statistics);
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            QueryStatistics.clear();
+        }
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return UNMAPPED;
+        }
+        return request.getMethod() + " " + pattern;
+    }
+}
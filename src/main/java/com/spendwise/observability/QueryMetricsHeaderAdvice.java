@@ -0,0 +1,45 @@
+package com.spendwise.observability;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Copies the current request's statement count and DB time into response headers
+ * ({@value #COUNT_HEADER}, {@value #TIME_HEADER}) just before the body is written.
+ * <p>
+ * Only registered when {@code spendwise.query-metrics.expose-headers=true} (dev and test profiles);
+ * integration tests read the headers to assert per-endpoint statement budgets.
+ * Responses without a body (e.g. 204 on delete) carry no headers but are still recorded as metrics.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "spendwise.query-metrics", name = "expose-headers", havingValue = "true")
+public class QueryMetricsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String TIME_HEADER = "X-Query-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStatistics statistics = QueryStatistics.current();
+        if (statistics != null) {
+            response.getHeaders().set(COUNT_HEADER, Integer.toString(statistics.getStatementCount()));
+            response.getHeaders().set(TIME_HEADER, String.format(Locale.ROOT, "%.3f", statistics.getElapsedMillis()));
+        }
+        return body;
+    }
+}
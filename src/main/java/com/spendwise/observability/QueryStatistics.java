@@ -0,0 +1,99 @@
+package com.spendwise.observability;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-request JDBC statement counters, bound to the request thread.
+ * <p>
+ * {@link QueryMetricsFilter} opens a scope at the start of every HTTP request and closes it when
+ * the response is complete; {@link StatementCountingDataSource} records every executed statement
+ * into the current scope. An async request (a streamed export) binds the same scope to the worker thread
+ * while it runs. Code running outside a request (schedulers) has no scope and is simply not counted.
+ * <p>
+ * The counters are updated from more than one thread: the request thread, an async worker, and whichever
+ * thread closes a connection taken in this scope.
+ * <p>
+ * Counting happens at the JDBC level, so lazy loads that Hibernate issues behind our back
+ * (the classic N+1 on {@code Budget.categories} or {@code Expense.category}) show up here.
+ * <p>
+ * The scope also records the connections the request took from the pool: how long it waited for them and how
+ * long it held them, which tells pool waits apart from slow queries.
+ */
+public final class QueryStatistics {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statementCount = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+    private final LongAdder connectionCount = new LongAdder();
+    private final LongAdder connectionAcquireNanos = new LongAdder();
+    private final LongAdder connectionHeldNanos = new LongAdder();
+
+    private QueryStatistics() {
+    }
+
+    /**
+     * Starts a new scope for the current thread, replacing any previous one.
+     */
+    public static QueryStatistics start() {
+        QueryStatistics statistics = new QueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Returns the scope bound to the current thread, or {@code null} when none is active.
+     */
+    public static QueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Binds an existing scope to the current thread, e.g. the async worker of the request that opened it.
+     */
+    static void bind(QueryStatistics statistics) {
+        CURRENT.set(statistics);
+    }
+
+    void record(long nanos) {
+        statementCount.increment();
+        elapsedNanos.add(nanos);
+    }
+
+    void recordConnectionAcquired(long acquireNanos) {
+        connectionCount.increment();
+        connectionAcquireNanos.add(acquireNanos);
+    }
+
+    void recordConnectionReleased(long heldNanos) {
+        connectionHeldNanos.add(heldNanos);
+    }
+
+    public int getStatementCount() {
+        return statementCount.intValue();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos.sum();
+    }
+
+    public double getElapsedMillis() {
+        return getElapsedNanos() / 1_000_000.0;
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.intValue();
+    }
+
+    public long getConnectionAcquireNanos() {
+        return connectionAcquireNanos.sum();
+    }
+
+    public long getConnectionHeldNanos() {
+        return connectionHeldNanos.sum();
+    }
+}
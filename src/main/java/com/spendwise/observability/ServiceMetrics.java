@@ -0,0 +1,128 @@
+package com.spendwise.observability;
+
+import com.spendwise.exception.ApiException;
+import com.spendwise.exception.BudgetExceededException;
+import com.spendwise.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers of the service layer, published as {@code spendwise.service} with the tags
+ * <ul>
+ *   <li>{@code service} and {@code operation}: class and method, e.g. {@code ExpenseService} /
+ *   {@code createExpense}</li>
+ *   <li>{@code outcome}: {@code success}, {@code client_error} (an {@link ApiException} mapped to a 4xx) or
+ *   {@code server_error}</li>
+ *   <li>{@code exception}: simple class name of what was thrown, {@code none} on success</li>
+ * </ul>
+ * All tag values come from code, never from requests, so the number of series stays bounded. Budget
+ * rejections are also counted on their own, as {@code spendwise.budgets.rejected} per operation.
+ * <p>
+ * Recording is on every service call, so the meters are resolved once per operation (and once per exception
+ * type) and reused: a call costs two {@code nanoTime()} reads and one histogram update, without allocation.
+ */
+public class ServiceMetrics {
+
+    public static final String SERVICE_METRIC = "spendwise.service";
+    public static final String BUDGET_REJECTIONS_METRIC = "spendwise.budgets.rejected";
+
+    public static final String SUCCESS = "success";
+    public static final String CLIENT_ERROR = "client_error";
+    public static final String SERVER_ERROR = "server_error";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration[] slo;
+
+    public ServiceMetrics(MeterRegistry meterRegistry, List<Duration> slo) {
+        this.meterRegistry = meterRegistry;
+        this.slo = slo.toArray(Duration[]::new);
+    }
+
+    public Operation operation(String service, String operation) {
+        return new Operation(service, operation);
+    }
+
+    private Timer register(String service, String operation, String outcome, String exception) {
+        return Timer.builder(SERVICE_METRIC)
+                .description("Service-layer call duration")
+                .tag("service", service)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(slo)
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    /**
+     * The timers of one service operation.
+     */
+    public final class Operation {
+
+        private final String service;
+        private final String operation;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+        private volatile Counter budgetRejections;
+
+        private Operation(String service, String operation) {
+            this.service = service;
+            this.operation = operation;
+            this.success = register(service, operation, SUCCESS, NO_EXCEPTION);
+        }
+
+        public void recordSuccess(long startNanos) {
+            success.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void recordFailure(long startNanos, Throwable failure) {
+            long elapsed = System.nanoTime() - startNanos;
+            Timer timer = failures.get(failure.getClass());
+            if (timer == null) {
+                timer = failures.computeIfAbsent(failure.getClass(), type -> register(service, operation,
+                        outcomeOf(failure), type.getSimpleName()));
+            }
+            timer.record(elapsed, TimeUnit.NANOSECONDS);
+            if (failure instanceof BudgetExceededException) {
+                budgetRejections().increment();
+            }
+        }
+
+        /**
+         * A timer for an outcome that is not an exception (the JWT filter's rejections), to be resolved once.
+         */
+        public Timer timer(String outcome, String reason) {
+            return register(service, operation, outcome, reason);
+        }
+
+        private Counter budgetRejections() {
+            Counter counter = budgetRejections;
+            if (counter == null) {
+                counter = Counter.builder(BUDGET_REJECTIONS_METRIC)
+                        .description("Expenses rejected because they would exceed a budget")
+                        .tag("operation", operation)
+                        .register(meterRegistry);
+                budgetRejections = counter;
+            }
+            return counter;
+        }
+    }
+
+    private static String outcomeOf(Throwable failure) {
+        if (failure instanceof ApiException apiException
+                && GlobalExceptionHandler.toHttpStatus(apiException.getErrorCode()).is4xxClientError()) {
+            return CLIENT_ERROR;
+        }
+        return SERVER_ERROR;
+    }
+}
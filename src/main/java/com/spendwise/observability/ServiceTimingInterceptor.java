@@ -0,0 +1,43 @@
+package com.spendwise.observability;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Times every call through the proxy into {@link ServiceMetrics}, tagged with the target class and method.
+ * Runs outside {@code @Transactional}, so commit time is part of the measurement.
+ */
+public class ServiceTimingInterceptor implements MethodInterceptor {
+
+    private final Supplier<ServiceMetrics> serviceMetrics;
+    private final Map<Method, ServiceMetrics.Operation> operations = new ConcurrentHashMap<>();
+
+    // A supplier: the interceptor is built by a BeanPostProcessor, before the MeterRegistry may be created.
+    public ServiceTimingInterceptor(Supplier<ServiceMetrics> serviceMetrics) {
+        this.serviceMetrics = serviceMetrics;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ServiceMetrics.Operation operation = operations.get(invocation.getMethod());
+        if (operation == null) {
+            operation = operations.computeIfAbsent(invocation.getMethod(), method -> serviceMetrics.get().operation(
+                    ClassUtils.getUserClass(invocation.getThis().getClass()).getSimpleName(), method.getName()));
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            operation.recordSuccess(start);
+            return result;
+        } catch (Throwable failure) {
+            operation.recordFailure(start, failure);
+            throw failure;
+        }
+    }
+}
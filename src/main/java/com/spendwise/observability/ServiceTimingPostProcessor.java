@@ -0,0 +1,42 @@
+package com.spendwise.observability;
+
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Adds {@link ServiceTimingInterceptor} to the public methods of the given service classes. Like
+ * {@code @Async} and method validation, the advisor joins the bean's existing proxy (the transactional one)
+ * when there is one, ahead of its other advisors.
+ */
+public class ServiceTimingPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public ServiceTimingPostProcessor(Set<Class<?>> services, Supplier<ServiceMetrics> serviceMetrics) {
+        this.advisor = new DefaultPointcutAdvisor(new PublicServiceMethods(services),
+                new ServiceTimingInterceptor(serviceMetrics));
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+
+    private static final class PublicServiceMethods extends StaticMethodMatcherPointcut {
+
+        private final Set<Class<?>> services;
+
+        PublicServiceMethods(Set<Class<?>> services) {
+            this.services = services;
+            setClassFilter(type -> services.contains(ClassUtils.getUserClass(type)));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers())
+                    && services.contains(method.getDeclaringClass());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.spendwise.observability;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource wrapper that counts and times every executed JDBC statement, and times how long each connection
+ * took to acquire and was held until {@code close()} returned it to the pool.
+ * <p>
+ * Connections and statements are wrapped in lightweight JDK proxies; only the {@code execute*}
+ * methods are intercepted, everything else is passed straight through. Measurements go into the
+ * thread's {@link QueryStatistics} scope, so JPA queries, lazy loads and plain {@code JdbcTemplate}
+ * calls are all covered.
+ * <p>
+ * Extends {@link DelegatingDataSource} so {@code unwrap()} still reaches the Hikari pool
+ * (actuator pool metrics keep working).
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        return wrapConnection(super.getConnection(), start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        return wrapConnection(super.getConnection(username, password), start);
+    }
+
+    private static Connection wrapConnection(Connection connection, long acquireStart) {
+        // The scope is captured here: the connection may be closed on another thread (async streaming).
+        QueryStatistics statistics = QueryStatistics.current();
+        long acquired = System.nanoTime();
+        if (statistics != null) {
+            statistics.recordConnectionAcquired(acquired - acquireStart);
+        }
+        return (Connection) Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection, statistics, acquired));
+    }
+
+    private static Statement wrapStatement(Statement statement) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Statement) Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                new StatementHandler(statement));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final QueryStatistics statistics;
+        private final long acquired;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ConnectionHandler(Connection target, QueryStatistics statistics, long acquired) {
+            this.target = target;
+            this.statistics = statistics;
+            this.acquired = acquired;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (statistics != null && "close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                statistics.recordConnectionReleased(System.nanoTime() - acquired);
+            }
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement statement) {
+                return wrapStatement(statement);
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+            QueryStatistics statistics = QueryStatistics.current();
+            if (statistics == null) {
+                return invokeTarget(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                statistics.record(System.nanoTime() - start);
+            }
+        }
+    }
+}
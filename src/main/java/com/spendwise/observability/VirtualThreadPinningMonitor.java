@@ -0,0 +1,107 @@
+package com.spendwise.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread, from the JDK's
+ * {@code jdk.VirtualThreadPinned} flight recorder event (Java 21+, no recording on disk):
+ * <ul>
+ *   <li>{@code spendwise.virtual-threads.pinned} – count and duration of pinned blocking longer than the threshold</li>
+ *   <li>a warning with the stack the first time a site pins, the site being the innermost
+ *       {@code com.spendwise} frame (or the top frame when there is none)</li>
+ * </ul>
+ * A pinned virtual thread keeps its carrier, one of only as many as there are cores, for the whole wait;
+ * JDBC or logging under a {@code synchronized} lock is the typical cause.
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle, AutoCloseable {
+
+    public static final String PINNED_METRIC = "spendwise.virtual-threads.pinned";
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.spendwise.";
+    private static final int MAX_REPORTED_SITES = 100;
+    private static final int MAX_LOGGED_FRAMES = 20;
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final Duration threshold;
+    private final Timer pinned;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinned = Timer.builder(PINNED_METRIC)
+                .description("Virtual threads that blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+    }
+
+    // A lifecycle rather than started in the constructor: the stream keeps JFR repository files open, so it is
+    // closed before a CRaC checkpoint and started again after restore.
+    @Override
+    public void start() {
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        stream = recordingStream;
+        log.info("Virtual thread pinning monitor started: threshold={}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    @Override
+    public void close() {
+        RecordingStream recordingStream = stream;
+        if (recordingStream != null) {
+            stream = null;
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String site = frames.stream()
+                .filter(frame -> frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::format)
+                .orElseGet(() -> format(frames.get(0)));
+        // Bounded, so a pinning site reached through many call paths cannot grow the set without limit.
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            StringBuilder stack = new StringBuilder();
+            frames.stream().limit(MAX_LOGGED_FRAMES).forEach(frame -> stack.append("\n\tat ").append(format(frame)));
+            log.warn("Virtual thread pinned: site={}, durationMs={}{}", site, event.getDuration().toMillis(), stack);
+        }
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+}
@@ -1,10 +1,12 @@
 package com.spendwise.repository;
 
 import com.spendwise.domain.entity.Budget;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,10 +22,38 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
      */
     Optional<Budget> findByIdAndUser_IdAndDeletedAtIsNull(UUID id, UUID userId);
 
+    /**
+     * Loads every requested budget the user owns in one query, categories included.
+     * Ids that are missing, deleted or owned by someone else are absent from the result.
+     * The IN list is padded ({@code hibernate.query.in_clause_parameter_padding}) to keep the plan cache small.
+     */
+    @Query("""
+            SELECT DISTINCT b FROM Budget b
+            LEFT JOIN FETCH b.categories
+            WHERE b.id IN :ids
+              AND b.user.id = :userId
+              AND b.deletedAt IS NULL
+            """)
+    List<Budget> findAllByIdInAndUserWithCategories(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
     List<Budget> findByUser_IdAndDeletedAtIsNullOrderByYearDescMonthDesc(UUID userId);
 
     List<Budget> findByUser_IdAndYearAndDeletedAtIsNullOrderByMonthAsc(UUID userId, int year);
 
+    List<Budget> findByUser_IdAndYearAndMonthAndDeletedAtIsNull(UUID userId, int year, Integer month);
+
+    /**
+     * The user's budgets of one month with their categories, in one query.
+     */
+    @EntityGraph(attributePaths = "categories")
+    List<Budget> findWithCategoriesByUser_IdAndYearAndMonthAndDeletedAtIsNull(UUID userId, int year, Integer month);
+
+    /**
+     * The user's budgets of one year, monthly and yearly, with their categories, in one query.
+     */
+    @EntityGraph(attributePaths = "categories")
+    List<Budget> findWithCategoriesByUser_IdAndYearAndDeletedAtIsNull(UUID userId, int year);
+
     boolean existsByUser_IdAndYearAndMonthAndDeletedAtIsNull(UUID userId, int year, Integer month);
 
     boolean existsByUser_IdAndYearAndMonthIsNullAndDeletedAtIsNull(UUID userId, int year);
@@ -44,16 +74,19 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
     @Query("SELECT COUNT(b) > 0 FROM Budget b JOIN b.categories c WHERE b.deletedAt IS NULL AND c.id = :categoryId")
     boolean existsByCategoryIdAndDeletedAtIsNull(@Param("categoryId") UUID categoryId);
 
+    /**
+     * Budgets covering a category in one month: the month's budget and the year's (month null).
+     */
     @Query("""
             SELECT b FROM Budget b
             JOIN b.categories c
             WHERE b.user.id = :userId
               AND b.year = :year
-              AND b.month = :month
+              AND (b.month = :month OR b.month IS NULL)
               AND b.deletedAt IS NULL
               AND c.id = :categoryId
             """)
-    List<Budget> findByUserAndYearAndMonthAndCategory(
+    List<Budget> findCoveringMonthByUserAndCategory(
             @Param("userId") UUID userId,
             @Param("year") int year,
             @Param("month") int month,
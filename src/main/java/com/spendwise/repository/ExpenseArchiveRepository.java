@@ -0,0 +1,208 @@
+package com.spendwise.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Moves cold expenses from {@code expenses} into {@code expenses_archive} (see V9 migration) and reads
+ * them back.
+ * <p>
+ * Each batch is a single statement: it locks up to {@code limit} candidate rows in id order, deletes them
+ * from {@code expenses} and inserts them into the archive, so a row is always in exactly one of the two
+ * tables. Candidates locked by a concurrent transaction are skipped rather than waited for and are picked
+ * up by the next run. Callers walk the table by keyset ({@code afterId}, the last id of the previous
+ * batch); restarting from the beginning would rescan the index entries of rows already moved, which stay
+ * behind until vacuum removes them.
+ */
+@Repository
+public class ExpenseArchiveRepository {
+
+    /**
+     * Keyset start: sorts before every other UUID in PostgreSQL's byte order.
+     */
+    public static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private static final String ARCHIVE_BATCH_SQL = """
+            WITH batch AS (
+                SELECT id, expense_date
+                FROM expenses
+                WHERE %s
+                  AND id > :afterId
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM expenses e
+                USING batch b
+                WHERE e.id = b.id AND e.expense_date = b.expense_date
+                RETURNING e.*
+            ), archived AS (
+                INSERT INTO expenses_archive (id, created_at, updated_at, user_id, category_id, amount, description,
+                                              expense_date, deleted_at, deleted, archive_reason)
+                SELECT id, created_at, updated_at, user_id, category_id, amount, description,
+                       expense_date, deleted_at, deleted, :reason
+                FROM moved
+                RETURNING id
+            )
+            SELECT (SELECT id FROM batch ORDER BY id DESC LIMIT 1) AS last_id,
+                   (SELECT count(*) FROM archived) AS archived
+            """;
+
+    private static final String COLUMNS = """
+            id, category_id, amount, description, expense_date, deleted, deleted_at, archived_at, archive_reason
+            """;
+
+    private static final RowMapper<ArchivedExpenseRow> ROW_MAPPER = (rs, rowNum) -> new ArchivedExpenseRow(
+            rs.getObject("id", UUID.class),
+            rs.getObject("category_id", UUID.class),
+            rs.getBigDecimal("amount"),
+            rs.getString("description"),
+            rs.getObject("expense_date", LocalDate.class),
+            rs.getBoolean("deleted"),
+            toInstant(rs.getTimestamp("deleted_at")),
+            toInstant(rs.getTimestamp("archived_at")),
+            ArchiveReason.valueOf(rs.getString("archive_reason")));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ExpenseArchiveRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Archives up to {@code limit} expenses soft-deleted before {@code deletedBefore} with an id after
+     * {@code afterId}. Rows flagged deleted without a {@code deleted_at} count as deleted at their last update.
+     */
+    public BatchResult archiveDeletedBatch(Instant deletedBefore, UUID afterId, int limit) {
+        MapSqlParameterSource parameters = batchParameters(ArchiveReason.DELETED, afterId, limit)
+                .addValue("deletedBefore", Timestamp.from(deletedBefore));
+        // deleted = true literal: matches the partial index idx_expenses_deleted_id
+        return archiveBatch("deleted = true AND COALESCE(deleted_at, updated_at) < :deletedBefore", parameters);
+    }
+
+    /**
+     * Archives up to {@code limit} expenses, live or soft-deleted, dated before {@code dateBefore} with an
+     * id after {@code afterId}. Only partitions before that date are scanned.
+     */
+    public BatchResult archiveAgedBatch(LocalDate dateBefore, UUID afterId, int limit) {
+        MapSqlParameterSource parameters = batchParameters(ArchiveReason.AGED, afterId, limit)
+                .addValue("dateBefore", dateBefore);
+        return archiveBatch("expense_date < :dateBefore", parameters);
+    }
+
+    /**
+     * Bytes of WAL the furthest-behind standby still has to replay; 0 without standbys. Requires the
+     * {@code pg_monitor} role (or superuser): for other users PostgreSQL hides the replay positions and
+     * this also returns 0.
+     */
+    public long findMaxReplicationLagBytes() {
+        Long lag = jdbcTemplate.queryForObject("""
+                SELECT CAST(COALESCE(max(pg_wal_lsn_diff(pg_current_wal_lsn(), replay_lsn)), 0) AS bigint)
+                FROM pg_stat_replication
+                """, new MapSqlParameterSource(), Long.class);
+        return lag == null ? 0 : lag;
+    }
+
+    /**
+     * The user's archived expenses dated within {@code fromDate..toDate} (either bound optional), newest
+     * first. Soft-deleted ones are included and flagged.
+     */
+    public Page<ArchivedExpenseRow> findByUser(UUID userId, LocalDate fromDate, LocalDate toDate, Pageable pageable) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("fromDate", fromDate)
+                .addValue("toDate", toDate)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+        String where = """
+                WHERE user_id = :userId
+                  AND (CAST(:fromDate AS date) IS NULL OR expense_date >= :fromDate)
+                  AND (CAST(:toDate AS date) IS NULL OR expense_date <= :toDate)
+                """;
+        List<ArchivedExpenseRow> content = jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM expenses_archive " + where
+                        + " ORDER BY expense_date DESC, id LIMIT :limit OFFSET :offset",
+                parameters, ROW_MAPPER);
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM expenses_archive " + where, parameters, Long.class);
+        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    }
+
+    /**
+     * One archived expense of the user, soft-deleted or not.
+     */
+    public Optional<ArchivedExpenseRow> findByIdAndUser(UUID id, UUID userId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("userId", userId);
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM expenses_archive WHERE id = :id AND user_id = :userId",
+                parameters, ROW_MAPPER).stream().findFirst();
+    }
+
+    /**
+     * Whether an archived expense that was not deleted still references the category.
+     */
+    public boolean existsLiveByCategory(UUID categoryId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM expenses_archive WHERE category_id = :categoryId AND deleted = false)",
+                new MapSqlParameterSource("categoryId", categoryId), Boolean.class));
+    }
+
+    private BatchResult archiveBatch(String condition, MapSqlParameterSource parameters) {
+        return jdbcTemplate.queryForObject(ARCHIVE_BATCH_SQL.formatted(condition), parameters,
+                (rs, rowNum) -> new BatchResult(rs.getObject("last_id", UUID.class), rs.getInt("archived")));
+    }
+
+    private static MapSqlParameterSource batchParameters(ArchiveReason reason, UUID afterId, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("reason", reason.name())
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    public enum ArchiveReason {
+        /** Soft-deleted longer ago than the retention window. */
+        DELETED,
+        /** Dated before the configured age limit. */
+        AGED
+    }
+
+    /**
+     * Outcome of one batch. {@code lastId} is the highest candidate id (the keyset position for the next
+     * batch), null when no candidates were left; {@code archived} can be lower than the batch size when
+     * rows were skipped because they were locked.
+     */
+    public record BatchResult(UUID lastId, int archived) {
+    }
+
+    public record ArchivedExpenseRow(
+            UUID id,
+            UUID categoryId,
+            BigDecimal amount,
+            String description,
+            LocalDate expenseDate,
+            boolean deleted,
+            Instant deletedAt,
+            Instant archivedAt,
+            ArchiveReason archiveReason
+    ) {
+    }
+}
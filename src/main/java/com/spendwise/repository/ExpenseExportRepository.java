@@ -0,0 +1,75 @@
+package com.spendwise.repository;
+
+import com.spendwise.dto.request.ExpenseListParams;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * Forward-only, cursor-based reads of a user's expenses for bulk export.
+ * <p>
+ * <b>Why plain JDBC instead of JPA:</b> a JPA query materializes the whole result list and keeps
+ * every entity in the persistence context, so heap grows with the number of rows. Here rows are
+ * handed to a {@link RowCallbackHandler} one at a time and never retained.
+ * <p>
+ * <b>Why a fetch size:</b> the PostgreSQL driver reads the entire result set into memory unless a
+ * fetch size is set <i>and</i> autocommit is off; then it uses a server-side cursor and pulls
+ * {@value #FETCH_SIZE} rows per round trip. Callers must therefore run inside a transaction
+ * (see {@code ExpenseService.exportExpenses}).
+ * <p>
+ * Filters mirror {@link ExpenseSpecification#fromParams} so export and list return the same rows.
+ */
+@Repository
+public class ExpenseExportRepository {
+
+    static final int FETCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ExpenseExportRepository(DataSource dataSource) {
+        JdbcTemplate cursorTemplate = new JdbcTemplate(dataSource);
+        cursorTemplate.setFetchSize(FETCH_SIZE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(cursorTemplate);
+    }
+
+    /**
+     * Streams non-deleted expenses of the user, newest first. Result set columns:
+     * {@code id, category_id, amount, description, expense_date}.
+     */
+    public void streamForUser(UUID userId, ExpenseListParams params, RowCallbackHandler rowHandler) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, category_id, amount, description, expense_date
+                FROM expenses
+                WHERE user_id = :userId
+                  AND deleted = false
+                """);
+        MapSqlParameterSource parameters = new MapSqlParameterSource("userId", userId);
+        if (params.categoryId() != null) {
+            sql.append("  AND category_id = :categoryId\n");
+            parameters.addValue("categoryId", params.categoryId());
+        }
+        if (params.fromDate() != null) {
+            sql.append("  AND expense_date >= :fromDate\n");
+            parameters.addValue("fromDate", params.fromDate());
+        }
+        if (params.toDate() != null) {
+            sql.append("  AND expense_date <= :toDate\n");
+            parameters.addValue("toDate", params.toDate());
+        }
+        if (params.minAmount() != null) {
+            sql.append("  AND amount >= :minAmount\n");
+            parameters.addValue("minAmount", params.minAmount());
+        }
+        if (params.maxAmount() != null) {
+            sql.append("  AND amount <= :maxAmount\n");
+            parameters.addValue("maxAmount", params.maxAmount());
+        }
+        sql.append("ORDER BY expense_date DESC, id");
+        jdbcTemplate.query(sql.toString(), parameters, rowHandler);
+    }
+}
@@ -0,0 +1,62 @@
+package com.spendwise.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Partition management of {@code expenses} (range-partitioned on {@code expense_date}, see V7 migration).
+ * The DDL lives in the {@code ensure_expense_partitions} database function, which knows the configured
+ * granularity and naming; this class only calls it and lists the result.
+ */
+@Repository
+public class ExpensePartitionRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ExpensePartitionRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Creates every missing partition covering {@code from} through {@code to}; returns how many were created.
+     * Safe to call concurrently from several instances.
+     */
+    public int ensurePartitions(LocalDate from, LocalDate to) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT ensure_expense_partitions(CAST(:from AS date), CAST(:to AS date))", parameters, Integer.class);
+        return created == null ? 0 : created;
+    }
+
+    /**
+     * First day of every month that has rows in {@code expenses_default}, i.e. rows no partition covers yet,
+     * in date order. Months are the finest granularity, so each result lies in exactly one missing partition;
+     * with yearly partitions, several months map to the same one.
+     */
+    public List<LocalDate> findDefaultPartitionMonths() {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT CAST(date_trunc('month', CAST(expense_date AS timestamp)) AS date) AS month
+                FROM expenses_default
+                ORDER BY month
+                """, new MapSqlParameterSource(), LocalDate.class);
+    }
+
+    /**
+     * Names of the attached partitions, in name order (the default partition included).
+     */
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = CAST('expenses' AS regclass)
+                ORDER BY c.relname
+                """, new MapSqlParameterSource(), String.class);
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -51,6 +53,24 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID>, JpaSpec
      */
     Optional<Expense> findByIdAndUser_IdAndDeletedIsFalse(UUID id, UUID userId);
 
+    /**
+     * Batch variant of {@link #findByIdAndUser_IdAndDeletedIsFalse}: loads every requested expense the
+     * user owns in one query, with category JOIN FETCHed for mapping. Ids that are missing, deleted or
+     * owned by someone else are simply absent from the result.
+     * <p>
+     * The IN list is padded to the next power of two
+     * ({@code hibernate.query.in_clause_parameter_padding}), so lookups of 5, 6 or 8 ids share one
+     * SQL string and one cached plan instead of producing a distinct statement per list length.
+     */
+    @Query("""
+            SELECT e FROM Expense e
+            JOIN FETCH e.category
+            WHERE e.id IN :ids
+              AND e.user.id = :userId
+              AND e.deleted = false
+            """)
+    List<Expense> findAllByIdInAndUserWithCategory(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
+
     /**
      * Finds all expenses for a user, excluding soft-deleted ones.
      * Uses boolean field instead of timestamp check for better performance.
@@ -153,28 +173,35 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID>, JpaSpec
      * <p>
      * JOIN FETCH ensures category is loaded eagerly, preventing N+1 queries.
      * <p>
-     * JPQL date functions (YEAR, MONTH) are database-agnostic:
-     * - Hibernate translates them to appropriate SQL for the target database
-     * - More portable than native SQL date extraction functions
-     * - Type-safe and validated at compile time
-     * <p>
-     * Explicit query is clearer than derived method names and allows for JOIN FETCH optimization.
+     * The month is turned into a date range rather than compared with {@code YEAR()/MONTH()}:
+     * {@code expenses} is range-partitioned on {@code expense_date} (V7 migration), and the planner
+     * can only prune partitions (and use the date column of the composite indexes) when the column
+     * itself is compared, not a function of it.
+     */
+    default List<Expense> findByUserAndCategoryAndMonthWithCategory(UUID userId, UUID categoryId, int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return findByUserAndCategoryAndDateRangeWithCategory(
+                userId, categoryId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    /**
+     * Fetches expenses for a user and category within a date range (inclusive), with category loaded
+     * via JOIN FETCH.
      */
     @Query("""
             SELECT e FROM Expense e
             JOIN FETCH e.category
             WHERE e.user.id = :userId
               AND e.category.id = :categoryId
-              AND YEAR(e.expenseDate) = :year
-              AND MONTH(e.expenseDate) = :month
+              AND e.expenseDate BETWEEN :start AND :end
               AND e.deleted = false
             ORDER BY e.expenseDate DESC
             """)
-    List<Expense> findByUserAndCategoryAndMonthWithCategory(
+    List<Expense> findByUserAndCategoryAndDateRangeWithCategory(
             @Param("userId") UUID userId,
             @Param("categoryId") UUID categoryId,
-            @Param("year") int year,
-            @Param("month") int month);
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end);
 
     /**
      * Sums expense amounts for a specific user, category, and date range.
@@ -207,4 +234,3 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID>, JpaSpec
             @Param("start") LocalDate start,
             @Param("end") LocalDate end);
 }
-
@@ -30,8 +30,9 @@ public final class ExpenseSpecification {
      * <p>
      * <b>When we skip fetch:</b> Spring Data runs a separate count query for pagination;
      * its CriteriaQuery has result type long. Applying fetch to the count query would
-     * add unnecessary joins and could affect the count. We skip fetch when
-     * getResultType() is Long/long so only the main entity query fetches category.
+     * add unnecessary joins and could affect the count. Sparse fieldset queries
+     * ({@link SparseFieldRepository}) select a Tuple, where a fetch is not even allowed.
+     * So only a query whose result type is the Expense entity fetches category.
      * <p>
      * <b>Tradeoffs:</b>
      * <ul>
@@ -46,7 +47,7 @@ public final class ExpenseSpecification {
      */
     public static Specification<Expense> forUser(UUID userId) {
         return (root, query, cb) -> {
-            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+            if (query.getResultType() == Expense.class) {
                 root.fetch("category", JoinType.INNER);
             }
             return cb.equal(root.get("user").get("id"), userId);
@@ -54,7 +55,7 @@ public final class ExpenseSpecification {
     }
 
     public static Specification<Expense> notDeleted() {
-        return (root, query, cb) -> cb.equal(root.get("deleted"), false);
+        return (root, query, cb) -> cb.isFalse(root.get("deleted"));
     }
 
     public static Specification<Expense> withCategoryId(UUID categoryId) {
@@ -0,0 +1,202 @@
+package com.spendwise.repository;
+
+import com.spendwise.dto.request.ExpenseListParams;
+import com.spendwise.dto.response.CategoryResponse;
+import com.spendwise.dto.response.ExpenseResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking reads for the reactive read API, through R2DBC against the same schema the JPA
+ * repositories map. Each method is the SQL equivalent of the query behind the matching MVC endpoint
+ * (ownership and soft-delete filters included), so both APIs return the same rows.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "spendwise.reactive-api", name = "enabled", havingValue = "true")
+public class ReactiveReadRepository {
+
+    // Sort properties as produced by ExpenseService.parseSort, to columns.
+    private static final Map<String, String> EXPENSE_SORT_COLUMNS = Map.of(
+            "amount", "amount",
+            "createdAt", "created_at",
+            "expenseDate", "expense_date",
+            "category.id", "category_id",
+            "description", "description");
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Boolean> userExists(UUID userId) {
+        return databaseClient.sql("SELECT 1 FROM users WHERE id = :userId")
+                .bind("userId", userId)
+                .fetch()
+                .first()
+                .hasElement();
+    }
+
+    public Mono<Boolean> categoryBelongsToUser(UUID categoryId, UUID userId) {
+        return databaseClient.sql("SELECT 1 FROM categories WHERE id = :categoryId AND user_id = :userId")
+                .bind("categoryId", categoryId)
+                .bind("userId", userId)
+                .fetch()
+                .first()
+                .hasElement();
+    }
+
+    public Flux<CategoryResponse> findCategories(UUID userId) {
+        return databaseClient.sql("SELECT id, name FROM categories WHERE user_id = :userId")
+                .bind("userId", userId)
+                .map(row -> new CategoryResponse(row.get("id", UUID.class), row.get("name", String.class)))
+                .all();
+    }
+
+    /**
+     * One page of the user's non-deleted expenses matching {@code params}, ordered by {@code sort}
+     * (validated properties only, see {@code ExpenseService.parseSort}).
+     */
+    public Flux<ExpenseResponse> findExpenses(UUID userId, ExpenseListParams params, Sort sort, int limit, long offset) {
+        String orderBy = sort.stream()
+                .map(order -> EXPENSE_SORT_COLUMNS.get(order.getProperty()) + (order.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", "));
+        ExpenseFilter filter = ExpenseFilter.of(userId, params);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                SELECT id, category_id, amount, description, expense_date
+                FROM expenses
+                WHERE %s
+                ORDER BY %s
+                LIMIT :limit OFFSET :offset
+                """.formatted(filter.where(), orderBy));
+        return filter.bind(spec)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(row -> new ExpenseResponse(
+                        row.get("id", UUID.class),
+                        row.get("category_id", UUID.class),
+                        row.get("amount", BigDecimal.class),
+                        row.get("description", String.class),
+                        row.get("expense_date", LocalDate.class)))
+                .all();
+    }
+
+    public Mono<Long> countExpenses(UUID userId, ExpenseListParams params) {
+        ExpenseFilter filter = ExpenseFilter.of(userId, params);
+        return filter.bind(databaseClient.sql("SELECT COUNT(*) AS total FROM expenses WHERE " + filter.where()))
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    /**
+     * The user's non-deleted budgets of one month with their category ids, in one query.
+     */
+    public Flux<BudgetRow> findBudgets(UUID userId, int year, int month) {
+        return databaseClient.sql("""
+                        SELECT b.id, b.amount, b.year, b.month, b.alert_thresholds, bc.category_id
+                        FROM budgets b
+                        LEFT JOIN budget_categories bc ON bc.budget_id = b.id
+                        WHERE b.user_id = :userId AND b.year = :year AND b.month = :month AND b.deleted_at IS NULL
+                        """)
+                .bind("userId", userId)
+                .bind("year", year)
+                .bind("month", month)
+                .fetch()
+                .all()
+                .collect(LinkedHashMap<UUID, BudgetRow>::new, (budgets, row) -> {
+                    BudgetRow budget = budgets.computeIfAbsent((UUID) row.get("id"), id -> new BudgetRow(id,
+                            (BigDecimal) row.get("amount"), (Integer) row.get("year"), (Integer) row.get("month"),
+                            Arrays.asList((Integer[]) row.get("alert_thresholds")), new LinkedHashSet<>()));
+                    if (row.get("category_id") != null) {
+                        budget.categoryIds().add((UUID) row.get("category_id"));
+                    }
+                })
+                .flatMapIterable(Map::values);
+    }
+
+    /**
+     * Spend per category of the user in one month from {@code monthly_spend_rollup}, as loaded into
+     * {@code MonthlySpendCache} on the MVC side.
+     */
+    public Mono<Map<UUID, BigDecimal>> sumSpendByCategory(UUID userId, int year, int month) {
+        return databaseClient.sql("""
+                        SELECT category_id, total_amount
+                        FROM monthly_spend_rollup
+                        WHERE user_id = :userId AND year = :year AND month = :month AND total_amount <> 0
+                        """)
+                .bind("userId", userId)
+                .bind("year", year)
+                .bind("month", month)
+                .fetch()
+                .all()
+                .collectMap(row -> (UUID) row.get("category_id"), row -> (BigDecimal) row.get("total_amount"));
+    }
+
+    /**
+     * The user's modelled monthly spend per category (see {@link SpendForecastRepository}).
+     */
+    public Mono<Map<UUID, BigDecimal>> findMonthlyEwma(UUID userId) {
+        return databaseClient.sql("SELECT category_id, monthly_ewma FROM spend_forecast_model WHERE user_id = :userId")
+                .bind("userId", userId)
+                .fetch()
+                .all()
+                .collectMap(row -> (UUID) row.get("category_id"), row -> (BigDecimal) row.get("monthly_ewma"));
+    }
+
+    public record BudgetRow(UUID id, BigDecimal amount, int year, Integer month, List<Integer> alertThresholds,
+                            Set<UUID> categoryIds) {
+    }
+
+    /**
+     * WHERE clause of the expense list and its count, with a bind parameter per filter that is set.
+     */
+    private record ExpenseFilter(String where, Map<String, Object> parameters) {
+
+        static ExpenseFilter of(UUID userId, ExpenseListParams params) {
+            StringBuilder where = new StringBuilder("user_id = :userId AND deleted = false");
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("userId", userId);
+            if (params.categoryId() != null) {
+                where.append(" AND category_id = :categoryId");
+                parameters.put("categoryId", params.categoryId());
+            }
+            if (params.fromDate() != null) {
+                where.append(" AND expense_date >= :fromDate");
+                parameters.put("fromDate", params.fromDate());
+            }
+            if (params.toDate() != null) {
+                where.append(" AND expense_date <= :toDate");
+                parameters.put("toDate", params.toDate());
+            }
+            if (params.minAmount() != null) {
+                where.append(" AND amount >= :minAmount");
+                parameters.put("minAmount", params.minAmount());
+            }
+            if (params.maxAmount() != null) {
+                where.append(" AND amount <= :maxAmount");
+                parameters.put("maxAmount", params.maxAmount());
+            }
+            return new ExpenseFilter(where.toString(), parameters);
+        }
+
+        DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec) {
+            return spec.bindValues(parameters);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.spendwise.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only aggregation queries behind {@code /reports}. Each method is one SQL statement scoped to
+ * the user.
+ * <p>
+ * Month totals and category splits read {@code monthly_spend_rollup} (a few rows per user and month)
+ * instead of aggregating {@code expenses}. Top expenses need the individual rows, so they run against
+ * {@code expenses}: a LATERAL subquery per category is an index range scan on the partial index
+ * {@code idx_expenses_live_user_category_expense_date} (user, category, date; live rows only) followed
+ * by a top-N sort of that category's month only.
+ */
+@Repository
+public class ReportRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ReportRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Totals of {@code month} and the month before it, from the monthly rollup.
+     */
+    public MonthlyTotals findMonthlyTotals(UUID userId, YearMonth month) {
+        YearMonth previous = month.minusMonths(1);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("year", month.getYear())
+                .addValue("month", month.getMonthValue())
+                .addValue("prevYear", previous.getYear())
+                .addValue("prevMonth", previous.getMonthValue());
+        return jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(total_amount) FILTER (WHERE year = :year AND month = :month), 0) AS total_amount,
+                       COALESCE(SUM(expense_count) FILTER (WHERE year = :year AND month = :month), 0) AS expense_count,
+                       COALESCE(SUM(total_amount) FILTER (WHERE year = :prevYear AND month = :prevMonth), 0) AS previous_total_amount
+                FROM monthly_spend_rollup
+                WHERE user_id = :userId
+                  AND ((year = :year AND month = :month) OR (year = :prevYear AND month = :prevMonth))
+                """, parameters, (rs, rowNum) -> new MonthlyTotals(
+                rs.getBigDecimal("total_amount"),
+                rs.getLong("expense_count"),
+                rs.getBigDecimal("previous_total_amount")));
+    }
+
+    /**
+     * Per-category totals of one month, largest first, with each category's share of the month total.
+     */
+    public List<CategoryTotal> findCategoryTotals(UUID userId, YearMonth month) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("year", month.getYear())
+                .addValue("month", month.getMonthValue());
+        return jdbcTemplate.query("""
+                SELECT r.category_id, c.name, r.total_amount, r.expense_count,
+                       ROUND(100 * r.total_amount / NULLIF(SUM(r.total_amount) OVER (), 0), 2) AS share_percent
+                FROM monthly_spend_rollup r
+                JOIN categories c ON c.id = r.category_id
+                WHERE r.user_id = :userId
+                  AND r.year = :year
+                  AND r.month = :month
+                  AND r.expense_count > 0
+                ORDER BY r.total_amount DESC, c.name
+                """, parameters, (rs, rowNum) -> new CategoryTotal(
+                rs.getObject("category_id", UUID.class),
+                rs.getString("name"),
+                rs.getBigDecimal("total_amount"),
+                rs.getLong("expense_count"),
+                rs.getBigDecimal("share_percent")));
+    }
+
+    /**
+     * Up to {@code limit} largest non-deleted expenses per category in {@code month}, ordered by
+     * category name, then amount descending. Categories without expenses in the month are absent.
+     */
+    public List<TopExpenseRow> findTopExpensesPerCategory(UUID userId, YearMonth month, int limit) {
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.atEndOfMonth();
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("start", start)
+                .addValue("end", end)
+                .addValue("limit", limit);
+        return jdbcTemplate.query("""
+                SELECT c.id AS category_id, c.name AS category_name,
+                       t.id, t.amount, t.description, t.expense_date
+                FROM categories c
+                CROSS JOIN LATERAL (
+                    SELECT e.id, e.amount, e.description, e.expense_date
+                    FROM expenses e
+                    WHERE e.user_id = :userId
+                      AND e.category_id = c.id
+                      AND e.deleted = false
+                      AND e.expense_date BETWEEN :start AND :end
+                    ORDER BY e.amount DESC, e.expense_date DESC, e.id
+                    LIMIT :limit
+                ) t
+                WHERE c.user_id = :userId
+                ORDER BY c.name, c.id, t.amount DESC, t.expense_date DESC, t.id
+                """, parameters, (rs, rowNum) -> new TopExpenseRow(
+                rs.getObject("category_id", UUID.class),
+                rs.getString("category_name"),
+                rs.getObject("id", UUID.class),
+                rs.getBigDecimal("amount"),
+                rs.getString("description"),
+                rs.getObject("expense_date", LocalDate.class)));
+    }
+
+    public record MonthlyTotals(BigDecimal totalAmount, long expenseCount, BigDecimal previousTotalAmount) {
+    }
+
+    public record CategoryTotal(UUID categoryId, String categoryName, BigDecimal totalAmount,
+                                long expenseCount, BigDecimal sharePercent) {
+    }
+
+    public record TopExpenseRow(UUID categoryId, String categoryName, UUID expenseId, BigDecimal amount,
+                                String description, LocalDate expenseDate) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.spendwise.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a {@link Specification} with a narrowed select list for sparse fieldsets
+ * ({@code fields=} on list endpoints).
+ * <p>
+ * <b>Why a Tuple query instead of loading entities:</b> {@code findAll(spec, pageable)} always selects
+ * every mapped column, including large ones such as {@code expenses.description}, and puts each row
+ * into the persistence context. Here only the requested columns are selected and the result is
+ * returned as plain maps; nothing is managed by Hibernate.
+ * <p>
+ * Each entry of {@code fieldPaths} maps a response field name to an attribute path on the entity
+ * (e.g. {@code categoryId -> category.id}). A to-one id path resolves to the foreign key column,
+ * so no join is added. Specifications must not fetch associations for non-entity result types
+ * (see {@link ExpenseSpecification#forUser}).
+ */
+@Repository
+public class SparseFieldRepository {
+
+    private final EntityManager entityManager;
+
+    public SparseFieldRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Returns one page of rows holding only {@code fields}, in that order, plus the usual count query
+     * (skipped when the page is obviously the last one).
+     */
+    public <T> Page<Map<String, Object>> findPage(Class<T> domainClass, Specification<T> spec,
+                                                  Map<String, String> fieldPaths, List<String> fields,
+                                                  Pageable pageable) {
+        TypedQuery<Tuple> query = createQuery(domainClass, spec, fieldPaths, fields, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> rows = toRows(query.getResultList(), fields);
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(domainClass, spec));
+    }
+
+    /**
+     * Returns all matching rows holding only {@code fields}, in that order.
+     */
+    public <T> List<Map<String, Object>> findAll(Class<T> domainClass, Specification<T> spec,
+                                                 Map<String, String> fieldPaths, List<String> fields, Sort sort) {
+        return toRows(createQuery(domainClass, spec, fieldPaths, fields, sort).getResultList(), fields);
+    }
+
+    private <T> TypedQuery<Tuple> createQuery(Class<T> domainClass, Specification<T> spec,
+                                              Map<String, String> fieldPaths, List<String> fields, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(domainClass);
+
+        List<Selection<?>> selections = fields.stream()
+                .<Selection<?>>map(field -> resolve(root, fieldPaths.get(field)).alias(field))
+                .toList();
+        query.multiselect(selections);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        // Resolved like the selections (not via QueryUtils.toOrders) so sorting by category.id
+        // uses the foreign key instead of joining categories
+        query.orderBy(sort.stream()
+                .map(order -> order.isAscending()
+                        ? cb.asc(resolve(root, order.getProperty()))
+                        : cb.desc(resolve(root, order.getProperty())))
+                .toList());
+        return entityManager.createQuery(query);
+    }
+
+    private <T> long count(Class<T> domainClass, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Path<?> resolve(Root<?> root, String attributePath) {
+        if (attributePath == null) {
+            throw new IllegalArgumentException("No attribute path mapped for selected field");
+        }
+        Path<?> path = root;
+        for (String attribute : attributePath.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+
+    private static List<Map<String, Object>> toRows(List<Tuple> tuples, List<String> fields) {
+        return tuples.stream()
+                .map(tuple -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (String field : fields) {
+                        row.put(field, tuple.get(field));
+                    }
+                    return row;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.spendwise.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads and rebuilds {@code spend_forecast_model} (see V11 migration): per user and category, an
+ * exponentially weighted moving average (EWMA) of the monthly spend. Between rebuilds,
+ * {@link SpendRollupRepository#applyDelta} keeps it current.
+ * <p>
+ * The average is seeded with the first month that has spend and then folds in every month up to
+ * {@code last_month}. A month therefore enters with weight {@code alpha * (1 - alpha)^(last_month - month)},
+ * and the first month with {@code (1 - alpha)^(last_month - first_month)}, so a rebuild is one
+ * aggregate over at most {@code historyMonths} rollup rows per category, and an expense change is one
+ * weighted addition. Months without spend count as zero.
+ */
+@Repository
+public class SpendForecastRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SpendForecastRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Month as stored in {@code first_month} / {@code last_month}: consecutive months are consecutive integers.
+     */
+    public static int monthIndex(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    /**
+     * The user's modelled monthly spend per category; categories without a model are absent.
+     */
+    public Map<UUID, BigDecimal> findMonthlyEwmaByUser(UUID userId) {
+        Map<UUID, BigDecimal> ewma = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT category_id, monthly_ewma
+                FROM spend_forecast_model
+                WHERE user_id = :userId
+                """, new MapSqlParameterSource("userId", userId), rs -> {
+            ewma.put(rs.getObject("category_id", UUID.class), rs.getBigDecimal("monthly_ewma"));
+        });
+        return ewma;
+    }
+
+    /**
+     * Replaces the models of the given users with ones built from the monthly rollup over
+     * {@code firstMonth..lastMonth}, smoothed with {@code alpha}. Must run in a transaction, which holds the
+     * users' exclusive advisory locks (the ones rollup deltas share) until it ends, so no delta is lost
+     * between the read and the rewrite.
+     */
+    public void rebuildForUsers(Collection<UUID> userIds, YearMonth firstMonth, YearMonth lastMonth, BigDecimal alpha) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userIds", userIds)
+                .addValue("firstMonth", monthIndex(firstMonth))
+                .addValue("lastMonth", monthIndex(lastMonth))
+                .addValue("alpha", alpha);
+        jdbcTemplate.query("""
+                SELECT pg_advisory_xact_lock(hashtextextended(CAST(id AS text), 0))
+                FROM (SELECT id FROM users WHERE id IN (:userIds) ORDER BY id) locked
+                """, parameters, rs -> {
+        });
+        jdbcTemplate.update("DELETE FROM spend_forecast_model WHERE user_id IN (:userIds)", parameters);
+        jdbcTemplate.update("""
+                INSERT INTO spend_forecast_model
+                    (user_id, category_id, monthly_ewma, alpha, first_month, last_month, refreshed_at)
+                SELECT user_id, category_id,
+                       SUM(total_amount * CASE
+                           WHEN month_index = first_month THEN power(1 - :alpha, :lastMonth - month_index)
+                           ELSE :alpha * power(1 - :alpha, :lastMonth - month_index)
+                       END),
+                       :alpha, MIN(first_month), :lastMonth, now()
+                FROM (SELECT user_id, category_id, total_amount, year * 12 + month - 1 AS month_index,
+                             MIN(year * 12 + month - 1) OVER (PARTITION BY user_id, category_id) AS first_month
+                      FROM monthly_spend_rollup
+                      WHERE user_id IN (:userIds)
+                        AND year * 12 + month - 1 BETWEEN :firstMonth AND :lastMonth
+                        AND total_amount <> 0) history
+                GROUP BY user_id, category_id
+                """, parameters);
+    }
+}
@@ -0,0 +1,239 @@
+package com.spendwise.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes to {@code daily_spend_rollup} and {@code monthly_spend_rollup} (see V6 migration), and reads month
+ * and year totals from the monthly rollup for budgets. The same delta statement keeps the budget forecast
+ * models ({@code spend_forecast_model}, see {@link SpendForecastRepository}) in step with past-month changes.
+ * <p>
+ * <b>Why plain JDBC:</b> incremental maintenance is an {@code INSERT ... ON CONFLICT DO UPDATE}
+ * that adds a delta to the current row; JPA has no upsert, and load-modify-save would lose
+ * concurrent updates to the same day. Statements run on the caller's transaction connection,
+ * so the rollups commit or roll back together with the expense change.
+ * <p>
+ * <b>Concurrency with the backfill:</b> every delta takes a shared, transaction-scoped advisory lock
+ * on the user; {@link #rebuildForUsers} takes the exclusive one. A rebuild therefore waits for
+ * in-flight expense transactions of those users and new ones wait for the rebuild, so a delta is
+ * never lost or counted twice.
+ */
+@Repository
+public class SpendRollupRepository {
+
+    private static final String APPLY_DELTA_SQL = """
+            WITH guard AS (
+                SELECT pg_advisory_xact_lock_shared(hashtextextended(CAST(:userId AS text), 0))
+            ), daily AS (
+                INSERT INTO daily_spend_rollup (user_id, category_id, spend_date, total_amount, expense_count)
+                SELECT :userId, :categoryId, :spendDate, :amount, :count FROM guard
+                ON CONFLICT (user_id, category_id, spend_date) DO UPDATE
+                    SET total_amount = daily_spend_rollup.total_amount + EXCLUDED.total_amount,
+                        expense_count = daily_spend_rollup.expense_count + EXCLUDED.expense_count
+            ), monthly AS (
+                INSERT INTO monthly_spend_rollup (user_id, category_id, year, month, total_amount, expense_count)
+                SELECT :userId, :categoryId, :year, :month, :amount, :count FROM guard
+                ON CONFLICT (user_id, category_id, year, month) DO UPDATE
+                    SET total_amount = monthly_spend_rollup.total_amount + EXCLUDED.total_amount,
+                        expense_count = monthly_spend_rollup.expense_count + EXCLUDED.expense_count
+            ), forecast AS (
+                UPDATE spend_forecast_model f
+                SET monthly_ewma = f.monthly_ewma + :amount * CASE
+                        WHEN f.first_month = :monthIndex THEN power(1 - f.alpha, f.last_month - f.first_month)
+                        ELSE f.alpha * power(1 - f.alpha, f.last_month - :monthIndex)
+                    END
+                FROM guard
+                WHERE f.user_id = :userId
+                  AND f.category_id = :categoryId
+                  AND :monthIndex BETWEEN f.first_month AND f.last_month
+                RETURNING 1
+            )
+            SELECT COUNT(*) FROM forecast
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SpendRollupRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds {@code amount} and {@code count} (either may be negative) to the day and month buckets of
+     * one user/category in a single statement, and {@code amount} to the user/category forecast model when
+     * the month lies in the history it was built from. Returns whether the model changed. Must run inside
+     * the transaction that changed the expense.
+     */
+    public boolean applyDelta(UUID userId, UUID categoryId, LocalDate spendDate, BigDecimal amount, int count) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("categoryId", categoryId)
+                .addValue("spendDate", spendDate)
+                .addValue("year", spendDate.getYear())
+                .addValue("month", spendDate.getMonthValue())
+                .addValue("amount", amount)
+                .addValue("count", count)
+                .addValue("monthIndex", SpendForecastRepository.monthIndex(YearMonth.from(spendDate)));
+        Long modelsChanged = jdbcTemplate.queryForObject(APPLY_DELTA_SQL, parameters, Long.class);
+        return modelsChanged != null && modelsChanged > 0;
+    }
+
+    /**
+     * Removes the rows of one category from both rollups and its forecast model, and returns whether there was a
+     * model. Once its last expense has moved to another category or been deleted these only hold zeros, but they
+     * would still block deleting the category. Takes the same shared lock as a delta; must run inside the
+     * transaction that deletes the category.
+     */
+    public boolean deleteForCategory(UUID userId, UUID categoryId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("categoryId", categoryId);
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock_shared(hashtextextended(CAST(:userId AS text), 0))",
+                parameters, rs -> {
+                });
+        jdbcTemplate.update("""
+                DELETE FROM daily_spend_rollup WHERE user_id = :userId AND category_id = :categoryId
+                """, parameters);
+        jdbcTemplate.update("""
+                DELETE FROM monthly_spend_rollup WHERE user_id = :userId AND category_id = :categoryId
+                """, parameters);
+        return jdbcTemplate.update("""
+                DELETE FROM spend_forecast_model WHERE user_id = :userId AND category_id = :categoryId
+                """, parameters) > 0;
+    }
+
+    /**
+     * Spend per category of the user in {@code year}; categories without spend are absent.
+     */
+    public Map<UUID, BigDecimal> sumYearByCategory(UUID userId, int year) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("year", year);
+        Map<UUID, BigDecimal> spend = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT category_id, SUM(total_amount) AS total_amount
+                FROM monthly_spend_rollup
+                WHERE user_id = :userId
+                  AND year = :year
+                GROUP BY category_id
+                """, parameters, rs -> {
+            spend.put(rs.getObject("category_id", UUID.class), rs.getBigDecimal("total_amount"));
+        });
+        return spend;
+    }
+
+    /**
+     * Spend of each of the user's budgets in {@code year}, summed per budget over its categories from the
+     * monthly rollup in one statement: the budget's month, or the whole year for a yearly budget (month null).
+     * Expenses archived for their age still count. Budgets without spend are absent.
+     */
+    public Map<UUID, BigDecimal> sumYearByBudget(UUID userId, int year) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("year", year);
+        Map<UUID, BigDecimal> spend = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT b.id AS budget_id, SUM(r.total_amount) AS total_amount
+                FROM budgets b
+                JOIN budget_categories bc ON bc.budget_id = b.id
+                JOIN monthly_spend_rollup r ON r.user_id = b.user_id
+                                          AND r.category_id = bc.category_id
+                                          AND r.year = b.year
+                                          AND (b.month IS NULL OR r.month = b.month)
+                WHERE b.user_id = :userId
+                  AND b.year = :year
+                  AND b.deleted_at IS NULL
+                GROUP BY b.id
+                """, parameters, rs -> {
+            spend.put(rs.getObject("budget_id", UUID.class), rs.getBigDecimal("total_amount"));
+        });
+        return spend;
+    }
+
+    /**
+     * Spend per category of the user in one month: one rollup row per category; categories without spend are
+     * absent.
+     */
+    public Map<UUID, BigDecimal> sumMonthByCategory(UUID userId, int year, int month) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("year", year)
+                .addValue("month", month);
+        Map<UUID, BigDecimal> spend = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT category_id, total_amount
+                FROM monthly_spend_rollup
+                WHERE user_id = :userId
+                  AND year = :year
+                  AND month = :month
+                  AND total_amount <> 0
+                """, parameters, rs -> {
+            spend.put(rs.getObject("category_id", UUID.class), rs.getBigDecimal("total_amount"));
+        });
+        return spend;
+    }
+
+    /**
+     * Next page of user ids after {@code afterUserId} (null for the first page), for keyset-paginated backfill.
+     */
+    public List<UUID> findUserIdsAfter(UUID afterUserId, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("limit", limit);
+        String sql;
+        if (afterUserId == null) {
+            sql = "SELECT id FROM users ORDER BY id LIMIT :limit";
+        } else {
+            sql = "SELECT id FROM users WHERE id > :afterUserId ORDER BY id LIMIT :limit";
+            parameters.addValue("afterUserId", afterUserId);
+        }
+        return jdbcTemplate.queryForList(sql, parameters, UUID.class);
+    }
+
+    /**
+     * Recomputes both rollups of the given users from {@code expenses} and the live rows of
+     * {@code expenses_archive} (expenses archived for their age still count as spend). Idempotent; must run in a
+     * transaction, which holds the users' exclusive advisory locks until it ends.
+     */
+    public void rebuildForUsers(Collection<UUID> userIds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("userIds", userIds);
+        jdbcTemplate.query("""
+                SELECT pg_advisory_xact_lock(hashtextextended(CAST(id AS text), 0))
+                FROM (SELECT id FROM users WHERE id IN (:userIds) ORDER BY id) locked
+                """, parameters, rs -> {
+        });
+        jdbcTemplate.update("DELETE FROM daily_spend_rollup WHERE user_id IN (:userIds)", parameters);
+        jdbcTemplate.update("DELETE FROM monthly_spend_rollup WHERE user_id IN (:userIds)", parameters);
+        jdbcTemplate.update("""
+                INSERT INTO daily_spend_rollup (user_id, category_id, spend_date, total_amount, expense_count)
+                SELECT user_id, category_id, expense_date, SUM(amount), COUNT(*)
+                FROM (SELECT user_id, category_id, expense_date, amount
+                      FROM expenses
+                      WHERE user_id IN (:userIds)
+                        AND deleted = false
+                      UNION ALL
+                      SELECT user_id, category_id, expense_date, amount
+                      FROM expenses_archive
+                      WHERE user_id IN (:userIds)
+                        AND deleted = false) spend
+                GROUP BY user_id, category_id, expense_date
+                """, parameters);
+        jdbcTemplate.update("""
+                INSERT INTO monthly_spend_rollup (user_id, category_id, year, month, total_amount, expense_count)
+                SELECT user_id, category_id,
+                       CAST(EXTRACT(YEAR FROM spend_date) AS integer),
+                       CAST(EXTRACT(MONTH FROM spend_date) AS integer),
+                       SUM(total_amount), SUM(expense_count)
+                FROM daily_spend_rollup
+                WHERE user_id IN (:userIds)
+                GROUP BY 1, 2, 3, 4
+                """, parameters);
+    }
+}
@@ -2,11 +2,18 @@ package com.spendwise.repository;
 
 import com.spendwise.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+    /**
+     * Read-only so that, with read replicas enabled, lookups made outside a service transaction
+     * (JWT authentication) are served by a replica. Declared query methods get no transaction
+     * unless annotated; inside an existing transaction this simply joins it.
+     */
+    @Transactional(readOnly = true)
     Optional<User> findByEmail(String email);
 }
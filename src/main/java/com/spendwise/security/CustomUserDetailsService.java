@@ -1,11 +1,11 @@
 package com.spendwise.security;
 
+import com.spendwise.datasource.ReplicaRoutingContext;
 import com.spendwise.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
@@ -16,10 +16,13 @@ public class CustomUserDetailsService implements UserDetailsService {
         this.userRepository = userRepository;
     }
 
+    // Not @Transactional on purpose: each lookup runs in the repository's own read-only transaction, so the
+    // retry below gets a fresh connection. With read replicas enabled, a user who registered a moment ago may
+    // not have replicated yet; before rejecting the token we check the primary.
     @Override
-    @Transactional(readOnly = true) // Run this method inside a database transaction.This method will ONLY read from the database. It will NOT modify data.
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByEmail(username)
+                .or(() -> ReplicaRoutingContext.callOnPrimary(() -> userRepository.findByEmail(username)))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
 }
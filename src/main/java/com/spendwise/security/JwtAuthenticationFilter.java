@@ -3,6 +3,8 @@ package com.spendwise.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spendwise.dto.error.ErrorResponse;
 import com.spendwise.exception.ErrorCode;
+import com.spendwise.observability.ServiceMetrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,6 +21,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -31,10 +34,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final UserDetailsService userDetailsService; //to load user from db
     private final ObjectMapper objectMapper; //converts Java objects to JSON for error responses
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, ObjectMapper objectMapper) {
+    // Time of the token check and user lookup only (not the rest of the chain), per outcome; requests without a
+    // bearer token are not timed.
+    private final Timer authenticatedTimer;
+    private final Timer invalidTokenTimer;
+    private final Timer unknownUserTimer;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, ObjectMapper objectMapper,
+                                   ServiceMetrics serviceMetrics) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
         this.objectMapper = objectMapper;
+        ServiceMetrics.Operation authenticate = serviceMetrics.operation("JwtAuthenticationFilter", "authenticate");
+        this.authenticatedTimer = authenticate.timer(ServiceMetrics.SUCCESS, "none");
+        this.invalidTokenTimer = authenticate.timer(ServiceMetrics.CLIENT_ERROR, "InvalidToken");
+        this.unknownUserTimer = authenticate.timer(ServiceMetrics.CLIENT_ERROR, "UsernameNotFoundException");
     }
 
     @Override
@@ -60,7 +74,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 
         //Now we just have plain token from which claims can be extracted so here we are validating it with jwtUtil methods for expiration and signature
+        long start = System.nanoTime();
         if (!jwtUtil.validateToken(token)) {
+            record(invalidTokenTimer, start);
             log.warn("Invalid JWT: token present but invalid or expired (prefix: {}...)", maskToken(token));
             sendUnauthorized(request, response, ErrorCode.INVALID_TOKEN);
             return;
@@ -69,6 +85,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         //extarcting all other claims from jwtUtil methods
         Optional<TokenClaims> claimsOpt = jwtUtil.extractClaims(token);
         if (claimsOpt.isEmpty()) {
+            record(invalidTokenTimer, start);
             log.warn("Invalid JWT: could not extract claims (prefix: {}...)", maskToken(token));
             sendUnauthorized(request, response, ErrorCode.INVALID_TOKEN);
             return;
@@ -79,6 +96,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         TokenClaims claims = claimsOpt.get(); //Getting the data from the token so we know who the user is.
         try {
             UserDetails userDetails = userDetailsService.loadUserByUsername(claims.username()); //“Find the user in our system who matches the username in the token.” JWT contains username, but we verify it against the database to ensure the user still exists and get roles.
+            record(authenticatedTimer, start);
             log.debug("JWT authentication successful: userId={}, email={}", userDetails.getUsername(), userDetails.getUsername());
             UsernamePasswordAuthenticationToken authentication =           // This token(object) is for passing to UsernamePasswordAuthentication filter which is next filter after JWT filter
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -86,12 +104,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             SecurityContextHolder.getContext().setAuthentication(authentication); //sets the currently authenticated user in Spring Security tells Spring Security: From now on, the current thread/request is authenticated as this user.
             filterChain.doFilter(request, response); // continuing filter chain
         } catch (org.springframework.security.core.userdetails.UsernameNotFoundException e) {
+            record(unknownUserTimer, start);
             log.warn("User not found for JWT claims: {}", claims.username(), e);
             sendUnauthorized(request, response, ErrorCode.UNAUTHORIZED);
         }
     }
 
 
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+
     //For registration and login no need of token
     private boolean shouldSkip(HttpServletRequest request) {
         String path = request.getRequestURI();
@@ -0,0 +1,86 @@
+package com.spendwise.security;
+
+import com.spendwise.dto.error.ErrorResponse;
+import com.spendwise.exception.ErrorCode;
+import com.spendwise.repository.ReactiveReadRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link JwtAuthenticationFilter} for the reactive read API: the same bearer token checks through {@link JwtUtil}
+ * and the same 401 responses. Instead of loading the user's details, it only checks that the user in the token
+ * still exists, and hands the user id to the handler as the {@link #USER_ID_ATTRIBUTE} request attribute.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spendwise.reactive-api", name = "enabled", havingValue = "true")
+public class ReactiveJwtAuthenticationFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    public static final String USER_ID_ATTRIBUTE = ReactiveJwtAuthenticationFilter.class.getName() + ".userId";
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveJwtAuthenticationFilter.class);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    public ReactiveJwtAuthenticationFilter(JwtUtil jwtUtil, ReactiveReadRepository reactiveReadRepository) {
+        this.jwtUtil = jwtUtil;
+        this.reactiveReadRepository = reactiveReadRepository;
+    }
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        String authHeader = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return unauthorized(request, ErrorCode.UNAUTHORIZED);
+        }
+        String token = authHeader.substring(BEARER_PREFIX.length()).trim();
+        if (token.isEmpty()) {
+            return unauthorized(request, ErrorCode.UNAUTHORIZED);
+        }
+
+        // Signature and expiry checks are CPU only, so they run on the event loop.
+        Optional<TokenClaims> claims = jwtUtil.extractClaims(token);
+        if (claims.isEmpty() || claims.get().userId() == null) {
+            log.warn("Invalid JWT on reactive read API (prefix: {}...)", maskToken(token));
+            return unauthorized(request, ErrorCode.INVALID_TOKEN);
+        }
+
+        UUID userId = claims.get().userId();
+        return reactiveReadRepository.userExists(userId)
+                .flatMap(exists -> {
+                    if (!exists) {
+                        log.warn("User not found for JWT claims: {}", claims.get().username());
+                        return unauthorized(request, ErrorCode.UNAUTHORIZED);
+                    }
+                    request.attributes().put(USER_ID_ATTRIBUTE, userId);
+                    return next.handle(request);
+                });
+    }
+
+    private static Mono<ServerResponse> unauthorized(ServerRequest request, ErrorCode errorCode) {
+        return ServerResponse.status(HttpStatus.UNAUTHORIZED)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ErrorResponse.of(errorCode, request.path()));
+    }
+
+    private static String maskToken(String token) {
+        if (token.length() < 8) {
+            return "***";
+        }
+        return token.substring(0, 8);
+    }
+}
@@ -0,0 +1,49 @@
+package com.spendwise.service;
+
+import com.spendwise.exception.ValidationException;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Shared id handling for batch multi-get endpoints: de-duplication, the size limit, and splitting the
+ * result into found (in request order) and missing ids.
+ */
+final class BatchLookupIds {
+
+    private BatchLookupIds() {
+    }
+
+    static Set<UUID> normalize(Collection<UUID> ids, int maxIds) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ValidationException("At least one id is required");
+        }
+        Set<UUID> distinct = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinct.isEmpty()) {
+            throw new ValidationException("At least one id is required");
+        }
+        if (distinct.size() > maxIds) {
+            throw new ValidationException("At most " + maxIds + " ids can be looked up at once");
+        }
+        return distinct;
+    }
+
+    static <T> List<T> inRequestOrder(Set<UUID> requested, List<T> loaded, Function<T, UUID> idOf) {
+        Map<UUID, T> byId = loaded.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return requested.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    static <T> List<UUID> missing(Set<UUID> requested, List<T> loaded, Function<T, UUID> idOf) {
+        Set<UUID> foundIds = loaded.stream().map(idOf).collect(Collectors.toSet());
+        return requested.stream().filter(id -> !foundIds.contains(id)).toList();
+    }
+}
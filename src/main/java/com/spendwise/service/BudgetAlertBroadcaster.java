@@ -0,0 +1,241 @@
+package com.spendwise.service;
+
+import com.spendwise.config.BudgetAlertProperties;
+import com.spendwise.dto.response.BudgetAlertResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes budget threshold crossings to the owner's open GET /budgets/alerts streams.
+ * <p>
+ * A stream is an async {@link SseEmitter}: once the request thread returns, an idle connection is only an
+ * entry here, so thousands of them cost memory, not threads. Events and heartbeats are queued per
+ * connection (at most {@code bufferSize}) and written by a few shared sender threads, at most one at a time
+ * per connection; a client too slow to keep its queue from overflowing is disconnected rather than
+ * buffered for. Writes are blocking, so a client whose socket stops accepting data holds a sender thread
+ * until the container's write timeout.
+ * <p>
+ * Delivery is in-process and best effort: only streams connected to the instance that handled the expense
+ * write get the alert, and nothing is replayed on reconnect.
+ */
+@Component
+public class BudgetAlertBroadcaster {
+
+    public static final String CONNECTIONS_METRIC = "spendwise.budget.alerts.connections";
+    public static final String SENT_METRIC = "spendwise.budget.alerts.sent";
+    public static final String OVERFLOWS_METRIC = "spendwise.budget.alerts.overflows";
+
+    static final String EVENT_NAME = "budget-alert";
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetAlertBroadcaster.class);
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final BudgetAlertProperties properties;
+    private final ConcurrentHashMap<UUID, ConcurrentLinkedDeque<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ScheduledExecutorService senders;
+    private final Counter sent;
+    private final Counter overflows;
+
+    public BudgetAlertBroadcaster(BudgetAlertProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newScheduledThreadPool(properties.senderThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "budget-alerts-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatMillis = properties.heartbeatInterval().toMillis();
+        senders.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder(CONNECTIONS_METRIC, connectionCount, AtomicInteger::get)
+                .description("Open budget alert streams")
+                .register(meterRegistry);
+        this.sent = Counter.builder(SENT_METRIC)
+                .description("Budget alerts queued for delivery to open streams")
+                .register(meterRegistry);
+        this.overflows = Counter.builder(OVERFLOWS_METRIC)
+                .description("Budget alert streams closed because the client fell too far behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens an alert stream for the user. Beyond {@code maxConnectionsPerUser}, the user's oldest stream is
+     * closed (clients reconnect with a new one, so the oldest is the likeliest to be abandoned).
+     */
+    public SseEmitter subscribe(UUID userId) {
+        SseEmitter emitter = newEmitter(properties.connectionTimeout().toMillis());
+        Connection connection = new Connection(userId, emitter, properties.bufferSize());
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(error -> remove(connection));
+
+        List<Connection> evicted = new ArrayList<>();
+        // Added under the map's lock on the user, so a concurrent remove() cannot drop the deque it goes into.
+        connectionsByUser.compute(userId, (id, userConnections) -> {
+            ConcurrentLinkedDeque<Connection> connections =
+                    userConnections != null ? userConnections : new ConcurrentLinkedDeque<>();
+            connections.addLast(connection);
+            while (connections.size() > properties.maxConnectionsPerUser()) {
+                evicted.add(connections.pollFirst());
+            }
+            return connections;
+        });
+        connectionCount.incrementAndGet();
+        evicted.forEach(this::close);
+        // Written as soon as the handler returns, so the client sees the stream open without waiting a heartbeat.
+        enqueue(connection, HEARTBEAT);
+        return emitter;
+    }
+
+    /**
+     * Sends the alerts to the user's streams once the current transaction commits (never, if it rolls
+     * back), or right away outside a transaction.
+     */
+    public void publishAfterCommit(UUID userId, List<BudgetAlertResponse> alerts) {
+        if (alerts.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(userId, alerts);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(userId, alerts);
+            }
+        });
+    }
+
+    void publish(UUID userId, List<BudgetAlertResponse> alerts) {
+        ConcurrentLinkedDeque<Connection> userConnections = connectionsByUser.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (BudgetAlertResponse alert : alerts) {
+            Set<DataWithMediaType> event = SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(alert, MediaType.APPLICATION_JSON)
+                    .build();
+            for (Connection connection : userConnections) {
+                if (enqueue(connection, event)) {
+                    sent.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * The emitter of a new stream; overridden by tests to observe what the sender threads write.
+     */
+    protected SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    int connectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        connectionsByUser.values().forEach(userConnections -> userConnections.forEach(this::close));
+    }
+
+    private void sendHeartbeats() {
+        connectionsByUser.values().forEach(userConnections ->
+                userConnections.forEach(connection -> enqueue(connection, HEARTBEAT)));
+    }
+
+    private boolean enqueue(Connection connection, Set<DataWithMediaType> event) {
+        if (connection.removed.get()) {
+            return false;
+        }
+        if (!connection.queue.offer(event)) {
+            overflows.increment();
+            log.info("Budget alert stream closed, client not keeping up: userId={}", connection.userId);
+            close(connection);
+            return false;
+        }
+        if (connection.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(connection));
+        }
+        return true;
+    }
+
+    private void drain(Connection connection) {
+        do {
+            Set<DataWithMediaType> event;
+            while ((event = connection.queue.poll()) != null) {
+                try {
+                    connection.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // Client gone or stream already completed; the container reports the former through onError.
+                    remove(connection);
+                    connection.queue.clear();
+                    break;
+                }
+            }
+            connection.draining.set(false);
+            // An event queued after the last poll but before the flag was cleared found draining still set.
+        } while (!connection.queue.isEmpty() && connection.draining.compareAndSet(false, true));
+    }
+
+    private void close(Connection connection) {
+        remove(connection);
+        connection.emitter.complete();
+    }
+
+    private void remove(Connection connection) {
+        if (!connection.removed.compareAndSet(false, true)) {
+            return;
+        }
+        connectionCount.decrementAndGet();
+        connectionsByUser.computeIfPresent(connection.userId, (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private static final class Connection {
+
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        private Connection(UUID userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
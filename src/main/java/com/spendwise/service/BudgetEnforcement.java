@@ -0,0 +1,201 @@
+package com.spendwise.service;
+
+import com.spendwise.domain.entity.Budget;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.domain.entity.Expense;
+import com.spendwise.dto.response.BudgetAlertResponse;
+import com.spendwise.exception.BudgetExceededException;
+import com.spendwise.repository.BudgetRepository;
+import com.spendwise.service.SpendRollupService.SpendEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Budget side of an expense write, used by {@link ExpenseService}: {@link #check} validates the change against
+ * the budgets covering its month and year before it is saved, and the {@code record*} methods apply the saved
+ * change to the spend rollups, evict the cached month spend and publish the crossed alert thresholds once the
+ * transaction commits. All of them run in the caller's transaction.
+ */
+@Component
+public class BudgetEnforcement {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetEnforcement.class);
+
+    private final BudgetRepository budgetRepository;
+    private final SpendRollupService spendRollupService;
+    private final MonthlySpendCache monthlySpendCache;
+    private final BudgetAlertBroadcaster budgetAlertBroadcaster;
+
+    public BudgetEnforcement(BudgetRepository budgetRepository,
+                             SpendRollupService spendRollupService,
+                             MonthlySpendCache monthlySpendCache,
+                             BudgetAlertBroadcaster budgetAlertBroadcaster) {
+        this.budgetRepository = budgetRepository;
+        this.spendRollupService = spendRollupService;
+        this.monthlySpendCache = monthlySpendCache;
+        this.budgetAlertBroadcaster = budgetAlertBroadcaster;
+    }
+
+    /**
+     * Validates that an expense of the given amount for the given user/category on {@code expenseDate}
+     * exceeds neither the budget of its month nor the yearly budget (month null) of its year, and returns
+     * the alert thresholds of those budgets that it crosses.
+     * <p>
+     * Behavior when no budget covers that user/category/period: treated as \"no limit\", and no spend is read.
+     * The spend of each period is read from the monthly spend rollup (one row per category and month), so
+     * expenses archived for their age still count. The rollup does not include this change yet, so on update
+     * {@code replaced} (the expense before the change, null on create) is taken out of it when it counted
+     * towards the same category and period.
+     * If adding this expense would exceed a budget, throw an exception.
+     * <p>
+     * A threshold is crossed when the budget's spend across all its categories was below it before this write
+     * and reaches it after; that spend comes from the rows already read for the limit.
+     */
+    public List<BudgetAlertResponse> check(UUID userId, UUID categoryId, BigDecimal expenseAmount,
+                                           LocalDate expenseDate, SpendEntry replaced) {
+        if (expenseAmount == null || expenseDate == null || categoryId == null) {
+            return List.of();
+        }
+
+        YearMonth ym = YearMonth.from(expenseDate);
+        List<Budget> budgets = budgetRepository.findCoveringMonthByUserAndCategory(
+                userId, ym.getYear(), ym.getMonthValue(), categoryId);
+        if (budgets.isEmpty()) {
+            // No budget configured for this category in this month or year → treat as no limit.
+            return List.of();
+        }
+
+        List<BudgetAlertResponse> alerts = new ArrayList<>();
+
+        BigDecimal monthlyLimit = sumAmounts(budgets, true);
+        if (monthlyLimit != null) {
+            SpendEntry replacedInMonth = replaced != null && YearMonth.from(replaced.date()).equals(ym) ? replaced : null;
+            Map<UUID, BigDecimal> spendByCategory = spendRollupService.monthSpendByCategory(userId, ym);
+            BigDecimal alreadySpent = spendWithout(spendByCategory, categoryId, replacedInMonth);
+            BigDecimal projected = alreadySpent.add(expenseAmount);
+            if (projected.compareTo(monthlyLimit) > 0) {
+                log.warn("Budget validation failed: userId={}, categoryId={}, expenseAmount={}, alreadySpent={}, budgetLimit={}, projected={}",
+                        userId, categoryId, expenseAmount, alreadySpent, monthlyLimit, projected);
+                throw new BudgetExceededException("Expense exceeds remaining monthly budget");
+            }
+            addCrossedThresholds(alerts, budgets, true, spendByCategory, categoryId, expenseAmount, replacedInMonth);
+        }
+
+        BigDecimal yearlyLimit = sumAmounts(budgets, false);
+        if (yearlyLimit != null) {
+            SpendEntry replacedInYear = replaced != null && replaced.date().getYear() == ym.getYear() ? replaced : null;
+            Map<UUID, BigDecimal> spendByCategory = spendRollupService.yearSpendByCategory(userId, ym.getYear());
+            BigDecimal alreadySpent = spendWithout(spendByCategory, categoryId, replacedInYear);
+            BigDecimal projected = alreadySpent.add(expenseAmount);
+            if (projected.compareTo(yearlyLimit) > 0) {
+                log.warn("Yearly budget validation failed: userId={}, categoryId={}, expenseAmount={}, alreadySpent={}, budgetLimit={}, projected={}",
+                        userId, categoryId, expenseAmount, alreadySpent, yearlyLimit, projected);
+                throw new BudgetExceededException("Expense exceeds remaining yearly budget");
+            }
+            addCrossedThresholds(alerts, budgets, false, spendByCategory, categoryId, expenseAmount, replacedInYear);
+        }
+        return alerts;
+    }
+
+    /**
+     * Applies a saved new expense: rollups, the cached spend of its month, and the {@code alerts} from
+     * {@link #check}.
+     */
+    public void recordCreated(UUID userId, Expense saved, List<BudgetAlertResponse> alerts) {
+        spendRollupService.recordCreated(SpendEntry.of(saved));
+        monthlySpendCache.evictAfterCompletion(userId, YearMonth.from(saved.getExpenseDate()));
+        budgetAlertBroadcaster.publishAfterCommit(userId, alerts);
+    }
+
+    /**
+     * Applies a saved update from {@code before}; evicts the months before and after it when they differ.
+     */
+    public void recordUpdated(UUID userId, SpendEntry before, Expense saved, List<BudgetAlertResponse> alerts) {
+        spendRollupService.recordUpdated(before, SpendEntry.of(saved));
+        YearMonth monthAfter = YearMonth.from(saved.getExpenseDate());
+        monthlySpendCache.evictAfterCompletion(userId, monthAfter);
+        if (!monthAfter.equals(YearMonth.from(before.date()))) {
+            monthlySpendCache.evictAfterCompletion(userId, YearMonth.from(before.date()));
+        }
+        budgetAlertBroadcaster.publishAfterCommit(userId, alerts);
+    }
+
+    /**
+     * Applies a soft delete. Removing spend crosses no threshold, so there is nothing to publish.
+     */
+    public void recordDeleted(UUID userId, Expense deleted) {
+        spendRollupService.recordDeleted(SpendEntry.of(deleted));
+        monthlySpendCache.evictAfterCompletion(userId, YearMonth.from(deleted.getExpenseDate()));
+    }
+
+    /**
+     * Spend of the category in the period without {@code replaced} (null on create), which the rollup still holds.
+     */
+    private static BigDecimal spendWithout(Map<UUID, BigDecimal> spendByCategory, UUID categoryId, SpendEntry replaced) {
+        BigDecimal spent = spendByCategory.getOrDefault(categoryId, BigDecimal.ZERO);
+        return replaced != null && replaced.categoryId().equals(categoryId) ? spent.subtract(replaced.amount()) : spent;
+    }
+
+    /**
+     * Adds an alert for every threshold of the monthly ({@code monthly} true) or yearly budgets that lies
+     * above the budget's spend before this write and at or below its spend after it. A budget's spend is the sum
+     * of {@code spendByCategory} (the period's rollup, without this write) over its categories; the write adds
+     * {@code expenseAmount} and, when {@code replaced} (the expense before an update, dated in the same period)
+     * counted towards one of the budget's categories, takes its amount out again.
+     */
+    private static void addCrossedThresholds(List<BudgetAlertResponse> alerts, List<Budget> budgets, boolean monthly,
+                                             Map<UUID, BigDecimal> spendByCategory, UUID categoryId,
+                                             BigDecimal expenseAmount, SpendEntry replaced) {
+        Instant now = Instant.now();
+        for (Budget budget : budgets) {
+            if ((budget.getMonth() != null) != monthly || budget.getAlertThresholds().isEmpty()) {
+                continue;
+            }
+            BigDecimal previous = BigDecimal.ZERO;
+            boolean coversReplaced = false;
+            for (Category category : budget.getCategories()) {
+                previous = previous.add(spendByCategory.getOrDefault(category.getId(), BigDecimal.ZERO));
+                coversReplaced |= replaced != null && category.getId().equals(replaced.categoryId());
+            }
+            BigDecimal projected = previous.add(expenseAmount);
+            if (coversReplaced) {
+                projected = projected.subtract(replaced.amount());
+            }
+            if (projected.compareTo(previous) <= 0) {
+                continue;
+            }
+            for (Integer percent : budget.getAlertThresholds()) {
+                BigDecimal threshold = budget.getAmount().multiply(BigDecimal.valueOf(percent))
+                        .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+                if (previous.compareTo(threshold) < 0 && projected.compareTo(threshold) >= 0) {
+                    alerts.add(new BudgetAlertResponse(budget.getId(), budget.getYear(),
+                            monthly ? budget.getMonth() : 0, categoryId, percent, budget.getAmount(), projected, now));
+                }
+            }
+        }
+    }
+
+    /**
+     * Total amount of the monthly ({@code monthly} true) or yearly budgets, null when there is none.
+     */
+    private static BigDecimal sumAmounts(List<Budget> budgets, boolean monthly) {
+        BigDecimal total = null;
+        for (Budget budget : budgets) {
+            if ((budget.getMonth() != null) == monthly) {
+                total = total == null ? budget.getAmount() : total.add(budget.getAmount());
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,78 @@
+package com.spendwise.service;
+
+import com.spendwise.domain.entity.Budget;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.dto.response.BudgetForecastStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Projected spend of a budget at the end of its period (month, or year for a yearly budget), blending the
+ * pace so far with the user's history.
+ * <p>
+ * With a fraction {@code f} of the period elapsed (today included) and {@code history} the modelled spend of
+ * the budget's categories over a whole period, the rest of the period is expected to cost
+ * {@code (1 - f) * (spent + (1 - f) * history)}: the period's rate leans on history early on and on the
+ * actual pace ({@code spent / f}) as the period goes by. Without a model for any of the categories the
+ * projection is the pace alone; before the period starts it is {@code spent + history}, and once it has
+ * ended it is what was spent.
+ */
+public record BudgetForecast(BigDecimal projectedSpent, BudgetForecastStatus status) {
+
+    private static final int SCALE = 2;
+
+    public static BudgetForecast of(Budget budget, BigDecimal spent, Map<UUID, BigDecimal> monthlyEwmaByCategory,
+                             LocalDate today) {
+        LocalDate start;
+        LocalDate end;
+        int months;
+        if (budget.getMonth() == null) {
+            start = LocalDate.of(budget.getYear(), 1, 1);
+            end = LocalDate.of(budget.getYear(), 12, 31);
+            months = 12;
+        } else {
+            YearMonth month = YearMonth.of(budget.getYear(), budget.getMonth());
+            start = month.atDay(1);
+            end = month.atEndOfMonth();
+            months = 1;
+        }
+
+        BigDecimal history = null;
+        for (Category category : budget.getCategories()) {
+            BigDecimal ewma = monthlyEwmaByCategory.get(category.getId());
+            if (ewma != null) {
+                history = history == null ? ewma : history.add(ewma);
+            }
+        }
+        if (history != null) {
+            history = history.multiply(BigDecimal.valueOf(months));
+        }
+
+        BigDecimal projected;
+        if (today.isAfter(end)) {
+            projected = spent;
+        } else if (today.isBefore(start)) {
+            projected = history == null ? spent : spent.add(history);
+        } else {
+            long length = end.toEpochDay() - start.toEpochDay() + 1;
+            long elapsed = today.toEpochDay() - start.toEpochDay() + 1;
+            BigDecimal elapsedFraction = BigDecimal.valueOf(elapsed).divide(BigDecimal.valueOf(length), 6, RoundingMode.HALF_UP);
+            if (history == null) {
+                projected = spent.divide(elapsedFraction, SCALE, RoundingMode.HALF_UP);
+            } else {
+                BigDecimal remainingFraction = BigDecimal.ONE.subtract(elapsedFraction);
+                projected = spent.add(remainingFraction.multiply(spent.add(remainingFraction.multiply(history))));
+            }
+        }
+        projected = projected.setScale(SCALE, RoundingMode.HALF_UP);
+        BudgetForecastStatus status = projected.compareTo(budget.getAmount()) > 0
+                ? BudgetForecastStatus.AT_RISK
+                : BudgetForecastStatus.ON_TRACK;
+        return new BudgetForecast(projected, status);
+    }
+}
@@ -1,19 +1,22 @@
 package com.spendwise.service;
 
+import com.spendwise.config.BatchLookupProperties;
+import com.spendwise.config.BudgetAlertProperties;
 import com.spendwise.domain.entity.Budget;
 import com.spendwise.domain.entity.Category;
-import com.spendwise.domain.entity.Expense;
 import com.spendwise.domain.entity.User;
 import com.spendwise.dto.request.CreateBudgetRequest;
+import com.spendwise.dto.request.FieldSelection;
 import com.spendwise.dto.request.UpdateBudgetRequest;
+import com.spendwise.dto.response.BatchLookupResponse;
 import com.spendwise.dto.response.BudgetResponse;
+import com.spendwise.dto.response.BudgetYearOverviewResponse;
 import com.spendwise.exception.DuplicateBudgetException;
 import com.spendwise.exception.ResourceNotFoundException;
 import com.spendwise.exception.ValidationException;
 import com.spendwise.mapper.BudgetMapper;
 import com.spendwise.repository.BudgetRepository;
 import com.spendwise.repository.CategoryRepository;
-import com.spendwise.repository.ExpenseRepository;
 import com.spendwise.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,8 +25,12 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,39 +41,63 @@ public class BudgetService {
     private static final int MIN_MONTH = 1;
     private static final int MAX_MONTH = 12;
 
+    /** Fields accepted by {@code fields=} on the list endpoint, in {@link BudgetResponse} order. */
+    public static final List<String> LIST_FIELDS = List.of(
+            "id", "amount", "year", "month", "categoryIds", "alertThresholds", "totalSpent", "remainingBudget",
+            "projectedSpent", "forecastStatus");
+
     private final BudgetRepository budgetRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
-    private final ExpenseRepository expenseRepository;
+    private final MonthlySpendCache monthlySpendCache;
     private final OwnershipValidationService ownershipValidationService;
     private final BudgetMapper budgetMapper;
+    private final BatchLookupProperties batchLookupProperties;
+    private final UserCategoryCache userCategoryCache;
+    private final SpendRollupService spendRollupService;
+    private final BudgetAlertProperties budgetAlertProperties;
+    private final SpendForecastCache spendForecastCache;
 
     public BudgetService(BudgetRepository budgetRepository,
                          CategoryRepository categoryRepository,
                          UserRepository userRepository,
-                         ExpenseRepository expenseRepository,
+                         MonthlySpendCache monthlySpendCache,
                          OwnershipValidationService ownershipValidationService,
-                         BudgetMapper budgetMapper) {
+                         BudgetMapper budgetMapper,
+                         BatchLookupProperties batchLookupProperties,
+                         UserCategoryCache userCategoryCache,
+                         SpendRollupService spendRollupService,
+                         BudgetAlertProperties budgetAlertProperties,
+                         SpendForecastCache spendForecastCache) {
         this.budgetRepository = budgetRepository;
         this.categoryRepository = categoryRepository;
         this.userRepository = userRepository;
-        this.expenseRepository = expenseRepository;
+        this.monthlySpendCache = monthlySpendCache;
         this.ownershipValidationService = ownershipValidationService;
         this.budgetMapper = budgetMapper;
+        this.batchLookupProperties = batchLookupProperties;
+        this.userCategoryCache = userCategoryCache;
+        this.spendRollupService = spendRollupService;
+        this.budgetAlertProperties = budgetAlertProperties;
+        this.spendForecastCache = spendForecastCache;
     }
 
     // --- New DTO-based API ---
 
     /**
-     * Creates a new budget for a user. Write operation that must be atomic:
-     * uniqueness validation, category loading, budget creation, and save must succeed together.
+     * Creates a new budget for a user: monthly, or yearly when {@code month} is null. Write operation that
+     * must be atomic: uniqueness validation, category loading, budget creation, and save must succeed together.
      * Uses @Transactional to ensure consistency.
      */
     @Transactional
     public BudgetResponse createBudget(UUID currentUserId, CreateBudgetRequest request) {
         User user = loadUser(currentUserId);
-        validateMonth(request.month());
-        ensureMonthlyUnique(user.getId(), request.year(), request.month());
+        if (request.month() != null) {
+            validateMonth(request.month());
+            ensureMonthlyUnique(user.getId(), request.year(), request.month());
+        } else {
+            ensureYearlyUnique(user.getId(), request.year());
+        }
 
         Set<Category> categories = loadCategoriesForUser(request.categoryIds(), currentUserId);
 
@@ -76,11 +107,13 @@ public class BudgetService {
         budget.setYear(request.year());
         budget.setMonth(request.month());
         budget.setCategories(categories);
+        budget.setAlertThresholds(toAlertThresholds(request.alertThresholds() != null
+                ? request.alertThresholds() : budgetAlertProperties.defaultThresholds()));
         budget.setDeletedAt(null);
 
         Budget saved = budgetRepository.save(budget);
         BudgetMetrics metrics = calculateBudgetMetrics(user, saved);
-        return budgetMapper.toBudgetResponse(saved, metrics.totalSpent(), metrics.remainingBudget());
+        return toResponse(saved, metrics, spendForecastCache.monthlyEwmaByCategory(currentUserId));
     }
 
     /**
@@ -96,7 +129,7 @@ public class BudgetService {
 
         Budget saved = budgetRepository.save(budget);
         BudgetMetrics metrics = calculateBudgetMetrics(saved.getUser(), saved);
-        return budgetMapper.toBudgetResponse(saved, metrics.totalSpent(), metrics.remainingBudget());
+        return toResponse(saved, metrics, spendForecastCache.monthlyEwmaByCategory(currentUserId));
     }
 
     /**
@@ -107,7 +140,25 @@ public class BudgetService {
     public BudgetResponse getBudget(UUID currentUserId, UUID budgetId) {
         Budget budget = ownershipValidationService.validateUserOwnsBudget(currentUserId, budgetId);
         BudgetMetrics metrics = calculateBudgetMetrics(budget.getUser(), budget);
-        return budgetMapper.toBudgetResponse(budget, metrics.totalSpent(), metrics.remainingBudget());
+        return toResponse(budget, metrics, spendForecastCache.monthlyEwmaByCategory(currentUserId));
+    }
+
+    /**
+     * Batch multi-get: returns the requested budgets the user owns, in request order, plus the ids
+     * that could not be found. Budgets and categories come from one ownership-filtered query; the
+     * month's spend comes from {@link MonthlySpendCache}, so at most one query per distinct month (and one
+     * rollup query per yearly budget).
+     */
+    @Transactional(readOnly = true)
+    public BatchLookupResponse<BudgetResponse> lookupBudgets(UUID currentUserId, Collection<UUID> budgetIds) {
+        Set<UUID> requested = BatchLookupIds.normalize(budgetIds, batchLookupProperties.maxIds());
+        List<Budget> owned = ownershipValidationService.findOwnedBudgets(currentUserId, requested);
+        Map<UUID, BigDecimal> monthlyEwma = owned.isEmpty() ? Map.of() : spendForecastCache.monthlyEwmaByCategory(currentUserId);
+
+        List<BudgetResponse> found = BatchLookupIds.inRequestOrder(requested, owned, Budget::getId).stream()
+                .map(b -> toResponse(b, calculateBudgetMetrics(b, spendByCategory(currentUserId, b)), monthlyEwma))
+                .toList();
+        return new BatchLookupResponse<>(found, BatchLookupIds.missing(requested, owned, Budget::getId));
     }
 
     /**
@@ -122,24 +173,116 @@ public class BudgetService {
     }
 
     /**
-     * Retrieves budgets for a user filtered by year and month. Read-only operation:
-     * queries database for budgets and calculates metrics, but performs no mutations.
-     * Uses @Transactional(readOnly = true) to document intent and allow persistence provider optimizations.
-     * Note: Metrics calculation involves in-memory aggregation but all database access is read-only.
+     * Retrieves budgets for a user filtered by year and month. Read-only operation.
+     * The month's budgets and their categories come from one query, and every budget's metrics from the
+     * same {@link MonthlySpendCache} entry, and their forecasts from one {@link SpendForecastCache} entry, so at
+     * most three queries whatever the number of budgets (one when both caches hit).
      */
     @Transactional(readOnly = true)
     public List<BudgetResponse> getBudgetsForUser(UUID currentUserId, int year, int month) {
         validateMonth(month);
-        List<Budget> budgets = budgetRepository.findByUser_IdAndYearAndDeletedAtIsNullOrderByMonthAsc(currentUserId, year)
-                .stream()
-                .filter(b -> b.getMonth() != null && b.getMonth() == month)
+        List<Budget> budgets = budgetRepository.findWithCategoriesByUser_IdAndYearAndMonthAndDeletedAtIsNull(currentUserId, year, month);
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, BigDecimal> spendByCategory = monthlySpendCache.spendByCategory(currentUserId, YearMonth.of(year, month));
+        Map<UUID, BigDecimal> monthlyEwma = spendForecastCache.monthlyEwmaByCategory(currentUserId);
+        return budgets.stream()
+                .map(b -> toResponse(b, calculateBudgetMetrics(b, spendByCategory), monthlyEwma))
                 .collect(Collectors.toList());
+    }
 
-        User user = loadUser(currentUserId);
+    /**
+     * The user's budgets of one year, month by month, and the yearly budget if there is one. Budgets and
+     * categories come from one query and the spend of every budget from one aggregate over the monthly rollup
+     * grouped by budget (the budget's month, the whole year for the yearly one), so the overview costs two
+     * queries however many budgets there are, plus one for the forecast models when they are not cached.
+     * Like the other budget reads, it counts expenses archived for their age.
+     */
+    @Transactional(readOnly = true)
+    public BudgetYearOverviewResponse getYearOverview(UUID currentUserId, int year) {
+        List<Budget> budgets = new ArrayList<>();
+        Budget yearlyBudget = null;
+        for (Budget budget : budgetRepository.findWithCategoriesByUser_IdAndYearAndDeletedAtIsNull(currentUserId, year)) {
+            if (budget.getMonth() == null) {
+                yearlyBudget = budget;
+            } else {
+                budgets.add(budget);
+            }
+        }
+        boolean anyBudget = !budgets.isEmpty() || yearlyBudget != null;
+        Map<UUID, BigDecimal> spentByBudget = anyBudget
+                ? spendRollupService.yearSpendByBudget(currentUserId, year)
+                : Map.of();
+        Map<UUID, BigDecimal> monthlyEwma = anyBudget
+                ? spendForecastCache.monthlyEwmaByCategory(currentUserId)
+                : Map.of();
+        Map<Integer, BudgetResponse> byMonth = new HashMap<>();
+        BigDecimal totalBudgeted = BigDecimal.ZERO;
+        BigDecimal totalSpent = BigDecimal.ZERO;
+        for (Budget budget : budgets) {
+            BudgetMetrics metrics = budgetMetrics(budget, spentByBudget.getOrDefault(budget.getId(), BigDecimal.ZERO));
+            byMonth.put(budget.getMonth(), toResponse(budget, metrics, monthlyEwma));
+            totalBudgeted = totalBudgeted.add(budget.getAmount());
+            totalSpent = totalSpent.add(metrics.totalSpent());
+        }
+
+        List<BudgetYearOverviewResponse.MonthBudget> months = new ArrayList<>(MAX_MONTH);
+        for (int month = MIN_MONTH; month <= MAX_MONTH; month++) {
+            months.add(new BudgetYearOverviewResponse.MonthBudget(month, byMonth.get(month)));
+        }
+        BudgetResponse yearly = null;
+        if (yearlyBudget != null) {
+            BudgetMetrics metrics = budgetMetrics(yearlyBudget, spentByBudget.getOrDefault(yearlyBudget.getId(), BigDecimal.ZERO));
+            yearly = toResponse(yearlyBudget, metrics, monthlyEwma);
+        }
+        return new BudgetYearOverviewResponse(year, totalBudgeted, totalSpent, months, yearly);
+    }
+
+    /**
+     * Same as {@link #getBudgetsForUser} but returns only the requested {@code fields} (comma-separated,
+     * validated against {@link #LIST_FIELDS}). The expensive parts are skipped when not asked for:
+     * categories are only fetched for {@code categoryIds} or the metrics, the month's spend
+     * only for {@code totalSpent} / {@code remainingBudget} or the forecast, and the forecast models only for
+     * {@code projectedSpent} / {@code forecastStatus}.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getBudgetFieldsForUser(UUID currentUserId, int year, int month, String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, LIST_FIELDS);
+        validateMonth(month);
+        boolean needsForecast = selection.includesAny("projectedSpent", "forecastStatus");
+        boolean needsMetrics = needsForecast || selection.includesAny("totalSpent", "remainingBudget");
+        List<Budget> budgets = needsMetrics || selection.includesAny("categoryIds")
+                ? budgetRepository.findWithCategoriesByUser_IdAndYearAndMonthAndDeletedAtIsNull(currentUserId, year, month)
+                : budgetRepository.findByUser_IdAndYearAndMonthAndDeletedAtIsNull(currentUserId, year, month);
+
+        Map<UUID, BigDecimal> spendByCategory = needsMetrics && !budgets.isEmpty()
+                ? monthlySpendCache.spendByCategory(currentUserId, YearMonth.of(year, month))
+                : Map.of();
+        Map<UUID, BigDecimal> monthlyEwma = needsForecast && !budgets.isEmpty()
+                ? spendForecastCache.monthlyEwmaByCategory(currentUserId)
+                : Map.of();
+        LocalDate today = LocalDate.now();
         return budgets.stream()
                 .map(b -> {
-                    BudgetMetrics metrics = calculateBudgetMetrics(user, b);
-                    return budgetMapper.toBudgetResponse(b, metrics.totalSpent(), metrics.remainingBudget());
+                    BudgetMetrics metrics = needsMetrics ? calculateBudgetMetrics(b, spendByCategory) : null;
+                    BudgetForecast forecast = needsForecast
+                            ? BudgetForecast.of(b, metrics.totalSpent(), monthlyEwma, today)
+                            : null;
+                    return selection.toRow(field -> switch (field) {
+                        case "id" -> b.getId();
+                        case "amount" -> b.getAmount();
+                        case "year" -> b.getYear();
+                        case "month" -> b.getMonth();
+                        case "categoryIds" -> b.getCategories().stream().map(Category::getId).collect(Collectors.toSet());
+                        case "alertThresholds" -> b.getAlertThresholds();
+                        case "totalSpent" -> metrics.totalSpent();
+                        case "remainingBudget" -> metrics.remainingBudget();
+                        case "projectedSpent" -> forecast.projectedSpent();
+                        case "forecastStatus" -> forecast.status();
+                        default -> throw new IllegalStateException("Unmapped budget field: " + field);
+                    });
                 })
                 .collect(Collectors.toList());
     }
@@ -151,7 +294,7 @@ public class BudgetService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
-    private void validateMonth(Integer month) {
+    static void validateMonth(Integer month) {
         if (month == null || month < MIN_MONTH || month > MAX_MONTH) {
             throw new ValidationException("Month must be between 1 and 12");
         }
@@ -163,15 +306,22 @@ public class BudgetService {
         }
     }
 
+    private void ensureYearlyUnique(UUID userId, int year) {
+        if (budgetRepository.existsByUser_IdAndYearAndMonthIsNullAndDeletedAtIsNull(userId, year)) {
+            throw new DuplicateBudgetException("A yearly budget already exists for this user and year");
+        }
+    }
+
     private Set<Category> loadCategoriesForUser(Set<UUID> categoryIds, UUID currentUserId) {
         if (categoryIds == null || categoryIds.isEmpty()) {
             return new HashSet<>();
         }
         Set<Category> categories = new HashSet<>();
         for (UUID categoryId : categoryIds) {
-            Category category = categoryRepository.findByIdAndUser_Id(categoryId, currentUserId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Category not found or access denied: " + categoryId));
-            categories.add(category);
+            if (!userCategoryCache.owns(currentUserId, categoryId)) {
+                throw new ResourceNotFoundException("Category not found or access denied: " + categoryId);
+            }
+            categories.add(categoryRepository.getReferenceById(categoryId));
         }
         return categories;
     }
@@ -179,13 +329,25 @@ public class BudgetService {
     private void applyUpdate(Budget budget, UpdateBudgetRequest request, UUID currentUserId) {
         Integer newYear = request.year() != null ? request.year() : budget.getYear();
         Integer newMonth = request.month() != null ? request.month() : budget.getMonth();
-        validateMonth(newMonth);
 
-        // If year/month changed, enforce uniqueness for the new combination
-        if (newYear != budget.getYear() || !newMonth.equals(budget.getMonth())) {
-            if (budgetRepository.countByUserAndYearAndMonthExcludingId(
-                    budget.getUser().getId(), newYear, newMonth, budget.getId()) > 0) {
-                throw new DuplicateBudgetException("A budget already exists for this user, year and month");
+        if (budget.getMonth() == null) {
+            // A yearly budget stays yearly: an absent month cannot be told apart from "no month" in the request.
+            if (request.month() != null) {
+                throw new ValidationException("A yearly budget cannot be given a month");
+            }
+            if (newYear != budget.getYear() && budgetRepository.countByUserAndYearAndMonthNullExcludingId(
+                    budget.getUser().getId(), newYear, budget.getId()) > 0) {
+                throw new DuplicateBudgetException("A yearly budget already exists for this user and year");
+            }
+        } else {
+            validateMonth(newMonth);
+
+            // If year/month changed, enforce uniqueness for the new combination
+            if (newYear != budget.getYear() || !newMonth.equals(budget.getMonth())) {
+                if (budgetRepository.countByUserAndYearAndMonthExcludingId(
+                        budget.getUser().getId(), newYear, newMonth, budget.getId()) > 0) {
+                    throw new DuplicateBudgetException("A budget already exists for this user, year and month");
+                }
             }
         }
 
@@ -199,29 +361,55 @@ public class BudgetService {
             Set<Category> categories = loadCategoriesForUser(request.categoryIds(), currentUserId);
             budget.setCategories(categories);
         }
+        if (request.alertThresholds() != null) {
+            budget.setAlertThresholds(toAlertThresholds(request.alertThresholds()));
+        }
+    }
+
+    private static List<Integer> toAlertThresholds(Collection<Integer> percentages) {
+        return percentages.stream().distinct().sorted().collect(Collectors.toCollection(ArrayList::new));
     }
 
     // --- Metrics & mapping ---
 
     private BudgetMetrics calculateBudgetMetrics(User user, Budget budget) {
-        YearMonth ym = YearMonth.of(budget.getYear(), budget.getMonth());
-        LocalDate start = ym.atDay(1);
-        LocalDate end = ym.atEndOfMonth();
+        return calculateBudgetMetrics(budget, spendByCategory(user.getId(), budget));
+    }
 
-        // Load expenses for the month with category JOIN FETCH to avoid N+1 when filtering by category
-        // Uses deleted = false to exclude soft-deleted expenses
-        List<Expense> monthlyExpenses = expenseRepository.findByUserAndDateRangeWithCategory(
-                user.getId(), start, end);
+    /**
+     * Spend per category over the budget's period: the month's from {@link MonthlySpendCache}, the year's
+     * (yearly budget) from the monthly spend rollup.
+     */
+    private Map<UUID, BigDecimal> spendByCategory(UUID userId, Budget budget) {
+        if (budget.getMonth() == null) {
+            return spendRollupService.yearSpendByCategory(userId, budget.getYear());
+        }
+        return monthlySpendCache.spendByCategory(userId, YearMonth.of(budget.getYear(), budget.getMonth()));
+    }
 
-        Set<UUID> categoryIds = budget.getCategories().stream()
-                .map(Category::getId)
-                .collect(Collectors.toSet());
+    // Package-private for BudgetServiceBenchmark (src/jmh).
+    static BudgetMetrics calculateBudgetMetrics(Budget budget, Map<UUID, BigDecimal> spendByCategory) {
+        BigDecimal totalSpent = BigDecimal.ZERO;
+        for (Category category : budget.getCategories()) {
+            BigDecimal spent = spendByCategory.get(category.getId());
+            if (spent != null) {
+                totalSpent = totalSpent.add(spent);
+            }
+        }
+        return budgetMetrics(budget, totalSpent);
+    }
 
-        BigDecimal totalSpent = monthlyExpenses.stream()
-                .filter(e -> categoryIds.contains(e.getCategory().getId()))
-                .map(Expense::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * Maps a budget with its metrics and its end-of-period {@link BudgetForecast}; {@code monthlyEwma} is the
+     * user's {@link SpendForecastCache} entry.
+     */
+    private BudgetResponse toResponse(Budget budget, BudgetMetrics metrics, Map<UUID, BigDecimal> monthlyEwma) {
+        BudgetForecast forecast = BudgetForecast.of(budget, metrics.totalSpent(), monthlyEwma, LocalDate.now());
+        return budgetMapper.toBudgetResponse(budget, metrics.totalSpent(), metrics.remainingBudget(),
+                forecast.projectedSpent(), forecast.status());
+    }
 
+    private static BudgetMetrics budgetMetrics(Budget budget, BigDecimal totalSpent) {
         BigDecimal remaining = budget.getAmount().subtract(totalSpent);
         if (remaining.compareTo(BigDecimal.ZERO) < 0) {
             remaining = BigDecimal.ZERO;
@@ -230,7 +418,7 @@ public class BudgetService {
         return new BudgetMetrics(totalSpent, remaining);
     }
 
-    private record BudgetMetrics(BigDecimal totalSpent, BigDecimal remainingBudget) {
+    record BudgetMetrics(BigDecimal totalSpent, BigDecimal remainingBudget) {
     }
 }
 
@@ -2,36 +2,59 @@ package com.spendwise.service;
 
 import com.spendwise.domain.entity.Category;
 import com.spendwise.dto.request.CreateCategoryRequest;
+import com.spendwise.dto.request.FieldSelection;
 import com.spendwise.dto.request.UpdateCategoryRequest;
 import com.spendwise.dto.response.CategoryResponse;
 import com.spendwise.exception.ResourceNotFoundException;
 import com.spendwise.exception.ValidationException;
 import com.spendwise.repository.BudgetRepository;
 import com.spendwise.repository.CategoryRepository;
+import com.spendwise.repository.ExpenseArchiveRepository;
 import com.spendwise.repository.ExpenseRepository;
+import com.spendwise.repository.SparseFieldRepository;
 import com.spendwise.repository.UserRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class CategoryService {
 
+    /** Fields accepted by {@code fields=} on the list endpoint, in {@link CategoryResponse} order. */
+    public static final List<String> LIST_FIELDS = List.of("id", "name");
+
+    private static final Map<String, String> FIELD_PATHS = Map.of("id", "id", "name", "name");
+
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final ExpenseRepository expenseRepository;
     private final BudgetRepository budgetRepository;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final ExpenseArchiveRepository expenseArchiveRepository;
+    private final UserCategoryCache userCategoryCache;
+    private final SpendRollupService spendRollupService;
 
     public CategoryService(CategoryRepository categoryRepository,
                            UserRepository userRepository,
                            ExpenseRepository expenseRepository,
-                           BudgetRepository budgetRepository) {
+                           BudgetRepository budgetRepository,
+                           SparseFieldRepository sparseFieldRepository,
+                           ExpenseArchiveRepository expenseArchiveRepository,
+                           UserCategoryCache userCategoryCache,
+                           SpendRollupService spendRollupService) {
         this.categoryRepository = categoryRepository;
         this.userRepository = userRepository;
         this.expenseRepository = expenseRepository;
         this.budgetRepository = budgetRepository;
+        this.sparseFieldRepository = sparseFieldRepository;
+        this.expenseArchiveRepository = expenseArchiveRepository;
+        this.userCategoryCache = userCategoryCache;
+        this.spendRollupService = spendRollupService;
     }
 
     @Transactional
@@ -44,23 +67,38 @@ public class CategoryService {
         category.setName(request.name().trim());
         category.setUser(userRepository.getReferenceById(currentUserId));
         Category saved = categoryRepository.save(category);
+        userCategoryCache.evictAfterCompletion(currentUserId);
         return toResponse(saved);
     }
 
     @Transactional(readOnly = true)
     public List<CategoryResponse> listCategories(UUID currentUserId) {
         loadUser(currentUserId);
-        return categoryRepository.findByUser_Id(currentUserId).stream()
-                .map(this::toResponse)
+        return userCategoryCache.namesById(currentUserId).entrySet().stream()
+                .map(entry -> new CategoryResponse(entry.getKey(), entry.getValue()))
                 .toList();
     }
 
+    /**
+     * Lists categories returning only the requested {@code fields} (comma-separated, validated against
+     * {@link #LIST_FIELDS}); only those columns are selected.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> listCategoryFields(UUID currentUserId, String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, LIST_FIELDS);
+        loadUser(currentUserId);
+        Specification<Category> ownedByUser = (root, query, cb) -> cb.equal(root.get("user").get("id"), currentUserId);
+        return sparseFieldRepository.findAll(Category.class, ownedByUser, FIELD_PATHS, selection.getFields(), Sort.unsorted());
+    }
+
     @Transactional(readOnly = true)
     public CategoryResponse getCategory(UUID currentUserId, UUID categoryId) {
         loadUser(currentUserId);
-        Category category = categoryRepository.findByIdAndUser_Id(categoryId, currentUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
-        return toResponse(category);
+        String name = userCategoryCache.namesById(currentUserId).get(categoryId);
+        if (name == null) {
+            throw new ResourceNotFoundException("Category not found");
+        }
+        return new CategoryResponse(categoryId, name);
     }
 
     @Transactional
@@ -74,6 +112,7 @@ public class CategoryService {
         }
         category.setName(newName);
         Category saved = categoryRepository.save(category);
+        userCategoryCache.evictAfterCompletion(currentUserId);
         return toResponse(saved);
     }
 
@@ -82,13 +121,16 @@ public class CategoryService {
         loadUser(currentUserId);
         Category category = categoryRepository.findByIdAndUser_Id(categoryId, currentUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
-        if (expenseRepository.existsByCategory_IdAndDeletedIsFalse(categoryId)) {
+        if (expenseRepository.existsByCategory_IdAndDeletedIsFalse(categoryId)
+                || expenseArchiveRepository.existsLiveByCategory(categoryId)) {
             throw new ValidationException("Cannot delete category: it is used by expenses");
         }
         if (budgetRepository.existsByCategoryIdAndDeletedAtIsNull(categoryId)) {
             throw new ValidationException("Cannot delete category: it is used by budgets");
         }
+        spendRollupService.recordCategoryDeleted(currentUserId, categoryId);
         categoryRepository.delete(category);
+        userCategoryCache.evictAfterCompletion(currentUserId);
     }
 
     private void loadUser(UUID userId) {
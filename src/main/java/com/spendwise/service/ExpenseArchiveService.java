@@ -0,0 +1,60 @@
+package com.spendwise.service;
+
+import com.spendwise.dto.response.ArchivedExpenseResponse;
+import com.spendwise.dto.response.PageResponse;
+import com.spendwise.exception.ResourceNotFoundException;
+import com.spendwise.exception.ValidationException;
+import com.spendwise.repository.ExpenseArchiveRepository;
+import com.spendwise.repository.ExpenseArchiveRepository.ArchivedExpenseRow;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read access to archived expenses (see {@link com.spendwise.job.ExpenseArchivalJob}). Archived
+ * expenses are no longer returned by the regular expense endpoints; this is the explicit way to reach
+ * them, including soft-deleted ones, e.g. to follow up an audit log entry whose expense was archived.
+ */
+@Service
+public class ExpenseArchiveService {
+
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 100;
+
+    private final ExpenseArchiveRepository expenseArchiveRepository;
+
+    public ExpenseArchiveService(ExpenseArchiveRepository expenseArchiveRepository) {
+        this.expenseArchiveRepository = expenseArchiveRepository;
+    }
+
+    /**
+     * Lists the user's archived expenses, newest expense date first, optionally within a date range.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ArchivedExpenseResponse> listArchivedExpenses(UUID currentUserId, LocalDate fromDate,
+                                                                      LocalDate toDate, int page, int size) {
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new ValidationException("fromDate must be before or equal to toDate");
+        }
+        int validPage = Math.max(0, page);
+        int validSize = size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+        return PageResponse.of(expenseArchiveRepository
+                .findByUser(currentUserId, fromDate, toDate, PageRequest.of(validPage, validSize))
+                .map(ExpenseArchiveService::toResponse));
+    }
+
+    @Transactional(readOnly = true)
+    public ArchivedExpenseResponse getArchivedExpense(UUID currentUserId, UUID expenseId) {
+        return expenseArchiveRepository.findByIdAndUser(expenseId, currentUserId)
+                .map(ExpenseArchiveService::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Archived expense not found"));
+    }
+
+    private static ArchivedExpenseResponse toResponse(ArchivedExpenseRow row) {
+        return new ArchivedExpenseResponse(row.id(), row.categoryId(), row.amount(), row.description(),
+                row.expenseDate(), row.deleted(), row.deletedAt(), row.archivedAt(), row.archiveReason().name());
+    }
+}
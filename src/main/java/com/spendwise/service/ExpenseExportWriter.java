@@ -0,0 +1,134 @@
+package com.spendwise.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spendwise.dto.request.ExpenseExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Writes export rows straight from a JDBC {@link ResultSet} to the response stream.
+ * One row in, one line out: nothing is buffered beyond the writer's own fixed-size buffer,
+ * so memory use does not depend on how many rows are exported.
+ * Field names match {@link com.spendwise.dto.response.ExpenseResponse}.
+ */
+abstract class ExpenseExportWriter {
+
+    static ExpenseExportWriter create(ExpenseExportFormat format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new CsvWriter(out);
+            case NDJSON -> new NdjsonWriter(out, objectMapper);
+        };
+    }
+
+    abstract void writeRow(ResultSet rs) throws SQLException;
+
+    abstract void finish() throws IOException;
+
+    private static String dateOf(ResultSet rs) throws SQLException {
+        Date date = rs.getDate("expense_date");
+        return date != null ? date.toLocalDate().toString() : null;
+    }
+
+    private static final class CsvWriter extends ExpenseExportWriter {
+
+        private final Writer writer;
+
+        private CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write("id,categoryId,amount,description,expenseDate\n");
+        }
+
+        @Override
+        void writeRow(ResultSet rs) throws SQLException {
+            try {
+                writer.write(rs.getString("id"));
+                writer.write(',');
+                writer.write(rs.getString("category_id"));
+                writer.write(',');
+                writer.write(rs.getBigDecimal("amount").toPlainString());
+                writer.write(',');
+                writeEscaped(rs.getString("description"));
+                writer.write(',');
+                writer.write(dateOf(rs));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * RFC 4180 quoting. Values starting with a spreadsheet formula character are prefixed with
+         * a single quote so a user-supplied description cannot run as a formula when the file is
+         * opened in Excel or similar.
+         */
+        private void writeEscaped(String value) throws IOException {
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            char first = value.charAt(0);
+            boolean formula = first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+            boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            if (formula) {
+                writer.write('\'');
+            }
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class NdjsonWriter extends ExpenseExportWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            // One JSON object per line, no wrapping array
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void writeRow(ResultSet rs) throws SQLException {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("id", rs.getString("id"));
+                generator.writeStringField("categoryId", rs.getString("category_id"));
+                BigDecimal amount = rs.getBigDecimal("amount");
+                generator.writeNumberField("amount", amount);
+                generator.writeStringField("description", rs.getString("description"));
+                generator.writeStringField("expenseDate", dateOf(rs));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -1,37 +1,45 @@
 package com.spendwise.service;
 
-import com.spendwise.domain.entity.Budget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spendwise.config.BatchLookupProperties;
 import com.spendwise.domain.entity.Category;
 import com.spendwise.domain.entity.Expense;
 import com.spendwise.domain.entity.User;
 import com.spendwise.dto.request.CreateExpenseRequest;
+import com.spendwise.dto.request.ExpenseExportFormat;
 import com.spendwise.dto.request.ExpenseListParams;
+import com.spendwise.dto.request.FieldSelection;
 import com.spendwise.dto.request.UpdateExpenseRequest;
+import com.spendwise.dto.response.BatchLookupResponse;
+import com.spendwise.dto.response.BudgetAlertResponse;
 import com.spendwise.dto.response.ExpenseResponse;
 import com.spendwise.dto.response.PageResponse;
-import com.spendwise.exception.BudgetExceededException;
 import com.spendwise.exception.ResourceNotFoundException;
 import com.spendwise.exception.ValidationException;
-import com.spendwise.repository.ExpenseSpecification;
 import com.spendwise.mapper.ExpenseMapper;
-import com.spendwise.repository.BudgetRepository;
 import com.spendwise.repository.CategoryRepository;
+import com.spendwise.repository.ExpenseExportRepository;
 import com.spendwise.repository.ExpenseRepository;
+import com.spendwise.repository.ExpenseSpecification;
+import com.spendwise.repository.SparseFieldRepository;
 import com.spendwise.repository.UserRepository;
+import com.spendwise.service.SpendRollupService.SpendEntry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
-import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -40,25 +48,45 @@ public class ExpenseService {
 
     private static final Logger log = LoggerFactory.getLogger(ExpenseService.class);
 
+    // The years budgets can cover (see CreateBudgetRequest). Dates outside are typos such as 0001-01-01;
+    // each would also get an expenses partition of its own.
+    private static final LocalDate MIN_EXPENSE_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_EXPENSE_DATE = LocalDate.of(2100, 12, 31);
+
     private final ExpenseRepository expenseRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
-    private final BudgetRepository budgetRepository;
     private final OwnershipValidationService ownershipValidationService;
     private final ExpenseMapper expenseMapper; //Just like autowiring
+    private final ExpenseExportRepository expenseExportRepository;
+    private final ObjectMapper objectMapper;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final BatchLookupProperties batchLookupProperties;
+    private final UserCategoryCache userCategoryCache;
+    private final BudgetEnforcement budgetEnforcement;
 
     public ExpenseService(ExpenseRepository expenseRepository,
                           CategoryRepository categoryRepository,
                           UserRepository userRepository,
-                          BudgetRepository budgetRepository,
                           OwnershipValidationService ownershipValidationService,
-                          ExpenseMapper expenseMapper) {
+                          ExpenseMapper expenseMapper,
+                          ExpenseExportRepository expenseExportRepository,
+                          ObjectMapper objectMapper,
+                          SparseFieldRepository sparseFieldRepository,
+                          BatchLookupProperties batchLookupProperties,
+                          UserCategoryCache userCategoryCache,
+                          BudgetEnforcement budgetEnforcement) {
         this.expenseRepository = expenseRepository;
         this.categoryRepository = categoryRepository;
         this.userRepository = userRepository;
-        this.budgetRepository = budgetRepository;
         this.ownershipValidationService = ownershipValidationService;
         this.expenseMapper = expenseMapper;
+        this.expenseExportRepository = expenseExportRepository;
+        this.objectMapper = objectMapper;
+        this.sparseFieldRepository = sparseFieldRepository;
+        this.batchLookupProperties = batchLookupProperties;
+        this.userCategoryCache = userCategoryCache;
+        this.budgetEnforcement = budgetEnforcement;
     }
 
     /**
@@ -68,6 +96,7 @@ public class ExpenseService {
      */
     @Transactional
     public ExpenseResponse createExpense(UUID currentUserId, CreateExpenseRequest request) {
+        validateExpenseDate(request.expenseDate());
         User user = loadUser(currentUserId);
         Category category = loadCategoryForUser(request.categoryId(), currentUserId);
 
@@ -80,10 +109,12 @@ public class ExpenseService {
         expense.setDeletedAt(null);
         expense.setDeleted(false); // Explicitly set to false for clarity (defaults to false anyway)
 
-        // Validate monthly budget for this user/category before saving.
-        validateMonthlyBudget(user.getId(), category.getId(), expense.getAmount(), expense.getExpenseDate());
+        // Validate the monthly and yearly budgets for this user/category before saving.
+        List<BudgetAlertResponse> alerts = budgetEnforcement.check(
+                user.getId(), category.getId(), expense.getAmount(), expense.getExpenseDate(), null);
 
         Expense saved = expenseRepository.save(expense);
+        budgetEnforcement.recordCreated(currentUserId, saved, alerts);
         log.info("Expense created: expenseId={}, userId={}, categoryId={}, amount={}, date={}",
                 saved.getId(), currentUserId, category.getId(), expense.getAmount(), expense.getExpenseDate());
         return expenseMapper.toExpenseResponse(saved);
@@ -97,6 +128,7 @@ public class ExpenseService {
     @Transactional
     public ExpenseResponse updateExpense(UUID currentUserId, UUID expenseId, UpdateExpenseRequest request) {
         Expense expense = ownershipValidationService.validateUserOwnsExpense(currentUserId, expenseId);
+        SpendEntry before = SpendEntry.of(expense);
 
         if (request.categoryId() != null && !request.categoryId().equals(expense.getCategory().getId())) {
             Category category = loadCategoryForUser(request.categoryId(), currentUserId);
@@ -109,18 +141,21 @@ public class ExpenseService {
             expense.setDescription(request.description());
         }
         if (request.expenseDate() != null) {
+            validateExpenseDate(request.expenseDate());
             expense.setExpenseDate(request.expenseDate());
         }
 
         // Re-validate budget with the potentially updated amount/date/category.
-        validateMonthlyBudget(
+        List<BudgetAlertResponse> alerts = budgetEnforcement.check(
                 expense.getUser().getId(),
                 expense.getCategory().getId(),
                 expense.getAmount(),
-                expense.getExpenseDate()
+                expense.getExpenseDate(),
+                before
         );
 
         Expense saved = expenseRepository.save(expense);
+        budgetEnforcement.recordUpdated(currentUserId, before, saved, alerts);
         return expenseMapper.toExpenseResponse(saved);
     }
 
@@ -134,6 +169,21 @@ public class ExpenseService {
         return expenseMapper.toExpenseResponse(expense);
     }
 
+    /**
+     * Batch multi-get: returns the requested expenses the user owns, in request order, plus the ids
+     * that could not be found. One ownership-filtered query replaces a
+     * {@link #getExpense} call (and ownership query) per id.
+     */
+    @Transactional(readOnly = true)
+    public BatchLookupResponse<ExpenseResponse> lookupExpenses(UUID currentUserId, Collection<UUID> expenseIds) {
+        Set<UUID> requested = BatchLookupIds.normalize(expenseIds, batchLookupProperties.maxIds());
+        List<Expense> owned = ownershipValidationService.findOwnedExpenses(currentUserId, requested);
+        List<ExpenseResponse> found = BatchLookupIds.inRequestOrder(requested, owned, Expense::getId).stream()
+                .map(expenseMapper::toExpenseResponse)
+                .toList();
+        return new BatchLookupResponse<>(found, BatchLookupIds.missing(requested, owned, Expense::getId));
+    }
+
     /**
      * Soft deletes an expense by setting the deleted flag to true.
      * <p>
@@ -154,6 +204,7 @@ public class ExpenseService {
             expense.setDeletedAt(java.time.Instant.now());
         }
         expenseRepository.save(expense);
+        budgetEnforcement.recordDeleted(currentUserId, expense);
     }
 
     /**
@@ -171,6 +222,17 @@ public class ExpenseService {
     private static final int DEFAULT_SIZE = 10;
     private static final int MAX_SIZE = 100;
 
+    /** Fields accepted by {@code fields=} on the list endpoint, in {@link ExpenseResponse} order. */
+    public static final List<String> LIST_FIELDS = List.of("id", "categoryId", "amount", "description", "expenseDate");
+
+    private static final Map<String, String> FIELD_PATHS = Map.of(
+            "id", "id",
+            "categoryId", "category.id",
+            "amount", "amount",
+            "description", "description",
+            "expenseDate", "expenseDate"
+    );
+
     /**
      * Lists expenses for a user with optional filters, pagination, and sorting.
      * Validates params, fetches page, maps to DTOs, returns paginated response.
@@ -178,22 +240,78 @@ public class ExpenseService {
     @Transactional(readOnly = true)
     public PageResponse<ExpenseResponse> listExpenses(UUID currentUserId, ExpenseListParams params,
                                                       int page, int size, List<String> sortParams) {
+        validateListFilters(currentUserId, params);
+
+        Pageable pageable = toPageable(page, size, sortParams);
+        Specification<Expense> spec = ExpenseSpecification.fromParams(currentUserId, params);
+        Page<Expense> expensePage = expenseRepository.findAll(spec, pageable);
+        return PageResponse.of(expensePage.map(expenseMapper::toExpenseResponse));
+    }
+
+    /**
+     * Same as {@link #listExpenses} but returns only the requested {@code fields} (comma-separated,
+     * validated against {@link #LIST_FIELDS}). Only those columns are selected, so e.g. a mobile list
+     * asking for {@code id,amount,expenseDate,categoryId} never reads {@code description}.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> listExpenseFields(UUID currentUserId, ExpenseListParams params,
+                                                               int page, int size, List<String> sortParams,
+                                                               String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, LIST_FIELDS);
+        validateListFilters(currentUserId, params);
+
+        Pageable pageable = toPageable(page, size, sortParams);
+        Specification<Expense> spec = ExpenseSpecification.fromParams(currentUserId, params);
+        Page<Map<String, Object>> rows = sparseFieldRepository.findPage(
+                Expense.class, spec, FIELD_PATHS, selection.getFields(), pageable);
+        return PageResponse.of(rows);
+    }
+
+    // Package-private for ReactiveReadService, which pages the same way.
+    static Pageable toPageable(int page, int size, List<String> sortParams) {
+        int validPage = Math.max(0, page);
+        int validSize = size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+        return PageRequest.of(validPage, validSize, parseSort(sortParams));
+    }
+
+    /**
+     * Validates list/export filters: date and amount ranges must be ordered and a filtered
+     * category must belong to the user. Exposed separately so the export endpoint can reject
+     * bad input with a normal error response before it starts streaming.
+     */
+    @Transactional(readOnly = true)
+    public void validateListFilters(UUID currentUserId, ExpenseListParams params) {
         validateListParams(params);
         if (params.categoryId() != null) {
             loadCategoryForUser(params.categoryId(), currentUserId);
         }
+    }
 
-        int validPage = Math.max(0, page);
-        int validSize = size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
-        Sort sortObj = parseSort(sortParams);
-        Pageable pageable = PageRequest.of(validPage, validSize, sortObj);
+    /**
+     * Streams every expense matching the filters to {@code out} in the requested format.
+     * <p>
+     * Unlike {@link #getExpensesForUser}, nothing is collected into a list: rows flow from a
+     * server-side cursor (see {@link ExpenseExportRepository}) through the writer to the stream,
+     * so heap use stays flat whether the user has a hundred rows or millions.
+     * The read-only transaction is required for the cursor; it is opened on the thread that
+     * writes the response, not the request thread. Call {@link #validateListFilters} first.
+     */
+    @Transactional(readOnly = true)
+    public void exportExpenses(UUID currentUserId, ExpenseListParams params, ExpenseExportFormat format,
+                               OutputStream out) throws IOException {
+        ExpenseExportWriter writer = ExpenseExportWriter.create(format, out, objectMapper);
+        expenseExportRepository.streamForUser(currentUserId, params, writer::writeRow);
+        writer.finish();
+        log.info("Expenses exported: userId={}, format={}", currentUserId, format);
+    }
 
-        Specification<Expense> spec = ExpenseSpecification.fromParams(currentUserId, params);
-        Page<Expense> expensePage = expenseRepository.findAll(spec, pageable);
-        return PageResponse.of(expensePage.map(expenseMapper::toExpenseResponse));
+    static void validateExpenseDate(LocalDate expenseDate) {
+        if (expenseDate != null && (expenseDate.isBefore(MIN_EXPENSE_DATE) || expenseDate.isAfter(MAX_EXPENSE_DATE))) {
+            throw new ValidationException("Expense date must be between " + MIN_EXPENSE_DATE + " and " + MAX_EXPENSE_DATE);
+        }
     }
 
-    private void validateListParams(ExpenseListParams params) {
+    static void validateListParams(ExpenseListParams params) {
         if (params.fromDate() != null && params.toDate() != null && params.fromDate().isAfter(params.toDate())) {
             throw new ValidationException("fromDate must be before or equal to toDate");
         }
@@ -207,7 +325,8 @@ public class ExpenseService {
             "amount", "createdAt", "expenseDate", "categoryId", "description"
     );
 
-    private static Sort parseSort(List<String> sortParams) {
+    // Package-private for ExpenseServiceBenchmark (src/jmh).
+    static Sort parseSort(List<String> sortParams) {
         if (sortParams == null || sortParams.isEmpty()) {
             return Sort.by(Sort.Direction.DESC, "expenseDate");
         }
@@ -246,50 +365,10 @@ public class ExpenseService {
     }
 
     private Category loadCategoryForUser(UUID categoryId, UUID currentUserId) {
-        return categoryRepository.findByIdAndUser_Id(categoryId, currentUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found or access denied"));
-    }
-
-    /**
-     * Validates that adding an expense of the given amount for the given user/category
-     * in the month of {@code expenseDate} does not exceed the configured monthly budget.
-     * <p>
-     * Behavior when no budget exists for that user/category/month: treated as \"no limit\".
-     * For the month of the expense, calculate how much the user has already spent in that category.
-     * If a budget exists and adding this expense would exceed it, throw an exception.”
-     */
-    private void validateMonthlyBudget(UUID userId, UUID categoryId, BigDecimal expenseAmount, LocalDate expenseDate) {
-        if (expenseAmount == null || expenseDate == null || categoryId == null) {
-            return;
-        }
-
-        YearMonth ym = YearMonth.from(expenseDate);
-        LocalDate start = ym.atDay(1);
-        LocalDate end = ym.atEndOfMonth();
-
-        BigDecimal alreadySpent = expenseRepository.sumAmountByUserAndCategoryAndDateRange(
-                userId, categoryId, start, end);
-        if (alreadySpent == null) {
-            alreadySpent = BigDecimal.ZERO;
-        }
-
-        List<Budget> budgets = budgetRepository.findByUserAndYearAndMonthAndCategory(
-                userId, ym.getYear(), ym.getMonthValue(), categoryId);
-        if (budgets.isEmpty()) {
-            // No budget configured for this category in this month → treat as no limit.
-            return;
-        }
-
-        BigDecimal budgetLimit = budgets.stream()
-                .map(Budget::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal projected = alreadySpent.add(expenseAmount);
-        if (projected.compareTo(budgetLimit) > 0) {
-            log.warn("Budget validation failed: userId={}, categoryId={}, expenseAmount={}, alreadySpent={}, budgetLimit={}, projected={}",
-                    userId, categoryId, expenseAmount, alreadySpent, budgetLimit, projected);
-            throw new BudgetExceededException("Expense exceeds remaining monthly budget");
+        if (!userCategoryCache.owns(currentUserId, categoryId)) {
+            throw new ResourceNotFoundException("Category not found or access denied");
         }
+        // Ownership is checked against the cache; only the id is needed to reference the category.
+        return categoryRepository.getReferenceById(categoryId);
     }
 }
-
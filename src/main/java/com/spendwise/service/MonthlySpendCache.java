@@ -0,0 +1,75 @@
+package com.spendwise.service;
+
+import com.spendwise.config.CacheConfig;
+import com.spendwise.repository.SpendRollupRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Non-deleted spend per category of one user in one month, the input of every budget's
+ * {@code totalSpent} / {@code remainingBudget}. It is read from {@code monthly_spend_rollup}, so expenses
+ * archived for their age still count, as in the yearly budgets and the reports. Budget pages are read far
+ * more often than expenses are written, so the month's rows are cached ({@link CacheConfig#MONTHLY_SPEND_CACHE},
+ * bounded, with hit/miss counts under the {@code cache.gets} metric).
+ * <p>
+ * Only expense writes change it: they evict their user and month(s) through {@link #evictAfterCompletion}.
+ * Archival moves rows without changing the rollup, so it needs no eviction.
+ * Budget writes need no eviction, since a budget's metrics are derived from the cached spend and the
+ * budget's current amount and categories on every read.
+ * <p>
+ * Eviction runs after the writing transaction completes. A read that is loading the entry concurrently is
+ * waited for and its (possibly pre-commit) result dropped; a read starting later sees the committed rows.
+ */
+@Component
+public class MonthlySpendCache {
+
+    private final Cache cache;
+    private final SpendRollupRepository spendRollupRepository;
+
+    public MonthlySpendCache(CacheManager cacheManager, SpendRollupRepository spendRollupRepository) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.MONTHLY_SPEND_CACHE),
+                "Cache " + CacheConfig.MONTHLY_SPEND_CACHE + " is not configured");
+        this.spendRollupRepository = spendRollupRepository;
+    }
+
+    /**
+     * Spend per category id for the user's month; categories without expenses are absent.
+     */
+    public Map<UUID, BigDecimal> spendByCategory(UUID userId, YearMonth month) {
+        return cache.get(new Key(userId, month), () -> load(userId, month));
+    }
+
+    /**
+     * Evicts the user's month once the current transaction has committed or rolled back, or right away
+     * outside a transaction.
+     */
+    public void evictAfterCompletion(UUID userId, YearMonth month) {
+        Key key = new Key(userId, month);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evict(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.evict(key);
+            }
+        });
+    }
+
+    private Map<UUID, BigDecimal> load(UUID userId, YearMonth month) {
+        return Map.copyOf(spendRollupRepository.sumMonthByCategory(userId, month.getYear(), month.getMonthValue()));
+    }
+
+    private record Key(UUID userId, YearMonth month) {
+    }
+}
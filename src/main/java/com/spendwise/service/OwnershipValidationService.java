@@ -7,6 +7,8 @@ import com.spendwise.repository.BudgetRepository;
 import com.spendwise.repository.ExpenseRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -70,4 +72,20 @@ public class OwnershipValidationService {
         return budgetRepository.findByIdAndUser_IdAndDeletedAtIsNull(budgetId, userId)
                 .orElseThrow(() -> new UnauthorizedAccessException("You are not allowed to access this budget"));
     }
+
+    /**
+     * Batch ownership filter: returns the expenses among {@code expenseIds} that exist, are not
+     * soft deleted and belong to the user, in a single query. Unlike {@link #validateUserOwnsExpense}
+     * it does not throw; callers report the ids that are absent.
+     */
+    public List<Expense> findOwnedExpenses(UUID userId, Collection<UUID> expenseIds) {
+        return expenseRepository.findAllByIdInAndUserWithCategory(expenseIds, userId);
+    }
+
+    /**
+     * Batch ownership filter for budgets; see {@link #findOwnedExpenses}.
+     */
+    public List<Budget> findOwnedBudgets(UUID userId, Collection<UUID> budgetIds) {
+        return budgetRepository.findAllByIdInAndUserWithCategories(budgetIds, userId);
+    }
 }
@@ -0,0 +1,130 @@
+package com.spendwise.service;
+
+import com.spendwise.domain.entity.Budget;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.dto.request.ExpenseListParams;
+import com.spendwise.dto.response.BudgetResponse;
+import com.spendwise.dto.response.CategoryResponse;
+import com.spendwise.dto.response.ExpenseResponse;
+import com.spendwise.dto.response.PageResponse;
+import com.spendwise.exception.ResourceNotFoundException;
+import com.spendwise.mapper.BudgetMapper;
+import com.spendwise.repository.ReactiveReadRepository;
+import com.spendwise.repository.ReactiveReadRepository.BudgetRow;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The read side of {@link ExpenseService}, {@link CategoryService} and {@link BudgetService} for the reactive
+ * read API: the same validation, paging, budget metrics, forecasts and response mapping, over
+ * {@link ReactiveReadRepository} instead of JPA.
+ * <p>
+ * The in-process caches ({@link MonthlySpendCache}, {@link SpendForecastCache}, {@link UserCategoryCache})
+ * are not used: they load on the calling thread through JDBC, which must not happen on an event loop. Every
+ * read here goes to the database through the R2DBC pool.
+ */
+@Service
+@ConditionalOnProperty(prefix = "spendwise.reactive-api", name = "enabled", havingValue = "true")
+public class ReactiveReadService {
+
+    private final ReactiveReadRepository repository;
+    private final BudgetMapper budgetMapper;
+
+    public ReactiveReadService(ReactiveReadRepository repository, BudgetMapper budgetMapper) {
+        this.repository = repository;
+        this.budgetMapper = budgetMapper;
+    }
+
+    /**
+     * Same as {@link ExpenseService#listExpenses}. As with Spring Data, the count query is skipped when the
+     * page shows the total already (a first page, or any non-empty page, with fewer rows than its size).
+     */
+    public Mono<PageResponse<ExpenseResponse>> listExpenses(UUID currentUserId, ExpenseListParams params,
+                                                            int page, int size, List<String> sortParams) {
+        ExpenseService.validateListParams(params);
+        Pageable pageable = ExpenseService.toPageable(page, size, sortParams);
+        Mono<Void> categoryCheck = params.categoryId() == null ? Mono.empty()
+                : repository.categoryBelongsToUser(params.categoryId(), currentUserId)
+                        .flatMap(owned -> owned ? Mono.<Void>empty()
+                                : Mono.error(new ResourceNotFoundException("Category not found or access denied")));
+        return categoryCheck.then(repository.findExpenses(currentUserId, params, pageable.getSort(),
+                                pageable.getPageSize(), pageable.getOffset())
+                        .collectList())
+                .flatMap(content -> {
+                    boolean totalKnown = (pageable.getOffset() == 0 || !content.isEmpty())
+                            && content.size() < pageable.getPageSize();
+                    Mono<Long> total = totalKnown ? Mono.just(pageable.getOffset() + content.size())
+                            : repository.countExpenses(currentUserId, params);
+                    return total.map(count -> PageResponse.of(new PageImpl<>(content, pageable, count)));
+                });
+    }
+
+    public Mono<List<CategoryResponse>> listCategories(UUID currentUserId) {
+        return repository.findCategories(currentUserId).collectList();
+    }
+
+    /**
+     * Same as {@link BudgetService#getBudgetsForUser}: the month's budgets, then its spend per category and the
+     * user's forecast models, read concurrently.
+     */
+    public Mono<List<BudgetResponse>> listBudgets(UUID currentUserId, int year, int month) {
+        BudgetService.validateMonth(month);
+        return repository.findBudgets(currentUserId, year, month)
+                .map(ReactiveReadService::toBudget)
+                .collectList()
+                .flatMap(budgets -> {
+                    if (budgets.isEmpty()) {
+                        return Mono.just(List.<BudgetResponse>of());
+                    }
+                    return Mono.zip(
+                                    repository.sumSpendByCategory(currentUserId, year, month),
+                                    repository.findMonthlyEwma(currentUserId))
+                            .map(loaded -> toResponses(budgets, loaded.getT1(), loaded.getT2()));
+                });
+    }
+
+    private List<BudgetResponse> toResponses(List<Budget> budgets, Map<UUID, BigDecimal> spendByCategory,
+                                             Map<UUID, BigDecimal> monthlyEwma) {
+        LocalDate today = LocalDate.now();
+        List<BudgetResponse> responses = new ArrayList<>(budgets.size());
+        for (Budget budget : budgets) {
+            BudgetService.BudgetMetrics metrics = BudgetService.calculateBudgetMetrics(budget, spendByCategory);
+            BudgetForecast forecast = BudgetForecast.of(budget, metrics.totalSpent(), monthlyEwma, today);
+            responses.add(budgetMapper.toBudgetResponse(budget, metrics.totalSpent(), metrics.remainingBudget(),
+                    forecast.projectedSpent(), forecast.status()));
+        }
+        return responses;
+    }
+
+    /**
+     * A detached {@link Budget} carrying what metrics, forecasts and the mapper read; never persisted.
+     */
+    private static Budget toBudget(BudgetRow row) {
+        Set<Category> categories = new HashSet<>();
+        for (UUID categoryId : row.categoryIds()) {
+            Category category = new Category();
+            category.setId(categoryId);
+            categories.add(category);
+        }
+        Budget budget = new Budget();
+        budget.setId(row.id());
+        budget.setAmount(row.amount());
+        budget.setYear(row.year());
+        budget.setMonth(row.month());
+        budget.setAlertThresholds(row.alertThresholds());
+        budget.setCategories(categories);
+        return budget;
+    }
+}
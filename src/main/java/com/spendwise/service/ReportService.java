@@ -0,0 +1,111 @@
+package com.spendwise.service;
+
+import com.spendwise.config.CacheConfig;
+import com.spendwise.config.ReportProperties;
+import com.spendwise.dto.response.CategoryBreakdownResponse;
+import com.spendwise.dto.response.ExpenseResponse;
+import com.spendwise.dto.response.MonthlySummaryResponse;
+import com.spendwise.dto.response.TopExpensesResponse;
+import com.spendwise.exception.ValidationException;
+import com.spendwise.repository.ReportRepository;
+import com.spendwise.repository.ReportRepository.MonthlyTotals;
+import com.spendwise.repository.ReportRepository.TopExpenseRow;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Spending reports for one user and month. Each report is a single aggregation query
+ * (see {@link ReportRepository}) and is cached for {@code spendwise.reports.cache-ttl}; the cache key
+ * always starts with the user id, so entries are never shared between users. A report can therefore
+ * lag an expense change by up to the TTL.
+ */
+@Service
+public class ReportService {
+
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_YEAR = 2100;
+
+    private final ReportRepository reportRepository;
+    private final ReportProperties reportProperties;
+
+    public ReportService(ReportRepository reportRepository, ReportProperties reportProperties) {
+        this.reportRepository = reportRepository;
+        this.reportProperties = reportProperties;
+    }
+
+    @Cacheable(CacheConfig.MONTHLY_SUMMARY_CACHE)
+    @Transactional(readOnly = true)
+    public MonthlySummaryResponse getMonthlySummary(UUID currentUserId, int year, int month) {
+        YearMonth period = toYearMonth(year, month);
+        MonthlyTotals totals = reportRepository.findMonthlyTotals(currentUserId, period);
+        BigDecimal average = totals.expenseCount() == 0
+                ? BigDecimal.ZERO
+                : totals.totalAmount().divide(BigDecimal.valueOf(totals.expenseCount()), 2, RoundingMode.HALF_UP);
+        return new MonthlySummaryResponse(year, month, totals.totalAmount(), totals.expenseCount(), average,
+                totals.previousTotalAmount());
+    }
+
+    @Cacheable(CacheConfig.CATEGORY_BREAKDOWN_CACHE)
+    @Transactional(readOnly = true)
+    public CategoryBreakdownResponse getCategoryBreakdown(UUID currentUserId, int year, int month) {
+        YearMonth period = toYearMonth(year, month);
+        List<CategoryBreakdownResponse.Item> items = reportRepository.findCategoryTotals(currentUserId, period).stream()
+                .map(row -> new CategoryBreakdownResponse.Item(row.categoryId(), row.categoryName(),
+                        row.totalAmount(), row.expenseCount(), row.sharePercent()))
+                .toList();
+        BigDecimal total = items.stream()
+                .map(CategoryBreakdownResponse.Item::totalAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new CategoryBreakdownResponse(year, month, total, items);
+    }
+
+    /**
+     * Top {@code limit} expenses per category; null limit means {@code spendwise.reports.default-top-expenses}.
+     */
+    @Cacheable(CacheConfig.TOP_EXPENSES_CACHE)
+    @Transactional(readOnly = true)
+    public TopExpensesResponse getTopExpenses(UUID currentUserId, int year, int month, Integer limit) {
+        YearMonth period = toYearMonth(year, month);
+        int validLimit = validateLimit(limit);
+
+        Map<UUID, TopExpensesResponse.CategoryTopExpenses> byCategory = new LinkedHashMap<>();
+        for (TopExpenseRow row : reportRepository.findTopExpensesPerCategory(currentUserId, period, validLimit)) {
+            byCategory.computeIfAbsent(row.categoryId(), id -> new TopExpensesResponse.CategoryTopExpenses(
+                            id, row.categoryName(), new ArrayList<>()))
+                    .expenses()
+                    .add(new ExpenseResponse(row.expenseId(), row.categoryId(), row.amount(), row.description(),
+                            row.expenseDate()));
+        }
+        return new TopExpensesResponse(year, month, validLimit, List.copyOf(byCategory.values()));
+    }
+
+    private int validateLimit(Integer limit) {
+        if (limit == null) {
+            return reportProperties.defaultTopExpenses();
+        }
+        if (limit < 1 || limit > reportProperties.maxTopExpenses()) {
+            throw new ValidationException("limit must be between 1 and " + reportProperties.maxTopExpenses());
+        }
+        return limit;
+    }
+
+    private static YearMonth toYearMonth(int year, int month) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new ValidationException("Year must be between " + MIN_YEAR + " and " + MAX_YEAR);
+        }
+        if (month < 1 || month > 12) {
+            throw new ValidationException("Month must be between 1 and 12");
+        }
+        return YearMonth.of(year, month);
+    }
+}
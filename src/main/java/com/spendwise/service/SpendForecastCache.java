@@ -0,0 +1,69 @@
+package com.spendwise.service;
+
+import com.spendwise.config.CacheConfig;
+import com.spendwise.repository.SpendForecastRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Each user's forecast models (modelled monthly spend per category), the history part of every budget's
+ * {@code projectedSpent}. Models change far less often than budgets are read, so they are cached
+ * ({@link CacheConfig#SPEND_FORECAST_CACHE}, bounded, counted under the {@code cache.*} metrics).
+ * <p>
+ * {@link SpendRollupService} evicts the user after an expense change that moved a model (one dated in a
+ * past month the model covers) once its transaction has completed, and the refresh job evicts each chunk of
+ * users it has rebuilt.
+ */
+@Component
+public class SpendForecastCache {
+
+    private final Cache cache;
+    private final SpendForecastRepository spendForecastRepository;
+
+    public SpendForecastCache(CacheManager cacheManager, SpendForecastRepository spendForecastRepository) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.SPEND_FORECAST_CACHE),
+                "Cache " + CacheConfig.SPEND_FORECAST_CACHE + " is not configured");
+        this.spendForecastRepository = spendForecastRepository;
+    }
+
+    /**
+     * Modelled monthly spend per category id; categories without a model are absent.
+     */
+    public Map<UUID, BigDecimal> monthlyEwmaByCategory(UUID userId) {
+        return cache.get(userId, () -> Collections.unmodifiableMap(spendForecastRepository.findMonthlyEwmaByUser(userId)));
+    }
+
+    /**
+     * Evicts the user once the current transaction has committed or rolled back, or right away outside a
+     * transaction.
+     */
+    public void evictAfterCompletion(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.evict(userId);
+            }
+        });
+    }
+
+    /**
+     * Evicts the users right away, after a committed rebuild of their models.
+     */
+    public void evict(Collection<UUID> userIds) {
+        userIds.forEach(cache::evict);
+    }
+}
@@ -0,0 +1,109 @@
+package com.spendwise.service;
+
+import com.spendwise.domain.entity.Expense;
+import com.spendwise.repository.SpendRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the daily/monthly spend rollups in step with expense changes, and serves the month and year spend
+ * that budgets are checked against from them.
+ * <p>
+ * Called through {@link BudgetEnforcement} by {@link ExpenseService} after the change has been validated. Propagation MANDATORY:
+ * a rollup delta outside the expense's transaction could commit while the expense rolls back
+ * (or the other way round), and the rollups would drift from the fact table.
+ * <p>
+ * The delta statement also updates the user/category forecast model when the change is dated in a month
+ * the model covers; the user's cached models are then evicted.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class SpendRollupService {
+
+    private final SpendRollupRepository spendRollupRepository;
+    private final SpendForecastCache spendForecastCache;
+
+    public SpendRollupService(SpendRollupRepository spendRollupRepository, SpendForecastCache spendForecastCache) {
+        this.spendRollupRepository = spendRollupRepository;
+        this.spendForecastCache = spendForecastCache;
+    }
+
+    public void recordCreated(SpendEntry entry) {
+        applyDelta(entry.userId(), entry.categoryId(), entry.date(), entry.amount(), 1);
+    }
+
+    public void recordDeleted(SpendEntry entry) {
+        applyDelta(entry.userId(), entry.categoryId(), entry.date(), entry.amount().negate(), -1);
+    }
+
+    /**
+     * Moves an expense between buckets. When category and date are unchanged only the amount
+     * difference is applied (one statement); otherwise it leaves the old bucket and enters the new one.
+     */
+    public void recordUpdated(SpendEntry before, SpendEntry after) {
+        if (before.equals(after)) {
+            return;
+        }
+        if (before.categoryId().equals(after.categoryId()) && before.date().equals(after.date())) {
+            applyDelta(after.userId(), after.categoryId(), after.date(), after.amount().subtract(before.amount()), 0);
+            return;
+        }
+        recordDeleted(before);
+        recordCreated(after);
+    }
+
+    private void applyDelta(UUID userId, UUID categoryId, LocalDate date, BigDecimal amount, int count) {
+        if (spendRollupRepository.applyDelta(userId, categoryId, date, amount, count)) {
+            spendForecastCache.evictAfterCompletion(userId);
+        }
+    }
+
+    /**
+     * Drops a category's rollup rows and forecast model before the category is deleted. Callers have checked
+     * that it has no live expenses, so only zero rows are left.
+     */
+    public void recordCategoryDeleted(UUID userId, UUID categoryId) {
+        if (spendRollupRepository.deleteForCategory(userId, categoryId)) {
+            spendForecastCache.evictAfterCompletion(userId);
+        }
+    }
+
+    /**
+     * Spend per category of the user in {@code year}, from the monthly rollup.
+     */
+    public Map<UUID, BigDecimal> yearSpendByCategory(UUID userId, int year) {
+        return spendRollupRepository.sumYearByCategory(userId, year);
+    }
+
+    /**
+     * Spend of each of the user's monthly and yearly budgets of {@code year}, from the monthly rollup.
+     */
+    public Map<UUID, BigDecimal> yearSpendByBudget(UUID userId, int year) {
+        return spendRollupRepository.sumYearByBudget(userId, year);
+    }
+
+    /**
+     * Spend per category of the user in {@code month}, from the monthly rollup.
+     */
+    public Map<UUID, BigDecimal> monthSpendByCategory(UUID userId, YearMonth month) {
+        return spendRollupRepository.sumMonthByCategory(userId, month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * The rollup-relevant part of an expense, captured before an update mutates the entity.
+     */
+    public record SpendEntry(UUID userId, UUID categoryId, LocalDate date, BigDecimal amount) {
+
+        public static SpendEntry of(Expense expense) {
+            return new SpendEntry(expense.getUser().getId(), expense.getCategory().getId(),
+                    expense.getExpenseDate(), expense.getAmount());
+        }
+    }
+}
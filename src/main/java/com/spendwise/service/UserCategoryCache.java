@@ -0,0 +1,74 @@
+package com.spendwise.service;
+
+import com.spendwise.config.CacheConfig;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.repository.CategoryRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * All categories of one user, id to name, so that ownership checks on expense and budget writes, category
+ * filters and category reads are memory lookups instead of a query per id. Entries are bounded and
+ * counted under the {@code cache.*} metrics ({@link CacheConfig#CATEGORIES_CACHE}).
+ * <p>
+ * {@link CategoryService} evicts the user after every category create, update and delete, once the
+ * transaction has completed; a concurrent read loading the entry is waited for and its result dropped.
+ * Entities are not cached: callers that need a {@link Category} take a reference to the checked id.
+ */
+@Component
+public class UserCategoryCache {
+
+    private final Cache cache;
+    private final CategoryRepository categoryRepository;
+
+    public UserCategoryCache(CacheManager cacheManager, CategoryRepository categoryRepository) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CATEGORIES_CACHE),
+                "Cache " + CacheConfig.CATEGORIES_CACHE + " is not configured");
+        this.categoryRepository = categoryRepository;
+    }
+
+    /**
+     * The user's category names by id, in the order the repository returned them.
+     */
+    public Map<UUID, String> namesById(UUID userId) {
+        return cache.get(userId, () -> load(userId));
+    }
+
+    public boolean owns(UUID userId, UUID categoryId) {
+        return namesById(userId).containsKey(categoryId);
+    }
+
+    /**
+     * Evicts the user once the current transaction has committed or rolled back, or right away outside a
+     * transaction.
+     */
+    public void evictAfterCompletion(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.evict(userId);
+            }
+        });
+    }
+
+    private Map<UUID, String> load(UUID userId) {
+        Map<UUID, String> names = new LinkedHashMap<>();
+        for (Category category : categoryRepository.findByUser_Id(userId)) {
+            names.put(category.getId(), category.getName());
+        }
+        return Collections.unmodifiableMap(names);
+    }
+}
@@ -0,0 +1,3 @@
+-- Percentages of a budget's amount at which an expense write pushes an alert to the user's connected
+-- clients (GET /budgets/alerts). A constant default does not rewrite the table.
+ALTER TABLE budgets ADD COLUMN alert_thresholds integer[] NOT NULL DEFAULT '{80,100}';
@@ -0,0 +1,20 @@
+-- Per (user, category) model of monthly spend behind the budget forecasts: an exponentially weighted moving
+-- average of the month totals from first_month to last_month, both month indexes (year * 12 + month - 1).
+-- first_month is the first month with spend in the history window, last_month the last completed month
+-- at the time of the refresh; alpha is the smoothing factor the average was built with.
+-- Rebuilt from monthly_spend_rollup by SpendForecastRefreshJob (nightly, in chunks of users). Between
+-- refreshes the rollup delta statement adds every expense change dated in first_month..last_month with
+-- that month's weight, so the stored average stays exact; spend outside that range waits for the refresh.
+
+CREATE TABLE spend_forecast_model (
+    user_id uuid NOT NULL,
+    category_id uuid NOT NULL,
+    monthly_ewma numeric(19,4) NOT NULL,
+    alpha numeric(5,4) NOT NULL,
+    first_month integer NOT NULL,
+    last_month integer NOT NULL,
+    refreshed_at timestamptz NOT NULL,
+    CONSTRAINT pk_spend_forecast_model PRIMARY KEY (user_id, category_id),
+    CONSTRAINT fk_spend_forecast_model_user FOREIGN KEY (user_id) REFERENCES users(id),
+    CONSTRAINT fk_spend_forecast_model_category FOREIGN KEY (category_id) REFERENCES categories(id)
+);
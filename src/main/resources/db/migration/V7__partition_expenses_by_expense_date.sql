@@ -0,0 +1,115 @@
+-- Declarative range partitioning of expenses on expense_date.
+--
+-- Granularity comes from the Flyway placeholder expensePartitionGranularity ('yearly' or 'monthly',
+-- see spring.flyway.placeholders in application.yml) and is fixed once this migration has run.
+-- Partitions are named expenses_pYYYY (yearly) or expenses_pYYYY_MM (monthly); rows outside every
+-- partition go to expenses_default. ensure_expense_partitions() creates missing partitions and is
+-- called ahead of time by ExpensePartitionMaintenanceJob, which also drains expenses_default.
+--
+-- Consequences of partitioning:
+-- - The primary key becomes (id, expense_date): a unique constraint must contain the partition key.
+--   id stays unique in practice (random UUIDs); Hibernate still addresses rows by id.
+-- - Foreign keys can only reference a unique constraint, so expense_audit_logs.expense_id loses its FK.
+-- - Queries with an expense_date range are pruned to the matching partitions; lookups by id alone
+--   probe the primary key index of every partition.
+--
+-- The conversion below copies the table under an exclusive lock, which is fine for small and medium
+-- tables. For large tables, follow docs/expenses-partitioning.md first: it converts the table online,
+-- and this migration then only installs the partition function.
+
+CREATE OR REPLACE FUNCTION ensure_expense_partitions(p_from date, p_to date)
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_granularity constant text := '${expensePartitionGranularity}';
+    v_step interval;
+    v_start date;
+    v_end date;
+    v_name text;
+    v_created integer := 0;
+BEGIN
+    IF v_granularity = 'monthly' THEN
+        v_step := interval '1 month';
+        v_start := date_trunc('month', p_from)::date;
+    ELSIF v_granularity = 'yearly' THEN
+        v_step := interval '1 year';
+        v_start := date_trunc('year', p_from)::date;
+    ELSE
+        RAISE EXCEPTION 'Unsupported expense partition granularity: % (expected yearly or monthly)', v_granularity;
+    END IF;
+
+    -- Serializes concurrent callers (several application instances run the maintenance job).
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_expense_partitions'));
+
+    WHILE v_start <= p_to LOOP
+        v_end := (v_start + v_step)::date;
+        v_name := CASE v_granularity
+                      WHEN 'monthly' THEN 'expenses_p' || to_char(v_start, 'YYYY_MM')
+                      ELSE 'expenses_p' || to_char(v_start, 'YYYY')
+                  END;
+        IF to_regclass(v_name) IS NULL THEN
+            -- Created detached and then attached: ATTACH only needs SHARE UPDATE EXCLUSIVE on expenses,
+            -- whereas CREATE TABLE ... PARTITION OF would block all reads and writes of the table.
+            -- Rows of this range that already landed in the default partition are moved over first,
+            -- otherwise the attach fails its constraint check.
+            EXECUTE format('CREATE TABLE %I (LIKE expenses INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+            EXECUTE format('WITH moved AS (DELETE FROM expenses_default WHERE expense_date >= %L AND expense_date < %L RETURNING *) '
+                           'INSERT INTO %I SELECT * FROM moved', v_start, v_end, v_name);
+            EXECUTE format('ALTER TABLE expenses ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', v_name, v_start, v_end);
+            v_created := v_created + 1;
+        END IF;
+        v_start := v_end;
+    END LOOP;
+    RETURN v_created;
+END;
+$$;
+
+DO $$
+DECLARE
+    v_month date;
+BEGIN
+    IF (SELECT c.relkind FROM pg_class c WHERE c.oid = 'expenses'::regclass) = 'p' THEN
+        RAISE NOTICE 'expenses is already partitioned (online migration); only ensuring upcoming partitions';
+        PERFORM ensure_expense_partitions(current_date, (current_date + interval '3 months')::date);
+        RETURN;
+    END IF;
+
+    ALTER TABLE expense_audit_logs DROP CONSTRAINT IF EXISTS fk_expense_audit_logs_expense;
+    ALTER TABLE expenses RENAME TO expenses_unpartitioned;
+
+    CREATE TABLE expenses (LIKE expenses_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS)
+        PARTITION BY RANGE (expense_date);
+    CREATE TABLE expenses_default PARTITION OF expenses DEFAULT;
+
+    -- Partitions only for the periods that hold rows of the last five years (plus the create-ahead window).
+    -- A range from min to max would create every period in between in this one transaction, and a single
+    -- mistyped date decades off would make that thousands of tables. Older and later rows are copied into
+    -- expenses_default; ExpensePartitionMaintenanceJob moves them out one period per transaction.
+    FOR v_month IN
+        SELECT DISTINCT date_trunc('month', expense_date)::date
+        FROM expenses_unpartitioned
+        WHERE expense_date >= date_trunc('year', current_date - interval '5 years')
+          AND expense_date <= current_date + interval '3 months'
+        ORDER BY 1
+    LOOP
+        PERFORM ensure_expense_partitions(v_month, v_month);
+    END LOOP;
+    PERFORM ensure_expense_partitions(current_date, (current_date + interval '3 months')::date);
+
+    INSERT INTO expenses SELECT * FROM expenses_unpartitioned;
+    DROP TABLE expenses_unpartitioned;
+
+    -- Constraints and indexes are created on the parent after the copy; they cascade to every partition.
+    ALTER TABLE expenses ADD CONSTRAINT expenses_pkey PRIMARY KEY (id, expense_date);
+    ALTER TABLE expenses ADD CONSTRAINT fk_expenses_user FOREIGN KEY (user_id) REFERENCES users(id);
+    ALTER TABLE expenses ADD CONSTRAINT fk_expenses_category FOREIGN KEY (category_id) REFERENCES categories(id);
+
+    CREATE INDEX idx_expenses_user_id ON expenses(user_id);
+    CREATE INDEX idx_expenses_category_id ON expenses(category_id);
+    CREATE INDEX idx_expenses_created_at ON expenses(created_at);
+    CREATE INDEX idx_expenses_user_deleted_expense_date ON expenses(user_id, deleted, expense_date DESC);
+    CREATE INDEX idx_expenses_user_category_deleted_expense_date ON expenses(user_id, category_id, deleted, expense_date DESC);
+    CREATE INDEX idx_expenses_deleted ON expenses(deleted);
+END;
+$$;
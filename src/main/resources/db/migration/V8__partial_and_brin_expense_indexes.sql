@@ -0,0 +1,33 @@
+-- Replace the soft-delete-aware expense indexes with partial ones and add a BRIN index on expense_date.
+-- Measured with docs/benchmarks/expense-index-strategies.sql; results and rationale in docs/expense-indexes.md.
+--
+-- Every live query filters deleted = false, so deleted is a predicate of the index instead of a key
+-- column: soft-deleted rows (about 5%) are no longer indexed and the standalone boolean index, which no
+-- plan used, goes away. Queries must compare deleted with a literal (JPQL "= false", Criteria isFalse)
+-- for the planner to match the partial predicate with generic plans.
+--
+-- On a partitioned table CREATE INDEX builds every partition's index while blocking writes to it; for a
+-- large table, build the partition indexes CONCURRENTLY first as described in docs/expense-indexes.md,
+-- after which the statements below only attach them.
+
+-- GET /expenses pages and date-range lists per user.
+CREATE INDEX IF NOT EXISTS idx_expenses_live_user_expense_date
+    ON expenses (user_id, expense_date DESC)
+    WHERE deleted = false;
+
+-- Category lists and the budget/category sums; amount is included so sums are index-only scans.
+CREATE INDEX IF NOT EXISTS idx_expenses_live_user_category_expense_date
+    ON expenses (user_id, category_id, expense_date DESC)
+    INCLUDE (amount)
+    WHERE deleted = false;
+
+-- Date-range scans across all users (archival, exports by period). Rows are appended roughly in
+-- expense_date order, so a block range summary a few hundred bytes large replaces a sequential scan;
+-- autosummarize keeps newly filled ranges summarized without waiting for VACUUM.
+CREATE INDEX IF NOT EXISTS idx_expenses_expense_date_brin
+    ON expenses USING brin (expense_date)
+    WITH (autosummarize = on);
+
+DROP INDEX IF EXISTS idx_expenses_user_deleted_expense_date;
+DROP INDEX IF EXISTS idx_expenses_user_category_deleted_expense_date;
+DROP INDEX IF EXISTS idx_expenses_deleted;
@@ -0,0 +1,24 @@
+-- Cold storage for expenses moved out of the live table by ExpenseArchivalJob.
+--
+-- Rows keep their id and every column of expenses, plus when and why they were archived:
+-- - 'DELETED': soft-deleted longer ago than spendwise.archival.deleted-retention;
+-- - 'AGED': expense_date older than spendwise.archival.older-than (opt-in).
+-- The table is not partitioned: it is written in batches, read by id or per user, and never pruned by
+-- date, so a plain primary key on id is enough (and can back audit lookups).
+
+CREATE TABLE expenses_archive (LIKE expenses INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS);
+
+ALTER TABLE expenses_archive
+    ADD COLUMN archived_at timestamptz NOT NULL DEFAULT now(),
+    ADD COLUMN archive_reason varchar(20) NOT NULL;
+
+ALTER TABLE expenses_archive ADD CONSTRAINT expenses_archive_pkey PRIMARY KEY (id);
+ALTER TABLE expenses_archive ADD CONSTRAINT fk_expenses_archive_user FOREIGN KEY (user_id) REFERENCES users(id);
+ALTER TABLE expenses_archive ADD CONSTRAINT fk_expenses_archive_category FOREIGN KEY (category_id) REFERENCES categories(id);
+
+CREATE INDEX idx_expenses_archive_user_expense_date ON expenses_archive (user_id, expense_date DESC);
+CREATE INDEX idx_expenses_archive_category_id ON expenses_archive (category_id);
+
+-- Keyset scan of soft-deleted rows in id order for the archival job. Only soft-deleted rows are indexed,
+-- so the index stays small and is emptied again by every archival run.
+CREATE INDEX idx_expenses_deleted_id ON expenses (id) WHERE deleted = true;
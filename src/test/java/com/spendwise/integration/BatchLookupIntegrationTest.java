@@ -0,0 +1,264 @@
+package com.spendwise.integration;
+
+import com.spendwise.dto.error.ErrorResponse;
+import com.spendwise.dto.request.BatchLookupRequest;
+import com.spendwise.dto.request.CreateBudgetRequest;
+import com.spendwise.dto.request.CreateCategoryRequest;
+import com.spendwise.dto.request.CreateExpenseRequest;
+import com.spendwise.dto.request.RegisterRequest;
+import com.spendwise.dto.response.AuthResponse;
+import com.spendwise.dto.response.BatchLookupResponse;
+import com.spendwise.dto.response.BudgetResponse;
+import com.spendwise.dto.response.CategoryResponse;
+import com.spendwise.dto.response.ExpenseResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batch multi-get for expenses and budgets, through both the {@code ?ids=} and the {@code POST .../lookup}
+ * form. The id limit is lowered to 3 so the 400 can be reached with a short list.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@ActiveProfiles("test")
+@DisplayName("Batch lookup integration")
+class BatchLookupIntegrationTest {
+
+    private static final ParameterizedTypeReference<BatchLookupResponse<ExpenseResponse>> EXPENSES =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<BatchLookupResponse<BudgetResponse>> BUDGETS =
+            new ParameterizedTypeReference<>() {};
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spendwise.batch-lookup.max-ids", () -> "3");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private HttpHeaders ownerHeaders;
+    private UUID march;
+    private UUID april;
+    private UUID deleted;
+    private UUID otherUsersExpense;
+    private UUID marchBudget;
+    private UUID aprilBudget;
+    private UUID otherUsersBudget;
+
+    private String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    @BeforeEach
+    void setUp() {
+        ownerHeaders = register("owner");
+        UUID category = createCategory(ownerHeaders);
+        march = createExpense(ownerHeaders, category, LocalDate.of(2025, 3, 10));
+        april = createExpense(ownerHeaders, category, LocalDate.of(2025, 4, 10));
+        deleted = createExpense(ownerHeaders, category, LocalDate.of(2025, 4, 11));
+        restTemplate.exchange(baseUrl() + "/expenses/" + deleted, HttpMethod.DELETE,
+                new HttpEntity<>(ownerHeaders), Void.class);
+        marchBudget = createBudget(ownerHeaders, category, 3);
+        aprilBudget = createBudget(ownerHeaders, category, 4);
+
+        HttpHeaders otherHeaders = register("other");
+        UUID otherCategory = createCategory(otherHeaders);
+        otherUsersExpense = createExpense(otherHeaders, otherCategory, LocalDate.of(2025, 3, 10));
+        otherUsersBudget = createBudget(otherHeaders, otherCategory, 3);
+    }
+
+    private HttpHeaders register(String name) {
+        String email = name + "-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        String accessToken = restTemplate.postForEntity(
+                baseUrl() + "/auth/register",
+                new RegisterRequest(email, "password123", name),
+                AuthResponse.class
+        ).getBody().accessToken();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        return headers;
+    }
+
+    private UUID createCategory(HttpHeaders headers) {
+        return restTemplate.exchange(baseUrl() + "/categories", HttpMethod.POST,
+                new HttpEntity<>(new CreateCategoryRequest("Food"), headers), CategoryResponse.class).getBody().id();
+    }
+
+    private UUID createExpense(HttpHeaders headers, UUID category, LocalDate date) {
+        return restTemplate.exchange(baseUrl() + "/expenses", HttpMethod.POST,
+                new HttpEntity<>(new CreateExpenseRequest(category, new BigDecimal("10.00"), "Lunch", date), headers),
+                ExpenseResponse.class).getBody().id();
+    }
+
+    private UUID createBudget(HttpHeaders headers, UUID category, int month) {
+        return restTemplate.exchange(baseUrl() + "/budgets", HttpMethod.POST,
+                new HttpEntity<>(new CreateBudgetRequest(new BigDecimal("500.00"), 2025, month, Set.of(category), null),
+                        headers),
+                BudgetResponse.class).getBody().id();
+    }
+
+    private static String idsParam(UUID... ids) {
+        return Stream.of(ids).map(UUID::toString).collect(Collectors.joining(","));
+    }
+
+    private <T> ResponseEntity<T> get(String path, Class<T> type) {
+        return restTemplate.exchange(baseUrl() + path, HttpMethod.GET, new HttpEntity<>(ownerHeaders), type);
+    }
+
+    private <T> ResponseEntity<T> get(String path, ParameterizedTypeReference<T> type) {
+        return restTemplate.exchange(baseUrl() + path, HttpMethod.GET, new HttpEntity<>(ownerHeaders), type);
+    }
+
+    private <T> ResponseEntity<T> post(String path, List<UUID> ids, Class<T> type) {
+        return restTemplate.exchange(baseUrl() + path, HttpMethod.POST,
+                new HttpEntity<>(new BatchLookupRequest(ids), ownerHeaders), type);
+    }
+
+    private <T> ResponseEntity<T> post(String path, List<UUID> ids, ParameterizedTypeReference<T> type) {
+        return restTemplate.exchange(baseUrl() + path, HttpMethod.POST,
+                new HttpEntity<>(new BatchLookupRequest(ids), ownerHeaders), type);
+    }
+
+    @Nested
+    @DisplayName("expenses")
+    class Expenses {
+
+        @Test
+        @DisplayName("GET ?ids= returns owned expenses in request order")
+        void getReturnsRequestOrder() {
+            ResponseEntity<BatchLookupResponse<ExpenseResponse>> response =
+                    get("/expenses?ids=" + idsParam(april, march), EXPENSES);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().found()).extracting(ExpenseResponse::id).containsExactly(april, march);
+            assertThat(response.getBody().missing()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("POST /expenses/lookup reports unknown, deleted and other users' ids as missing")
+        void postReportsMissing() {
+            UUID unknown = UUID.randomUUID();
+
+            ResponseEntity<BatchLookupResponse<ExpenseResponse>> response =
+                    post("/expenses/lookup", List.of(otherUsersExpense, march, unknown), EXPENSES);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().found()).extracting(ExpenseResponse::id).containsExactly(march);
+            assertThat(response.getBody().missing()).containsExactly(otherUsersExpense, unknown);
+
+            assertThat(post("/expenses/lookup", List.of(deleted), EXPENSES).getBody().missing())
+                    .containsExactly(deleted);
+        }
+
+        @Test
+        @DisplayName("duplicates count once towards the limit")
+        void ignoresDuplicates() {
+            ResponseEntity<BatchLookupResponse<ExpenseResponse>> response =
+                    post("/expenses/lookup", List.of(march, april, march, april, march), EXPENSES);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().found()).extracting(ExpenseResponse::id).containsExactly(march, april);
+        }
+
+        @Test
+        @DisplayName("more distinct ids than max-ids is a 400, on both forms")
+        void rejectsTooManyIds() {
+            UUID[] ids = {march, april, deleted, UUID.randomUUID()};
+
+            ResponseEntity<ErrorResponse> viaGet = get("/expenses?ids=" + idsParam(ids), ErrorResponse.class);
+            ResponseEntity<ErrorResponse> viaPost = post("/expenses/lookup", List.of(ids), ErrorResponse.class);
+
+            assertThat(viaGet.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(viaGet.getBody().errorCode()).isEqualTo("VALIDATION_ERROR");
+            assertThat(viaPost.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(viaPost.getBody().errorCode()).isEqualTo("VALIDATION_ERROR");
+        }
+
+        @Test
+        @DisplayName("an empty id list is a 400")
+        void rejectsEmptyList() {
+            assertThat(post("/expenses/lookup", List.of(), ErrorResponse.class).getStatusCode())
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Nested
+    @DisplayName("budgets")
+    class Budgets {
+
+        @Test
+        @DisplayName("GET ?ids= returns owned budgets in request order and other users' as missing")
+        void getReturnsRequestOrder() {
+            ResponseEntity<BatchLookupResponse<BudgetResponse>> response =
+                    get("/budgets?ids=" + idsParam(aprilBudget, otherUsersBudget, marchBudget), BUDGETS);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().found()).extracting(BudgetResponse::id)
+                    .containsExactly(aprilBudget, marchBudget);
+            assertThat(response.getBody().missing()).containsExactly(otherUsersBudget);
+        }
+
+        @Test
+        @DisplayName("POST /budgets/lookup reports unknown ids as missing")
+        void postReportsMissing() {
+            UUID unknown = UUID.randomUUID();
+
+            ResponseEntity<BatchLookupResponse<BudgetResponse>> response =
+                    post("/budgets/lookup", List.of(unknown, marchBudget), BUDGETS);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().found()).extracting(BudgetResponse::id).containsExactly(marchBudget);
+            assertThat(response.getBody().found().get(0).totalSpent()).isEqualByComparingTo("10.00");
+            assertThat(response.getBody().missing()).containsExactly(unknown);
+        }
+
+        @Test
+        @DisplayName("more distinct ids than max-ids is a 400, on both forms")
+        void rejectsTooManyIds() {
+            UUID[] ids = {marchBudget, aprilBudget, otherUsersBudget, UUID.randomUUID()};
+
+            assertThat(get("/budgets?ids=" + idsParam(ids), ErrorResponse.class).getStatusCode())
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(post("/budgets/lookup", List.of(ids), ErrorResponse.class).getStatusCode())
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
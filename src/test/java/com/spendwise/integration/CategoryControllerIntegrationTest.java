@@ -0,0 +1,165 @@
+package com.spendwise.integration;
+
+import com.spendwise.dto.request.CreateCategoryRequest;
+import com.spendwise.dto.request.CreateExpenseRequest;
+import com.spendwise.dto.request.RegisterRequest;
+import com.spendwise.dto.request.UpdateExpenseRequest;
+import com.spendwise.dto.response.AuthResponse;
+import com.spendwise.dto.response.CategoryResponse;
+import com.spendwise.dto.response.ExpenseResponse;
+import com.spendwise.repository.SpendForecastRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@ActiveProfiles("test")
+@DisplayName("DELETE /categories integration")
+class CategoryControllerIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SpendForecastRepository spendForecastRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private HttpHeaders authHeaders;
+    private UUID food;
+    private UUID travel;
+
+    private String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    @BeforeEach
+    void setUp() {
+        String email = "categories-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        String accessToken = restTemplate.postForEntity(
+                baseUrl() + "/auth/register",
+                new RegisterRequest(email, "password123", "Categories"),
+                AuthResponse.class
+        ).getBody().accessToken();
+
+        authHeaders = new HttpHeaders();
+        authHeaders.setBearerAuth(accessToken);
+        food = createCategory("Food");
+        travel = createCategory("Travel");
+    }
+
+    private UUID createCategory(String name) {
+        return restTemplate.exchange(baseUrl() + "/categories", HttpMethod.POST,
+                new HttpEntity<>(new CreateCategoryRequest(name), authHeaders), CategoryResponse.class).getBody().id();
+    }
+
+    private UUID createExpense(UUID categoryId) {
+        return restTemplate.exchange(baseUrl() + "/expenses", HttpMethod.POST,
+                new HttpEntity<>(new CreateExpenseRequest(categoryId, new BigDecimal("25.00"), "Dinner",
+                        LocalDate.of(2025, 3, 15)), authHeaders),
+                ExpenseResponse.class).getBody().id();
+    }
+
+    private ResponseEntity<String> deleteCategory(UUID categoryId) {
+        return restTemplate.exchange(baseUrl() + "/categories/" + categoryId, HttpMethod.DELETE,
+                new HttpEntity<>(authHeaders), String.class);
+    }
+
+    private void refreshForecast(UUID categoryId) {
+        UUID userId = jdbcTemplate.queryForObject("SELECT user_id FROM categories WHERE id = ?", UUID.class, categoryId);
+        transactionTemplate.executeWithoutResult(status -> spendForecastRepository.rebuildForUsers(
+                List.of(userId), YearMonth.of(2025, 1), YearMonth.of(2025, 6), new BigDecimal("0.3")));
+    }
+
+    private int rollupRows(String table, UUID categoryId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + table + " WHERE category_id = ?", Integer.class, categoryId);
+    }
+
+    @Nested
+    @DisplayName("after its expenses moved to another category")
+    class ExpensesMoved {
+
+        @Test
+        @DisplayName("deletes the category together with its zero rollup rows and forecast model")
+        void deletesCategoryWithEmptyRollups() {
+            UUID expense = createExpense(food);
+            refreshForecast(food);
+            assertThat(rollupRows("spend_forecast_model", food)).isEqualTo(1);
+            restTemplate.exchange(baseUrl() + "/expenses/" + expense, HttpMethod.PUT,
+                    new HttpEntity<>(new UpdateExpenseRequest(travel, null, null, null), authHeaders),
+                    ExpenseResponse.class);
+            assertThat(rollupRows("monthly_spend_rollup", food)).isEqualTo(1);
+
+            ResponseEntity<String> response = deleteCategory(food);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            assertThat(rollupRows("daily_spend_rollup", food)).isZero();
+            assertThat(rollupRows("monthly_spend_rollup", food)).isZero();
+            assertThat(rollupRows("spend_forecast_model", food)).isZero();
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT total_amount FROM monthly_spend_rollup WHERE category_id = ?", BigDecimal.class, travel))
+                    .isEqualByComparingTo("25.00");
+        }
+    }
+
+    @Nested
+    @DisplayName("while it has expenses")
+    class InUse {
+
+        @Test
+        @DisplayName("is rejected with 400 and keeps the rollups")
+        void rejectsCategoryInUse() {
+            createExpense(food);
+
+            ResponseEntity<String> response = deleteCategory(food);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(rollupRows("monthly_spend_rollup", food)).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.spendwise.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checkpoints a warmed-up instance and measures how long the restored one takes to answer
+ * {@code GET /actuator/health}, then registers and logs in to show that the Hikari pool reconnected.
+ * <p>
+ * The application runs in child JVMs on this test's classpath: one started with {@code -XX:CRaCCheckpointTo}
+ * that warms up and checkpoints itself, then one restored with {@code -XX:CRaCRestoreFrom}. Only runs on Linux
+ * with a CRaC JDK (one that has the {@code jdk.crac} module), e.g. {@code JAVA_HOME=<azul-zulu-crac> mvn test};
+ * CRIU may need {@code CAP_CHECKPOINT_RESTORE} in containers.
+ */
+@Testcontainers
+@EnabledOnOs(OS.LINUX)
+@EnabledIf("cracSupported")
+@DisplayName("CRaC checkpoint/restore")
+class CheckpointRestoreIntegrationTest {
+
+    // Restore maps the image back and reopens the pools and Tomcat; seconds would mean a regular start.
+    private static final Duration MAX_RESTORE_TO_READY = Duration.ofMillis(1500);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @TempDir
+    Path checkpointDir;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private Process restored;
+
+    static boolean cracSupported() {
+        return ModuleLayer.boot().findModule("jdk.crac").isPresent();
+    }
+
+    @AfterEach
+    void stopRestored() {
+        if (restored != null) {
+            restored.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("the restored instance is ready quickly and reconnects to the database")
+    void restoresWarmedUpInstance() throws Exception {
+        int port = freePort();
+
+        Process checkpointed = java(List.of("-XX:CRaCCheckpointTo=" + checkpointDir), applicationArgs(port));
+        assertThat(checkpointed.waitFor(3, TimeUnit.MINUTES))
+                .as("the instance checkpoints itself after the warm-up").isTrue();
+
+        long started = System.nanoTime();
+        restored = java(List.of("-XX:CRaCRestoreFrom=" + checkpointDir), List.of());
+        awaitHealthy(port, restored);
+        Duration restoreToReady = Duration.ofNanos(System.nanoTime() - started);
+        System.out.printf("CRaC restore to ready: %d ms%n", restoreToReady.toMillis());
+
+        assertThat(restoreToReady).isLessThan(MAX_RESTORE_TO_READY);
+        String credentials = """
+                {"email":"crac@example.com","password":"password123","name":"CRaC"}""";
+        assertThat(post(port, "/auth/register", credentials).statusCode()).isEqualTo(201);
+        assertThat(post(port, "/auth/login", credentials).statusCode()).isEqualTo(200);
+    }
+
+    private static List<String> applicationArgs(int port) {
+        return List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.datasource.hikari.allow-pool-suspension=true",
+                "--jwt.secret=test-secret-for-integration-tests-must-be-long-enough",
+                "--spendwise.crac.warmup-enabled=true",
+                "--spendwise.crac.warmup-iterations=200",
+                "--spendwise.crac.checkpoint-after-warmup=true");
+    }
+
+    private static Process java(List<String> jvmArgs, List<String> applicationArgs) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        if (!applicationArgs.isEmpty()) {
+            command.addAll(List.of("-cp", System.getProperty("java.class.path"), "com.spendwise.SpendwiseApiApplication"));
+            command.addAll(applicationArgs);
+        }
+        return new ProcessBuilder(command).inheritIO().start();
+    }
+
+    private void awaitHealthy(int port, Process process) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health")).build();
+        long deadline = System.nanoTime() + Duration.ofMinutes(1).toNanos();
+        while (System.nanoTime() < deadline) {
+            assertThat(process.isAlive()).as("the restored process is running").isTrue();
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                // Tomcat is started again by the restore; keep polling
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("The restored instance did not become healthy within a minute");
+    }
+
+    private HttpResponse<String> post(int port, String path, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -203,4 +204,49 @@ class ExpenseControllerIntegrationTest {
             assertThat(body.totalPages()).isEqualTo(0);
         }
     }
+
+    @Nested
+    @DisplayName("sparse fieldsets")
+    class SparseFieldsets {
+
+        @Test
+        @DisplayName("returns only the requested fields, in response order")
+        void returnsOnlyRequestedFields() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(accessTokenA);
+
+            ResponseEntity<PageResponse<Map<String, Object>>> response = restTemplate.exchange(
+                    baseUrl() + "/expenses?fields=expenseDate,amount,id",
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers),
+                    new ParameterizedTypeReference<PageResponse<Map<String, Object>>>() {}
+            );
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            PageResponse<Map<String, Object>> body = response.getBody();
+            assertThat(body).isNotNull();
+            assertThat(body.totalElements()).isEqualTo(1);
+            assertThat(body.content()).hasSize(1);
+            assertThat(body.content().get(0).keySet()).containsExactly("id", "amount", "expenseDate");
+            assertThat(body.content().get(0).get("expenseDate")).isEqualTo("2025-03-15");
+        }
+
+        @Test
+        @DisplayName("rejects a field that is not whitelisted")
+        void rejectsUnknownField() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(accessTokenA);
+
+            ResponseEntity<ErrorResponse> response = restTemplate.exchange(
+                    baseUrl() + "/expenses?fields=id,user",
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers),
+                    ErrorResponse.class
+            );
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().errorCode()).isEqualTo("VALIDATION_ERROR");
+        }
+    }
 }
@@ -0,0 +1,289 @@
+package com.spendwise.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spendwise.dto.error.ErrorResponse;
+import com.spendwise.dto.request.CreateCategoryRequest;
+import com.spendwise.dto.request.CreateExpenseRequest;
+import com.spendwise.dto.request.RegisterRequest;
+import com.spendwise.dto.response.AuthResponse;
+import com.spendwise.dto.response.CategoryResponse;
+import com.spendwise.dto.response.ExpenseResponse;
+import com.spendwise.observability.QueryMetricsFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /expenses/export end to end: the streamed bodies, CSV escaping, gzip, and the 400s that must be
+ * returned before streaming starts. Each body completes on an async dispatch, so these also cover the
+ * security chain letting that dispatch through.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@ActiveProfiles("test")
+@DisplayName("GET /expenses/export integration")
+class ExpenseExportIntegrationTest {
+
+    private static final String CSV_HEADER = "id,categoryId,amount,description,expenseDate";
+    private static final String ENDPOINT = "GET /expenses/export";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private HttpHeaders authHeaders;
+    private UUID categoryId;
+    private ExpenseResponse lunch;
+    private ExpenseResponse formula;
+
+    private String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    @BeforeEach
+    void setUp() {
+        String email = "export-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        String accessToken = restTemplate.postForEntity(
+                baseUrl() + "/auth/register",
+                new RegisterRequest(email, "password123", "Export"),
+                AuthResponse.class
+        ).getBody().accessToken();
+
+        authHeaders = new HttpHeaders();
+        authHeaders.setBearerAuth(accessToken);
+
+        categoryId = restTemplate.exchange(
+                baseUrl() + "/categories",
+                HttpMethod.POST,
+                new HttpEntity<>(new CreateCategoryRequest("Food"), authHeaders),
+                CategoryResponse.class
+        ).getBody().id();
+
+        lunch = createExpense("12.50", "Lunch, with \"friends\"", LocalDate.of(2025, 3, 10));
+        formula = createExpense("7.00", "=HYPERLINK(\"http://example.com\")", LocalDate.of(2025, 3, 20));
+    }
+
+    private ExpenseResponse createExpense(String amount, String description, LocalDate date) {
+        return restTemplate.exchange(
+                baseUrl() + "/expenses",
+                HttpMethod.POST,
+                new HttpEntity<>(new CreateExpenseRequest(categoryId, new BigDecimal(amount), description, date),
+                        authHeaders),
+                ExpenseResponse.class
+        ).getBody();
+    }
+
+    private <T> ResponseEntity<T> export(String query, Class<T> type) {
+        return restTemplate.exchange(
+                baseUrl() + "/expenses/export" + query, HttpMethod.GET, new HttpEntity<>(authHeaders), type);
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("streams a header and one line per expense, newest first")
+        void streamsCsv() {
+            ResponseEntity<String> response = export("", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType().toString()).startsWith("text/csv");
+            assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("expenses.csv");
+            assertThat(response.getBody().split("\n")).containsExactly(
+                    CSV_HEADER,
+                    formula.id() + "," + categoryId + ",7.00,\"'=HYPERLINK(\"\"http://example.com\"\")\",2025-03-20",
+                    lunch.id() + "," + categoryId + ",12.50,\"Lunch, with \"\"friends\"\"\",2025-03-10");
+        }
+
+        @Test
+        @DisplayName("prefixes a description starting with a formula character so it is not evaluated")
+        void escapesFormulas() {
+            String body = export("", String.class).getBody();
+
+            assertThat(body).contains(",\"'=HYPERLINK(");
+            assertThat(body).doesNotContain(",=HYPERLINK(");
+        }
+
+        @Test
+        @DisplayName("applies the list filters")
+        void appliesFilters() {
+            String body = export("?fromDate=2025-03-15&minAmount=5", String.class).getBody();
+
+            assertThat(body.split("\n")).hasSize(2);
+            assertThat(body).contains(formula.id().toString()).doesNotContain(lunch.id().toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("streams one JSON object per line with the ExpenseResponse field names")
+        void streamsNdjson() throws IOException {
+            ResponseEntity<String> response = export("?format=ndjson", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType().toString()).startsWith("application/x-ndjson");
+            List<String> lines = List.of(response.getBody().split("\n"));
+            assertThat(lines).hasSize(2);
+            JsonNode first = objectMapper.readTree(lines.get(0));
+            assertThat(first.get("id").asText()).isEqualTo(formula.id().toString());
+            assertThat(first.get("categoryId").asText()).isEqualTo(categoryId.toString());
+            assertThat(first.get("amount").decimalValue()).isEqualByComparingTo("7.00");
+            assertThat(first.get("description").asText()).isEqualTo("=HYPERLINK(\"http://example.com\")");
+            assertThat(first.get("expenseDate").asText()).isEqualTo("2025-03-20");
+            assertThat(objectMapper.readTree(lines.get(1)).get("description").asText())
+                    .isEqualTo("Lunch, with \"friends\"");
+        }
+    }
+
+    @Nested
+    @DisplayName("gzip")
+    class Gzip {
+
+        @Test
+        @DisplayName("compresses the body and sets Content-Encoding")
+        void compressesBody() throws Exception {
+            // Read with the JDK client: it leaves the encoding to the caller, so the raw body is checked.
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl() + "/expenses/export?gzip=true"))
+                    .header(HttpHeaders.AUTHORIZATION, authHeaders.getFirst(HttpHeaders.AUTHORIZATION))
+                    .build();
+            HttpResponse<byte[]> response = HttpClient.newHttpClient()
+                    .send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+                String csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                assertThat(csv).startsWith(CSV_HEADER + "\n");
+                assertThat(csv.split("\n")).hasSize(3);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("query metrics")
+    class QueryMetrics {
+
+        private DistributionSummary statements() {
+            return meterRegistry.get(QueryMetricsFilter.STATEMENTS_METRIC).tag("endpoint", ENDPOINT).summary();
+        }
+
+        private Timer timer(String name) {
+            return meterRegistry.get(name).tag("endpoint", ENDPOINT).timer();
+        }
+
+        @Test
+        @DisplayName("are published once the streamed body is complete, including its statements and connection")
+        void publishedOnAsyncCompletion() throws InterruptedException {
+            export("", String.class);
+            long countBefore = statements().count();
+            double statementsBefore = statements().totalAmount();
+            double dbTimeBefore = timer(QueryMetricsFilter.DB_TIME_METRIC).totalTime(TimeUnit.NANOSECONDS);
+            double heldBefore = timer(QueryMetricsFilter.CONNECTION_HELD_METRIC).totalTime(TimeUnit.NANOSECONDS);
+
+            assertThat(export("", String.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+            // Published from the async completion, which may run just after the client has read the body
+            for (int i = 0; i < 50 && statements().count() == countBefore; i++) {
+                Thread.sleep(100);
+            }
+
+            assertThat(statements().count()).isEqualTo(countBefore + 1);
+            // Two user lookups before streaming, the export query on the worker
+            assertThat(statements().totalAmount() - statementsBefore).isGreaterThanOrEqualTo(3);
+            double dbTime = timer(QueryMetricsFilter.DB_TIME_METRIC).totalTime(TimeUnit.NANOSECONDS) - dbTimeBefore;
+            double held = timer(QueryMetricsFilter.CONNECTION_HELD_METRIC).totalTime(TimeUnit.NANOSECONDS) - heldBefore;
+            assertThat(held).isGreaterThanOrEqualTo(dbTime);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalid input returns 400 before streaming")
+    class InvalidInput {
+
+        @Test
+        @DisplayName("rejects an unknown format")
+        void rejectsUnknownFormat() {
+            ResponseEntity<ErrorResponse> response = export("?format=xlsx", ErrorResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody().errorCode()).isEqualTo("VALIDATION_ERROR");
+        }
+
+        @Test
+        @DisplayName("rejects a date range that ends before it starts")
+        void rejectsInvertedDateRange() {
+            ResponseEntity<ErrorResponse> response = export(
+                    "?fromDate=2025-03-31&toDate=2025-03-01", ErrorResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody().errorCode()).isEqualTo("VALIDATION_ERROR");
+        }
+
+        @Test
+        @DisplayName("rejects an amount range that ends before it starts")
+        void rejectsInvertedAmountRange() {
+            ResponseEntity<ErrorResponse> response = export("?minAmount=50&maxAmount=10", ErrorResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody().errorCode()).isEqualTo("VALIDATION_ERROR");
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.spendwise.integration;
+
+import com.spendwise.dto.request.CreateBudgetRequest;
+import com.spendwise.dto.request.CreateCategoryRequest;
+import com.spendwise.dto.request.CreateExpenseRequest;
+import com.spendwise.dto.request.RegisterRequest;
+import com.spendwise.dto.response.AuthResponse;
+import com.spendwise.dto.response.CategoryResponse;
+import com.spendwise.dto.response.ExpenseResponse;
+import com.spendwise.observability.QueryMetricsHeaderAdvice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against N+1 regressions: every endpoint below has a maximum JDBC statement budget,
+ * read from the {@code X-Query-Count} header that the test profile exposes.
+ * The budgets include the two user lookups every authenticated request performs
+ * (JWT filter and controller).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@ActiveProfiles("test")
+@DisplayName("Per-endpoint statement budgets")
+class QueryCountIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private HttpHeaders authHeaders;
+    private UUID categoryId;
+    private List<UUID> expenseIds;
+
+    private String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    @BeforeEach
+    void setUp() {
+        String email = "query-count-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        String accessToken = restTemplate.postForEntity(
+                baseUrl() + "/auth/register",
+                new RegisterRequest(email, "password123", "Query Count"),
+                AuthResponse.class
+        ).getBody().accessToken();
+
+        authHeaders = new HttpHeaders();
+        authHeaders.setBearerAuth(accessToken);
+
+        categoryId = restTemplate.exchange(
+                baseUrl() + "/categories",
+                HttpMethod.POST,
+                new HttpEntity<>(new CreateCategoryRequest("Food"), authHeaders),
+                CategoryResponse.class
+        ).getBody().id();
+
+        restTemplate.exchange(
+                baseUrl() + "/budgets",
+                HttpMethod.POST,
+                new HttpEntity<>(new CreateBudgetRequest(new BigDecimal("1000.00"), 2025, 3, Set.of(categoryId), null), authHeaders),
+                String.class
+        );
+        expenseIds = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            expenseIds.add(restTemplate.exchange(
+                    baseUrl() + "/expenses",
+                    HttpMethod.POST,
+                    new HttpEntity<>(new CreateExpenseRequest(categoryId, new BigDecimal("10.00"), "Expense " + i,
+                            LocalDate.of(2025, 3, i)), authHeaders),
+                    ExpenseResponse.class
+            ).getBody().id());
+        }
+    }
+
+    private int statementCount(HttpMethod method, String path, Object body) {
+        ResponseEntity<String> response = restTemplate.exchange(
+                baseUrl() + path, method, new HttpEntity<>(body, authHeaders), String.class);
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        String header = response.getHeaders().getFirst(QueryMetricsHeaderAdvice.COUNT_HEADER);
+        assertThat(header).as("X-Query-Count header").isNotNull();
+        return Integer.parseInt(header);
+    }
+
+    @Nested
+    @DisplayName("read endpoints")
+    class ReadEndpoints {
+
+        @Test
+        @DisplayName("GET /expenses stays constant regardless of page content")
+        void listExpenses() {
+            assertThat(statementCount(HttpMethod.GET, "/expenses?size=5", null)).isLessThanOrEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("GET /expenses?ids= is one lookup query however many ids")
+        void batchLookupExpenses() {
+            String ids = expenseIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+            assertThat(statementCount(HttpMethod.GET, "/expenses?ids=" + ids, null)).isLessThanOrEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("GET /categories")
+        void listCategories() {
+            assertThat(statementCount(HttpMethod.GET, "/categories", null)).isLessThanOrEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("GET /budgets fetches budgets with their categories and the month's spend")
+        void listBudgets() {
+            assertThat(statementCount(HttpMethod.GET, "/budgets?year=2025&month=3", null)).isLessThanOrEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("GET /budgets/overview is one budget query and one spend query for the whole year")
+        void yearOverview() {
+            assertThat(statementCount(HttpMethod.GET, "/budgets/overview?year=2025", null)).isLessThanOrEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("write endpoints")
+    class WriteEndpoints {
+
+        @Test
+        @DisplayName("POST /expenses")
+        void createExpense() {
+            ResponseEntity<String> response = restTemplate.exchange(
+                    baseUrl() + "/expenses",
+                    HttpMethod.POST,
+                    new HttpEntity<>(new CreateExpenseRequest(categoryId, new BigDecimal("1.00"), "Coffee",
+                            LocalDate.of(2025, 3, 20)), authHeaders),
+                    String.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            // includes the single statement that updates the daily and monthly spend rollups
+            assertThat(Integer.parseInt(response.getHeaders().getFirst(QueryMetricsHeaderAdvice.COUNT_HEADER)))
+                    .isLessThanOrEqualTo(7);
+        }
+    }
+}
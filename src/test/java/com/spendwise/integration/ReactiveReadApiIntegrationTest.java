@@ -0,0 +1,245 @@
+package com.spendwise.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.spendwise.config.ReactiveApiConfig.ReactiveApiServer;
+import com.spendwise.dto.request.CreateBudgetRequest;
+import com.spendwise.dto.request.CreateCategoryRequest;
+import com.spendwise.dto.request.CreateExpenseRequest;
+import com.spendwise.dto.request.RegisterRequest;
+import com.spendwise.dto.response.AuthResponse;
+import com.spendwise.dto.response.CategoryResponse;
+import com.spendwise.dto.response.ExpenseResponse;
+import com.spendwise.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The reactive read API (WebFlux and R2DBC, on a port of its own) must answer exactly like the MVC endpoints it
+ * mirrors. Every request goes to both servers and the responses are compared; error bodies are compared without
+ * their timestamp.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@ActiveProfiles("test")
+@DisplayName("Reactive read API integration")
+class ReactiveReadApiIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spendwise.reactive-api.enabled", () -> "true");
+        registry.add("spendwise.reactive-api.port", () -> "0");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ReactiveApiServer reactiveApiServer;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private HttpHeaders ownerHeaders;
+    private UUID food;
+
+    private String mvcUrl(String path) {
+        return "http://localhost:" + port + path;
+    }
+
+    private String reactiveUrl(String path) {
+        return "http://localhost:" + reactiveApiServer.getPort() + path;
+    }
+
+    @BeforeEach
+    void setUp() {
+        ownerHeaders = register("owner");
+        food = createCategory(ownerHeaders, "Food");
+        UUID travel = createCategory(ownerHeaders, "Travel");
+        createExpense(ownerHeaders, food, "12.50", LocalDate.of(2025, 3, 3));
+        createExpense(ownerHeaders, food, "40.00", LocalDate.of(2025, 3, 18));
+        createExpense(ownerHeaders, travel, "310.99", LocalDate.of(2025, 3, 21));
+        createExpense(ownerHeaders, travel, "75.00", LocalDate.of(2025, 4, 2));
+        UUID deleted = createExpense(ownerHeaders, food, "99.00", LocalDate.of(2025, 3, 25));
+        restTemplate.exchange(mvcUrl("/expenses/" + deleted), HttpMethod.DELETE,
+                new HttpEntity<>(ownerHeaders), Void.class);
+        createBudget(ownerHeaders, Set.of(food, travel), 3);
+        createBudget(ownerHeaders, Set.of(food), null);
+
+        HttpHeaders otherHeaders = register("other");
+        UUID otherCategory = createCategory(otherHeaders, "Food");
+        createExpense(otherHeaders, otherCategory, "5.00", LocalDate.of(2025, 3, 3));
+        createBudget(otherHeaders, Set.of(otherCategory), 3);
+    }
+
+    private HttpHeaders register(String name) {
+        String email = name + "-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        String accessToken = restTemplate.postForEntity(
+                mvcUrl("/auth/register"),
+                new RegisterRequest(email, "password123", name),
+                AuthResponse.class
+        ).getBody().accessToken();
+        return bearer(accessToken);
+    }
+
+    private static HttpHeaders bearer(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
+    private UUID createCategory(HttpHeaders headers, String name) {
+        return restTemplate.exchange(mvcUrl("/categories"), HttpMethod.POST,
+                new HttpEntity<>(new CreateCategoryRequest(name), headers), CategoryResponse.class).getBody().id();
+    }
+
+    private UUID createExpense(HttpHeaders headers, UUID category, String amount, LocalDate date) {
+        return restTemplate.exchange(mvcUrl("/expenses"), HttpMethod.POST,
+                new HttpEntity<>(new CreateExpenseRequest(category, new BigDecimal(amount), "Item", date), headers),
+                ExpenseResponse.class).getBody().id();
+    }
+
+    private void createBudget(HttpHeaders headers, Set<UUID> categories, Integer month) {
+        ResponseEntity<String> response = restTemplate.exchange(mvcUrl("/budgets"), HttpMethod.POST,
+                new HttpEntity<>(new CreateBudgetRequest(new BigDecimal("1000.00"), 2025, month, categories, null),
+                        headers),
+                String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    private ResponseEntity<String> get(String url, HttpHeaders headers) {
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private JsonNode body(ResponseEntity<String> response) throws Exception {
+        JsonNode body = objectMapper.readTree(response.getBody());
+        if (body instanceof ObjectNode object && object.has("errorCode")) {
+            object.remove("timestamp");
+        }
+        return body;
+    }
+
+    private void assertSameResponse(String path, HttpHeaders headers, HttpStatus expectedStatus) throws Exception {
+        ResponseEntity<String> mvc = get(mvcUrl(path), headers);
+        ResponseEntity<String> reactive = get(reactiveUrl(path), headers);
+
+        assertThat(mvc.getStatusCode()).as("MVC status of %s", path).isEqualTo(expectedStatus);
+        assertThat(reactive.getStatusCode()).as("reactive status of %s", path).isEqualTo(expectedStatus);
+        assertThat(body(reactive)).as("reactive body of %s", path).isEqualTo(body(mvc));
+    }
+
+    @Nested
+    @DisplayName("with a valid token")
+    class Authenticated {
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "/expenses",
+                "/expenses?page=1&size=2",
+                "/expenses?page=-1&size=0",
+                "/expenses?sort=amount",
+                "/expenses?sort=expenseDate,asc&sort=amount,desc",
+                "/expenses?fromDate=2025-03-10&toDate=2025-03-31&minAmount=20&maxAmount=400",
+                "/categories",
+                "/budgets?year=2025&month=3",
+                "/budgets?year=2025&month=4",
+                "/budgets?year=2024&month=3"
+        })
+        @DisplayName("return the MVC response")
+        void matchMvc(String path) throws Exception {
+            assertSameResponse(path, ownerHeaders, HttpStatus.OK);
+        }
+
+        @Test
+        @DisplayName("filter by category like the MVC endpoint")
+        void matchMvcCategoryFilter() throws Exception {
+            assertSameResponse("/expenses?categoryId=" + food, ownerHeaders, HttpStatus.OK);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "/expenses?sort=amount,desc",
+                "/expenses?sort=amount,sideways&sort=expenseDate",
+                "/expenses?fromDate=2025-13-01",
+                "/expenses?page=first",
+                "/expenses?fromDate=2025-04-01&toDate=2025-03-01",
+                "/budgets?year=2025",
+                "/budgets?year=2025&month=13"
+        })
+        @DisplayName("reject invalid parameters with the MVC error response")
+        void matchMvcErrors(String path) throws Exception {
+            assertSameResponse(path, ownerHeaders, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Nested
+    @DisplayName("without a valid token")
+    class Unauthenticated {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"/expenses", "/categories", "/budgets?year=2025&month=3"})
+        @DisplayName("a missing token is a 401")
+        void rejectsMissingToken(String path) throws Exception {
+            assertSameResponse(path, new HttpHeaders(), HttpStatus.UNAUTHORIZED);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"/expenses", "/categories", "/budgets?year=2025&month=3"})
+        @DisplayName("a malformed or tampered token is a 401")
+        void rejectsInvalidToken(String path) throws Exception {
+            String token = ownerHeaders.getFirst(HttpHeaders.AUTHORIZATION).substring("Bearer ".length());
+
+            assertSameResponse(path, bearer("not-a-jwt"), HttpStatus.UNAUTHORIZED);
+            assertSameResponse(path, bearer(token.substring(0, token.length() - 2) + "xx"), HttpStatus.UNAUTHORIZED);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"/expenses", "/categories", "/budgets?year=2025&month=3"})
+        @DisplayName("a validly signed token of an unknown user is a 401")
+        void rejectsUnknownUser(String path) throws Exception {
+            String token = jwtUtil.generateAccessToken("ghost@example.com", UUID.randomUUID(), List.of("ROLE_USER"));
+
+            assertSameResponse(path, bearer(token), HttpStatus.UNAUTHORIZED);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.spendwise.integration;
+
+import com.spendwise.datasource.ReadYourWritesInterceptor;
+import com.spendwise.datasource.ReadYourWritesTracker;
+import com.spendwise.datasource.ReplicaRoutingContext;
+import com.spendwise.domain.entity.User;
+import com.spendwise.observability.QueryStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies read-only routing against a local primary/replica pair.
+ * The two containers are independent databases with different names, so {@code current_database()}
+ * tells which side served a statement; replication itself is outside the scope of this test.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers
+@ActiveProfiles("test")
+@DisplayName("Read-replica routing")
+class ReadReplicaRoutingIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("spendwise_primary");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("spendwise_replica");
+
+    @DynamicPropertySource
+    static void configureDatasources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.jpa.open-in-view", () -> "false");
+        registry.add("spendwise.datasource.read-replicas.enabled", () -> "true");
+        registry.add("spendwise.datasource.read-replicas.replicas[0].url", replica::getJdbcUrl);
+        registry.add("spendwise.datasource.read-replicas.replicas[0].username", replica::getUsername);
+        registry.add("spendwise.datasource.read-replicas.replicas[0].password", replica::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+
+    @Nested
+    @DisplayName("transaction routing")
+    class TransactionRouting {
+
+        @Test
+        @DisplayName("read-only transactions are served by the replica")
+        void readOnlyGoesToReplica() {
+            assertThat(currentDatabase(true)).isEqualTo("spendwise_replica");
+        }
+
+        @Test
+        @DisplayName("read-write transactions are served by the primary")
+        void readWriteGoesToPrimary() {
+            assertThat(currentDatabase(false)).isEqualTo("spendwise_primary");
+        }
+
+        @Test
+        @DisplayName("schema migrations ran on the primary only")
+        void flywayRanOnPrimary() {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            Integer tables = template.execute(status -> jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM information_schema.tables WHERE table_name = 'expenses'", Integer.class));
+            assertThat(tables).isEqualTo(1);
+
+            JdbcTemplate replicaJdbc = new JdbcTemplate(new DriverManagerDataSource(
+                    replica.getJdbcUrl(), replica.getUsername(), replica.getPassword()));
+            assertThat(replicaJdbc.queryForObject(
+                    "SELECT to_regclass('flyway_schema_history') IS NOT NULL", Boolean.class)).isFalse();
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT to_regclass('flyway_schema_history') IS NOT NULL", Boolean.class)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("read-your-writes")
+    class ReadYourWrites {
+
+        @Test
+        @DisplayName("pinned reads go to the primary")
+        void pinnedReadsGoToPrimary() {
+            String database = ReplicaRoutingContext.callOnPrimary(() -> currentDatabase(true));
+            assertThat(database).isEqualTo("spendwise_primary");
+            assertThat(currentDatabase(true)).isEqualTo("spendwise_replica");
+        }
+
+        @Test
+        @DisplayName("the interceptor pins a user's reads to the primary right after their write")
+        void interceptorPinsReadAfterWrite() throws Exception {
+            ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(readYourWritesTracker);
+            User writer = new User();
+            writer.setId(UUID.randomUUID());
+            User other = new User();
+            other.setId(UUID.randomUUID());
+            try {
+                authenticate(other);
+                assertThat(readDuringRequest(interceptor, "GET")).isEqualTo("spendwise_replica");
+
+                authenticate(writer);
+                assertThat(readDuringRequest(interceptor, "GET")).isEqualTo("spendwise_replica");
+                readDuringRequest(interceptor, "POST");
+                assertThat(readDuringRequest(interceptor, "GET")).isEqualTo("spendwise_primary");
+                // The pin ends with the request.
+                assertThat(currentDatabase(true)).isEqualTo("spendwise_replica");
+
+                authenticate(other);
+                assertThat(readDuringRequest(interceptor, "GET")).isEqualTo("spendwise_replica");
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+
+        private void authenticate(User user) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        }
+
+        /**
+         * Runs a read-only transaction between the interceptor's preHandle and afterCompletion of a
+         * successful request with the given method, and returns the database that served it.
+         */
+        private String readDuringRequest(ReadYourWritesInterceptor interceptor, String method) throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest(method, "/expenses");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            interceptor.preHandle(request, response, new Object());
+            try {
+                return currentDatabase(true);
+            } finally {
+                interceptor.afterCompletion(request, response, new Object(), null);
+            }
+        }
+
+        @Test
+        @DisplayName("a user who just wrote is inside the window")
+        void recentWriterIsTracked() {
+            UUID writer = UUID.randomUUID();
+            readYourWritesTracker.recordWrite(writer);
+            assertThat(readYourWritesTracker.wroteRecently(writer)).isTrue();
+            assertThat(readYourWritesTracker.wroteRecently(UUID.randomUUID())).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("query metrics")
+    class QueryMetrics {
+
+        private QueryStatistics measure(boolean readOnly, boolean runStatement) {
+            QueryStatistics statistics = QueryStatistics.start();
+            try {
+                TransactionTemplate template = new TransactionTemplate(transactionManager);
+                template.setReadOnly(readOnly);
+                template.executeWithoutResult(status -> {
+                    if (runStatement) {
+                        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                    }
+                });
+                return statistics;
+            } finally {
+                QueryStatistics.clear();
+            }
+        }
+
+        @Test
+        @DisplayName("count the pool connection behind the placeholder, once, on either side")
+        void measuresPoolConnection() {
+            for (boolean readOnly : new boolean[]{true, false}) {
+                QueryStatistics statistics = measure(readOnly, true);
+
+                assertThat(statistics.getStatementCount()).isEqualTo(1);
+                assertThat(statistics.getConnectionCount()).isEqualTo(1);
+                assertThat(statistics.getConnectionHeldNanos()).isPositive();
+            }
+        }
+
+        @Test
+        @DisplayName("record no connection for a transaction that runs no statement")
+        void ignoresUnusedPlaceholder() {
+            QueryStatistics statistics = measure(true, false);
+
+            assertThat(statistics.getConnectionCount()).isZero();
+            assertThat(statistics.getConnectionHeldNanos()).isZero();
+        }
+    }
+}
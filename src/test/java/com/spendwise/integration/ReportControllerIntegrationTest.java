@@ -0,0 +1,170 @@
+package com.spendwise.integration;
+
+import com.spendwise.dto.request.CreateCategoryRequest;
+import com.spendwise.dto.request.CreateExpenseRequest;
+import com.spendwise.dto.request.RegisterRequest;
+import com.spendwise.dto.response.AuthResponse;
+import com.spendwise.dto.response.CategoryBreakdownResponse;
+import com.spendwise.dto.response.CategoryResponse;
+import com.spendwise.dto.response.MonthlySummaryResponse;
+import com.spendwise.dto.response.TopExpensesResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@ActiveProfiles("test")
+@DisplayName("/reports integration")
+class ReportControllerIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private HttpHeaders authHeaders;
+    private UUID foodId;
+    private UUID travelId;
+
+    private String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    @BeforeEach
+    void setUp() {
+        String email = "reports-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        String accessToken = restTemplate.postForEntity(
+                baseUrl() + "/auth/register",
+                new RegisterRequest(email, "password123", "Reports"),
+                AuthResponse.class
+        ).getBody().accessToken();
+        authHeaders = new HttpHeaders();
+        authHeaders.setBearerAuth(accessToken);
+
+        foodId = createCategory("Food");
+        travelId = createCategory("Travel");
+        createExpense(foodId, "10.00", LocalDate.of(2025, 2, 20));
+        createExpense(foodId, "20.00", LocalDate.of(2025, 3, 1));
+        createExpense(foodId, "30.00", LocalDate.of(2025, 3, 2));
+        createExpense(foodId, "5.00", LocalDate.of(2025, 3, 3));
+        createExpense(travelId, "45.00", LocalDate.of(2025, 3, 10));
+    }
+
+    private UUID createCategory(String name) {
+        return restTemplate.exchange(baseUrl() + "/categories", HttpMethod.POST,
+                new HttpEntity<>(new CreateCategoryRequest(name), authHeaders), CategoryResponse.class).getBody().id();
+    }
+
+    private void createExpense(UUID categoryId, String amount, LocalDate date) {
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl() + "/expenses", HttpMethod.POST,
+                new HttpEntity<>(new CreateExpenseRequest(categoryId, new BigDecimal(amount), "Expense", date), authHeaders),
+                String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    private <T> ResponseEntity<T> get(String path, Class<T> type) {
+        return restTemplate.exchange(baseUrl() + path, HttpMethod.GET, new HttpEntity<>(authHeaders), type);
+    }
+
+    @Nested
+    @DisplayName("GET /reports/monthly-summary")
+    class MonthlySummary {
+
+        @Test
+        @DisplayName("returns month totals, previous month and a private Cache-Control header")
+        void returnsTotals() {
+            ResponseEntity<MonthlySummaryResponse> response = get("/reports/monthly-summary?year=2025&month=3",
+                    MonthlySummaryResponse.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getCacheControl()).contains("max-age=").contains("private");
+            MonthlySummaryResponse body = response.getBody();
+            assertThat(body).isNotNull();
+            assertThat(body.totalAmount()).isEqualByComparingTo("100.00");
+            assertThat(body.expenseCount()).isEqualTo(4);
+            assertThat(body.averageAmount()).isEqualByComparingTo("25.00");
+            assertThat(body.previousMonthTotalAmount()).isEqualByComparingTo("10.00");
+        }
+
+        @Test
+        @DisplayName("rejects an invalid month")
+        void rejectsInvalidMonth() {
+            assertThat(get("/reports/monthly-summary?year=2025&month=13", String.class).getStatusCode())
+                    .isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /reports/category-breakdown")
+    class CategoryBreakdown {
+
+        @Test
+        @DisplayName("splits the month by category, largest first")
+        void splitsByCategory() {
+            CategoryBreakdownResponse body = get("/reports/category-breakdown?year=2025&month=3",
+                    CategoryBreakdownResponse.class).getBody();
+
+            assertThat(body).isNotNull();
+            assertThat(body.totalAmount()).isEqualByComparingTo("100.00");
+            assertThat(body.categories()).extracting(CategoryBreakdownResponse.Item::categoryId)
+                    .containsExactly(foodId, travelId);
+            assertThat(body.categories().get(0).totalAmount()).isEqualByComparingTo("55.00");
+            assertThat(body.categories().get(0).sharePercent()).isEqualByComparingTo("55.00");
+            assertThat(body.categories().get(1).sharePercent()).isEqualByComparingTo("45.00");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /reports/top-expenses")
+    class TopExpenses {
+
+        @Test
+        @DisplayName("returns the largest expenses per category up to the limit")
+        void returnsTopPerCategory() {
+            TopExpensesResponse body = get("/reports/top-expenses?year=2025&month=3&limit=2",
+                    TopExpensesResponse.class).getBody();
+
+            assertThat(body).isNotNull();
+            assertThat(body.limit()).isEqualTo(2);
+            assertThat(body.categories()).extracting(TopExpensesResponse.CategoryTopExpenses::categoryName)
+                    .containsExactly("Food", "Travel");
+            assertThat(body.categories().get(0).expenses()).extracting(e -> e.amount().toPlainString())
+                    .containsExactly("30.00", "20.00");
+            assertThat(body.categories().get(1).expenses()).hasSize(1);
+        }
+    }
+}
@@ -75,8 +75,8 @@ class BudgetRepositoryTest {
     }
 
     @Nested
-    @DisplayName("findByUserAndYearAndMonthAndCategory")
-    class FindByUserAndYearAndMonthAndCategory {
+    @DisplayName("findCoveringMonthByUserAndCategory")
+    class FindCoveringMonthByUserAndCategory {
 
         @Test
         @DisplayName("returns budget when user has budget with category for year/month")
@@ -90,7 +90,7 @@ class BudgetRepositoryTest {
             budget.setDeletedAt(null);
             budgetRepository.save(budget);
 
-            List<Budget> result = budgetRepository.findByUserAndYearAndMonthAndCategory(
+            List<Budget> result = budgetRepository.findCoveringMonthByUserAndCategory(
                     user.getId(), 2025, 3, category.getId());
 
             assertThat(result).hasSize(1);
@@ -109,11 +109,35 @@ class BudgetRepositoryTest {
             budget.setDeletedAt(Instant.now());
             budgetRepository.save(budget);
 
-            List<Budget> result = budgetRepository.findByUserAndYearAndMonthAndCategory(
+            List<Budget> result = budgetRepository.findCoveringMonthByUserAndCategory(
                     user.getId(), 2025, 3, category.getId());
 
             assertThat(result).isEmpty();
         }
+
+        @Test
+        @DisplayName("includes the yearly budget of the year, not other months")
+        void includesYearlyBudget() {
+            Budget yearly = new Budget();
+            yearly.setUser(user);
+            yearly.setAmount(new BigDecimal("12000"));
+            yearly.setYear(2025);
+            yearly.setMonth(null);
+            yearly.setCategories(Set.of(category));
+            budgetRepository.save(yearly);
+            Budget otherMonth = new Budget();
+            otherMonth.setUser(user);
+            otherMonth.setAmount(new BigDecimal("1000"));
+            otherMonth.setYear(2025);
+            otherMonth.setMonth(4);
+            otherMonth.setCategories(Set.of(category));
+            budgetRepository.save(otherMonth);
+
+            List<Budget> result = budgetRepository.findCoveringMonthByUserAndCategory(
+                    user.getId(), 2025, 3, category.getId());
+
+            assertThat(result).extracting(Budget::getMonth).containsExactly((Integer) null);
+        }
     }
 
     @Nested
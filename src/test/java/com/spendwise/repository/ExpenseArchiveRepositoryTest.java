@@ -0,0 +1,142 @@
+package com.spendwise.repository;
+
+import com.spendwise.config.JpaAuditingConfig;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.domain.entity.Expense;
+import com.spendwise.domain.entity.Role;
+import com.spendwise.domain.entity.User;
+import com.spendwise.repository.ExpenseArchiveRepository.ArchiveReason;
+import com.spendwise.repository.ExpenseArchiveRepository.ArchivedExpenseRow;
+import com.spendwise.repository.ExpenseArchiveRepository.BatchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, ExpenseArchiveRepository.class})
+@DisplayName("ExpenseArchiveRepository")
+class ExpenseArchiveRepositoryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ExpenseArchiveRepository expenseArchiveRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("archive-" + UUID.randomUUID() + "@test.com");
+        user.setPassword("hash");
+        user.setRole(Role.USER);
+        user = userRepository.save(user);
+
+        category = new Category();
+        category.setName("Food");
+        category.setUser(user);
+        category = categoryRepository.save(category);
+    }
+
+    @Test
+    @DisplayName("archives soft-deleted expenses past the retention window only")
+    void archivesDeletedPastRetention() {
+        Expense expired = saveExpense(LocalDate.of(2024, 3, 1), Instant.now().minus(Duration.ofDays(40)));
+        Expense recent = saveExpense(LocalDate.of(2024, 3, 2), Instant.now().minus(Duration.ofDays(2)));
+        Expense live = saveExpense(LocalDate.of(2024, 3, 3), null);
+
+        BatchResult result = expenseArchiveRepository.archiveDeletedBatch(
+                Instant.now().minus(Duration.ofDays(30)), ExpenseArchiveRepository.FIRST_ID, 100);
+
+        assertThat(result.archived()).isEqualTo(1);
+        assertThat(result.lastId()).isEqualTo(expired.getId());
+        assertThat(expenseRepository.existsById(expired.getId())).isFalse();
+        assertThat(expenseRepository.existsById(recent.getId())).isTrue();
+        assertThat(expenseRepository.existsById(live.getId())).isTrue();
+
+        ArchivedExpenseRow archived = expenseArchiveRepository.findByIdAndUser(expired.getId(), user.getId()).orElseThrow();
+        assertThat(archived.deleted()).isTrue();
+        assertThat(archived.amount()).isEqualByComparingTo("12.00");
+        assertThat(archived.archiveReason()).isEqualTo(ArchiveReason.DELETED);
+    }
+
+    @Test
+    @DisplayName("archives aged expenses in keyset batches until none are left")
+    void archivesAgedExpensesInBatches() {
+        saveExpense(LocalDate.of(2019, 1, 10), null);
+        saveExpense(LocalDate.of(2019, 6, 10), null);
+        saveExpense(LocalDate.of(2020, 2, 10), Instant.now());
+        Expense current = saveExpense(LocalDate.of(2024, 5, 1), null);
+
+        UUID after = ExpenseArchiveRepository.FIRST_ID;
+        int archived = 0;
+        int batches = 0;
+        for (BatchResult result = expenseArchiveRepository.archiveAgedBatch(LocalDate.of(2021, 1, 1), after, 2);
+             result.lastId() != null;
+             result = expenseArchiveRepository.archiveAgedBatch(LocalDate.of(2021, 1, 1), after, 2)) {
+            archived += result.archived();
+            after = result.lastId();
+            batches++;
+        }
+
+        assertThat(archived).isEqualTo(3);
+        assertThat(batches).isEqualTo(2);
+        assertThat(expenseRepository.findAll()).extracting(Expense::getId).containsExactly(current.getId());
+        assertThat(expenseArchiveRepository.existsLiveByCategory(category.getId())).isTrue();
+        assertThat(expenseArchiveRepository.findByUser(user.getId(), LocalDate.of(2019, 1, 1), LocalDate.of(2019, 12, 31),
+                PageRequest.of(0, 10)))
+                .extracting(ArchivedExpenseRow::expenseDate)
+                .containsExactly(LocalDate.of(2019, 6, 10), LocalDate.of(2019, 1, 10));
+    }
+
+    private Expense saveExpense(LocalDate expenseDate, Instant deletedAt) {
+        Expense expense = new Expense();
+        expense.setUser(user);
+        expense.setCategory(category);
+        expense.setAmount(new BigDecimal("12.00"));
+        expense.setExpenseDate(expenseDate);
+        expense.setDeleted(deletedAt != null);
+        expense.setDeletedAt(deletedAt);
+        return expenseRepository.saveAndFlush(expense);
+    }
+}
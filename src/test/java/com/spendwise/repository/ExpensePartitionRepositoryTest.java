@@ -0,0 +1,142 @@
+package com.spendwise.repository;
+
+import com.spendwise.config.ExpensePartitionProperties;
+import com.spendwise.config.JpaAuditingConfig;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.domain.entity.Expense;
+import com.spendwise.domain.entity.Role;
+import com.spendwise.domain.entity.User;
+import com.spendwise.job.ExpensePartitionMaintenanceJob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, ExpensePartitionRepository.class})
+@DisplayName("ExpensePartitionRepository")
+class ExpensePartitionRepositoryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ExpensePartitionRepository expensePartitionRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("migration creates partitions through the create-ahead window")
+    void migrationCreatesCurrentPartitions() {
+        LocalDate inThreeMonths = LocalDate.now().plusMonths(3);
+
+        assertThat(expensePartitionRepository.findPartitionNames())
+                .contains("expenses_default", "expenses_p" + LocalDate.now().getYear(), "expenses_p" + inThreeMonths.getYear());
+    }
+
+    @Test
+    @DisplayName("creates missing yearly partitions once")
+    void createsMissingPartitionsIdempotently() {
+        int created = expensePartitionRepository.ensurePartitions(LocalDate.of(2016, 5, 1), LocalDate.of(2017, 2, 1));
+        int createdAgain = expensePartitionRepository.ensurePartitions(LocalDate.of(2016, 5, 1), LocalDate.of(2017, 2, 1));
+
+        assertThat(created).isEqualTo(2);
+        assertThat(createdAgain).isZero();
+        assertThat(expensePartitionRepository.findPartitionNames()).contains("expenses_p2016", "expenses_p2017");
+    }
+
+    @Test
+    @DisplayName("moves rows out of the default partition when their partition is created")
+    void movesRowsOutOfDefaultPartition() {
+        Expense expense = saveExpense(LocalDate.of(2012, 7, 14));
+        assertThat(partitionOf(expense)).isEqualTo("expenses_default");
+        assertThat(expensePartitionRepository.findDefaultPartitionMonths()).containsExactly(LocalDate.of(2012, 7, 1));
+
+        expensePartitionRepository.ensurePartitions(LocalDate.of(2012, 7, 14), LocalDate.of(2012, 7, 14));
+
+        assertThat(partitionOf(expense)).isEqualTo("expenses_p2012");
+        assertThat(expensePartitionRepository.findDefaultPartitionMonths()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("maintenance creates only the partitions that rows in the default partition need")
+    void maintenanceCreatesPartitionsOfDefaultRowsOnly() {
+        Expense ancient = saveExpense(LocalDate.of(1700, 6, 15));
+        Expense backdated = saveExpense(LocalDate.of(2010, 2, 3));
+        saveExpense(LocalDate.of(2010, 11, 30));
+        assertThat(expensePartitionRepository.findDefaultPartitionMonths())
+                .containsExactly(LocalDate.of(1700, 6, 1), LocalDate.of(2010, 2, 1), LocalDate.of(2010, 11, 1));
+        ExpensePartitionMaintenanceJob job = new ExpensePartitionMaintenanceJob(
+                expensePartitionRepository, new ExpensePartitionProperties(true, Period.ofMonths(3)));
+
+        int created = job.run();
+
+        // Two partitions, not one per year from 1700 to today
+        assertThat(created).isEqualTo(2);
+        assertThat(partitionOf(ancient)).isEqualTo("expenses_p1700");
+        assertThat(partitionOf(backdated)).isEqualTo("expenses_p2010");
+        assertThat(expensePartitionRepository.findPartitionNames()).doesNotContain("expenses_p1701", "expenses_p2009");
+        assertThat(expensePartitionRepository.findDefaultPartitionMonths()).isEmpty();
+    }
+
+    private String partitionOf(Expense expense) {
+        return jdbcTemplate.queryForObject("SELECT CAST(tableoid::regclass AS text) FROM expenses WHERE id = ?",
+                String.class, expense.getId());
+    }
+
+    private Expense saveExpense(LocalDate expenseDate) {
+        User user = new User();
+        user.setEmail("partition-" + UUID.randomUUID() + "@test.com");
+        user.setPassword("hash");
+        user.setRole(Role.USER);
+        user = userRepository.save(user);
+
+        Category category = new Category();
+        category.setName("Food");
+        category.setUser(user);
+        category = categoryRepository.save(category);
+
+        Expense expense = new Expense();
+        expense.setUser(user);
+        expense.setCategory(category);
+        expense.setAmount(new BigDecimal("12.00"));
+        expense.setExpenseDate(expenseDate);
+        return expenseRepository.saveAndFlush(expense);
+    }
+}
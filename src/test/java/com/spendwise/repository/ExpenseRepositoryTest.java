@@ -144,6 +144,26 @@ class ExpenseRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findByUserAndCategoryAndMonthWithCategory")
+    class FindByUserAndCategoryAndMonthWithCategory {
+
+        @Test
+        @DisplayName("includes first and last day of the month only")
+        void includesWholeMonthOnly() {
+            saveExpense(userA, categoryA, new BigDecimal("10"), LocalDate.of(2024, 1, 31), false);
+            saveExpense(userA, categoryA, new BigDecimal("20"), LocalDate.of(2024, 2, 1), false);
+            saveExpense(userA, categoryA, new BigDecimal("30"), LocalDate.of(2024, 2, 29), false);
+            saveExpense(userA, categoryA, new BigDecimal("40"), LocalDate.of(2024, 3, 1), false);
+
+            var result = expenseRepository.findByUserAndCategoryAndMonthWithCategory(
+                    userA.getId(), categoryA.getId(), 2024, 2);
+
+            assertThat(result).extracting(Expense::getExpenseDate)
+                    .containsExactly(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 2, 1));
+        }
+    }
+
     @Nested
     @DisplayName("findAllByUserExcludingDeleted")
     class FindAllByUserExcludingDeleted {
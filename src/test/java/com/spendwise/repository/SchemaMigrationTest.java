@@ -0,0 +1,154 @@
+package com.spendwise.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Upgrades a database that already holds data: migrates to a version before the change under test,
+ * inserts rows as the application of that version would have, then runs the remaining migrations.
+ */
+@Testcontainers
+@DisplayName("Schema migrations on existing data")
+class SchemaMigrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private UUID userId;
+    private UUID food;
+    private UUID travel;
+
+    @BeforeEach
+    void setUp() {
+        flyway(null).clean();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        userId = UUID.randomUUID();
+        food = UUID.randomUUID();
+        travel = UUID.randomUUID();
+    }
+
+    private Flyway flyway(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .placeholders(Map.of("expensePartitionGranularity", "yearly"))
+                .cleanDisabled(false);
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private void insertUserWithCategories() {
+        jdbcTemplate.update("INSERT INTO users (id, created_at, updated_at, email, password_hash) VALUES (?, now(), now(), ?, 'x')",
+                userId, userId + "@example.com");
+        for (UUID category : new UUID[]{food, travel}) {
+            jdbcTemplate.update("INSERT INTO categories (id, created_at, updated_at, name, user_id) VALUES (?, now(), now(), ?, ?)",
+                    category, category.toString(), userId);
+        }
+    }
+
+    private void insertExpense(UUID categoryId, String amount, LocalDate date, boolean deleted) {
+        jdbcTemplate.update("""
+                INSERT INTO expenses (id, created_at, updated_at, user_id, category_id, amount, expense_date, deleted)
+                VALUES (?, now(), now(), ?, ?, ?, ?, ?)
+                """, UUID.randomUUID(), userId, categoryId, new BigDecimal(amount), date, deleted);
+    }
+
+    @Test
+    @DisplayName("V6 seeds the spend rollups from the non-deleted expenses")
+    void rollupsAreSeeded() {
+        flyway("5").migrate();
+        insertUserWithCategories();
+        insertExpense(food, "10.00", LocalDate.of(2025, 3, 3), false);
+        insertExpense(food, "5.50", LocalDate.of(2025, 3, 3), false);
+        insertExpense(food, "7.00", LocalDate.of(2025, 4, 1), false);
+        insertExpense(travel, "3.00", LocalDate.of(2025, 3, 20), false);
+        insertExpense(food, "100.00", LocalDate.of(2025, 3, 10), true);
+
+        flyway(null).migrate();
+
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT category_id, spend_date, total_amount, expense_count
+                FROM daily_spend_rollup ORDER BY spend_date, total_amount
+                """)).containsExactly(
+                Map.of("category_id", food, "spend_date", Date.valueOf("2025-03-03"),
+                        "total_amount", new BigDecimal("15.50"), "expense_count", 2),
+                Map.of("category_id", travel, "spend_date", Date.valueOf("2025-03-20"),
+                        "total_amount", new BigDecimal("3.00"), "expense_count", 1),
+                Map.of("category_id", food, "spend_date", Date.valueOf("2025-04-01"),
+                        "total_amount", new BigDecimal("7.00"), "expense_count", 1));
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT category_id, year, month, total_amount, expense_count
+                FROM monthly_spend_rollup ORDER BY month, total_amount
+                """)).containsExactly(
+                Map.of("category_id", travel, "year", 2025, "month", 3,
+                        "total_amount", new BigDecimal("3.00"), "expense_count", 1),
+                Map.of("category_id", food, "year", 2025, "month", 3,
+                        "total_amount", new BigDecimal("15.50"), "expense_count", 2),
+                Map.of("category_id", food, "year", 2025, "month", 4,
+                        "total_amount", new BigDecimal("7.00"), "expense_count", 1));
+    }
+
+    @Test
+    @DisplayName("budget checks see the spend of expenses written before the upgrade")
+    void budgetSpendIncludesPreUpgradeExpenses() {
+        flyway("5").migrate();
+        insertUserWithCategories();
+        insertExpense(food, "40.00", LocalDate.of(2025, 3, 3), false);
+        insertExpense(food, "25.00", LocalDate.of(2025, 7, 9), false);
+        insertExpense(travel, "12.50", LocalDate.of(2025, 3, 28), false);
+
+        flyway(null).migrate();
+
+        SpendRollupRepository spendRollupRepository = new SpendRollupRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+        assertThat(spendRollupRepository.sumMonthByCategory(userId, 2025, 3))
+                .containsOnly(Map.entry(food, new BigDecimal("40.00")), Map.entry(travel, new BigDecimal("12.50")));
+        assertThat(spendRollupRepository.sumYearByCategory(userId, 2025))
+                .containsOnly(Map.entry(food, new BigDecimal("65.00")), Map.entry(travel, new BigDecimal("12.50")));
+    }
+
+    @Test
+    @DisplayName("V7 partitions the recent periods that have rows and leaves outliers to the maintenance job")
+    void partitionsOnlyRecentPeriodsWithRows() {
+        int year = LocalDate.now().getYear();
+        flyway("6").migrate();
+        insertUserWithCategories();
+        insertExpense(food, "10.00", LocalDate.of(year, 1, 15), false);
+        insertExpense(food, "20.00", LocalDate.of(year - 3, 6, 1), false);
+        insertExpense(travel, "30.00", LocalDate.of(1901, 3, 2), false);
+
+        flyway(null).migrate();
+
+        ExpensePartitionRepository partitions = new ExpensePartitionRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+        assertThat(partitions.findPartitionNames())
+                .contains("expenses_default", "expenses_p" + year, "expenses_p" + (year - 3))
+                .doesNotContain("expenses_p" + (year - 2), "expenses_p" + (year - 1), "expenses_p1901")
+                .hasSizeLessThanOrEqualTo(4);
+        assertThat(jdbcTemplate.queryForList("SELECT expense_date FROM expenses_default", LocalDate.class))
+                .containsExactly(LocalDate.of(1901, 3, 2));
+
+        assertThat(partitions.findDefaultPartitionMonths()).containsExactly(LocalDate.of(1901, 3, 1));
+        assertThat(partitions.ensurePartitions(LocalDate.of(1901, 3, 1), LocalDate.of(1901, 3, 1))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM expenses_default", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM expenses", Integer.class)).isEqualTo(3);
+    }
+}
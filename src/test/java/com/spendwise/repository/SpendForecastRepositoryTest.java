@@ -0,0 +1,153 @@
+package com.spendwise.repository;
+
+import com.spendwise.config.JpaAuditingConfig;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.domain.entity.Role;
+import com.spendwise.domain.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * The forecast model kept current by the {@code forecast} step of the rollup delta statement must be the one a
+ * rebuild computes from the changed rollup. Models are stored with four decimals, so each delta may round
+ * differently from the rebuild's single sum.
+ */
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, SpendForecastRepository.class, SpendRollupRepository.class})
+@DisplayName("SpendForecastRepository")
+class SpendForecastRepositoryTest {
+
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2025, 1);
+    private static final YearMonth LAST_MONTH = YearMonth.of(2025, 6);
+    private static final BigDecimal ALPHA = new BigDecimal("0.3");
+    private static final BigDecimal ROUNDING = new BigDecimal("0.001");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private SpendForecastRepository spendForecastRepository;
+
+    @Autowired
+    private SpendRollupRepository spendRollupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private UUID userId;
+    private UUID food;
+    private UUID travel;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setEmail("forecast-" + UUID.randomUUID() + "@test.com");
+        user.setPassword("hash");
+        user.setRole(Role.USER);
+        userId = userRepository.saveAndFlush(user).getId();
+        food = saveCategory(user, "Food");
+        travel = saveCategory(user, "Travel");
+
+        spend(food, LocalDate.of(2025, 1, 10), "100.00");
+        spend(food, LocalDate.of(2025, 2, 10), "80.00");
+        spend(food, LocalDate.of(2025, 4, 10), "120.00");
+        spend(food, LocalDate.of(2025, 6, 30), "60.00");
+        spend(travel, LocalDate.of(2025, 3, 5), "400.00");
+    }
+
+    private UUID saveCategory(User user, String name) {
+        Category category = new Category();
+        category.setName(name);
+        category.setUser(user);
+        return categoryRepository.saveAndFlush(category).getId();
+    }
+
+    private boolean spend(UUID categoryId, LocalDate date, String amount) {
+        BigDecimal value = new BigDecimal(amount);
+        return spendRollupRepository.applyDelta(userId, categoryId, date, value, value.signum());
+    }
+
+    private Map<UUID, BigDecimal> rebuild() {
+        spendForecastRepository.rebuildForUsers(List.of(userId), FIRST_MONTH, LAST_MONTH, ALPHA);
+        return spendForecastRepository.findMonthlyEwmaByUser(userId);
+    }
+
+    @Test
+    @DisplayName("rebuild weights the first month with (1 - alpha)^age and later months with alpha * (1 - alpha)^age")
+    void rebuildsEwma() {
+        Map<UUID, BigDecimal> models = rebuild();
+
+        // 100 * 0.7^5 + 80 * 0.3 * 0.7^4 + 120 * 0.3 * 0.7^2 + 60 * 0.3
+        assertThat(models.get(food)).isCloseTo(new BigDecimal("58.2094"), within(ROUNDING));
+        // 400 * 0.7^3, seeded in March
+        assertThat(models.get(travel)).isCloseTo(new BigDecimal("137.2000"), within(ROUNDING));
+    }
+
+    @Test
+    @DisplayName("deltas applied after a rebuild give the model of a fresh rebuild")
+    void deltasMatchFreshRebuild() {
+        rebuild();
+
+        assertThat(spend(food, LocalDate.of(2025, 1, 20), "-40.00")).isTrue();
+        assertThat(spend(food, LocalDate.of(2025, 3, 15), "55.50")).isTrue();
+        assertThat(spend(food, LocalDate.of(2025, 4, 10), "-120.00")).isTrue();
+        assertThat(spend(food, LocalDate.of(2025, 6, 1), "19.99")).isTrue();
+        assertThat(spend(travel, LocalDate.of(2025, 3, 6), "-150.00")).isTrue();
+        assertThat(spend(travel, LocalDate.of(2025, 5, 1), "75.00")).isTrue();
+        // Outside first_month..last_month: left to the next rebuild, which ignores them as well
+        assertThat(spend(food, LocalDate.of(2024, 12, 31), "500.00")).isFalse();
+        assertThat(spend(food, LocalDate.of(2025, 7, 1), "500.00")).isFalse();
+        Map<UUID, BigDecimal> incremental = spendForecastRepository.findMonthlyEwmaByUser(userId);
+
+        Map<UUID, BigDecimal> rebuilt = rebuild();
+
+        assertThat(incremental).containsOnlyKeys(food, travel);
+        assertThat(rebuilt).containsOnlyKeys(food, travel);
+        assertThat(incremental.get(food)).isCloseTo(rebuilt.get(food), within(ROUNDING));
+        assertThat(incremental.get(travel)).isCloseTo(rebuilt.get(travel), within(ROUNDING));
+    }
+
+    @Test
+    @DisplayName("deleting a category's rollups also drops its model")
+    void deleteForCategoryDropsModel() {
+        rebuild();
+
+        assertThat(spendRollupRepository.deleteForCategory(userId, travel)).isTrue();
+        assertThat(spendRollupRepository.deleteForCategory(userId, travel)).isFalse();
+        assertThat(spendForecastRepository.findMonthlyEwmaByUser(userId)).containsOnlyKeys(food);
+    }
+}
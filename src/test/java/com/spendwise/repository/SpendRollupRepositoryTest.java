@@ -0,0 +1,155 @@
+package com.spendwise.repository;
+
+import com.spendwise.config.JpaAuditingConfig;
+import com.spendwise.domain.entity.Budget;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.domain.entity.Expense;
+import com.spendwise.domain.entity.Role;
+import com.spendwise.domain.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, SpendRollupRepository.class, ExpenseArchiveRepository.class})
+@DisplayName("SpendRollupRepository")
+class SpendRollupRepositoryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private SpendRollupRepository spendRollupRepository;
+
+    @Autowired
+    private ExpenseArchiveRepository expenseArchiveRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private User user;
+    private Category food;
+    private Category travel;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("rollup-user-" + UUID.randomUUID() + "@test.com");
+        user.setPassword("hash");
+        user.setRole(Role.USER);
+        user = userRepository.save(user);
+
+        food = saveCategory("Food");
+        travel = saveCategory("Travel");
+    }
+
+    @Nested
+    @DisplayName("sumYearByBudget")
+    class SumYearByBudget {
+
+        @Test
+        @DisplayName("sums each monthly budget's month and a yearly budget's whole year, archived expenses included")
+        void sumsMonthlyAndYearlyBudgetsWithArchivedExpenses() {
+            Budget march = saveBudget(3, food);
+            Budget yearly = saveBudget(null, food, travel);
+            Budget deleted = saveBudget(8, food);
+            deleted.setDeletedAt(Instant.now());
+            budgetRepository.save(deleted);
+
+            saveExpense(food, "40.00", LocalDate.of(2019, 3, 5), false);
+            saveExpense(food, "15.00", LocalDate.of(2019, 8, 20), false);
+            saveExpense(travel, "100.00", LocalDate.of(2019, 11, 2), false);
+            saveExpense(food, "999.00", LocalDate.of(2019, 3, 6), true);
+            saveExpense(food, "7.00", LocalDate.of(2020, 3, 1), false);
+            spendRollupRepository.rebuildForUsers(List.of(user.getId()));
+
+            // Ages every 2019 expense out of expenses; the rollups keep counting them.
+            expenseArchiveRepository.archiveAgedBatch(LocalDate.of(2020, 1, 1), ExpenseArchiveRepository.FIRST_ID, 100);
+            assertThat(expenseRepository.findAll()).extracting(Expense::getExpenseDate)
+                    .containsExactly(LocalDate.of(2020, 3, 1));
+
+            assertThat(spendRollupRepository.sumYearByBudget(user.getId(), 2019)).containsOnly(
+                    Map.entry(march.getId(), new BigDecimal("40.00")),
+                    Map.entry(yearly.getId(), new BigDecimal("155.00")));
+        }
+
+        @Test
+        @DisplayName("leaves budgets without spend out")
+        void omitsBudgetsWithoutSpend() {
+            saveBudget(null, travel);
+            saveExpense(food, "40.00", LocalDate.of(2019, 3, 5), false);
+            spendRollupRepository.rebuildForUsers(List.of(user.getId()));
+
+            assertThat(spendRollupRepository.sumYearByBudget(user.getId(), 2019)).isEmpty();
+        }
+    }
+
+    private Category saveCategory(String name) {
+        Category category = new Category();
+        category.setName(name);
+        category.setUser(user);
+        return categoryRepository.save(category);
+    }
+
+    private Budget saveBudget(Integer month, Category... categories) {
+        Budget budget = new Budget();
+        budget.setUser(user);
+        budget.setAmount(new BigDecimal("1000"));
+        budget.setYear(2019);
+        budget.setMonth(month);
+        budget.setCategories(new HashSet<>(Set.of(categories)));
+        return budgetRepository.saveAndFlush(budget);
+    }
+
+    private void saveExpense(Category category, String amount, LocalDate expenseDate, boolean deleted) {
+        Expense expense = new Expense();
+        expense.setUser(user);
+        expense.setCategory(category);
+        expense.setAmount(new BigDecimal(amount));
+        expense.setExpenseDate(expenseDate);
+        expense.setDeleted(deleted);
+        expense.setDeletedAt(deleted ? Instant.now() : null);
+        expenseRepository.saveAndFlush(expense);
+    }
+}
@@ -0,0 +1,43 @@
+package com.spendwise.unit.config;
+
+import com.spendwise.config.NativeRuntimeHints;
+import com.spendwise.dto.error.ErrorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NativeRuntimeHints")
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    @DisplayName("registers every jjwt class it names, so none of the names is stale")
+    void registersJjwtImplementation() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Types missing from the classpath are skipped silently; all fourteen must exist in jjwt 0.12.
+        long jjwtTypes = hints.reflection().typeHints()
+                .filter(hint -> hint.getType().getName().startsWith("io.jsonwebtoken."))
+                .count();
+        assertThat(jjwtTypes).isEqualTo(14);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer"))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("registers the Hibernate dialect and JSON bodies written outside controller signatures")
+    void registersDialectAndBodies() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(org.hibernate.dialect.PostgreSQLDialect.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ErrorResponse.class)).accepts(hints);
+    }
+}
@@ -0,0 +1,83 @@
+package com.spendwise.unit.datasource;
+
+import com.spendwise.config.PoolSizingProperties;
+import com.spendwise.datasource.PoolSizingPolicy;
+import com.spendwise.datasource.PoolSizingPolicy.Action;
+import com.spendwise.datasource.PoolSizingPolicy.Decision;
+import com.spendwise.datasource.PoolSizingPolicy.Window;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PoolSizingPolicy")
+class PoolSizingPolicyTest {
+
+    private static final double MS = 1_000_000;
+
+    // Sizes 5..30 in steps of 2; grow when waits exceed statement time, latency may rise 50% per interval.
+    private final PoolSizingPolicy policy = new PoolSizingPolicy(
+            new PoolSizingProperties(true, 5, 30, 2, Duration.ofSeconds(15), 1.0, 0.5, 0.5));
+
+    private static Window window(double meanWaitMs, double meanStatementMs, double meanInUse) {
+        return new Window(1_000, meanWaitMs * MS, 5_000, meanStatementMs * MS, meanInUse);
+    }
+
+    @Test
+    @DisplayName("grows by one step while connection waits exceed statement latency")
+    void growsOnWaits() {
+        Decision decision = policy.decide(window(5, 2, 9.8), 10);
+
+        assertThat(decision.action()).isEqualTo(Action.GROW);
+        assertThat(decision.newSize()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("does not grow past max-size")
+    void holdsAtMaximum() {
+        Decision decision = policy.decide(window(5, 2, 29.5), 30);
+
+        assertThat(decision.action()).isEqualTo(Action.HOLD);
+        assertThat(decision.newSize()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("undoes a growth step when statement latency rose right after it")
+    void backsOffWhenDatabaseSlowsDown() {
+        policy.decide(window(5, 2, 9.8), 10);
+
+        Decision decision = policy.decide(window(5, 4, 11.8), 12);
+
+        assertThat(decision.action()).isEqualTo(Action.SHRINK);
+        assertThat(decision.newSize()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("holds when waits and statement latency rise together")
+    void holdsWhenDatabaseSaturated() {
+        policy.decide(window(0.5, 2, 6), 10);
+
+        Decision decision = policy.decide(window(10, 4, 9.9), 10);
+
+        assertThat(decision.action()).isEqualTo(Action.HOLD);
+        assertThat(decision.reason()).contains("saturated");
+    }
+
+    @Test
+    @DisplayName("shrinks while waits are negligible and the pool is underused, but not below min-size")
+    void shrinksWhenIdle() {
+        assertThat(policy.decide(window(0.01, 2, 2), 10).newSize()).isEqualTo(8);
+        assertThat(policy.decide(window(0.01, 2, 2), 6).newSize()).isEqualTo(5);
+        assertThat(policy.decide(window(0.01, 2, 2), 5).action()).isEqualTo(Action.HOLD);
+    }
+
+    @Test
+    @DisplayName("keeps a busy pool with negligible waits at its size")
+    void keepsBusyPool() {
+        Decision decision = policy.decide(window(0.01, 2, 7), 10);
+
+        assertThat(decision.action()).isEqualTo(Action.HOLD);
+    }
+}
@@ -0,0 +1,60 @@
+package com.spendwise.unit.datasource;
+
+import com.spendwise.datasource.ReplicaRoutingContext;
+import com.spendwise.datasource.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica));
+
+    @Test
+    @DisplayName("passes explicit credentials to the selected replica")
+    void delegatesCredentialsToReplica() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(replica.getConnection("reporting", "secret")).thenReturn(connection);
+
+        assertThat(routing.getConnection("reporting", "secret")).isSameAs(connection);
+    }
+
+    @Test
+    @DisplayName("passes explicit credentials to the primary when the thread is pinned to it")
+    void delegatesCredentialsToPinnedPrimary() {
+        Connection connection = mock(Connection.class);
+
+        Connection routed = ReplicaRoutingContext.callOnPrimary(() -> {
+            try {
+                when(primary.getConnection("reporting", "secret")).thenReturn(connection);
+                return routing.getConnection("reporting", "secret");
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(routed).isSameAs(connection);
+    }
+
+    @Test
+    @DisplayName("falls back to the primary when the replica cannot hand out a connection")
+    void fallsBackToPrimary() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica down"));
+        when(primary.getConnection()).thenReturn(connection);
+
+        assertThat(routing.getConnection()).isSameAs(connection);
+    }
+}
@@ -0,0 +1,70 @@
+package com.spendwise.unit.observability;
+
+import com.spendwise.exception.BudgetExceededException;
+import com.spendwise.exception.ResourceNotFoundException;
+import com.spendwise.observability.ServiceMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ServiceMetrics")
+class ServiceMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ServiceMetrics.Operation operation = new ServiceMetrics(registry,
+            List.of(Duration.ofMillis(25), Duration.ofMillis(100))).operation("ExpenseService", "createExpense");
+
+    private Timer timer(String outcome, String exception) {
+        return registry.find(ServiceMetrics.SERVICE_METRIC)
+                .tags("service", "ExpenseService", "operation", "createExpense",
+                        "outcome", outcome, "exception", exception)
+                .timer();
+    }
+
+    @Test
+    @DisplayName("times successful calls with outcome success and no exception")
+    void recordsSuccess() {
+        operation.recordSuccess(System.nanoTime());
+        operation.recordSuccess(System.nanoTime());
+
+        assertThat(timer("success", "none").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("tags failures with the exception's simple name and whether it is a client or server error")
+    void recordsFailures() {
+        operation.recordFailure(System.nanoTime(), new ResourceNotFoundException("Category not found"));
+        operation.recordFailure(System.nanoTime(), new IllegalStateException("boom"));
+
+        assertThat(timer("client_error", "ResourceNotFoundException").count()).isEqualTo(1);
+        assertThat(timer("server_error", "IllegalStateException").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("counts budget rejections per operation")
+    void countsBudgetRejections() {
+        operation.recordFailure(System.nanoTime(), new BudgetExceededException("over"));
+        operation.recordFailure(System.nanoTime(), new BudgetExceededException("over"));
+
+        assertThat(registry.get(ServiceMetrics.BUDGET_REJECTIONS_METRIC).tag("operation", "createExpense")
+                .counter().count()).isEqualTo(2);
+        assertThat(timer("client_error", "BudgetExceededException").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("publishes a histogram bucket at every SLO")
+    void publishesSloBuckets() {
+        operation.recordSuccess(System.nanoTime());
+
+        assertThat(timer("success", "none").takeSnapshot().histogramCounts())
+                .extracting(bucket -> bucket.bucket(TimeUnit.MILLISECONDS))
+                .contains(25.0, 100.0);
+    }
+}
@@ -0,0 +1,63 @@
+package com.spendwise.unit.observability;
+
+import com.spendwise.config.VirtualThreadConfig;
+import com.spendwise.config.VirtualThreadProperties;
+import com.spendwise.observability.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Virtual-thread mode")
+class VirtualThreadConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PropertiesConfig.class, VirtualThreadConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    private static boolean virtualThreadsAvailable() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    @Test
+    @DisplayName("is off by default: no pinning monitor")
+    void offByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class);
+        });
+    }
+
+    @Test
+    @DisplayName("starts the pinning monitor only when switched on and the runtime has virtual threads")
+    void pinningMonitorFollowsTheSwitch() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(Threading.VIRTUAL.isActive(context.getEnvironment())).isEqualTo(virtualThreadsAvailable());
+            if (virtualThreadsAvailable()) {
+                assertThat(context).hasSingleBean(VirtualThreadPinningMonitor.class);
+            } else {
+                assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("leaves the pinning monitor out when it is disabled")
+    void pinningMonitorCanBeDisabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true",
+                        "spendwise.virtual-threads.pinning-monitor-enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(VirtualThreadProperties.class)
+    static class PropertiesConfig {
+    }
+}
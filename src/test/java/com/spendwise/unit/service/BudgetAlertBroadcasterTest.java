@@ -0,0 +1,228 @@
+package com.spendwise.unit.service;
+
+import com.spendwise.config.BudgetAlertProperties;
+import com.spendwise.dto.response.BudgetAlertResponse;
+import com.spendwise.service.BudgetAlertBroadcaster;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the real sender threads against emitters that record what they are sent, and can hold a sender inside
+ * a write to stand in for a slow client.
+ */
+@DisplayName("BudgetAlertBroadcaster")
+class BudgetAlertBroadcasterTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private boolean holdNewStreams;
+    private MeterRegistry meterRegistry;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(RecordingEmitter::release);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private BudgetAlertBroadcaster broadcaster(int bufferSize, int maxConnectionsPerUser) {
+        // Heartbeats only on subscribe: the scheduled ones would make the recorded events timing-dependent.
+        BudgetAlertProperties properties = new BudgetAlertProperties(List.of(80, 100), Duration.ofHours(1),
+                Duration.ofMinutes(30), bufferSize, maxConnectionsPerUser, 1);
+        return new BudgetAlertBroadcaster(properties, meterRegistry) {
+            @Override
+            protected SseEmitter newEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter(timeoutMillis, holdNewStreams);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private static BudgetAlertResponse alert(int thresholdPercent) {
+        return new BudgetAlertResponse(UUID.randomUUID(), 2025, 3, UUID.randomUUID(), thresholdPercent,
+                new BigDecimal("1000"), new BigDecimal("850"), Instant.now());
+    }
+
+    private double openConnections() {
+        return meterRegistry.get(BudgetAlertBroadcaster.CONNECTIONS_METRIC).gauge().value();
+    }
+
+    @Test
+    @DisplayName("delivers events queued while a write is in progress, and drains again after going idle")
+    void drainsAndRearms() throws InterruptedException {
+        BudgetAlertBroadcaster broadcaster = broadcaster(8, 4);
+        holdNewStreams = true;
+        broadcaster.subscribe(userId);
+        RecordingEmitter emitter = emitters.get(0);
+        assertThat(emitter.awaitWriteStarted()).isTrue(); // the opening heartbeat
+
+        broadcaster.publishAfterCommit(userId, List.of(alert(80), alert(100)));
+        emitter.release();
+
+        assertThat(emitter.nextEvent()).isNull();
+        assertThat(emitter.nextEvent().thresholdPercent()).isEqualTo(80);
+        assertThat(emitter.nextEvent().thresholdPercent()).isEqualTo(100);
+
+        // The drain has ended; a later alert must start a new one.
+        broadcaster.publishAfterCommit(userId, List.of(alert(120)));
+        assertThat(emitter.nextEvent().thresholdPercent()).isEqualTo(120);
+        assertThat(meterRegistry.get(BudgetAlertBroadcaster.SENT_METRIC).counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("closes a stream whose client falls more than bufferSize events behind")
+    void disconnectsOnOverflow() throws InterruptedException {
+        BudgetAlertBroadcaster broadcaster = broadcaster(2, 4);
+        holdNewStreams = true;
+        broadcaster.subscribe(userId);
+        RecordingEmitter emitter = emitters.get(0);
+        assertThat(emitter.awaitWriteStarted()).isTrue();
+
+        broadcaster.publishAfterCommit(userId, List.of(alert(50), alert(80), alert(100)));
+
+        assertThat(emitter.completed).isTrue();
+        assertThat(openConnections()).isZero();
+        assertThat(meterRegistry.get(BudgetAlertBroadcaster.OVERFLOWS_METRIC).counter().count()).isEqualTo(1);
+
+        broadcaster.publishAfterCommit(userId, List.of(alert(120)));
+        assertThat(meterRegistry.get(BudgetAlertBroadcaster.SENT_METRIC).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("closes the user's oldest stream beyond maxConnectionsPerUser, leaving other users alone")
+    void capsConnectionsPerUser() {
+        BudgetAlertBroadcaster broadcaster = broadcaster(8, 2);
+        broadcaster.subscribe(UUID.randomUUID());
+        broadcaster.subscribe(userId);
+        broadcaster.subscribe(userId);
+
+        broadcaster.subscribe(userId);
+
+        assertThat(emitters).extracting(emitter -> emitter.completed).containsExactly(false, true, false, false);
+        assertThat(openConnections()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("publishes inside a transaction only once it commits")
+    void publishesAfterCommit() throws InterruptedException {
+        BudgetAlertBroadcaster broadcaster = broadcaster(8, 4);
+        broadcaster.subscribe(userId);
+        RecordingEmitter emitter = emitters.get(0);
+        assertThat(emitter.nextEvent()).isNull();
+
+        TransactionSynchronizationManager.initSynchronization();
+        broadcaster.publishAfterCommit(userId, List.of(alert(80)));
+        List<TransactionSynchronization> committed = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        broadcaster.publishAfterCommit(userId, List.of(alert(100)));
+        List<TransactionSynchronization> rolledBack = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(emitter.pollEvent(200)).isNull();
+        rolledBack.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        committed.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(emitter.nextEvent().thresholdPercent()).isEqualTo(80);
+        assertThat(emitter.pollEvent(200)).isNull();
+    }
+
+    /**
+     * Records every write; a held emitter blocks its writes until {@link #release()}.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private static final Object HEARTBEAT = new Object();
+
+        private final BlockingQueue<Object> written = new LinkedBlockingQueue<>();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch gate;
+        private volatile boolean completed;
+
+        private RecordingEmitter(long timeoutMillis, boolean held) {
+            super(timeoutMillis);
+            this.gate = new CountDownLatch(held ? 1 : 0);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        boolean awaitWriteStarted() throws InterruptedException {
+            return writeStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        /**
+         * The next alert written, or null for a heartbeat; fails if nothing is written in time.
+         */
+        BudgetAlertResponse nextEvent() throws InterruptedException {
+            Object event = written.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(event).as("event written").isNotNull();
+            return event == HEARTBEAT ? null : (BudgetAlertResponse) event;
+        }
+
+        /**
+         * The alert written within {@code millis}, or null if there was none (heartbeats are skipped).
+         */
+        BudgetAlertResponse pollEvent(long millis) throws InterruptedException {
+            Object event;
+            do {
+                event = written.poll(millis, TimeUnit.MILLISECONDS);
+            } while (event == HEARTBEAT);
+            return (BudgetAlertResponse) event;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            writeStarted.countDown();
+            try {
+                gate.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.add(items.stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(BudgetAlertResponse.class::isInstance)
+                    .findFirst()
+                    .orElse(HEARTBEAT));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.spendwise.unit.service;
+
+import com.spendwise.domain.entity.Budget;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.dto.response.BudgetForecastStatus;
+import com.spendwise.service.BudgetForecast;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BudgetForecast")
+class BudgetForecastTest {
+
+    private Category groceries;
+    private Category coffee;
+    private Budget budget;
+
+    @BeforeEach
+    void setUp() {
+        groceries = new Category();
+        groceries.setId(UUID.randomUUID());
+        coffee = new Category();
+        coffee.setId(UUID.randomUUID());
+
+        // April 2025: 30 days.
+        budget = new Budget();
+        budget.setAmount(new BigDecimal("500"));
+        budget.setYear(2025);
+        budget.setMonth(4);
+        budget.setCategories(Set.of(groceries, coffee));
+    }
+
+    @Test
+    @DisplayName("mid-period blends the pace with the modelled spend of the budget's categories")
+    void blendsPaceAndHistory() {
+        // Half the month gone, 300 spent, history 240 + 60 = 300 a month: 300 + 0.5 * (300 + 0.5 * 300).
+        BudgetForecast forecast = BudgetForecast.of(budget, new BigDecimal("300"),
+                Map.of(groceries.getId(), new BigDecimal("240"), coffee.getId(), new BigDecimal("60"),
+                        UUID.randomUUID(), new BigDecimal("1000")),
+                LocalDate.of(2025, 4, 15));
+
+        assertThat(forecast.projectedSpent()).isEqualByComparingTo("525.00");
+        assertThat(forecast.status()).isEqualTo(BudgetForecastStatus.AT_RISK);
+    }
+
+    @Test
+    @DisplayName("without a model the projection is the pace so far")
+    void paceWithoutHistory() {
+        BudgetForecast forecast = BudgetForecast.of(budget, new BigDecimal("100"), Map.of(), LocalDate.of(2025, 4, 10));
+
+        assertThat(forecast.projectedSpent()).isEqualByComparingTo("300.00");
+        assertThat(forecast.status()).isEqualTo(BudgetForecastStatus.ON_TRACK);
+    }
+
+    @Test
+    @DisplayName("a period that has ended projects what was spent, one not started its history")
+    void endedAndUpcomingPeriods() {
+        Map<UUID, BigDecimal> history = Map.of(groceries.getId(), new BigDecimal("450"));
+
+        assertThat(BudgetForecast.of(budget, new BigDecimal("510"), history, LocalDate.of(2025, 5, 3)).projectedSpent())
+                .isEqualByComparingTo("510.00");
+        assertThat(BudgetForecast.of(budget, BigDecimal.ZERO, history, LocalDate.of(2025, 3, 20)))
+                .isEqualTo(new BudgetForecast(new BigDecimal("450.00"), BudgetForecastStatus.ON_TRACK));
+    }
+
+    @Test
+    @DisplayName("a yearly budget expects twelve modelled months")
+    void yearlyBudgetUsesTwelveMonths() {
+        budget.setMonth(null);
+        budget.setAmount(new BigDecimal("6000"));
+
+        BudgetForecast forecast = BudgetForecast.of(budget, BigDecimal.ZERO,
+                Map.of(groceries.getId(), new BigDecimal("450")), LocalDate.of(2024, 12, 31));
+
+        assertThat(forecast).isEqualTo(new BudgetForecast(new BigDecimal("5400.00"), BudgetForecastStatus.ON_TRACK));
+    }
+}
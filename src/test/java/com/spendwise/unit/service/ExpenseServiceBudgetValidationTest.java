@@ -2,8 +2,11 @@ package com.spendwise.unit.service;
 
 import com.spendwise.domain.entity.Budget;
 import com.spendwise.domain.entity.Category;
+import com.spendwise.domain.entity.Expense;
 import com.spendwise.domain.entity.User;
 import com.spendwise.dto.request.CreateExpenseRequest;
+import com.spendwise.dto.request.UpdateExpenseRequest;
+import com.spendwise.dto.response.BudgetAlertResponse;
 import com.spendwise.dto.response.ExpenseResponse;
 import com.spendwise.exception.BudgetExceededException;
 import com.spendwise.mapper.ExpenseMapper;
@@ -11,26 +14,38 @@ import com.spendwise.repository.BudgetRepository;
 import com.spendwise.repository.CategoryRepository;
 import com.spendwise.repository.ExpenseRepository;
 import com.spendwise.repository.UserRepository;
+import com.spendwise.service.BudgetAlertBroadcaster;
+import com.spendwise.service.BudgetEnforcement;
 import com.spendwise.service.ExpenseService;
+import com.spendwise.service.MonthlySpendCache;
 import com.spendwise.service.OwnershipValidationService;
+import com.spendwise.service.SpendRollupService;
+import com.spendwise.service.UserCategoryCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +53,8 @@ import static org.mockito.Mockito.when;
 @DisplayName("ExpenseService budget validation")
 class ExpenseServiceBudgetValidationTest {
 
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+
     @Mock
     private ExpenseRepository expenseRepository;
 
@@ -56,7 +73,18 @@ class ExpenseServiceBudgetValidationTest {
     @Mock
     private ExpenseMapper expenseMapper;
 
-    @InjectMocks
+    @Mock
+    private SpendRollupService spendRollupService;
+
+    @Mock
+    private MonthlySpendCache monthlySpendCache;
+
+    @Mock
+    private UserCategoryCache userCategoryCache;
+
+    @Mock
+    private BudgetAlertBroadcaster budgetAlertBroadcaster;
+
     private ExpenseService expenseService;
 
     private UUID userId;
@@ -67,6 +95,10 @@ class ExpenseServiceBudgetValidationTest {
 
     @BeforeEach
     void setUp() {
+        BudgetEnforcement budgetEnforcement = new BudgetEnforcement(
+                budgetRepository, spendRollupService, monthlySpendCache, budgetAlertBroadcaster);
+        expenseService = new ExpenseService(expenseRepository, categoryRepository, userRepository,
+                ownershipValidationService, expenseMapper, null, null, null, null, userCategoryCache, budgetEnforcement);
         userId = UUID.randomUUID();
         categoryId = UUID.randomUUID();
         expenseDate = LocalDate.of(2025, 3, 15);
@@ -81,8 +113,9 @@ class ExpenseServiceBudgetValidationTest {
         category.setName("Food");
         category.setUser(user);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(categoryRepository.findByIdAndUser_Id(categoryId, userId)).thenReturn(Optional.of(category));
+        lenient().when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        lenient().when(userCategoryCache.owns(userId, categoryId)).thenReturn(true);
+        lenient().when(categoryRepository.getReferenceById(categoryId)).thenReturn(category);
     }
 
     @Nested
@@ -99,10 +132,7 @@ class ExpenseServiceBudgetValidationTest {
                     expenseDate
             );
 
-            when(expenseRepository.sumAmountByUserAndCategoryAndDateRange(
-                    eq(userId), eq(categoryId), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(new BigDecimal("0"));
-            when(budgetRepository.findByUserAndYearAndMonthAndCategory(
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
                     eq(userId), eq(2025), eq(3), eq(categoryId)))
                     .thenReturn(List.of());
             when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -112,6 +142,8 @@ class ExpenseServiceBudgetValidationTest {
             expenseService.createExpense(userId, request);
 
             verify(expenseRepository).save(any());
+            verify(spendRollupService, never()).monthSpendByCategory(any(), any());
+            verify(spendRollupService, never()).yearSpendByCategory(any(), anyInt());
         }
     }
 
@@ -133,15 +165,13 @@ class ExpenseServiceBudgetValidationTest {
                     expenseDate
             );
 
-            when(expenseRepository.sumAmountByUserAndCategoryAndDateRange(
-                    eq(userId), eq(categoryId), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(alreadySpent);
+            when(spendRollupService.monthSpendByCategory(userId, MARCH)).thenReturn(Map.of(categoryId, alreadySpent));
 
             Budget budget = new Budget();
             budget.setAmount(budgetAmount);
             budget.setYear(2025);
             budget.setMonth(3);
-            when(budgetRepository.findByUserAndYearAndMonthAndCategory(
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
                     eq(userId), eq(2025), eq(3), eq(categoryId)))
                     .thenReturn(List.of(budget));
 
@@ -168,15 +198,13 @@ class ExpenseServiceBudgetValidationTest {
                     expenseDate
             );
 
-            when(expenseRepository.sumAmountByUserAndCategoryAndDateRange(
-                    eq(userId), eq(categoryId), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(alreadySpent);
+            when(spendRollupService.monthSpendByCategory(userId, MARCH)).thenReturn(Map.of(categoryId, alreadySpent));
 
             Budget budget = new Budget();
             budget.setAmount(budgetAmount);
             budget.setYear(2025);
             budget.setMonth(3);
-            when(budgetRepository.findByUserAndYearAndMonthAndCategory(
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
                     eq(userId), eq(2025), eq(3), eq(categoryId)))
                     .thenReturn(List.of(budget));
 
@@ -188,6 +216,34 @@ class ExpenseServiceBudgetValidationTest {
 
             verify(expenseRepository).save(any());
         }
+
+        @Test
+        @DisplayName("updateExpense should check the month's spend without the old amount plus the new amount")
+        void checksUpdateWithoutOldAmount() {
+            Expense expense = new Expense();
+            expense.setId(UUID.randomUUID());
+            expense.setUser(user);
+            expense.setCategory(category);
+            expense.setAmount(new BigDecimal("100"));
+            expense.setExpenseDate(expenseDate);
+            when(ownershipValidationService.validateUserOwnsExpense(userId, expense.getId())).thenReturn(expense);
+
+            Budget budget = new Budget();
+            budget.setAmount(new BigDecimal("1000"));
+            budget.setYear(2025);
+            budget.setMonth(3);
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
+                    eq(userId), eq(2025), eq(3), eq(categoryId)))
+                    .thenReturn(List.of(budget));
+            when(spendRollupService.monthSpendByCategory(userId, MARCH)).thenReturn(Map.of(categoryId, new BigDecimal("850")));
+            when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            // The rollup still holds the old 100: 850 - 100 + 250 = 1000 fits.
+            expenseService.updateExpense(userId, expense.getId(),
+                    new UpdateExpenseRequest(null, new BigDecimal("250"), null, null));
+
+            verify(expenseRepository).save(expense);
+        }
     }
 
     @Nested
@@ -208,15 +264,13 @@ class ExpenseServiceBudgetValidationTest {
                     expenseDate
             );
 
-            when(expenseRepository.sumAmountByUserAndCategoryAndDateRange(
-                    eq(userId), eq(categoryId), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(alreadySpent);
+            when(spendRollupService.monthSpendByCategory(userId, MARCH)).thenReturn(Map.of(categoryId, alreadySpent));
 
             Budget budget = new Budget();
             budget.setAmount(budgetAmount);
             budget.setYear(2025);
             budget.setMonth(3);
-            when(budgetRepository.findByUserAndYearAndMonthAndCategory(
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
                     eq(userId), eq(2025), eq(3), eq(categoryId)))
                     .thenReturn(List.of(budget));
 
@@ -224,24 +278,21 @@ class ExpenseServiceBudgetValidationTest {
                     .isInstanceOf(BudgetExceededException.class)
                     .hasMessageContaining("Expense exceeds remaining monthly budget");
 
-            verify(expenseRepository).sumAmountByUserAndCategoryAndDateRange(
-                    eq(userId), eq(categoryId), any(LocalDate.class), any(LocalDate.class));
-            verify(budgetRepository).findByUserAndYearAndMonthAndCategory(
+            verify(spendRollupService).monthSpendByCategory(userId, MARCH);
+            verify(budgetRepository).findCoveringMonthByUserAndCategory(
                     eq(userId), eq(2025), eq(3), eq(categoryId));
         }
 
         @Test
-        @DisplayName("createExpense should throw BudgetExceededException when sum returns null")
-        void shouldThrowWhenAlreadySpentIsNull() {
-            when(expenseRepository.sumAmountByUserAndCategoryAndDateRange(
-                    eq(userId), eq(categoryId), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(null);
+        @DisplayName("createExpense should throw BudgetExceededException when the month has no spend yet")
+        void shouldThrowWhenMonthHasNoSpend() {
+            when(spendRollupService.monthSpendByCategory(userId, MARCH)).thenReturn(Map.of());
 
             Budget budget = new Budget();
             budget.setAmount(new BigDecimal("100"));
             budget.setYear(2025);
             budget.setMonth(3);
-            when(budgetRepository.findByUserAndYearAndMonthAndCategory(
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
                     eq(userId), eq(2025), eq(3), eq(categoryId)))
                     .thenReturn(List.of(budget));
 
@@ -257,4 +308,180 @@ class ExpenseServiceBudgetValidationTest {
                     .hasMessageContaining("Expense exceeds remaining monthly budget");
         }
     }
+
+    @Nested
+    @DisplayName("when a yearly budget exists")
+    class YearlyBudgetExists {
+
+        private Budget yearlyBudget(String amount) {
+            Budget budget = new Budget();
+            budget.setAmount(new BigDecimal(amount));
+            budget.setYear(2025);
+            budget.setMonth(null);
+            return budget;
+        }
+
+        @Test
+        @DisplayName("createExpense should pass within the year-to-date limit without summing the month")
+        void createsExpenseWhenWithinYearlyLimit() {
+            CreateExpenseRequest request = new CreateExpenseRequest(categoryId, new BigDecimal("300"), "Flights", expenseDate);
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
+                    eq(userId), eq(2025), eq(3), eq(categoryId)))
+                    .thenReturn(List.of(yearlyBudget("5000")));
+            when(spendRollupService.yearSpendByCategory(userId, 2025)).thenReturn(Map.of(categoryId, new BigDecimal("4700")));
+            when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+            when(expenseMapper.toExpenseResponse(any())).thenReturn(new ExpenseResponse(
+                    UUID.randomUUID(), categoryId, request.amount(), request.description(), request.expenseDate()));
+
+            expenseService.createExpense(userId, request);
+
+            verify(expenseRepository).save(any());
+        }
+
+        @Test
+        @DisplayName("createExpense should throw BudgetExceededException over the year-to-date limit")
+        void shouldThrowWhenYearlyLimitExceeded() {
+            CreateExpenseRequest request = new CreateExpenseRequest(categoryId, new BigDecimal("300.01"), "Flights", expenseDate);
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
+                    eq(userId), eq(2025), eq(3), eq(categoryId)))
+                    .thenReturn(List.of(yearlyBudget("5000")));
+            when(spendRollupService.yearSpendByCategory(userId, 2025)).thenReturn(Map.of(categoryId, new BigDecimal("4700")));
+
+            assertThatThrownBy(() -> expenseService.createExpense(userId, request))
+                    .isInstanceOf(BudgetExceededException.class)
+                    .hasMessageContaining("Expense exceeds remaining yearly budget");
+
+            verify(expenseRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("alert thresholds")
+    class AlertThresholds {
+
+        private Budget monthlyBudget(Category... categories) {
+            Budget budget = new Budget();
+            budget.setId(UUID.randomUUID());
+            budget.setAmount(new BigDecimal("1000"));
+            budget.setYear(2025);
+            budget.setMonth(3);
+            budget.setAlertThresholds(List.of(80, 100));
+            budget.setCategories(Set.of(categories));
+            return budget;
+        }
+
+        private Category travel() {
+            Category travel = new Category();
+            travel.setId(UUID.randomUUID());
+            travel.setName("Travel");
+            travel.setUser(user);
+            return travel;
+        }
+
+        private Expense existingExpense(Category expenseCategory, String amount) {
+            Expense expense = new Expense();
+            expense.setId(UUID.randomUUID());
+            expense.setUser(user);
+            expense.setCategory(expenseCategory);
+            expense.setAmount(new BigDecimal(amount));
+            expense.setExpenseDate(expenseDate);
+            when(ownershipValidationService.validateUserOwnsExpense(userId, expense.getId())).thenReturn(expense);
+            return expense;
+        }
+
+        private void monthSpend(Map<UUID, BigDecimal> spendByCategory) {
+            when(spendRollupService.monthSpendByCategory(userId, MARCH)).thenReturn(spendByCategory);
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<BudgetAlertResponse> publishedAlerts() {
+            ArgumentCaptor<List<BudgetAlertResponse>> alerts = ArgumentCaptor.forClass(List.class);
+            verify(budgetAlertBroadcaster).publishAfterCommit(eq(userId), alerts.capture());
+            return alerts.getValue();
+        }
+
+        @Test
+        @DisplayName("createExpense should publish the thresholds between the spend before and the projected spend")
+        void publishesCrossedThresholdOnCreate() {
+            CreateExpenseRequest request = new CreateExpenseRequest(categoryId, new BigDecimal("150"), "Groceries", expenseDate);
+            Budget budget = monthlyBudget(category);
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
+                    eq(userId), eq(2025), eq(3), eq(categoryId)))
+                    .thenReturn(List.of(budget));
+            monthSpend(Map.of(categoryId, new BigDecimal("700")));
+            when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            expenseService.createExpense(userId, request);
+
+            assertThat(publishedAlerts())
+                    .singleElement()
+                    .satisfies(alert -> {
+                        assertThat(alert.budgetId()).isEqualTo(budget.getId());
+                        assertThat(alert.thresholdPercent()).isEqualTo(80);
+                        assertThat(alert.spent()).isEqualByComparingTo("850");
+                    });
+        }
+
+        @Test
+        @DisplayName("updateExpense should alert only on thresholds the new amount crosses")
+        void alertsOnlyOnNewCrossingsOnUpdate() {
+            Expense expense = existingExpense(category, "100");
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
+                    eq(userId), eq(2025), eq(3), eq(categoryId)))
+                    .thenReturn(List.of(monthlyBudget(category)));
+            monthSpend(Map.of(categoryId, new BigDecimal("850")));
+            when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            // 750 + 250 = 1000 fits the budget; 80% was already crossed at 750 + 100 (the rollup's 850).
+            expenseService.updateExpense(userId, expense.getId(),
+                    new UpdateExpenseRequest(null, new BigDecimal("250"), null, null));
+
+            assertThat(publishedAlerts())
+                    .singleElement()
+                    .satisfies(alert -> assertThat(alert.thresholdPercent()).isEqualTo(100));
+        }
+
+        @Test
+        @DisplayName("createExpense should measure thresholds against the spend of all the budget's categories")
+        void measuresBudgetWideSpend() {
+            Category travel = travel();
+            Budget budget = monthlyBudget(category, travel);
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
+                    eq(userId), eq(2025), eq(3), eq(categoryId)))
+                    .thenReturn(List.of(budget));
+            monthSpend(Map.of(categoryId, new BigDecimal("300"), travel.getId(), new BigDecimal("450")));
+            when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            // Food alone goes from 300 to 400; the budget from 750 to 850, across 80%.
+            expenseService.createExpense(userId,
+                    new CreateExpenseRequest(categoryId, new BigDecimal("100"), "Groceries", expenseDate));
+
+            assertThat(publishedAlerts())
+                    .singleElement()
+                    .satisfies(alert -> {
+                        assertThat(alert.thresholdPercent()).isEqualTo(80);
+                        assertThat(alert.categoryId()).isEqualTo(categoryId);
+                        assertThat(alert.spent()).isEqualByComparingTo("850");
+                    });
+        }
+
+        @Test
+        @DisplayName("updateExpense should not alert when the expense moves between categories of the same budget")
+        void ignoresMovesWithinBudget() {
+            Category travel = travel();
+            Expense expense = existingExpense(travel, "100");
+            when(userCategoryCache.owns(userId, categoryId)).thenReturn(true);
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
+                    eq(userId), eq(2025), eq(3), eq(categoryId)))
+                    .thenReturn(List.of(monthlyBudget(category, travel)));
+            monthSpend(Map.of(categoryId, new BigDecimal("700"), travel.getId(), new BigDecimal("150")));
+            when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+            // Food goes from 700 to 800, but the budget stays at 850.
+            expenseService.updateExpense(userId, expense.getId(),
+                    new UpdateExpenseRequest(categoryId, null, null, null));
+
+            assertThat(publishedAlerts()).isEmpty();
+        }
+    }
 }
@@ -8,26 +8,33 @@ import com.spendwise.dto.request.CreateExpenseRequest;
 import com.spendwise.dto.response.ExpenseResponse;
 import com.spendwise.exception.BudgetExceededException;
 import com.spendwise.exception.ResourceNotFoundException;
+import com.spendwise.exception.ValidationException;
 import com.spendwise.mapper.ExpenseMapper;
 import com.spendwise.repository.BudgetRepository;
 import com.spendwise.repository.CategoryRepository;
 import com.spendwise.repository.ExpenseRepository;
 import com.spendwise.repository.UserRepository;
+import com.spendwise.service.BudgetAlertBroadcaster;
+import com.spendwise.service.BudgetEnforcement;
 import com.spendwise.service.ExpenseService;
+import com.spendwise.service.MonthlySpendCache;
 import com.spendwise.service.OwnershipValidationService;
+import com.spendwise.service.SpendRollupService;
+import com.spendwise.service.UserCategoryCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -62,7 +69,18 @@ class ExpenseServiceCreateExpenseTest {
     @Mock
     private ExpenseMapper expenseMapper;
 
-    @InjectMocks
+    @Mock
+    private SpendRollupService spendRollupService;
+
+    @Mock
+    private MonthlySpendCache monthlySpendCache;
+
+    @Mock
+    private UserCategoryCache userCategoryCache;
+
+    @Mock
+    private BudgetAlertBroadcaster budgetAlertBroadcaster;
+
     private ExpenseService expenseService;
 
     private UUID userId;
@@ -73,6 +91,10 @@ class ExpenseServiceCreateExpenseTest {
 
     @BeforeEach
     void setUp() {
+        BudgetEnforcement budgetEnforcement = new BudgetEnforcement(
+                budgetRepository, spendRollupService, monthlySpendCache, budgetAlertBroadcaster);
+        expenseService = new ExpenseService(expenseRepository, categoryRepository, userRepository,
+                ownershipValidationService, expenseMapper, null, null, null, null, userCategoryCache, budgetEnforcement);
         userId = UUID.randomUUID();
         categoryId = UUID.randomUUID();
         LocalDate expenseDate = LocalDate.of(2025, 3, 15);
@@ -94,8 +116,9 @@ class ExpenseServiceCreateExpenseTest {
                 expenseDate
         );
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        lenient().when(categoryRepository.findByIdAndUser_Id(categoryId, userId)).thenReturn(Optional.of(category));
+        lenient().when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        lenient().when(userCategoryCache.owns(userId, categoryId)).thenReturn(true);
+        lenient().when(categoryRepository.getReferenceById(categoryId)).thenReturn(category);
     }
 
     @Nested
@@ -105,10 +128,7 @@ class ExpenseServiceCreateExpenseTest {
         @Test
         @DisplayName("should save expense and return mapped response")
         void shouldSaveAndReturnResponse() {
-            when(expenseRepository.sumAmountByUserAndCategoryAndDateRange(
-                    eq(userId), eq(categoryId), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(BigDecimal.ZERO);
-            when(budgetRepository.findByUserAndYearAndMonthAndCategory(
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
                     eq(userId), eq(2025), eq(3), eq(categoryId)))
                     .thenReturn(List.of());
             when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -128,10 +148,7 @@ class ExpenseServiceCreateExpenseTest {
         @Test
         @DisplayName("expense passed to save has correct user, category, amount, description, expenseDate")
         void shouldPassCorrectExpenseToSave() {
-            when(expenseRepository.sumAmountByUserAndCategoryAndDateRange(
-                    eq(userId), eq(categoryId), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(BigDecimal.ZERO);
-            when(budgetRepository.findByUserAndYearAndMonthAndCategory(
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
                     eq(userId), eq(2025), eq(3), eq(categoryId)))
                     .thenReturn(List.of());
             when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -155,10 +172,7 @@ class ExpenseServiceCreateExpenseTest {
         @Test
         @DisplayName("soft delete logic respected: expense has deleted=false and deletedAt=null")
         void softDeleteLogicRespected() {
-            when(expenseRepository.sumAmountByUserAndCategoryAndDateRange(
-                    eq(userId), eq(categoryId), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(BigDecimal.ZERO);
-            when(budgetRepository.findByUserAndYearAndMonthAndCategory(
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
                     eq(userId), eq(2025), eq(3), eq(categoryId)))
                     .thenReturn(List.of());
             when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
@@ -184,14 +198,13 @@ class ExpenseServiceCreateExpenseTest {
         @Test
         @DisplayName("should throw BudgetExceededException and NOT call save")
         void shouldThrowAndNotSave() {
-            when(expenseRepository.sumAmountByUserAndCategoryAndDateRange(
-                    eq(userId), eq(categoryId), any(LocalDate.class), any(LocalDate.class)))
-                    .thenReturn(new BigDecimal("800"));
+            when(spendRollupService.monthSpendByCategory(userId, YearMonth.of(2025, 3)))
+                    .thenReturn(Map.of(categoryId, new BigDecimal("800")));
             Budget budget = new Budget();
             budget.setAmount(new BigDecimal("1000"));
             budget.setYear(2025);
             budget.setMonth(3);
-            when(budgetRepository.findByUserAndYearAndMonthAndCategory(
+            when(budgetRepository.findCoveringMonthByUserAndCategory(
                     eq(userId), eq(2025), eq(3), eq(categoryId)))
                     .thenReturn(List.of(budget));
 
@@ -203,17 +216,47 @@ class ExpenseServiceCreateExpenseTest {
                     .hasMessageContaining("Expense exceeds remaining monthly budget");
 
             verify(expenseRepository, never()).save(any());
-            verify(budgetRepository).findByUserAndYearAndMonthAndCategory(
+            verify(budgetRepository).findCoveringMonthByUserAndCategory(
                     eq(userId), eq(2025), eq(3), eq(categoryId));
         }
     }
 
+    @Nested
+    @DisplayName("implausible expense date")
+    class ImplausibleExpenseDate {
+
+        @Test
+        @DisplayName("should throw ValidationException for a date before 1900 and NOT call save")
+        void rejectsDateBefore1900() {
+            CreateExpenseRequest request = new CreateExpenseRequest(
+                    categoryId, new BigDecimal("10"), "Typo", LocalDate.of(1, 1, 1));
+
+            assertThatThrownBy(() -> expenseService.createExpense(userId, request))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("Expense date must be between");
+
+            verify(expenseRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should throw ValidationException for a date after 2100 and NOT call save")
+        void rejectsDateAfter2100() {
+            CreateExpenseRequest request = new CreateExpenseRequest(
+                    categoryId, new BigDecimal("10"), "Typo", LocalDate.of(20250, 3, 15));
+
+            assertThatThrownBy(() -> expenseService.createExpense(userId, request))
+                    .isInstanceOf(ValidationException.class);
+
+            verify(expenseRepository, never()).save(any());
+        }
+    }
+
     @Nested
     @DisplayName("unauthorized user - user not found")
     class UserNotFound {
 
         @Test
-        @DisplayName("should throw ResourceNotFoundException and NOT call save or categoryRepository")
+        @DisplayName("should throw ResourceNotFoundException and NOT call save or check the category")
         void shouldThrowAndNotCallSaveOrCategoryRepo() {
             when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
@@ -222,7 +265,7 @@ class ExpenseServiceCreateExpenseTest {
                     .hasMessageContaining("User not found");
 
             verify(expenseRepository, never()).save(any());
-            verify(categoryRepository, never()).findByIdAndUser_Id(any(), any());
+            verify(userCategoryCache, never()).owns(any(), any());
         }
     }
 
@@ -233,16 +276,14 @@ class ExpenseServiceCreateExpenseTest {
         @Test
         @DisplayName("should throw ResourceNotFoundException and NOT call save or expenseRepository sum")
         void shouldThrowAndNotCallSaveOrSum() {
-            when(categoryRepository.findByIdAndUser_Id(categoryId, userId))
-                    .thenReturn(Optional.empty());
+            when(userCategoryCache.owns(userId, categoryId)).thenReturn(false);
 
             assertThatThrownBy(() -> expenseService.createExpense(userId, validRequest))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Category not found");
 
             verify(expenseRepository, never()).save(any());
-            verify(expenseRepository, never()).sumAmountByUserAndCategoryAndDateRange(
-                    any(), any(), any(), any());
+            verify(spendRollupService, never()).monthSpendByCategory(any(), any());
         }
     }
 }
@@ -0,0 +1,96 @@
+package com.spendwise.unit.service;
+
+import com.spendwise.config.CacheConfig;
+import com.spendwise.repository.SpendRollupRepository;
+import com.spendwise.service.MonthlySpendCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonthlySpendCache")
+class MonthlySpendCacheTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+
+    @Mock
+    private SpendRollupRepository spendRollupRepository;
+
+    private MonthlySpendCache monthlySpendCache;
+    private UUID userId;
+    private UUID categoryId;
+
+    @BeforeEach
+    void setUp() {
+        monthlySpendCache = new MonthlySpendCache(new CaffeineCacheManager(CacheConfig.MONTHLY_SPEND_CACHE), spendRollupRepository);
+        userId = UUID.randomUUID();
+        categoryId = UUID.randomUUID();
+        when(spendRollupRepository.sumMonthByCategory(userId, 2025, 3))
+                .thenReturn(Map.of(categoryId, new BigDecimal("42.50")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("loads a user's month once and serves repeated reads from the cache")
+    void loadsOncePerUserAndMonth() {
+        Map<UUID, BigDecimal> first = monthlySpendCache.spendByCategory(userId, MARCH);
+        Map<UUID, BigDecimal> second = monthlySpendCache.spendByCategory(userId, MARCH);
+
+        assertThat(first).containsExactly(Map.entry(categoryId, new BigDecimal("42.50")));
+        assertThat(second).isSameAs(first);
+        verify(spendRollupRepository, times(1)).sumMonthByCategory(userId, 2025, 3);
+    }
+
+    @Test
+    @DisplayName("outside a transaction, eviction is immediate")
+    void evictsImmediatelyWithoutTransaction() {
+        monthlySpendCache.spendByCategory(userId, MARCH);
+
+        monthlySpendCache.evictAfterCompletion(userId, MARCH);
+        monthlySpendCache.spendByCategory(userId, MARCH);
+
+        verify(spendRollupRepository, times(2)).sumMonthByCategory(userId, 2025, 3);
+    }
+
+    @Test
+    @DisplayName("inside a transaction, eviction waits for completion")
+    void evictsAfterTransactionCompletes() {
+        monthlySpendCache.spendByCategory(userId, MARCH);
+        TransactionSynchronizationManager.initSynchronization();
+
+        monthlySpendCache.evictAfterCompletion(userId, MARCH);
+        monthlySpendCache.spendByCategory(userId, MARCH);
+        verify(spendRollupRepository, times(1)).sumMonthByCategory(userId, 2025, 3);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        monthlySpendCache.spendByCategory(userId, MARCH);
+
+        verify(spendRollupRepository, times(2)).sumMonthByCategory(userId, 2025, 3);
+    }
+}
@@ -0,0 +1,132 @@
+package com.spendwise.unit.service;
+
+import com.spendwise.repository.SpendRollupRepository;
+import com.spendwise.service.SpendForecastCache;
+import com.spendwise.service.SpendRollupService;
+import com.spendwise.service.SpendRollupService.SpendEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpendRollupService deltas")
+class SpendRollupServiceTest {
+
+    @Mock
+    private SpendRollupRepository spendRollupRepository;
+
+    @Mock
+    private SpendForecastCache spendForecastCache;
+
+    @InjectMocks
+    private SpendRollupService spendRollupService;
+
+    private UUID userId;
+    private UUID categoryId;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        categoryId = UUID.randomUUID();
+        date = LocalDate.of(2025, 3, 15);
+    }
+
+    @Nested
+    @DisplayName("create and delete")
+    class CreateAndDelete {
+
+        @Test
+        @DisplayName("create adds the amount and one expense")
+        void createAddsAmount() {
+            spendRollupService.recordCreated(new SpendEntry(userId, categoryId, date, new BigDecimal("12.50")));
+
+            verify(spendRollupRepository).applyDelta(userId, categoryId, date, new BigDecimal("12.50"), 1);
+        }
+
+        @Test
+        @DisplayName("delete subtracts the amount and one expense")
+        void deleteSubtractsAmount() {
+            spendRollupService.recordDeleted(new SpendEntry(userId, categoryId, date, new BigDecimal("12.50")));
+
+            verify(spendRollupRepository).applyDelta(userId, categoryId, date, new BigDecimal("-12.50"), -1);
+        }
+    }
+
+    @Nested
+    @DisplayName("update")
+    class Update {
+
+        @Test
+        @DisplayName("unchanged entry writes nothing")
+        void unchangedIsNoop() {
+            SpendEntry entry = new SpendEntry(userId, categoryId, date, new BigDecimal("10.00"));
+
+            spendRollupService.recordUpdated(entry, entry);
+
+            verifyNoInteractions(spendRollupRepository);
+        }
+
+        @Test
+        @DisplayName("amount-only change applies the difference to the same bucket")
+        void amountOnlyAppliesDifference() {
+            spendRollupService.recordUpdated(
+                    new SpendEntry(userId, categoryId, date, new BigDecimal("10.00")),
+                    new SpendEntry(userId, categoryId, date, new BigDecimal("25.00")));
+
+            verify(spendRollupRepository).applyDelta(userId, categoryId, date, new BigDecimal("15.00"), 0);
+            verifyNoMoreInteractions(spendRollupRepository);
+        }
+
+        @Test
+        @DisplayName("moving to another month leaves the old bucket and enters the new one")
+        void dateChangeMovesBuckets() {
+            LocalDate nextMonth = LocalDate.of(2025, 4, 2);
+
+            spendRollupService.recordUpdated(
+                    new SpendEntry(userId, categoryId, date, new BigDecimal("10.00")),
+                    new SpendEntry(userId, categoryId, nextMonth, new BigDecimal("10.00")));
+
+            verify(spendRollupRepository).applyDelta(userId, categoryId, date, new BigDecimal("-10.00"), -1);
+            verify(spendRollupRepository).applyDelta(userId, categoryId, nextMonth, new BigDecimal("10.00"), 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("forecast models")
+    class ForecastModels {
+
+        @Test
+        @DisplayName("a delta that moved the user's forecast model evicts the cached models")
+        void evictsWhenModelChanged() {
+            when(spendRollupRepository.applyDelta(userId, categoryId, date, new BigDecimal("12.50"), 1)).thenReturn(true);
+
+            spendRollupService.recordCreated(new SpendEntry(userId, categoryId, date, new BigDecimal("12.50")));
+
+            verify(spendForecastCache).evictAfterCompletion(userId);
+        }
+
+        @Test
+        @DisplayName("a delta outside every model keeps the cached models")
+        void keepsCacheWhenModelUnchanged() {
+            spendRollupService.recordCreated(new SpendEntry(userId, categoryId, date, new BigDecimal("12.50")));
+
+            verify(spendForecastCache, never()).evictAfterCompletion(userId);
+        }
+    }
+}
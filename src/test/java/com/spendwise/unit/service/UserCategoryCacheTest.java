@@ -0,0 +1,65 @@
+package com.spendwise.unit.service;
+
+import com.spendwise.config.CacheConfig;
+import com.spendwise.domain.entity.Category;
+import com.spendwise.repository.CategoryRepository;
+import com.spendwise.service.UserCategoryCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCategoryCache")
+class UserCategoryCacheTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private UserCategoryCache userCategoryCache;
+    private UUID userId;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        userCategoryCache = new UserCategoryCache(new CaffeineCacheManager(CacheConfig.CATEGORIES_CACHE), categoryRepository);
+        userId = UUID.randomUUID();
+        food = new Category();
+        food.setId(UUID.randomUUID());
+        food.setName("Food");
+        when(categoryRepository.findByUser_Id(userId)).thenReturn(List.of(food));
+    }
+
+    @Test
+    @DisplayName("answers ownership checks for a user from one load")
+    void loadsOncePerUser() {
+        assertThat(userCategoryCache.owns(userId, food.getId())).isTrue();
+        assertThat(userCategoryCache.owns(userId, UUID.randomUUID())).isFalse();
+        assertThat(userCategoryCache.namesById(userId)).containsExactly(Map.entry(food.getId(), "Food"));
+
+        verify(categoryRepository, times(1)).findByUser_Id(userId);
+    }
+
+    @Test
+    @DisplayName("reloads the user after eviction")
+    void reloadsAfterEviction() {
+        userCategoryCache.owns(userId, food.getId());
+
+        userCategoryCache.evictAfterCompletion(userId);
+        userCategoryCache.owns(userId, food.getId());
+
+        verify(categoryRepository, times(2)).findByUser_Id(userId);
+    }
+}